@@ -0,0 +1,115 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for validating emails and URLs and extracting their parts with
+ * EmailParts and UrlParts compared to validating and then splitting the string with
+ * split and substring.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AddressPartsBenchmark {
+
+    private static final int COUNT = 1024;
+
+    String[] emails;
+    String[] urls;
+    EmailParts emailParts;
+    UrlParts urlParts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        emails = new String[COUNT];
+        urls = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            emails[i] = "user." + random.nextInt(100_000) + "@mail.example" + random.nextInt(100) + ".com";
+            urls[i] = "https://www.example" + random.nextInt(100) + ".com:8080/shop/items/"
+                    + random.nextInt(100_000) + "?page=" + random.nextInt(10) + "#reviews";
+        }
+        emailParts = new EmailParts();
+        urlParts = new UrlParts();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int emailParts() {
+        int sum = 0;
+        for (String email : emails) {
+            if (emailParts.parse(email)) {
+                sum += emailParts.get(EmailParts.Component.LOCAL_PART).length()
+                        + emailParts.get(EmailParts.Component.DOMAIN).length();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int emailSplit() {
+        int sum = 0;
+        for (String email : emails) {
+            if (ValidationUtils.isValidEmailBounded(email)) {
+                String[] halves = email.split("@");
+                sum += halves[0].length() + halves[1].length();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int urlParts() {
+        int sum = 0;
+        for (String url : urls) {
+            if (urlParts.parse(url)) {
+                sum += urlParts.get(UrlParts.Component.SCHEME).length()
+                        + urlParts.get(UrlParts.Component.HOST).length()
+                        + urlParts.get(UrlParts.Component.PATH).length()
+                        + urlParts.get(UrlParts.Component.QUERY).length();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int urlSplit() {
+        int sum = 0;
+        for (String url : urls) {
+            if (ValidationUtils.isValidUrlBounded(url)) {
+                String[] schemeAndRest = url.split("://", 2);
+                String rest = schemeAndRest[1];
+                int hash = rest.indexOf('#');
+                String beforeFragment = hash >= 0 ? rest.substring(0, hash) : rest;
+                int question = beforeFragment.indexOf('?');
+                String query = question >= 0 ? beforeFragment.substring(question + 1) : "";
+                String authorityAndPath = question >= 0 ? beforeFragment.substring(0, question) : beforeFragment;
+                int slash = authorityAndPath.indexOf('/');
+                String authority = slash >= 0 ? authorityAndPath.substring(0, slash) : authorityAndPath;
+                String path = slash >= 0 ? authorityAndPath.substring(slash) : "";
+                String host = authority.substring(authority.lastIndexOf('@') + 1).split(":")[0];
+                sum += schemeAndRest[0].length() + host.length() + path.length() + query.length();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,79 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing ArrayCalculator with per-element Calculator calls.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayCalculatorBenchmark {
+
+    @Param({"1024", "1048576"})
+    int size;
+
+    double[] a;
+    double[] b;
+    double[] dest;
+
+    @Setup
+    public void setUp() {
+        a = new double[size];
+        b = new double[size];
+        dest = new double[size];
+        for (int i = 0; i < size; i++) {
+            a[i] = i * 0.5;
+            b[i] = i + 1;
+        }
+    }
+
+    @Benchmark
+    public double[] addArray() {
+        ArrayCalculator.add(a, b, dest);
+        return dest;
+    }
+
+    @Benchmark
+    public double[] addScalarLoop() {
+        for (int i = 0; i < size; i++) {
+            dest[i] = Calculator.add(a[i], b[i]);
+        }
+        return dest;
+    }
+
+    @Benchmark
+    public double[] divideArray() {
+        ArrayCalculator.divide(a, b, dest);
+        return dest;
+    }
+
+    @Benchmark
+    public double[] divideScalarLoop() {
+        for (int i = 0; i < size; i++) {
+            dest[i] = Calculator.divide(a[i], b[i]);
+        }
+        return dest;
+    }
+
+    @Benchmark
+    public double[] sqrtArray() {
+        ArrayCalculator.sqrt(a, dest);
+        return dest;
+    }
+}
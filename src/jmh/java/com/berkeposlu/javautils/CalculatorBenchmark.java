@@ -0,0 +1,130 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for Calculator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalculatorBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int n;
+
+    long gcdA = 3_141_592_653_589_793L;
+    long gcdB = 2_718_281_828_459_045L;
+
+    long[] multiples;
+
+    double[] prices;
+
+    @Setup
+    public void setUp() {
+        multiples = new long[n];
+        for (int i = 0; i < n; i++) {
+            multiples[i] = 6L * (i + 1) * 1_000_003L;
+        }
+        prices = new double[n];
+        for (int i = 0; i < n; i++) {
+            prices[i] = (i * 7919 % 100_000) / 1000.0 + 0.0004;
+        }
+    }
+
+    @Benchmark
+    public long factorialTable() {
+        return Calculator.factorial(n % 21);
+    }
+
+    @Benchmark
+    public BigInteger factorialExact() {
+        return Calculator.factorialExact(n);
+    }
+
+    @Benchmark
+    public BigInteger factorialNaive() {
+        BigInteger result = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public BigInteger binomialExact() {
+        return Calculator.binomialExact(n, n / 3);
+    }
+
+    @Benchmark
+    public long gcdBinary() {
+        return Calculator.gcd(gcdA, gcdB);
+    }
+
+    @Benchmark
+    public long gcdEuclid() {
+        long a = gcdA;
+        long b = gcdB;
+        while (b != 0) {
+            long temp = b;
+            b = a % b;
+            a = temp;
+        }
+        return a;
+    }
+
+    @Benchmark
+    public long gcdArray() {
+        return Calculator.gcd(multiples);
+    }
+
+    @Benchmark
+    public long gcdArrayFolded() {
+        long gcd = 0;
+        for (long value : multiples) {
+            gcd = gcdEuclid(gcd, value);
+        }
+        return gcd;
+    }
+
+    private static long gcdEuclid(long a, long b) {
+        while (b != 0) {
+            long temp = b;
+            b = a % b;
+            a = temp;
+        }
+        return a;
+    }
+
+    @Benchmark
+    public double[] roundArray() {
+        return Calculator.round(prices, 2);
+    }
+
+    @Benchmark
+    public double[] roundArrayBigDecimal() {
+        double[] result = new double[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            result[i] = BigDecimal.valueOf(prices[i]).setScale(2, RoundingMode.HALF_UP).doubleValue();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,131 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH throughput benchmarks for every public Calculator operation under concurrent load.
+ * Runs on all cores by default; use {@link ScalabilityReport} for a sweep over thread counts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class CalculatorConcurrencyBenchmark {
+
+    private static final int INPUTS = 256;
+
+    double[] values;
+    int[] ints;
+    long[] longs;
+    double[] window;
+
+    @Setup
+    public void setUp() {
+        values = new double[INPUTS];
+        ints = new int[INPUTS];
+        longs = new long[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            values[i] = 1 + i * 1.2345;
+            ints[i] = 6 * (i + 1);
+            longs[i] = 1_000_000_007L * (i + 1);
+        }
+        window = new double[16];
+        System.arraycopy(values, 0, window, 0, window.length);
+    }
+
+    @Benchmark
+    public double arithmetic(ThreadCursor cursor) {
+        double a = values[cursor.next(INPUTS - 1)];
+        double sum = Calculator.add(a, 2) + Calculator.subtract(a, 2) + Calculator.multiply(a, 2);
+        return sum + Calculator.divide(a, 3) + Calculator.abs(-a);
+    }
+
+    @Benchmark
+    public double powerSqrt(ThreadCursor cursor) {
+        double a = values[cursor.next(INPUTS - 1)];
+        return Calculator.power(a, 1.5) + Calculator.sqrt(a);
+    }
+
+    @Benchmark
+    public long factorial(ThreadCursor cursor) {
+        return Calculator.factorial(cursor.next(INPUTS - 1) % 21);
+    }
+
+    @Benchmark
+    public BigInteger factorialExact(ThreadCursor cursor) {
+        return Calculator.factorialExact(cursor.next(INPUTS - 1) % 100);
+    }
+
+    @Benchmark
+    public long binomial(ThreadCursor cursor) {
+        return Calculator.binomial(60, cursor.next(INPUTS - 1) % 61);
+    }
+
+    @Benchmark
+    public BigInteger binomialExact(ThreadCursor cursor) {
+        return Calculator.binomialExact(200, cursor.next(INPUTS - 1) % 201);
+    }
+
+    @Benchmark
+    public double percentage(ThreadCursor cursor) {
+        double a = values[cursor.next(INPUTS - 1)];
+        return Calculator.percentage(a, 400) + Calculator.percentageOf(a, 12.5);
+    }
+
+    @Benchmark
+    public double round(ThreadCursor cursor) {
+        double a = values[cursor.next(INPUTS - 1)];
+        return Calculator.round(a, 2) + Calculator.round(a, 3, RoundingMode.HALF_EVEN);
+    }
+
+    @Benchmark
+    public double[] roundArray() {
+        return Calculator.round(window, 2);
+    }
+
+    @Benchmark
+    public double aggregates() {
+        return Calculator.min(window) + Calculator.max(window) + Calculator.average(window) + Calculator.sum(window);
+    }
+
+    @Benchmark
+    public boolean parity(ThreadCursor cursor) {
+        int n = ints[cursor.next(INPUTS - 1)];
+        return Calculator.isEven(n) ^ Calculator.isOdd(n);
+    }
+
+    @Benchmark
+    public boolean isPrime(ThreadCursor cursor) {
+        return Calculator.isPrime(1_000_003 + 2 * cursor.next(INPUTS - 1));
+    }
+
+    @Benchmark
+    public long gcdLcm(ThreadCursor cursor) {
+        int i = cursor.next(INPUTS - 1);
+        int j = (i + 1) & (INPUTS - 1);
+        return Calculator.gcd(ints[i], ints[j]) + Calculator.lcm(ints[i], ints[j])
+                + Calculator.gcd(longs[i], longs[j]) + Calculator.lcm(longs[i], 6L);
+    }
+
+    @Benchmark
+    public long gcdLcmArrays() {
+        return Calculator.gcd(ints) + Calculator.gcd(longs) + Calculator.lcm(6, 10, 15) + Calculator.lcm(6L, 10L, 15L);
+    }
+}
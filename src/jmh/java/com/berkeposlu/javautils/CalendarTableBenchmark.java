@@ -0,0 +1,131 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the CalendarTable conversions and the DateUtils day arithmetic built
+ * on them, compared to the java.time equivalents. Each invocation converts 1024 values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalendarTableBenchmark {
+
+    private static final int COUNT = 1024;
+
+    long[] epochDays;
+    int[] packed;
+    LocalDate[] dates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        epochDays = new long[COUNT];
+        packed = new int[COUNT];
+        dates = new LocalDate[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            epochDays[i] = random.nextInt(100_000) - 30_000;
+            packed[i] = CalendarTable.toYmd(epochDays[i]);
+            dates[i] = LocalDate.ofEpochDay(epochDays[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long toYmdTable() {
+        long sum = 0;
+        for (long epochDay : epochDays) {
+            sum += CalendarTable.toYmd(epochDay);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long toYmdJavaTime() {
+        long sum = 0;
+        for (long epochDay : epochDays) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            sum += date.getYear() << 9 | date.getMonthValue() << 5 | date.getDayOfMonth();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long epochDayTable() {
+        long sum = 0;
+        for (int ymd : packed) {
+            sum += CalendarTable.epochDay(ymd);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long epochDayJavaTime() {
+        long sum = 0;
+        for (int ymd : packed) {
+            sum += LocalDate.of(CalendarTable.year(ymd), CalendarTable.month(ymd), CalendarTable.day(ymd)).toEpochDay();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long addDaysPacked() {
+        long sum = 0;
+        for (int ymd : packed) {
+            sum += DateUtils.addDays(ymd, 30);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long plusDaysJavaTime() {
+        long sum = 0;
+        for (LocalDate date : dates) {
+            sum += date.plusDays(30).getDayOfMonth();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long daysBetweenTable() {
+        long sum = 0;
+        for (int i = 1; i < COUNT; i++) {
+            sum += DateUtils.daysBetween(dates[i - 1], dates[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long daysBetweenChronoUnit() {
+        long sum = 0;
+        for (int i = 1; i < COUNT; i++) {
+            sum += ChronoUnit.DAYS.between(dates[i - 1], dates[i]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,76 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the SWAR character classification behind isAlphanumeric, isBlank
+ * and isAscii, compared to a char-at-a-time loop and the regex the validators used before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassificationBenchmark {
+
+    @Param({"8", "64", "1024"})
+    int length;
+
+    String alphanumeric;
+    String blank;
+
+    @Setup
+    public void setUp() {
+        alphanumeric = "abcXYZ0123456789".repeat(length / 16 + 1).substring(0, length);
+        blank = " ".repeat(length);
+    }
+
+    @Benchmark
+    public boolean alphanumericSwar() {
+        return ValidationUtils.isAlphanumeric(alphanumeric);
+    }
+
+    @Benchmark
+    public boolean alphanumericScalar() {
+        for (int i = 0; i < alphanumeric.length(); i++) {
+            char c = alphanumeric.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean alphanumericRegex() {
+        return alphanumeric.matches("^[a-zA-Z0-9]+$");
+    }
+
+    @Benchmark
+    public boolean blankSwar() {
+        return StringUtils.isBlank(blank);
+    }
+
+    @Benchmark
+    public boolean blankTrim() {
+        return blank.trim().isEmpty();
+    }
+
+    @Benchmark
+    public boolean asciiSwar() {
+        return StringUtils.isAscii(alphanumeric);
+    }
+}
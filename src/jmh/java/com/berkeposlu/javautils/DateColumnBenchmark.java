@@ -0,0 +1,87 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for DateColumn compared to a list of LocalDates: parsing a million date
+ * strings and counting the dates in a range.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateColumnBenchmark {
+
+    private static final int SIZE = 1_000_000;
+    private static final String PATTERN = "yyyy-MM-dd";
+
+    private final LocalDate from = LocalDate.of(2010, 1, 1);
+    private final LocalDate to = LocalDate.of(2014, 12, 31);
+
+    List<String> texts;
+    List<LocalDate> list;
+    DateColumn column;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = LocalDate.ofEpochDay(random.nextInt(20_000)).toString();
+        }
+        texts = Arrays.asList(values);
+        list = new ArrayList<>(SIZE);
+        for (String text : texts) {
+            list.add(DateUtils.parseDate(text, PATTERN));
+        }
+        column = DateColumn.parseAll(texts, PATTERN);
+    }
+
+    @Benchmark
+    public List<LocalDate> parseIntoList() {
+        List<LocalDate> dates = new ArrayList<>(SIZE);
+        for (String text : texts) {
+            dates.add(DateUtils.parseDate(text, PATTERN));
+        }
+        return dates;
+    }
+
+    @Benchmark
+    public DateColumn parseIntoColumn() {
+        return DateColumn.parseAll(texts, PATTERN);
+    }
+
+    @Benchmark
+    public int countList() {
+        int count = 0;
+        for (LocalDate date : list) {
+            if (!date.isBefore(from) && !date.isAfter(to)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int countColumn() {
+        return column.countBetween(from, to);
+    }
+}
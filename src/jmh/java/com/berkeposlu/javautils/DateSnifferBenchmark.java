@@ -0,0 +1,103 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for DateSniffer compared to trying DateUtils.parseDate with one pattern
+ * after another until none throws. Each invocation parses 1024 strings, either in mixed
+ * formats or all in one format as from a single source.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateSnifferBenchmark {
+
+    private static final int COUNT = 1024;
+    private static final String[] PATTERNS = {"yyyy-MM-dd", "dd/MM/yyyy", "MM-dd-yyyy", "dd.MM.yyyy", "yyyyMMdd"};
+
+    String[] mixed;
+    String[] single;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        mixed = new String[COUNT];
+        single = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextInt(30_000));
+            mixed[i] = DateUtils.formatDate(date, PATTERNS[random.nextInt(PATTERNS.length)]);
+            single[i] = DateUtils.formatDate(date, "dd.MM.yyyy");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long mixedSniffer() {
+        DateSniffer sniffer = new DateSniffer();
+        long sum = 0;
+        for (String text : mixed) {
+            sum += sniffer.parseEpochDay(text);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long mixedTryPatterns() {
+        long sum = 0;
+        for (String text : mixed) {
+            sum += tryPatterns(text).toEpochDay();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long singleSniffer() {
+        DateSniffer sniffer = new DateSniffer();
+        long sum = 0;
+        for (String text : single) {
+            sum += sniffer.parseEpochDay(text);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long singleTryPatterns() {
+        long sum = 0;
+        for (String text : single) {
+            sum += tryPatterns(text).toEpochDay();
+        }
+        return sum;
+    }
+
+    private static LocalDate tryPatterns(String text) {
+        for (String pattern : PATTERNS) {
+            try {
+                return DateUtils.parseDate(text, pattern);
+            } catch (DateTimeParseException e) {
+                // try the next pattern
+            }
+        }
+        throw new IllegalStateException("No pattern matched: " + text);
+    }
+}
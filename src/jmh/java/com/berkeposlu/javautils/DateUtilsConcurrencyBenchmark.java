@@ -0,0 +1,112 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH throughput benchmarks for every public DateUtils operation under concurrent load.
+ * Formatting and parsing go through the shared formatter cache, which is the main
+ * contention point. Runs on all cores by default; use {@link ScalabilityReport} for a
+ * sweep over thread counts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class DateUtilsConcurrencyBenchmark {
+
+    private static final int INPUTS = 256;
+    private static final String[] PATTERNS = {"yyyy-MM-dd", "dd.MM.yyyy", "MM/dd/yyyy", "yyyyMMdd"};
+
+    LocalDate[] dates;
+    LocalDateTime[] dateTimes;
+    String[] dateStrings;
+    String[] dateTimeStrings;
+
+    @Setup
+    public void setUp() {
+        dates = new LocalDate[INPUTS];
+        dateTimes = new LocalDateTime[INPUTS];
+        dateStrings = new String[INPUTS];
+        dateTimeStrings = new String[INPUTS];
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < INPUTS; i++) {
+            dates[i] = base.plusDays(i * 37L);
+            dateTimes[i] = dates[i].atTime(i % 24, i % 60);
+            dateStrings[i] = DateUtils.formatDate(dates[i], PATTERNS[i & 3]);
+            dateTimeStrings[i] = DateUtils.formatDateTime(dateTimes[i], "yyyy-MM-dd HH:mm");
+        }
+    }
+
+    @Benchmark
+    public String formatDate(ThreadCursor cursor) {
+        int i = cursor.next(INPUTS - 1);
+        return DateUtils.formatDate(dates[i], PATTERNS[i & 3]);
+    }
+
+    @Benchmark
+    public String formatDateTime(ThreadCursor cursor) {
+        return DateUtils.formatDateTime(dateTimes[cursor.next(INPUTS - 1)], "yyyy-MM-dd HH:mm");
+    }
+
+    @Benchmark
+    public LocalDate parseDate(ThreadCursor cursor) {
+        int i = cursor.next(INPUTS - 1);
+        return DateUtils.parseDate(dateStrings[i], PATTERNS[i & 3]);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTime(ThreadCursor cursor) {
+        return DateUtils.parseDateTime(dateTimeStrings[cursor.next(INPUTS - 1)], "yyyy-MM-dd HH:mm");
+    }
+
+    @Benchmark
+    public long daysBetween(ThreadCursor cursor) {
+        int i = cursor.next(INPUTS - 1);
+        return DateUtils.daysBetween(dates[i], dates[(i + 1) & (INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public long hoursBetween(ThreadCursor cursor) {
+        int i = cursor.next(INPUTS - 1);
+        return DateUtils.hoursBetween(dateTimes[i], dateTimes[(i + 1) & (INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isInPastFutureToday(ThreadCursor cursor) {
+        LocalDate date = dates[cursor.next(INPUTS - 1)];
+        return DateUtils.isInPast(date) | DateUtils.isInFuture(date) | DateUtils.isToday(date);
+    }
+
+    @Benchmark
+    public String getCurrentDateISO() {
+        return DateUtils.getCurrentDateISO();
+    }
+
+    @Benchmark
+    public String getCurrentDateTimeISO() {
+        return DateUtils.getCurrentDateTimeISO();
+    }
+
+    @Benchmark
+    public LocalDate addSubtractDays(ThreadCursor cursor) {
+        int i = cursor.next(INPUTS - 1);
+        return DateUtils.subtractDays(DateUtils.addDays(dates[i], i), i / 2);
+    }
+}
@@ -0,0 +1,65 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for counting distinct emails with DistinctCounter compared to a
+ * HashSet. Each invocation counts 262144 emails, half of them repeated, into a new
+ * counter or set, so the counter passes through all three tiers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DistinctCounterBenchmark {
+
+    private static final int COUNT = 1 << 18;
+
+    String[] emails;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        emails = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            emails[i] = "user" + random.nextInt(COUNT / 2) + "@example" + random.nextInt(100) + ".com";
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long distinctCounter() {
+        DistinctCounter counter = new DistinctCounter();
+        for (String email : emails) {
+            counter.add(email);
+        }
+        return counter.getCount();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long hashSet() {
+        Set<String> set = new HashSet<>();
+        for (String email : emails) {
+            set.add(email);
+        }
+        return set.size();
+    }
+}
@@ -0,0 +1,68 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JMH benchmarks for counting the domains of emails with HeavyHitters compared to a
+ * ConcurrentHashMap of all domains keyed by substring. Each invocation counts 65536
+ * emails whose domains follow a Zipf-like distribution over 100000 domains.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeavyHittersBenchmark {
+
+    private static final int COUNT = 1 << 16;
+
+    String[] emails;
+    HeavyHitters tracker;
+    ConcurrentHashMap<String, LongAdder> map;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        emails = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            int domain = (int) Math.floor(Math.pow(100_000, random.nextDouble()));
+            emails[i] = "user" + random.nextInt(1_000_000) + "@mail.domain" + domain + ".com";
+        }
+        tracker = new HeavyHitters(1024);
+        map = new ConcurrentHashMap<>();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long heavyHitters() {
+        for (String email : emails) {
+            tracker.add(email, email.lastIndexOf('@') + 1, email.length());
+        }
+        return tracker.getTotal();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int concurrentHashMap() {
+        for (String email : emails) {
+            map.computeIfAbsent(email.substring(email.lastIndexOf('@') + 1), domain -> new LongAdder()).increment();
+        }
+        return map.size();
+    }
+}
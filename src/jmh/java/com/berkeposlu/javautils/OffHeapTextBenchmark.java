@@ -0,0 +1,76 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for scanning log text in a direct buffer in place with OffHeapText,
+ * compared to decoding it to a String first and using StringUtils and ValidationUtils.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OffHeapTextBenchmark {
+
+    @Param({"64", "4096", "262144"})
+    int length;
+
+    ByteBuffer text;
+    ByteBuffer letters;
+
+    @Setup
+    public void setUp() {
+        StringBuilder log = new StringBuilder();
+        while (log.length() < length) {
+            log.append("2024-01-15 12:00:00 INFO request served in 12ms\n");
+            log.append("2024-01-15 12:00:01 ERROR connection reset by peer\n");
+        }
+        text = direct(log.substring(0, length));
+        letters = direct("abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".repeat(length / 52 + 1).substring(0, length));
+    }
+
+    private static ByteBuffer direct(String str) {
+        byte[] bytes = str.getBytes(StandardCharsets.US_ASCII);
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
+    private static String decode(ByteBuffer buffer) {
+        return StandardCharsets.US_ASCII.decode(buffer.duplicate()).toString();
+    }
+
+    @Benchmark
+    public int countOffHeap() {
+        return OffHeapText.countOccurrences(text, "ERROR");
+    }
+
+    @Benchmark
+    public int countDecoded() {
+        return StringUtils.countOccurrences(decode(text), "ERROR");
+    }
+
+    @Benchmark
+    public boolean alphabeticOffHeap() {
+        return OffHeapText.isAlphabetic(letters);
+    }
+
+    @Benchmark
+    public boolean alphabeticDecoded() {
+        return ValidationUtils.isAlphabetic(decode(letters));
+    }
+}
@@ -0,0 +1,125 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the {@code *ConcurrencyBenchmark} classes at 1, 2, 4, ... platform threads up to the
+ * number of cores, and on virtual threads when the JDK supports them, then prints the
+ * scaling efficiency of every operation.
+ * <p>
+ * Efficiency is the throughput at {@code n} threads divided by {@code n} times the
+ * single-thread throughput: 1.0 is perfect scaling, and an operation that drops well below
+ * it shares something between threads. With {@code -Dscalability.perfnorm=true} the JMH
+ * {@code perfnorm} profiler (Linux perf) also records L1 data cache misses per operation;
+ * misses that grow with the thread count while the code under test does not share data
+ * on purpose point to false sharing.
+ * <p>
+ * Usage:
+ * <pre>
+ * java -cp target/benchmarks.jar com.berkeposlu.javautils.ScalabilityReport [include regex]
+ * </pre>
+ * Options are system properties: {@code scalability.maxThreads} (default: all cores),
+ * {@code scalability.perfnorm} and {@code scalability.minEfficiency}. With a minimum
+ * efficiency, the report exits with status 1 if any operation falls below it at the
+ * highest thread count, so it can gate CI runs.
+ */
+public final class ScalabilityReport {
+
+    private static final String L1_MISSES = "L1-dcache-load-misses";
+    private static final double CONTENDED = 0.7;
+
+    private ScalabilityReport() {
+        // Benchmark runner - prevent instantiation
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*ConcurrencyBenchmark.*";
+        int maxThreads = Integer.getInteger("scalability.maxThreads", Runtime.getRuntime().availableProcessors());
+        boolean perfnorm = Boolean.getBoolean("scalability.perfnorm");
+        double minEfficiency = Double.parseDouble(System.getProperty("scalability.minEfficiency", "0"));
+
+        List<String> labels = new ArrayList<>();
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            labels.add(Integer.toString(threads));
+            threadCounts.add(threads);
+        }
+        labels.add(Integer.toString(maxThreads));
+        threadCounts.add(maxThreads);
+        if (Runtime.version().feature() >= 21) {
+            labels.add("virtual");
+            threadCounts.add(maxThreads);
+        }
+
+        Map<String, Map<String, Sample>> samples = new TreeMap<>();
+        for (int run = 0; run < labels.size(); run++) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threadCounts.get(run))
+                    .shouldFailOnError(true);
+            if ("virtual".equals(labels.get(run))) {
+                options.jvmArgsAppend("-Djmh.executor=VIRTUAL");
+            }
+            if (perfnorm) {
+                options.addProfiler("perfnorm");
+            }
+            for (RunResult result : new Runner(options.build()).run()) {
+                Result<?> misses = result.getSecondaryResults().get(L1_MISSES);
+                samples.computeIfAbsent(result.getParams().getBenchmark(), name -> new TreeMap<>())
+                        .put(labels.get(run), new Sample(threadCounts.get(run),
+                                result.getPrimaryResult().getScore(),
+                                misses == null ? Double.NaN : misses.getScore()));
+            }
+        }
+
+        boolean regression = false;
+        System.out.printf("%n%-70s %8s %14s %10s %12s  %s%n",
+                "Benchmark", "Threads", "ops/us", "Efficiency", "L1 miss/op", "Note");
+        for (Map.Entry<String, Map<String, Sample>> entry : samples.entrySet()) {
+            Sample single = entry.getValue().get("1");
+            for (String label : labels) {
+                Sample sample = entry.getValue().get(label);
+                if (sample == null || single == null) {
+                    continue;
+                }
+                double efficiency = sample.score / (single.score * sample.threads);
+                String note = "";
+                if (sample.threads > 1 && efficiency < CONTENDED) {
+                    note = sample.missesPerOp > 2 * single.missesPerOp ? "possible false sharing" : "contention";
+                }
+                if (label.equals(Integer.toString(maxThreads)) && efficiency < minEfficiency) {
+                    note = note.isEmpty() ? "below minimum" : note + ", below minimum";
+                    regression = true;
+                }
+                System.out.printf("%-70s %8s %14.3f %10.2f %12.2f  %s%n",
+                        entry.getKey(), label, sample.score, efficiency, sample.missesPerOp, note);
+            }
+        }
+        if (regression) {
+            System.exit(1);
+        }
+    }
+
+    private static final class Sample {
+
+        final int threads;
+        final double score;
+        final double missesPerOp;
+
+        Sample(int threads, double score, double missesPerOp) {
+            this.threads = threads;
+            this.score = score;
+            this.missesPerOp = missesPerOp;
+        }
+    }
+}
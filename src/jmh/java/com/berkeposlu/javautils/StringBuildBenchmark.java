@@ -0,0 +1,86 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the exact-length StringUtils transforms compared to the substring,
+ * concatenation and StringBuilder versions they replace. Run with {@code -prof gc}: the
+ * gc.alloc.rate.norm of the StringUtils methods is the size of the result string alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringBuildBenchmark {
+
+    @Param({"16", "256"})
+    int length;
+
+    String text;
+    String words;
+
+    @Setup
+    public void setUp() {
+        text = "the quick brown fox jumps over the lazy dog. ".repeat(length / 45 + 1).substring(0, length);
+        words = "user_account-id created at ".repeat(length / 27 + 1).substring(0, length);
+    }
+
+    @Benchmark
+    public String capitalize() {
+        return StringUtils.capitalize(text);
+    }
+
+    @Benchmark
+    public String capitalizeConcat() {
+        return text.substring(0, 1).toUpperCase() + text.substring(1).toLowerCase();
+    }
+
+    @Benchmark
+    public String reverse() {
+        return StringUtils.reverse(text);
+    }
+
+    @Benchmark
+    public String reverseStringBuilder() {
+        return new StringBuilder(text).reverse().toString();
+    }
+
+    @Benchmark
+    public String toCamelCase() {
+        return StringUtils.toCamelCase(words);
+    }
+
+    @Benchmark
+    public String toCamelCaseSplit() {
+        String[] split = words.split("[\\s_-]+");
+        StringBuilder result = new StringBuilder(split[0].toLowerCase());
+        for (int i = 1; i < split.length; i++) {
+            result.append(split[i].substring(0, 1).toUpperCase() + split[i].substring(1).toLowerCase());
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    public String truncate() {
+        return StringUtils.truncate(text, length / 2);
+    }
+
+    @Benchmark
+    public String truncateConcat() {
+        return text.substring(0, length / 2 - 3) + "...";
+    }
+}
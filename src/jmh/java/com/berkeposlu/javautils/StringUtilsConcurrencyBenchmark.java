@@ -0,0 +1,95 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH throughput benchmarks for every public StringUtils operation under concurrent load.
+ * Runs on all cores by default; use {@link ScalabilityReport} for a sweep over thread counts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class StringUtilsConcurrencyBenchmark {
+
+    private static final int INPUTS = 256;
+
+    String[] words;
+    String[] sentences;
+
+    @Setup
+    public void setUp() {
+        words = new String[INPUTS];
+        sentences = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            words[i] = i % 16 == 0 ? "   " : "word" + i;
+            sentences[i] = "the quick brown fox " + i + " jumps over the lazy dog";
+        }
+    }
+
+    @Benchmark
+    public boolean isEmpty(ThreadCursor cursor) {
+        return StringUtils.isEmpty(words[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isNotEmpty(ThreadCursor cursor) {
+        return StringUtils.isNotEmpty(words[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isBlank(ThreadCursor cursor) {
+        return StringUtils.isBlank(words[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isNotBlank(ThreadCursor cursor) {
+        return StringUtils.isNotBlank(words[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public String capitalize(ThreadCursor cursor) {
+        return StringUtils.capitalize(words[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public String reverse(ThreadCursor cursor) {
+        return StringUtils.reverse(sentences[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public int countOccurrences(ThreadCursor cursor) {
+        return StringUtils.countOccurrences(sentences[cursor.next(INPUTS - 1)], "o");
+    }
+
+    @Benchmark
+    public String toCamelCase(ThreadCursor cursor) {
+        return StringUtils.toCamelCase(sentences[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public String join(ThreadCursor cursor) {
+        int i = cursor.next(INPUTS - 1);
+        return StringUtils.join(", ", words[i], words[(i + 1) & (INPUTS - 1)], words[(i + 2) & (INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public String truncate(ThreadCursor cursor) {
+        return StringUtils.truncate(sentences[cursor.next(INPUTS - 1)], 20);
+    }
+}
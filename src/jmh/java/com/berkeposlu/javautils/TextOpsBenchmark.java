@@ -0,0 +1,50 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for a fused TextOps chain compared to the nested StringUtils calls it
+ * replaces. Run with {@code -prof gc} to compare the allocation per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextOpsBenchmark {
+
+    private static final TextOps REVERSE_CAPITALIZE_TRUNCATE = TextOps.chain().reverse().capitalize().truncate(32);
+
+    @Param({"16", "256", "4096"})
+    int length;
+
+    String text;
+
+    @Setup
+    public void setUp() {
+        text = "The quick brown fox jumps over the lazy dog. ".repeat(length / 45 + 1).substring(0, length);
+    }
+
+    @Benchmark
+    public String nested() {
+        return StringUtils.truncate(StringUtils.capitalize(StringUtils.reverse(text)), 32);
+    }
+
+    @Benchmark
+    public String fused() {
+        return REVERSE_CAPITALIZE_TRUNCATE.apply(text);
+    }
+}
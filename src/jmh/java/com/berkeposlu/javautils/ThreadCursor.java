@@ -0,0 +1,25 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread position in a shared, read-only input array. Each benchmark thread walks
+ * the inputs on its own, so the only shared state is whatever the code under test shares.
+ */
+@State(Scope.Thread)
+public class ThreadCursor {
+
+    private int index;
+
+    /**
+     * Advances to the next input.
+     *
+     * @param mask the input array length minus one, a power of two minus one
+     * @return the index of the next input
+     */
+    public int next(int mask) {
+        index = (index + 1) & mask;
+        return index;
+    }
+}
@@ -0,0 +1,60 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the email validator with and without a {@link ValidationCache}.
+ * The inputs cycle through a fixed set of distinct addresses, so with a cache larger
+ * than the set almost every lookup is a hit, and with a smaller one most are misses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationCacheBenchmark {
+
+    @Param({"256", "65536"})
+    int capacity;
+
+    String[] emails;
+    ValidationCache cache;
+    int index;
+
+    @Setup
+    public void setUp() {
+        emails = new String[4096];
+        for (int i = 0; i < emails.length; i++) {
+            emails[i] = "user.name" + i + "@mail" + (i % 17) + ".example.com";
+        }
+        cache = new ValidationCache(ValidationUtils::isValidEmail, capacity);
+    }
+
+    private String next() {
+        index = (index + 1) & (emails.length - 1);
+        return emails[index];
+    }
+
+    @Benchmark
+    public boolean direct() {
+        return ValidationUtils.isValidEmail(next());
+    }
+
+    @Benchmark
+    public boolean cached() {
+        return cache.test(next());
+    }
+}
@@ -0,0 +1,62 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the regex and bounded email/URL validators on adversarial input.
+ * The inputs almost match and fail only at the last character, which maximizes
+ * backtracking in the regexes. The bounded validators should stay flat as the
+ * length grows past the RFC limits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationUtilsBenchmark {
+
+    @Param({"16", "256", "4096", "65536"})
+    int length;
+
+    String email;
+    String url;
+
+    @Setup
+    public void setUp() {
+        email = "a".repeat(length) + "@" + "a-".repeat(length / 2) + "!";
+        url = "http://" + ",".repeat(length) + "?";
+    }
+
+    @Benchmark
+    public boolean emailRegex() {
+        return ValidationUtils.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean emailBounded() {
+        return ValidationUtils.isValidEmailBounded(email);
+    }
+
+    @Benchmark
+    public boolean urlRegex() {
+        return ValidationUtils.isValidUrl(url);
+    }
+
+    @Benchmark
+    public boolean urlBounded() {
+        return ValidationUtils.isValidUrlBounded(url);
+    }
+}
@@ -0,0 +1,140 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH throughput benchmarks for every public ValidationUtils operation under concurrent
+ * load, plus a shared {@link ValidationCache} as the first contended structure.
+ * Runs on all cores by default; use {@link ScalabilityReport} for a sweep over thread counts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ValidationUtilsConcurrencyBenchmark {
+
+    private static final int INPUTS = 256;
+
+    String[] emails;
+    String[] phones;
+    String[] urls;
+    String[] numbers;
+    String[] words;
+    BlocklistFilter blocklist;
+    ValidationCache cache;
+
+    @Setup
+    public void setUp() {
+        emails = new String[INPUTS];
+        phones = new String[INPUTS];
+        urls = new String[INPUTS];
+        numbers = new String[INPUTS];
+        words = new String[INPUTS];
+        blocklist = BlocklistFilter.create(INPUTS, 0.01);
+        for (int i = 0; i < INPUTS; i++) {
+            emails[i] = i % 8 == 0 ? "user" + i + "@invalid" : "user" + i + "@mail" + i + ".example.com";
+            phones[i] = "+90555" + (1_000_000 + i);
+            urls[i] = "https://www.example.com/path/" + i + "?q=" + i;
+            numbers[i] = i % 4 == 0 ? "-" + i + ".5" : Integer.toString(i * 31);
+            words[i] = i % 2 == 0 ? "Word" + (char) ('a' + i % 26) : "word" + i;
+            if (i % 16 == 0) {
+                blocklist.add("mail" + i + ".example.com");
+            }
+        }
+        cache = new ValidationCache(ValidationUtils::isValidEmail, INPUTS * 2);
+    }
+
+    @Benchmark
+    public boolean isValidEmail(ThreadCursor cursor) {
+        return ValidationUtils.isValidEmail(emails[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isValidEmailBounded(ThreadCursor cursor) {
+        return ValidationUtils.isValidEmailBounded(emails[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isValidEmailBlocklist(ThreadCursor cursor) {
+        return ValidationUtils.isValidEmail(emails[cursor.next(INPUTS - 1)], blocklist);
+    }
+
+    @Benchmark
+    public boolean isValidEmailCached(ThreadCursor cursor) {
+        return cache.test(emails[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isNotBlocklisted(ThreadCursor cursor) {
+        return ValidationUtils.isNotBlocklisted(emails[cursor.next(INPUTS - 1)], blocklist);
+    }
+
+    @Benchmark
+    public boolean isValidPhone(ThreadCursor cursor) {
+        return ValidationUtils.isValidPhone(phones[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isValidUrl(ThreadCursor cursor) {
+        return ValidationUtils.isValidUrl(urls[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isValidUrlBounded(ThreadCursor cursor) {
+        return ValidationUtils.isValidUrlBounded(urls[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isNumeric(ThreadCursor cursor) {
+        return ValidationUtils.isNumeric(numbers[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isInteger(ThreadCursor cursor) {
+        return ValidationUtils.isInteger(numbers[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isAlphabetic(ThreadCursor cursor) {
+        return ValidationUtils.isAlphabetic(words[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isAlphanumeric(ThreadCursor cursor) {
+        return ValidationUtils.isAlphanumeric(words[cursor.next(INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isLengthInRange(ThreadCursor cursor) {
+        String word = words[cursor.next(INPUTS - 1)];
+        return ValidationUtils.hasMinLength(word, 3) && ValidationUtils.hasMaxLength(word, 10)
+                && ValidationUtils.isLengthInRange(word, 3, 10);
+    }
+
+    @Benchmark
+    public boolean isInRange(ThreadCursor cursor) {
+        int i = cursor.next(INPUTS - 1);
+        return ValidationUtils.isInRange(i, 10, 200) && ValidationUtils.isInRange(i * 0.5, 10.0, 200.0);
+    }
+
+    @Benchmark
+    public boolean areAllNotNull(ThreadCursor cursor) {
+        int i = cursor.next(INPUTS - 1);
+        return ValidationUtils.isNotNull(words[i]) && ValidationUtils.areAllNotNull(words[i], emails[i], urls[i]);
+    }
+}
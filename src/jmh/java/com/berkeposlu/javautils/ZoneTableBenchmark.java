@@ -0,0 +1,98 @@
+package com.berkeposlu.javautils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for converting epoch seconds to local date-times and back in bulk with
+ * ZoneTable, compared to going through ZonedDateTime per value. Each invocation converts
+ * 4096 values, either time-ordered or in random order over 30 years.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ZoneTableBenchmark {
+
+    private static final int COUNT = 4096;
+    private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+
+    long[] sorted;
+    long[] shuffled;
+    long[] local;
+    long[] dest;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long start = LocalDateTime.of(2000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long span = 30L * 365 * 86_400;
+        sorted = new long[COUNT];
+        shuffled = new long[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            sorted[i] = start + i * (span / COUNT);
+            shuffled[i] = start + (long) (random.nextDouble() * span);
+        }
+        Arrays.sort(sorted);
+        local = DateUtils.toLocalEpochSeconds(shuffled, ZONE);
+        dest = new long[COUNT];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long[] toLocalSortedTable() {
+        DateUtils.toLocalEpochSeconds(sorted, ZONE, dest);
+        return dest;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long[] toLocalRandomTable() {
+        DateUtils.toLocalEpochSeconds(shuffled, ZONE, dest);
+        return dest;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long[] toLocalRandomZonedDateTime() {
+        for (int i = 0; i < COUNT; i++) {
+            dest[i] = Instant.ofEpochSecond(shuffled[i]).atZone(ZONE).toLocalDateTime().toEpochSecond(ZoneOffset.UTC);
+        }
+        return dest;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long[] toEpochRandomTable() {
+        DateUtils.toEpochSeconds(local, ZONE, dest);
+        return dest;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long[] toEpochRandomZonedDateTime() {
+        for (int i = 0; i < COUNT; i++) {
+            dest[i] = LocalDateTime.ofEpochSecond(local[i], 0, ZoneOffset.UTC).atZone(ZONE).toEpochSecond();
+        }
+        return dest;
+    }
+}
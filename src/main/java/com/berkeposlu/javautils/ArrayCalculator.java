@@ -0,0 +1,817 @@
+package com.berkeposlu.javautils;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Element-wise array versions of the {@link Calculator} operations.
+ * <p>
+ * Every operation comes as an allocating variant, an into-destination variant
+ * (the destination may be one of the inputs for in-place updates) and a range
+ * variant.
+ * <p>
+ * The checked operations {@code divide} and {@code sqrt} process every element
+ * before reporting errors: invalid elements are set to NaN and reported in bulk,
+ * either as a single exception after the whole array has been processed or,
+ * for the range variants, as a count and an optional {@link BitSet} of indices.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class ArrayCalculator {
+
+    private ArrayCalculator() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Adds two arrays element by element.
+     *
+     * @param a the first values
+     * @param b the second values
+     * @return a new array with the sums
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     * @see Calculator#add(double, double)
+     */
+    public static double[] add(double[] a, double[] b) {
+        checkSameLength(a, b);
+        double[] result = new double[a.length];
+        add(a, 0, b, 0, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Adds a number to every element of an array.
+     *
+     * @param a the first values
+     * @param b the number to add
+     * @return a new array with the sums
+     * @throws IllegalArgumentException if the array is null
+     * @see Calculator#add(double, double)
+     */
+    public static double[] add(double[] a, double b) {
+        checkNotNull(a);
+        double[] result = new double[a.length];
+        add(a, 0, b, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Adds two arrays element by element into a destination array, which may be one of the inputs.
+     *
+     * @param a the first values
+     * @param b the second values
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     */
+    public static void add(double[] a, double[] b, double[] dest) {
+        checkSameLength(a, b, dest);
+        add(a, 0, b, 0, dest, 0, dest.length);
+    }
+
+    /**
+     * Adds a number to every element of an array into a destination array, which may be the input.
+     *
+     * @param a the first values
+     * @param b the number to add
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     */
+    public static void add(double[] a, double b, double[] dest) {
+        checkSameLength(a, dest);
+        add(a, 0, b, dest, 0, dest.length);
+    }
+
+    /**
+     * Adds two arrays element by element over array ranges.
+     *
+     * @param a the first values
+     * @param aFrom the start index in a
+     * @param b the second values
+     * @param bFrom the start index in b
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static void add(double[] a, int aFrom, double[] b, int bFrom,
+            double[] dest, int destFrom, int length) {
+        checkRange(a, aFrom, length);
+        checkRange(b, bFrom, length);
+        checkRange(dest, destFrom, length);
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = a[aFrom + i] + b[bFrom + i];
+        }
+    }
+
+    /**
+     * Adds a number to every element of an array range.
+     *
+     * @param a the first values
+     * @param aFrom the start index in a
+     * @param b the number to add
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static void add(double[] a, int aFrom, double b,
+            double[] dest, int destFrom, int length) {
+        checkRange(a, aFrom, length);
+        checkRange(dest, destFrom, length);
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = a[aFrom + i] + b;
+        }
+    }
+
+    /**
+     * Subtracts two arrays element by element.
+     *
+     * @param a the values to subtract from
+     * @param b the values to subtract
+     * @return a new array with the differences
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     * @see Calculator#subtract(double, double)
+     */
+    public static double[] subtract(double[] a, double[] b) {
+        checkSameLength(a, b);
+        double[] result = new double[a.length];
+        subtract(a, 0, b, 0, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Subtracts a number from every element of an array.
+     *
+     * @param a the values to subtract from
+     * @param b the number to subtract
+     * @return a new array with the differences
+     * @throws IllegalArgumentException if the array is null
+     * @see Calculator#subtract(double, double)
+     */
+    public static double[] subtract(double[] a, double b) {
+        checkNotNull(a);
+        double[] result = new double[a.length];
+        subtract(a, 0, b, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Subtracts two arrays element by element into a destination array, which may be one of the inputs.
+     *
+     * @param a the values to subtract from
+     * @param b the values to subtract
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     */
+    public static void subtract(double[] a, double[] b, double[] dest) {
+        checkSameLength(a, b, dest);
+        subtract(a, 0, b, 0, dest, 0, dest.length);
+    }
+
+    /**
+     * Subtracts a number from every element of an array into a destination array, which may be the input.
+     *
+     * @param a the values to subtract from
+     * @param b the number to subtract
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     */
+    public static void subtract(double[] a, double b, double[] dest) {
+        checkSameLength(a, dest);
+        subtract(a, 0, b, dest, 0, dest.length);
+    }
+
+    /**
+     * Subtracts two arrays element by element over array ranges.
+     *
+     * @param a the values to subtract from
+     * @param aFrom the start index in a
+     * @param b the values to subtract
+     * @param bFrom the start index in b
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static void subtract(double[] a, int aFrom, double[] b, int bFrom,
+            double[] dest, int destFrom, int length) {
+        checkRange(a, aFrom, length);
+        checkRange(b, bFrom, length);
+        checkRange(dest, destFrom, length);
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = a[aFrom + i] - b[bFrom + i];
+        }
+    }
+
+    /**
+     * Subtracts a number from every element of an array range.
+     *
+     * @param a the values to subtract from
+     * @param aFrom the start index in a
+     * @param b the number to subtract
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static void subtract(double[] a, int aFrom, double b,
+            double[] dest, int destFrom, int length) {
+        checkRange(a, aFrom, length);
+        checkRange(dest, destFrom, length);
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = a[aFrom + i] - b;
+        }
+    }
+
+    /**
+     * Multiplies two arrays element by element.
+     *
+     * @param a the first values
+     * @param b the second values
+     * @return a new array with the products
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     * @see Calculator#multiply(double, double)
+     */
+    public static double[] multiply(double[] a, double[] b) {
+        checkSameLength(a, b);
+        double[] result = new double[a.length];
+        multiply(a, 0, b, 0, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Multiplies every element of an array by a number.
+     *
+     * @param a the first values
+     * @param b the factor
+     * @return a new array with the products
+     * @throws IllegalArgumentException if the array is null
+     * @see Calculator#multiply(double, double)
+     */
+    public static double[] multiply(double[] a, double b) {
+        checkNotNull(a);
+        double[] result = new double[a.length];
+        multiply(a, 0, b, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Multiplies two arrays element by element into a destination array, which may be one of the inputs.
+     *
+     * @param a the first values
+     * @param b the second values
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     */
+    public static void multiply(double[] a, double[] b, double[] dest) {
+        checkSameLength(a, b, dest);
+        multiply(a, 0, b, 0, dest, 0, dest.length);
+    }
+
+    /**
+     * Multiplies every element of an array by a number into a destination array, which may be the input.
+     *
+     * @param a the first values
+     * @param b the factor
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     */
+    public static void multiply(double[] a, double b, double[] dest) {
+        checkSameLength(a, dest);
+        multiply(a, 0, b, dest, 0, dest.length);
+    }
+
+    /**
+     * Multiplies two arrays element by element over array ranges.
+     *
+     * @param a the first values
+     * @param aFrom the start index in a
+     * @param b the second values
+     * @param bFrom the start index in b
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static void multiply(double[] a, int aFrom, double[] b, int bFrom,
+            double[] dest, int destFrom, int length) {
+        checkRange(a, aFrom, length);
+        checkRange(b, bFrom, length);
+        checkRange(dest, destFrom, length);
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = a[aFrom + i] * b[bFrom + i];
+        }
+    }
+
+    /**
+     * Multiplies every element of an array range by a number.
+     *
+     * @param a the first values
+     * @param aFrom the start index in a
+     * @param b the factor
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static void multiply(double[] a, int aFrom, double b,
+            double[] dest, int destFrom, int length) {
+        checkRange(a, aFrom, length);
+        checkRange(dest, destFrom, length);
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = a[aFrom + i] * b;
+        }
+    }
+
+    /**
+     * Raises every base to the corresponding exponent.
+     *
+     * @param bases the bases
+     * @param exponents the exponents
+     * @return a new array with the powers
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     * @see Calculator#power(double, double)
+     */
+    public static double[] power(double[] bases, double[] exponents) {
+        checkSameLength(bases, exponents);
+        double[] result = new double[bases.length];
+        power(bases, 0, exponents, 0, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Raises every element of an array to the same exponent.
+     *
+     * @param bases the bases
+     * @param exponent the exponent
+     * @return a new array with the powers
+     * @throws IllegalArgumentException if the array is null
+     * @see Calculator#power(double, double)
+     */
+    public static double[] power(double[] bases, double exponent) {
+        checkNotNull(bases);
+        double[] result = new double[bases.length];
+        power(bases, 0, exponent, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Raises every base to the corresponding exponent into a destination array, which may be one of the inputs.
+     *
+     * @param bases the bases
+     * @param exponents the exponents
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     */
+    public static void power(double[] bases, double[] exponents, double[] dest) {
+        checkSameLength(bases, exponents, dest);
+        power(bases, 0, exponents, 0, dest, 0, dest.length);
+    }
+
+    /**
+     * Raises every element of an array to the same exponent into a destination array, which may be the input.
+     *
+     * @param bases the bases
+     * @param exponent the exponent
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     */
+    public static void power(double[] bases, double exponent, double[] dest) {
+        checkSameLength(bases, dest);
+        power(bases, 0, exponent, dest, 0, dest.length);
+    }
+
+    /**
+     * Raises every base to the corresponding exponent over array ranges.
+     *
+     * @param bases the bases
+     * @param basesFrom the start index in bases
+     * @param exponents the exponents
+     * @param exponentsFrom the start index in exponents
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static void power(double[] bases, int basesFrom, double[] exponents, int exponentsFrom,
+            double[] dest, int destFrom, int length) {
+        checkRange(bases, basesFrom, length);
+        checkRange(exponents, exponentsFrom, length);
+        checkRange(dest, destFrom, length);
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = Math.pow(bases[basesFrom + i], exponents[exponentsFrom + i]);
+        }
+    }
+
+    /**
+     * Raises every element of an array range to the same exponent.
+     *
+     * @param bases the bases
+     * @param basesFrom the start index in bases
+     * @param exponent the exponent
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static void power(double[] bases, int basesFrom, double exponent,
+            double[] dest, int destFrom, int length) {
+        checkRange(bases, basesFrom, length);
+        checkRange(dest, destFrom, length);
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = Math.pow(bases[basesFrom + i], exponent);
+        }
+    }
+
+    /**
+     * Calculates a percentage of every value, element by element.
+     *
+     * @param values the values
+     * @param percentages the percentages
+     * @return a new array with the calculated amounts
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     * @see Calculator#percentageOf(double, double)
+     */
+    public static double[] percentageOf(double[] values, double[] percentages) {
+        checkSameLength(values, percentages);
+        double[] result = new double[values.length];
+        percentageOf(values, 0, percentages, 0, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Calculates the same percentage of every element of an array.
+     *
+     * @param values the values
+     * @param percentage the percentage
+     * @return a new array with the calculated amounts
+     * @throws IllegalArgumentException if the array is null
+     * @see Calculator#percentageOf(double, double)
+     */
+    public static double[] percentageOf(double[] values, double percentage) {
+        checkNotNull(values);
+        double[] result = new double[values.length];
+        percentageOf(values, 0, percentage, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Calculates a percentage of every value, element by element into a destination array, which may be one of the inputs.
+     *
+     * @param values the values
+     * @param percentages the percentages
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     */
+    public static void percentageOf(double[] values, double[] percentages, double[] dest) {
+        checkSameLength(values, percentages, dest);
+        percentageOf(values, 0, percentages, 0, dest, 0, dest.length);
+    }
+
+    /**
+     * Calculates the same percentage of every element of an array into a destination array, which may be the input.
+     *
+     * @param values the values
+     * @param percentage the percentage
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     */
+    public static void percentageOf(double[] values, double percentage, double[] dest) {
+        checkSameLength(values, dest);
+        percentageOf(values, 0, percentage, dest, 0, dest.length);
+    }
+
+    /**
+     * Calculates a percentage of every value, element by element over array ranges.
+     *
+     * @param values the values
+     * @param valuesFrom the start index in values
+     * @param percentages the percentages
+     * @param percentagesFrom the start index in percentages
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static void percentageOf(double[] values, int valuesFrom, double[] percentages, int percentagesFrom,
+            double[] dest, int destFrom, int length) {
+        checkRange(values, valuesFrom, length);
+        checkRange(percentages, percentagesFrom, length);
+        checkRange(dest, destFrom, length);
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = (values[valuesFrom + i] * percentages[percentagesFrom + i]) / 100;
+        }
+    }
+
+    /**
+     * Calculates the same percentage of every element of an array range.
+     *
+     * @param values the values
+     * @param valuesFrom the start index in values
+     * @param percentage the percentage
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static void percentageOf(double[] values, int valuesFrom, double percentage,
+            double[] dest, int destFrom, int length) {
+        checkRange(values, valuesFrom, length);
+        checkRange(dest, destFrom, length);
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = (values[valuesFrom + i] * percentage) / 100;
+        }
+    }
+
+    /**
+     * Divides two arrays element by element.
+     *
+     * @param a the dividends
+     * @param b the divisors
+     * @return a new array with the quotients
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     * @throws ArithmeticException if any divisor is zero, after all elements have been processed
+     * @see Calculator#divide(double, double)
+     */
+    public static double[] divide(double[] a, double[] b) {
+        checkSameLength(a, b);
+        double[] result = new double[a.length];
+        divide(a, b, result);
+        return result;
+    }
+
+    /**
+     * Divides every element of an array by a number.
+     *
+     * @param a the dividends
+     * @param b the divisor
+     * @return a new array with the quotients
+     * @throws IllegalArgumentException if the array is null
+     * @throws ArithmeticException if the divisor is zero
+     * @see Calculator#divide(double, double)
+     */
+    public static double[] divide(double[] a, double b) {
+        checkNotNull(a);
+        double[] result = new double[a.length];
+        divide(a, 0, b, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Divides two arrays element by element into a destination array, which may be one of the inputs.
+     * Elements with a zero divisor are set to NaN.
+     *
+     * @param a the dividends
+     * @param b the divisors
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     * @throws ArithmeticException if any divisor is zero, after all elements have been processed
+     */
+    public static void divide(double[] a, double[] b, double[] dest) {
+        checkSameLength(a, b, dest);
+        int invalid = divide(a, 0, b, 0, dest, 0, dest.length, null);
+        if (invalid > 0) {
+            throw new ArithmeticException("Division by zero in " + invalid + " of " + dest.length + " elements");
+        }
+    }
+
+    /**
+     * Divides every element of an array by a number into a destination array, which may be the input.
+     *
+     * @param a the dividends
+     * @param b the divisor
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     * @throws ArithmeticException if the divisor is zero
+     */
+    public static void divide(double[] a, double b, double[] dest) {
+        checkSameLength(a, dest);
+        divide(a, 0, b, dest, 0, dest.length);
+    }
+
+    /**
+     * Divides two arrays element by element over array ranges without throwing for zero divisors.
+     * Elements with a zero divisor are set to NaN and their offsets within the range are
+     * added to {@code invalid}.
+     *
+     * @param a the dividends
+     * @param aFrom the start index in a
+     * @param b the divisors
+     * @param bFrom the start index in b
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @param invalid receives the offsets of elements with a zero divisor, may be null
+     * @return the number of elements with a zero divisor
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static int divide(double[] a, int aFrom, double[] b, int bFrom,
+            double[] dest, int destFrom, int length, BitSet invalid) {
+        checkRange(a, aFrom, length);
+        checkRange(b, bFrom, length);
+        checkRange(dest, destFrom, length);
+        // record zero divisors first, dest may alias b
+        BitSet zeros = null;
+        for (int i = 0; i < length; i++) {
+            if (b[bFrom + i] == 0) {
+                if (zeros == null) {
+                    zeros = new BitSet(length);
+                }
+                zeros.set(i);
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = a[aFrom + i] / b[bFrom + i];
+        }
+        return markInvalid(dest, destFrom, zeros, invalid);
+    }
+
+    /**
+     * Divides every element of an array range by a number.
+     *
+     * @param a the dividends
+     * @param aFrom the start index in a
+     * @param b the divisor
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     * @throws ArithmeticException if the divisor is zero
+     */
+    public static void divide(double[] a, int aFrom, double b,
+            double[] dest, int destFrom, int length) {
+        checkRange(a, aFrom, length);
+        checkRange(dest, destFrom, length);
+        if (b == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = a[aFrom + i] / b;
+        }
+    }
+
+    /**
+     * Calculates the square root of every element of an array.
+     *
+     * @param values the values
+     * @return a new array with the square roots
+     * @throws IllegalArgumentException if the array is null, or if any value is negative
+     *                                  after all elements have been processed
+     * @see Calculator#sqrt(double)
+     */
+    public static double[] sqrt(double[] values) {
+        checkNotNull(values);
+        double[] result = new double[values.length];
+        sqrt(values, result);
+        return result;
+    }
+
+    /**
+     * Calculates the square root of every element of an array into a destination array,
+     * which may be the input. Negative elements are set to NaN.
+     *
+     * @param values the values
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null, the lengths differ, or if any
+     *                                  value is negative after all elements have been processed
+     */
+    public static void sqrt(double[] values, double[] dest) {
+        checkSameLength(values, dest);
+        int invalid = sqrt(values, 0, dest, 0, dest.length, null);
+        if (invalid > 0) {
+            throw new IllegalArgumentException("Cannot calculate square root of negative number in "
+                    + invalid + " of " + dest.length + " elements");
+        }
+    }
+
+    /**
+     * Calculates the square root of every element of an array range without throwing for
+     * negative values. Negative elements are set to NaN and their offsets within the range
+     * are added to {@code invalid}.
+     *
+     * @param values the values
+     * @param valuesFrom the start index in values
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @param invalid receives the offsets of negative elements, may be null
+     * @return the number of negative elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static int sqrt(double[] values, int valuesFrom, double[] dest, int destFrom, int length, BitSet invalid) {
+        checkRange(values, valuesFrom, length);
+        checkRange(dest, destFrom, length);
+        // record negative values first, dest may alias values
+        BitSet negatives = null;
+        for (int i = 0; i < length; i++) {
+            if (values[valuesFrom + i] < 0) {
+                if (negatives == null) {
+                    negatives = new BitSet(length);
+                }
+                negatives.set(i);
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = Math.sqrt(values[valuesFrom + i]);
+        }
+        return markInvalid(dest, destFrom, negatives, invalid);
+    }
+
+    /**
+     * Calculates the absolute value of every element of an array.
+     *
+     * @param values the values
+     * @return a new array with the absolute values
+     * @throws IllegalArgumentException if the array is null
+     * @see Calculator#abs(double)
+     */
+    public static double[] abs(double[] values) {
+        checkNotNull(values);
+        double[] result = new double[values.length];
+        abs(values, 0, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Calculates the absolute value of every element of an array into a destination array,
+     * which may be the input.
+     *
+     * @param values the values
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array is null or the lengths differ
+     */
+    public static void abs(double[] values, double[] dest) {
+        checkSameLength(values, dest);
+        abs(values, 0, dest, 0, dest.length);
+    }
+
+    /**
+     * Calculates the absolute value of every element of an array range.
+     *
+     * @param values the values
+     * @param valuesFrom the start index in values
+     * @param dest the destination array
+     * @param destFrom the start index in dest
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public static void abs(double[] values, int valuesFrom, double[] dest, int destFrom, int length) {
+        checkRange(values, valuesFrom, length);
+        checkRange(dest, destFrom, length);
+        for (int i = 0; i < length; i++) {
+            dest[destFrom + i] = Math.abs(values[valuesFrom + i]);
+        }
+    }
+
+    private static int markInvalid(double[] dest, int destFrom, BitSet found, BitSet invalid) {
+        if (found == null) {
+            return 0;
+        }
+        for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+            dest[destFrom + i] = Double.NaN;
+        }
+        if (invalid != null) {
+            invalid.or(found);
+        }
+        return found.cardinality();
+    }
+
+    private static void checkNotNull(double[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+    }
+
+    private static void checkSameLength(double[] a, double[] b) {
+        checkNotNull(a);
+        checkNotNull(b);
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+    }
+
+    private static void checkSameLength(double[] a, double[] b, double[] c) {
+        checkSameLength(a, b);
+        checkSameLength(a, c);
+    }
+
+    private static void checkRange(double[] values, int from, int length) {
+        checkNotNull(values);
+        Objects.checkFromIndexSize(from, length, values.length);
+    }
+}
@@ -0,0 +1,314 @@
+package com.berkeposlu.javautils;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Runs large batches of validation, distinct counting, parsing and time zone conversion
+ * calls in parallel on a dedicated fork-join pool.
+ * <p>
+ * A batch is split into chunks sized so that every worker gets a few of them, and the
+ * result is returned as a {@link CompletableFuture}. The number of chunks queued or
+ * running at once is bounded: a caller that submits while the bound is reached blocks
+ * until earlier chunks finish. The blocking uses a {@link Semaphore}, never a monitor,
+ * so virtual threads waiting to submit unmount from their carrier instead of pinning it.
+ * Because the work runs on its own pool, CPU-bound batches neither occupy the carrier
+ * threads of I/O-bound callers nor the common pool.
+ * <p>
+ * Batches submitted from the executor's own workers, e.g. from a callback, run inline
+ * to avoid a worker waiting for itself.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class BatchExecutor implements AutoCloseable {
+
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final int MIN_CHUNK_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private final Semaphore permits;
+    private final int maxQueuedChunks;
+
+    /**
+     * Creates an executor with one worker per available processor and room for four
+     * queued chunks per worker.
+     */
+    public BatchExecutor() {
+        this(Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().availableProcessors() * CHUNKS_PER_WORKER);
+    }
+
+    /**
+     * Creates an executor.
+     *
+     * @param parallelism the number of worker threads
+     * @param maxQueuedChunks the maximum number of chunks queued or running at once
+     * @throws IllegalArgumentException if either argument is not positive
+     */
+    public BatchExecutor(int parallelism, int maxQueuedChunks) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (maxQueuedChunks <= 0) {
+            throw new IllegalArgumentException("Max queued chunks must be positive");
+        }
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setName("javautils-batch-" + worker.getPoolIndex());
+            worker.setDaemon(true);
+            return worker;
+        }, null, false);
+        this.permits = new Semaphore(maxQueuedChunks);
+        this.maxQueuedChunks = maxQueuedChunks;
+    }
+
+    /**
+     * Applies a function to every input in parallel.
+     * <p>
+     * The calling thread blocks while the queue is full. If the function throws, the
+     * future completes exceptionally with the first exception and the remaining chunks
+     * are skipped.
+     *
+     * @param inputs the inputs
+     * @param function the function to apply
+     * @param <T> the input type
+     * @param <R> the result type
+     * @return a future of the results, in input order
+     * @throws IllegalArgumentException if the inputs or the function are null
+     * @throws java.util.concurrent.RejectedExecutionException if the executor is closed
+     */
+    public <T, R> CompletableFuture<List<R>> map(List<? extends T> inputs, Function<? super T, ? extends R> function) {
+        if (inputs == null || function == null) {
+            throw new IllegalArgumentException("Inputs and function cannot be null");
+        }
+        Object[] results = new Object[inputs.size()];
+        @SuppressWarnings("unchecked")
+        List<R> view = (List<R>) Collections.unmodifiableList(Arrays.asList(results));
+        return run(inputs.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = function.apply(inputs.get(i));
+            }
+        }).thenApply(ignored -> view);
+    }
+
+    /**
+     * Validates every input in parallel, e.g.
+     * {@code executor.validate(emails, ValidationUtils::isValidEmail)}.
+     *
+     * @param inputs the inputs
+     * @param validator the validator
+     * @return a future of the validation results, in input order
+     * @throws IllegalArgumentException if the inputs or the validator are null
+     * @throws java.util.concurrent.RejectedExecutionException if the executor is closed
+     */
+    public CompletableFuture<boolean[]> validate(List<String> inputs, Predicate<String> validator) {
+        if (inputs == null || validator == null) {
+            throw new IllegalArgumentException("Inputs and validator cannot be null");
+        }
+        boolean[] results = new boolean[inputs.size()];
+        return run(inputs.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = validator.test(inputs.get(i));
+            }
+        }).thenApply(ignored -> results);
+    }
+
+    /**
+     * Validates every input in parallel and counts the distinct valid inputs, e.g. unique
+     * valid emails. Each chunk counts into its own {@link DistinctCounter}, and the chunk
+     * counters are merged into the given one before the future completes, so the counter
+     * must not be used until then.
+     *
+     * @param inputs the inputs
+     * @param validator the validator
+     * @param distinctValid the counter to add the valid inputs to
+     * @return a future of the validation results, in input order
+     * @throws IllegalArgumentException if an argument is null
+     * @throws java.util.concurrent.RejectedExecutionException if the executor is closed
+     */
+    public CompletableFuture<boolean[]> validate(List<String> inputs, Predicate<String> validator,
+                                                 DistinctCounter distinctValid) {
+        if (inputs == null || validator == null || distinctValid == null) {
+            throw new IllegalArgumentException("Inputs, validator and counter cannot be null");
+        }
+        boolean[] results = new boolean[inputs.size()];
+        Queue<DistinctCounter> counters = new ConcurrentLinkedQueue<>();
+        return run(inputs.size(), (from, to) -> {
+            DistinctCounter counter = new DistinctCounter(distinctValid.getPrecision());
+            for (int i = from; i < to; i++) {
+                String input = inputs.get(i);
+                results[i] = validator.test(input);
+                if (results[i] && input != null) {
+                    counter.add(input);
+                }
+            }
+            counters.add(counter);
+        }).thenApply(ignored -> {
+            counters.forEach(distinctValid::merge);
+            return results;
+        });
+    }
+
+    /**
+     * Parses every input with {@link DateUtils#parseDate(String, String)} in parallel.
+     *
+     * @param inputs the date strings
+     * @param pattern the pattern to use
+     * @return a future of the parsed dates, in input order; fails with the first
+     *         {@link java.time.format.DateTimeParseException}
+     * @throws IllegalArgumentException if the inputs are null
+     * @throws java.util.concurrent.RejectedExecutionException if the executor is closed
+     */
+    public CompletableFuture<List<LocalDate>> parseDates(List<String> inputs, String pattern) {
+        return map(inputs, input -> DateUtils.parseDate(input, pattern));
+    }
+
+    /**
+     * Converts instants to local date-times in a zone in parallel, like
+     * {@link DateUtils#toLocalEpochSeconds(long[], ZoneId, long[])}.
+     *
+     * @param epochSeconds the instants, in seconds since 1970-01-01T00:00Z
+     * @param zone the zone
+     * @param dest the destination array for the local epoch seconds, may be epochSeconds
+     * @return a future of the destination array
+     * @throws IllegalArgumentException if an array or the zone is null, or the lengths differ
+     * @throws java.util.concurrent.RejectedExecutionException if the executor is closed
+     */
+    public CompletableFuture<long[]> toLocalEpochSeconds(long[] epochSeconds, ZoneId zone, long[] dest) {
+        checkConversion(epochSeconds, zone, dest);
+        return run(dest.length, (from, to) -> ZoneTable.toLocalEpochSeconds(zone, epochSeconds, from, dest, from, to - from))
+                .thenApply(ignored -> dest);
+    }
+
+    /**
+     * Converts local date-times in a zone to instants in parallel, like
+     * {@link DateUtils#toEpochSeconds(long[], ZoneId, long[])}.
+     *
+     * @param localEpochSeconds the local epoch seconds
+     * @param zone the zone
+     * @param dest the destination array for the epoch seconds, may be localEpochSeconds
+     * @return a future of the destination array
+     * @throws IllegalArgumentException if an array or the zone is null, or the lengths differ
+     * @throws java.util.concurrent.RejectedExecutionException if the executor is closed
+     */
+    public CompletableFuture<long[]> toEpochSeconds(long[] localEpochSeconds, ZoneId zone, long[] dest) {
+        checkConversion(localEpochSeconds, zone, dest);
+        return run(dest.length, (from, to) -> ZoneTable.toEpochSeconds(zone, localEpochSeconds, from, dest, from, to - from))
+                .thenApply(ignored -> dest);
+    }
+
+    private static void checkConversion(long[] values, ZoneId zone, long[] dest) {
+        if (values == null || zone == null || dest == null) {
+            throw new IllegalArgumentException("Arrays and zone cannot be null");
+        }
+        if (values.length != dest.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+    }
+
+    private CompletableFuture<Void> run(int size, ChunkTask task) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (size == 0) {
+            future.complete(null);
+            return future;
+        }
+        if (isOwnWorker()) {
+            try {
+                task.run(0, size);
+                future.complete(null);
+            } catch (RuntimeException | Error e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+        int chunks = Math.min(maxQueuedChunks, pool.getParallelism() * CHUNKS_PER_WORKER);
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (size + chunks - 1) / chunks);
+        AtomicInteger remaining = new AtomicInteger((size + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(size, from + chunkSize);
+            permits.acquireUninterruptibly();
+            Runnable chunk = () -> {
+                try {
+                    if (!future.isDone()) {
+                        task.run(start, end);
+                    }
+                } catch (RuntimeException | Error e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    permits.release();
+                    if (remaining.decrementAndGet() == 0) {
+                        future.complete(null);
+                    }
+                }
+            };
+            try {
+                pool.execute(chunk);
+            } catch (RuntimeException e) {
+                // closed while submitting: chunks already running still finish
+                permits.release();
+                if (start == 0) {
+                    throw e;
+                }
+                future.completeExceptionally(e);
+                break;
+            }
+        }
+        return future;
+    }
+
+    private boolean isOwnWorker() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == pool;
+    }
+
+    /**
+     * Gets the number of worker threads.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Gets the number of chunks that can be queued before submitters block.
+     *
+     * @return the number of free queue slots
+     */
+    public int getAvailableSlots() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Stops accepting batches and waits for running batches to finish.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run(int from, int to);
+    }
+}
@@ -0,0 +1,337 @@
+package com.berkeposlu.javautils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * A compact Bloom filter for blocklists of emails, domains or other strings.
+ * <p>
+ * The filter answers "definitely not blocked" for almost all inputs using a few bit reads,
+ * and "maybe blocked" with a configurable false-positive rate. A multi-million-entry
+ * blocklist at 1% false positives needs about 1.2 bytes per entry instead of the
+ * hundreds a {@code HashSet<String>} needs. The bits live in a direct {@link ByteBuffer}
+ * outside the Java heap, and a saved filter is memory-mapped by {@link #load(Path)}, so
+ * startup does not depend on the filter size.
+ * <p>
+ * Values are compared case-insensitively. An optional exact check, e.g. a database
+ * lookup, can be attached with {@link #withExactCheck(Predicate)}; {@link #contains(String)}
+ * then runs it only for the rare values the filter reports as possibly blocked.
+ * <p>
+ * Adding values is not thread-safe. Once built, a filter can be queried from any
+ * number of threads.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class BlocklistFilter {
+
+    private static final int MAGIC = 0x4A554246; // "JUBF"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int MAX_HASH_FUNCTIONS = 30;
+    private static final long MAX_BITS = (Integer.MAX_VALUE - HEADER_BYTES) / 8 * 64L;
+
+    private final ByteBuffer bits;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final boolean readOnly;
+    private final Predicate<String> exactCheck;
+    private long size;
+
+    private BlocklistFilter(ByteBuffer bits, long bitCount, int hashFunctions, long size,
+                            boolean readOnly, Predicate<String> exactCheck) {
+        this.bits = bits;
+        this.bitCount = bitCount;
+        this.hashFunctions = hashFunctions;
+        this.size = size;
+        this.readOnly = readOnly;
+        this.exactCheck = exactCheck;
+    }
+
+    /**
+     * Creates an empty filter sized for the expected number of entries.
+     *
+     * @param expectedEntries the number of entries that will be added
+     * @param falsePositiveRate the target false-positive rate, e.g. 0.01 for 1%
+     * @return an empty filter
+     * @throws IllegalArgumentException if the expected entries are negative, the rate is
+     *                                  not between 0 and 1 exclusive, or the filter would be too large
+     */
+    public static BlocklistFilter create(long expectedEntries, double falsePositiveRate) {
+        if (expectedEntries < 0) {
+            throw new IllegalArgumentException("Expected entries cannot be negative");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1");
+        }
+        long entries = Math.max(1, expectedEntries);
+        double ln2 = Math.log(2);
+        double optimalBits = Math.ceil(-entries * Math.log(falsePositiveRate) / (ln2 * ln2));
+        if (optimalBits > MAX_BITS) {
+            throw new IllegalArgumentException("Filter would exceed " + MAX_BITS + " bits");
+        }
+        long bitCount = Math.max(64, ((long) optimalBits + 63) & ~63L);
+        int hashFunctions = (int) Math.max(1, Math.min(MAX_HASH_FUNCTIONS,
+                Math.round((double) bitCount / entries * ln2)));
+        ByteBuffer bits = ByteBuffer.allocateDirect((int) (bitCount / 8)).order(ByteOrder.LITTLE_ENDIAN);
+        return new BlocklistFilter(bits, bitCount, hashFunctions, 0, false, null);
+    }
+
+    /**
+     * Builds a filter from a text file with one entry per line. Lines are trimmed, and
+     * empty lines and lines starting with {@code #} are skipped.
+     *
+     * @param source the blocklist file, UTF-8 encoded
+     * @param falsePositiveRate the target false-positive rate
+     * @return a filter containing every entry of the file
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the rate is not between 0 and 1 exclusive
+     */
+    public static BlocklistFilter build(Path source, double falsePositiveRate) throws IOException {
+        long entries = 0;
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (isEntry(line.trim())) {
+                    entries++;
+                }
+            }
+        }
+        BlocklistFilter filter = create(entries, falsePositiveRate);
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String entry = line.trim();
+                if (isEntry(entry)) {
+                    filter.add(entry);
+                }
+            }
+        }
+        return filter;
+    }
+
+    private static boolean isEntry(String line) {
+        return !line.isEmpty() && line.charAt(0) != '#';
+    }
+
+    /**
+     * Memory-maps a filter saved with {@link #save(Path)}. The returned filter is read-only
+     * and its bits are paged in by the operating system on first access.
+     *
+     * @param file the filter file
+     * @return the read-only filter
+     * @throws IOException if the file cannot be read or is not a filter file
+     */
+    public static BlocklistFilter load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Not a blocklist filter file: " + file);
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            int magic = mapped.getInt(0);
+            int version = mapped.getInt(4);
+            int hashFunctions = mapped.getInt(8);
+            long bitCount = mapped.getLong(16);
+            long size = mapped.getLong(24);
+            if (magic != MAGIC || version != FORMAT_VERSION
+                    || hashFunctions < 1 || hashFunctions > MAX_HASH_FUNCTIONS
+                    || bitCount <= 0 || bitCount % 64 != 0 || HEADER_BYTES + bitCount / 8 != fileSize) {
+                throw new IOException("Not a blocklist filter file: " + file);
+            }
+            ByteBuffer bits = mapped.position(HEADER_BYTES).slice().order(ByteOrder.LITTLE_ENDIAN);
+            return new BlocklistFilter(bits, bitCount, hashFunctions, size, true, null);
+        }
+    }
+
+    /**
+     * Saves the filter so it can be memory-mapped with {@link #load(Path)}.
+     *
+     * @param file the target file, replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(hashFunctions).putInt(0)
+                .putLong(bitCount).putLong(size).flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            ByteBuffer body = bits.duplicate().clear();
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        }
+    }
+
+    /**
+     * Returns a view of this filter that confirms possible matches with an exact check.
+     * The view shares the filter's bits.
+     *
+     * @param exactCheck the exact check, called with the lower-cased value
+     * @return the filter view
+     * @throws IllegalArgumentException if the exact check is null
+     */
+    public BlocklistFilter withExactCheck(Predicate<String> exactCheck) {
+        if (exactCheck == null) {
+            throw new IllegalArgumentException("Exact check cannot be null");
+        }
+        return new BlocklistFilter(bits, bitCount, hashFunctions, size, readOnly, exactCheck);
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @param value the value to add
+     * @throws IllegalArgumentException if the value is null
+     * @throws IllegalStateException if the filter was loaded from a file
+     */
+    public void add(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        if (readOnly) {
+            throw new IllegalStateException("Filter is read-only");
+        }
+        long h1 = hash(normalize(value));
+        long h2 = Hashing.mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6) << 3;
+            bits.putLong(index, bits.getLong(index) | (1L << bit));
+        }
+        size++;
+    }
+
+    /**
+     * Checks whether a value may have been added. False means the value was definitely
+     * not added; true may be a false positive.
+     *
+     * @param value the value to check
+     * @return true if the value may be in the filter, false otherwise
+     */
+    public boolean mightContain(String value) {
+        return value != null && testBits(hash(normalize(value)));
+    }
+
+    /**
+     * Checks whether a value is blocked: the filter must report it, and the exact check,
+     * if one is attached, must confirm it.
+     *
+     * @param value the value to check
+     * @return true if the value is blocked, false otherwise
+     */
+    public boolean contains(String value) {
+        if (value == null) {
+            return false;
+        }
+        String normalized = normalize(value);
+        if (!testBits(hash(normalized))) {
+            return false;
+        }
+        return exactCheck == null || exactCheck.test(normalized);
+    }
+
+    /**
+     * Checks whether a range of a sequence is blocked, like {@link #contains(String)} on the
+     * substring. An ASCII range is hashed in place, so the substring is only created for
+     * the exact check or if the range contains other characters.
+     *
+     * @param text the sequence holding the value
+     * @param start the first index of the value, inclusive
+     * @param end the last index of the value, exclusive
+     * @return true if the value is blocked, false otherwise
+     * @throws IllegalArgumentException if the range is out of bounds
+     */
+    public boolean contains(CharSequence text, int start, int end) {
+        if (text == null) {
+            return false;
+        }
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IllegalArgumentException("Invalid range [" + start + ", " + end + ")");
+        }
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) >= 0x80) {
+                return contains(text.subSequence(start, end).toString());
+            }
+        }
+        // normalize lower-cases ASCII letters alike, so this equals hash(normalize(value))
+        if (!testBits(Hashing.hashIgnoreAsciiCase(text, start, end))) {
+            return false;
+        }
+        return exactCheck == null || exactCheck.test(normalize(text.subSequence(start, end).toString()));
+    }
+
+    private boolean testBits(long h1) {
+        long h2 = Hashing.mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits.getLong((int) (bit >>> 6) << 3) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static long hash(String value) {
+        return Hashing.hash(value, 0, value.length());
+    }
+
+    /**
+     * Gets the number of values added.
+     *
+     * @return the number of values added
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of bits in the filter.
+     *
+     * @return the bit count
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Gets the number of bits set and tested per value.
+     *
+     * @return the number of hash functions
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * Estimates the false-positive rate for the values added so far.
+     *
+     * @return the expected false-positive rate between 0 and 1
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * size / bitCount), hashFunctions);
+    }
+
+    @Override
+    public String toString() {
+        return "BlocklistFilter[size=" + size + ", bits=" + bitCount + ", hashFunctions=" + hashFunctions
+                + ", fpp=" + expectedFalsePositiveRate() + "]";
+    }
+}
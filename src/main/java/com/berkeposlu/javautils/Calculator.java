@@ -1,8 +1,11 @@
 package com.berkeposlu.javautils;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Utility class for mathematical calculations and operations.
@@ -12,6 +15,48 @@ import java.util.List;
  */
 public final class Calculator {
 
+    /** Largest n for which n! fits into a long. */
+    private static final int MAX_LONG_FACTORIAL = 20;
+
+    /** Precomputed factorials 0! .. 20!. */
+    private static final long[] FACTORIALS = new long[MAX_LONG_FACTORIAL + 1];
+
+    /** Ranges with fewer terms than this are multiplied sequentially. */
+    private static final int PRODUCT_LEAF_SIZE = 16;
+
+    /** Ranges with more terms than this are split across the common fork-join pool. */
+    private static final int PARALLEL_PRODUCT_THRESHOLD = 4096;
+
+    /** Largest number of decimal places served by the allocation-free rounding path. */
+    private static final int MAX_FAST_DECIMAL_PLACES = 15;
+
+    /** Powers of ten 10^0 .. 10^15, all exactly representable as doubles. */
+    private static final double[] POWERS_OF_TEN = new double[MAX_FAST_DECIMAL_PLACES + 1];
+
+    /** Scaled magnitudes at or above 2^52 are no longer guaranteed to have a fractional part. */
+    private static final double MAX_FAST_SCALED = 0x1p52;
+
+    /** Arrays longer than this are reduced (GCD/LCM) on the common fork-join pool. */
+    private static final int PARALLEL_REDUCTION_THRESHOLD = 1 << 15;
+
+    static {
+        FACTORIALS[0] = 1;
+        for (int i = 1; i <= MAX_LONG_FACTORIAL; i++) {
+            FACTORIALS[i] = FACTORIALS[i - 1] * i;
+        }
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_FAST_DECIMAL_PLACES; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private static final Metrics.Probe FACTORIAL_EXACT_PROBE = Metrics.probe("Calculator.factorialExact");
+    private static final Metrics.Probe BINOMIAL_EXACT_PROBE = Metrics.probe("Calculator.binomialExact");
+    private static final Metrics.Probe ROUND_PROBE = Metrics.probe("Calculator.round");
+    private static final Metrics.Probe ROUND_ARRAY_PROBE = Metrics.probe("Calculator.roundArray");
+    private static final Metrics.Probe IS_PRIME_PROBE = Metrics.probe("Calculator.isPrime");
+    private static final Metrics.Probe GCD_ARRAY_PROBE = Metrics.probe("Calculator.gcdArray");
+
     private Calculator() {
         // Utility class - prevent instantiation
     }
@@ -95,21 +140,165 @@ public final class Calculator {
      * @param n the number
      * @return the factorial
      * @throws IllegalArgumentException if n is negative
+     * @throws ArithmeticException if the result does not fit into a long (n &gt; 20)
      */
     public static long factorial(int n) {
         if (n < 0) {
             throw new IllegalArgumentException("Factorial is not defined for negative numbers");
         }
-        if (n == 0 || n == 1) {
-            return 1;
+        if (n > MAX_LONG_FACTORIAL) {
+            throw new ArithmeticException("Factorial of " + n + " overflows long, use factorialExact");
+        }
+        return FACTORIALS[n];
+    }
+
+    /**
+     * Calculates the exact factorial of a non-negative integer.
+     * <p>
+     * The odd part of n! is built from products of odd numbers using binary
+     * splitting and the power of two is applied as a single shift. Large
+     * products are split across the common fork-join pool.
+     *
+     * @param n the number
+     * @return the factorial
+     * @throws IllegalArgumentException if n is negative
+     */
+    public static BigInteger factorialExact(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Factorial is not defined for negative numbers");
+        }
+        long start = FACTORIAL_EXACT_PROBE.start();
+        if (n <= MAX_LONG_FACTORIAL) {
+            return FACTORIAL_EXACT_PROBE.end(start, BigInteger.valueOf(FACTORIALS[n]));
+        }
+        // odd(n!) = O(n) * O(n/2) * O(n/4) * ..., where O(m) is the product of odd numbers <= m
+        BigInteger oddPart = BigInteger.ONE;
+        BigInteger result = BigInteger.ONE;
+        int previous = 1;
+        for (int shift = 31 - Integer.numberOfLeadingZeros(n); shift >= 0; shift--) {
+            int m = n >>> shift;
+            int lowOdd = (previous + 1) | 1;
+            int highOdd = (m & 1) == 0 ? m - 1 : m;
+            if (lowOdd <= highOdd) {
+                oddPart = oddPart.multiply(rangeProduct(lowOdd, highOdd, 2));
+            }
+            previous = m;
+            result = result.multiply(oddPart);
+        }
+        return FACTORIAL_EXACT_PROBE.end(start, result.shiftLeft(n - Integer.bitCount(n)));
+    }
+
+    /**
+     * Calculates the binomial coefficient "n choose k".
+     *
+     * @param n the size of the set
+     * @param k the number of elements to choose
+     * @return the binomial coefficient
+     * @throws IllegalArgumentException if n is negative or k is not within [0, n]
+     * @throws ArithmeticException if the result does not fit into a long
+     */
+    public static long binomial(int n, int k) {
+        checkBinomialArguments(n, k);
+        if (n <= MAX_LONG_FACTORIAL) {
+            return FACTORIALS[n] / (FACTORIALS[k] * FACTORIALS[n - k]);
         }
+        k = Math.min(k, n - k);
         long result = 1;
-        for (int i = 2; i <= n; i++) {
-            result *= i;
+        for (int i = 1; i <= k; i++) {
+            // result * (n - k + i) / i is C(n - k + i, i); reduce by the gcd first to stay in range
+            long g = gcd(result, i);
+            result = Math.multiplyExact(result / g, (n - k + i) / (i / g));
         }
         return result;
     }
 
+    /**
+     * Calculates the exact binomial coefficient "n choose k".
+     *
+     * @param n the size of the set
+     * @param k the number of elements to choose
+     * @return the binomial coefficient
+     * @throws IllegalArgumentException if n is negative or k is not within [0, n]
+     */
+    public static BigInteger binomialExact(int n, int k) {
+        checkBinomialArguments(n, k);
+        long start = BINOMIAL_EXACT_PROBE.start();
+        k = Math.min(k, n - k);
+        if (k == 0) {
+            return BINOMIAL_EXACT_PROBE.end(start, BigInteger.ONE);
+        }
+        return BINOMIAL_EXACT_PROBE.end(start, rangeProduct(n - k + 1, n, 1).divide(factorialExact(k)));
+    }
+
+    private static void checkBinomialArguments(int n, int k) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n cannot be negative");
+        }
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("k must be between 0 and n");
+        }
+    }
+
+    /**
+     * Multiplies lo, lo + step, ..., hi using a balanced product tree.
+     */
+    private static BigInteger rangeProduct(int lo, int hi, int step) {
+        int terms = (hi - lo) / step + 1;
+        if (terms > PARALLEL_PRODUCT_THRESHOLD) {
+            return new RangeProductTask(lo, hi, step).invoke();
+        }
+        return sequentialRangeProduct(lo, hi, step);
+    }
+
+    private static BigInteger sequentialRangeProduct(int lo, int hi, int step) {
+        int terms = (hi - lo) / step + 1;
+        if (terms <= PRODUCT_LEAF_SIZE) {
+            BigInteger product = BigInteger.ONE;
+            long i = lo;
+            // two int factors always fit into a long
+            for (; i + step <= hi; i += 2L * step) {
+                product = product.multiply(BigInteger.valueOf(i * (i + step)));
+            }
+            if (i <= hi) {
+                product = product.multiply(BigInteger.valueOf(i));
+            }
+            return product;
+        }
+        int mid = lo + (terms / 2 - 1) * step;
+        return sequentialRangeProduct(lo, mid, step).multiply(sequentialRangeProduct(mid + step, hi, step));
+    }
+
+    /**
+     * Fork-join variant of {@link #sequentialRangeProduct(int, int, int)} for very large ranges.
+     */
+    private static final class RangeProductTask extends RecursiveTask<BigInteger> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+        private final int hi;
+        private final int step;
+
+        RangeProductTask(int lo, int hi, int step) {
+            this.lo = lo;
+            this.hi = hi;
+            this.step = step;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            int terms = (hi - lo) / step + 1;
+            if (terms <= PARALLEL_PRODUCT_THRESHOLD) {
+                return sequentialRangeProduct(lo, hi, step);
+            }
+            int mid = lo + (terms / 2 - 1) * step;
+            RangeProductTask left = new RangeProductTask(lo, mid, step);
+            left.fork();
+            BigInteger right = new RangeProductTask(mid + step, hi, step).compute();
+            return left.join().multiply(right);
+        }
+    }
+
     /**
      * Calculates the percentage of a value.
      *
@@ -143,14 +332,134 @@ public final class Calculator {
      * @return the rounded value
      */
     public static double round(double value, int decimalPlaces) {
+        return round(value, decimalPlaces, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Rounds a number to a specified number of decimal places using the given rounding mode.
+     * <p>
+     * The result is identical to rounding {@code BigDecimal.valueOf(value)}, but up to
+     * 15 decimal places it is computed with a power-of-ten table and only falls back to
+     * {@code BigDecimal} when the value lies too close to a rounding boundary to decide
+     * in double arithmetic.
+     *
+     * @param value the value to round
+     * @param decimalPlaces the number of decimal places
+     * @param mode the rounding mode
+     * @return the rounded value
+     * @throws IllegalArgumentException if decimalPlaces is negative or mode is null
+     * @throws ArithmeticException if mode is UNNECESSARY and rounding is necessary
+     */
+    public static double round(double value, int decimalPlaces, RoundingMode mode) {
+        checkRoundingArguments(decimalPlaces, mode);
+        long start = ROUND_PROBE.start();
+        double rounded = fastRound(value, decimalPlaces, mode);
+        if (rounded == rounded) {
+            return ROUND_PROBE.end(start, rounded);
+        }
+        return ROUND_PROBE.end(start, slowRound(value, decimalPlaces, mode));
+    }
+
+    /**
+     * Rounds every value in an array to a specified number of decimal places.
+     *
+     * @param values the values to round
+     * @param decimalPlaces the number of decimal places
+     * @return a new array with the rounded values
+     * @throws IllegalArgumentException if the array is null or decimalPlaces is negative
+     */
+    public static double[] round(double[] values, int decimalPlaces) {
+        return round(values, decimalPlaces, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Rounds every value in an array to a specified number of decimal places using the given rounding mode.
+     *
+     * @param values the values to round
+     * @param decimalPlaces the number of decimal places
+     * @param mode the rounding mode
+     * @return a new array with the rounded values
+     * @throws IllegalArgumentException if the array is null, decimalPlaces is negative or mode is null
+     * @throws ArithmeticException if mode is UNNECESSARY and rounding is necessary
+     */
+    public static double[] round(double[] values, int decimalPlaces, RoundingMode mode) {
+        if (values == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        checkRoundingArguments(decimalPlaces, mode);
+        long start = ROUND_ARRAY_PROBE.start();
+        double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            double rounded = fastRound(values[i], decimalPlaces, mode);
+            result[i] = rounded == rounded ? rounded : slowRound(values[i], decimalPlaces, mode);
+        }
+        return ROUND_ARRAY_PROBE.end(start, result);
+    }
+
+    private static void checkRoundingArguments(int decimalPlaces, RoundingMode mode) {
         if (decimalPlaces < 0) {
             throw new IllegalArgumentException("Decimal places cannot be negative");
         }
+        if (mode == null) {
+            throw new IllegalArgumentException("Rounding mode cannot be null");
+        }
+    }
+
+    private static double slowRound(double value, int decimalPlaces, RoundingMode mode) {
         BigDecimal bd = BigDecimal.valueOf(value);
-        bd = bd.setScale(decimalPlaces, RoundingMode.HALF_UP);
+        bd = bd.setScale(decimalPlaces, mode);
         return bd.doubleValue();
     }
 
+    /**
+     * Rounds without allocating, or returns NaN if the result cannot be decided safely.
+     * <p>
+     * {@code BigDecimal.valueOf} rounds the decimal string of the value, which is within
+     * half an ulp of the value itself, and the scaling multiplication adds another half ulp
+     * of the scaled value. Whenever the scaled fraction is further than that from the
+     * nearest rounding boundary, rounding the scaled double gives the same integer.
+     * The final division of two exact doubles matches {@code BigDecimal.doubleValue}.
+     */
+    private static double fastRound(double value, int decimalPlaces, RoundingMode mode) {
+        if (decimalPlaces > MAX_FAST_DECIMAL_PLACES || mode == RoundingMode.UNNECESSARY) {
+            return Double.NaN;
+        }
+        double magnitude = Math.abs(value);
+        double scale = POWERS_OF_TEN[decimalPlaces];
+        double scaled = magnitude * scale;
+        if (!(scaled < MAX_FAST_SCALED)) {
+            return Double.NaN;
+        }
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        double error = Math.ulp(magnitude) * scale + Math.ulp(scaled);
+        boolean negative = value < 0;
+        double rounded;
+        if (mode == RoundingMode.HALF_UP || mode == RoundingMode.HALF_DOWN || mode == RoundingMode.HALF_EVEN) {
+            if (Math.abs(fraction - 0.5) <= error) {
+                return Double.NaN;
+            }
+            rounded = fraction > 0.5 ? floor + 1 : floor;
+        } else if (fraction == 0 && floor / scale == magnitude) {
+            // already has at most decimalPlaces digits
+            rounded = floor;
+        } else {
+            if (fraction <= error || fraction >= 1 - error) {
+                return Double.NaN;
+            }
+            boolean awayFromZero = mode == RoundingMode.UP
+                    || (mode == RoundingMode.CEILING && !negative)
+                    || (mode == RoundingMode.FLOOR && negative);
+            rounded = awayFromZero ? floor + 1 : floor;
+        }
+        if (rounded == 0) {
+            // BigDecimal has no negative zero
+            return 0.0;
+        }
+        double result = rounded / scale;
+        return negative ? -result : result;
+    }
+
     /**
      * Finds the minimum value in an array.
      *
@@ -253,6 +562,11 @@ public final class Calculator {
      * @return true if the number is prime, false otherwise
      */
     public static boolean isPrime(int number) {
+        long start = IS_PRIME_PROBE.start();
+        return IS_PRIME_PROBE.validated(start, isPrime0(number));
+    }
+
+    private static boolean isPrime0(int number) {
         if (number <= 1) {
             return false;
         }
@@ -286,16 +600,272 @@ public final class Calculator {
      * @param a the first number
      * @param b the second number
      * @return the GCD
+     * @throws ArithmeticException if the GCD is 2^31 and does not fit into an int
      */
     public static int gcd(int a, int b) {
-        a = Math.abs(a);
-        b = Math.abs(b);
-        while (b != 0) {
-            int temp = b;
-            b = a % b;
-            a = temp;
+        return checkGcd(binaryGcd(Math.abs(a), Math.abs(b)));
+    }
+
+    /**
+     * Calculates the greatest common divisor (GCD) of two numbers using
+     * the binary (Stein) algorithm.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the GCD
+     * @throws ArithmeticException if the GCD is 2^63 and does not fit into a long
+     */
+    public static long gcd(long a, long b) {
+        return checkGcd(binaryGcd(Math.abs(a), Math.abs(b)));
+    }
+
+    /**
+     * Calculates the greatest common divisor (GCD) of all values in an array.
+     * The reduction stops as soon as the GCD reaches 1.
+     *
+     * @param values the array of values
+     * @return the GCD
+     * @throws IllegalArgumentException if the array is null or empty
+     * @throws ArithmeticException if the GCD is 2^31 and does not fit into an int
+     */
+    public static int gcd(int... values) {
+        checkNotEmpty(values == null ? 0 : values.length);
+        long start = GCD_ARRAY_PROBE.start();
+        if (values.length > PARALLEL_REDUCTION_THRESHOLD) {
+            return GCD_ARRAY_PROBE.end(start, checkGcd((int) new ReductionTask(values, null, false, 0, values.length,
+                    new AtomicBoolean()).invoke().longValue()));
+        }
+        return GCD_ARRAY_PROBE.end(start, checkGcd(gcdRange(values, 0, values.length, null)));
+    }
+
+    /**
+     * Calculates the greatest common divisor (GCD) of all values in an array.
+     * The reduction stops as soon as the GCD reaches 1.
+     *
+     * @param values the array of values
+     * @return the GCD
+     * @throws IllegalArgumentException if the array is null or empty
+     * @throws ArithmeticException if the GCD is 2^63 and does not fit into a long
+     */
+    public static long gcd(long... values) {
+        checkNotEmpty(values == null ? 0 : values.length);
+        long start = GCD_ARRAY_PROBE.start();
+        if (values.length > PARALLEL_REDUCTION_THRESHOLD) {
+            return GCD_ARRAY_PROBE.end(start, checkGcd(new ReductionTask(null, values, false, 0, values.length,
+                    new AtomicBoolean()).invoke()));
+        }
+        return GCD_ARRAY_PROBE.end(start, checkGcd(gcdRange(values, 0, values.length, null)));
+    }
+
+    /**
+     * Calculates the least common multiple (LCM) of all values in an array.
+     * The result is 0 if any value is 0.
+     *
+     * @param values the array of values
+     * @return the LCM
+     * @throws IllegalArgumentException if the array is null or empty
+     * @throws ArithmeticException if the LCM does not fit into an int
+     */
+    public static int lcm(int... values) {
+        checkNotEmpty(values == null ? 0 : values.length);
+        for (int value : values) {
+            if (value == 0) {
+                return 0;
+            }
+        }
+        if (values.length > PARALLEL_REDUCTION_THRESHOLD) {
+            return Math.toIntExact(new ReductionTask(values, null, true, 0, values.length, new AtomicBoolean()).invoke());
+        }
+        return Math.toIntExact(lcmRange(values, 0, values.length));
+    }
+
+    /**
+     * Calculates the least common multiple (LCM) of all values in an array.
+     * The result is 0 if any value is 0.
+     *
+     * @param values the array of values
+     * @return the LCM
+     * @throws IllegalArgumentException if the array is null or empty
+     * @throws ArithmeticException if the LCM does not fit into a long
+     */
+    public static long lcm(long... values) {
+        checkNotEmpty(values == null ? 0 : values.length);
+        for (long value : values) {
+            if (value == 0) {
+                return 0;
+            }
+        }
+        if (values.length > PARALLEL_REDUCTION_THRESHOLD) {
+            return new ReductionTask(null, values, true, 0, values.length, new AtomicBoolean()).invoke();
+        }
+        return lcmRange(values, 0, values.length);
+    }
+
+    private static void checkNotEmpty(int length) {
+        if (length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+    }
+
+    /**
+     * Binary GCD of two absolute values. Integer.MIN_VALUE is treated as the
+     * unsigned value 2^31, which is also what a result of 2^31 looks like.
+     */
+    private static int binaryGcd(int x, int y) {
+        if (x == 0 || y == 0) {
+            return x | y;
+        }
+        int shift = Integer.numberOfTrailingZeros(x | y);
+        x >>>= Integer.numberOfTrailingZeros(x);
+        y >>>= Integer.numberOfTrailingZeros(y);
+        while (x != y) {
+            if (x > y) {
+                x -= y;
+                x >>>= Integer.numberOfTrailingZeros(x);
+            } else {
+                y -= x;
+                y >>>= Integer.numberOfTrailingZeros(y);
+            }
+        }
+        return x << shift;
+    }
+
+    /**
+     * Binary GCD of two absolute values. Long.MIN_VALUE is treated as the
+     * unsigned value 2^63, which is also what a result of 2^63 looks like.
+     */
+    private static long binaryGcd(long x, long y) {
+        if (x == 0 || y == 0) {
+            return x | y;
+        }
+        int shift = Long.numberOfTrailingZeros(x | y);
+        x >>>= Long.numberOfTrailingZeros(x);
+        y >>>= Long.numberOfTrailingZeros(y);
+        while (x != y) {
+            if (x > y) {
+                x -= y;
+                x >>>= Long.numberOfTrailingZeros(x);
+            } else {
+                y -= x;
+                y >>>= Long.numberOfTrailingZeros(y);
+            }
+        }
+        return x << shift;
+    }
+
+    private static int checkGcd(int gcd) {
+        if (gcd < 0) {
+            throw new ArithmeticException("GCD overflows int");
+        }
+        return gcd;
+    }
+
+    private static long checkGcd(long gcd) {
+        if (gcd < 0) {
+            throw new ArithmeticException("GCD overflows long");
+        }
+        return gcd;
+    }
+
+    private static int gcdRange(int[] values, int from, int to, AtomicBoolean done) {
+        int gcd = 0;
+        for (int i = from; i < to; i++) {
+            gcd = binaryGcd(gcd, Math.abs(values[i]));
+            if (gcd == 1) {
+                if (done != null) {
+                    done.set(true);
+                }
+                return 1;
+            }
+            if (done != null && (i & 0xFFF) == 0 && done.get()) {
+                return 1;
+            }
+        }
+        return gcd;
+    }
+
+    private static long gcdRange(long[] values, int from, int to, AtomicBoolean done) {
+        long gcd = 0;
+        for (int i = from; i < to; i++) {
+            gcd = binaryGcd(gcd, Math.abs(values[i]));
+            if (gcd == 1) {
+                if (done != null) {
+                    done.set(true);
+                }
+                return 1;
+            }
+            if (done != null && (i & 0xFFF) == 0 && done.get()) {
+                return 1;
+            }
+        }
+        return gcd;
+    }
+
+    private static long lcmRange(int[] values, int from, int to) {
+        int lcm = 1;
+        for (int i = from; i < to; i++) {
+            lcm = lcm(lcm, values[i]);
+        }
+        return lcm;
+    }
+
+    private static long lcmRange(long[] values, int from, int to) {
+        long lcm = 1;
+        for (int i = from; i < to; i++) {
+            lcm = lcm(lcm, values[i]);
+        }
+        return lcm;
+    }
+
+    /**
+     * Fork-join GCD/LCM reduction over a range of an int[] or long[] array.
+     * Once any GCD subtask reaches 1 the shared flag makes the remaining
+     * subtasks stop early. LCM inputs are known to be non-zero.
+     */
+    private static final class ReductionTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] ints;
+        private final long[] longs;
+        private final boolean lcm;
+        private final int from;
+        private final int to;
+        private final AtomicBoolean done;
+
+        ReductionTask(int[] ints, long[] longs, boolean lcm, int from, int to, AtomicBoolean done) {
+            this.ints = ints;
+            this.longs = longs;
+            this.lcm = lcm;
+            this.from = from;
+            this.to = to;
+            this.done = done;
+        }
+
+        @Override
+        protected Long compute() {
+            if (!lcm && done.get()) {
+                return 1L;
+            }
+            if (to - from <= PARALLEL_REDUCTION_THRESHOLD) {
+                if (ints != null) {
+                    return lcm ? lcmRange(ints, from, to) : (long) gcdRange(ints, from, to, done);
+                }
+                return lcm ? lcmRange(longs, from, to) : gcdRange(longs, from, to, done);
+            }
+            int mid = (from + to) >>> 1;
+            ReductionTask left = new ReductionTask(ints, longs, lcm, from, mid, done);
+            left.fork();
+            long right = new ReductionTask(ints, longs, lcm, mid, to, done).compute();
+            long leftResult = left.join();
+            if (lcm) {
+                return ints != null ? lcm(Math.toIntExact(leftResult), Math.toIntExact(right)) : lcm(leftResult, right);
+            }
+            if (right == 1 || leftResult == 1) {
+                return 1L;
+            }
+            return ints != null ? (long) binaryGcd((int) leftResult, (int) right) : binaryGcd(leftResult, right);
         }
-        return a;
     }
 
     /**
@@ -304,11 +874,24 @@ public final class Calculator {
      * @param a the first number
      * @param b the second number
      * @return the LCM
+     * @throws ArithmeticException if the LCM does not fit into an int
      */
     public static int lcm(int a, int b) {
+        return Math.toIntExact(lcm((long) a, (long) b));
+    }
+
+    /**
+     * Calculates the least common multiple (LCM) of two numbers.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the LCM
+     * @throws ArithmeticException if the LCM does not fit into a long
+     */
+    public static long lcm(long a, long b) {
         if (a == 0 || b == 0) {
             return 0;
         }
-        return Math.abs(a * b) / gcd(a, b);
+        return Math.absExact(Math.multiplyExact(a / gcd(a, b), b));
     }
 }
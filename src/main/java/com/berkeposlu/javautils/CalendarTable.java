@@ -0,0 +1,253 @@
+package com.berkeposlu.javautils;
+
+import java.time.LocalDate;
+
+/**
+ * Table-driven conversions between proleptic Gregorian dates and epoch days on primitives.
+ * <p>
+ * For the years from {@link #MIN_YEAR} to {@link #MAX_YEAR} the epoch day of the first
+ * day of every month is precomputed, so converting a date to an epoch day is one array
+ * lookup, and the reverse is an estimate of the month by multiplication followed by at
+ * most one correction step, instead of the divisions and leap year rules of the general
+ * calendar algorithm. The range defaults to 1600 to 2400, about 38 KB of table, and can
+ * be changed with the system properties {@code javautils.calendar.minYear} and
+ * {@code javautils.calendar.maxYear}; dates outside it are converted arithmetically with
+ * the same results.
+ * <p>
+ * Dates can be packed into one {@code int} with {@link #ymd(int, int, int)}: the year in
+ * the upper bits, then four bits of month and five bits of day. Packed dates sort in
+ * date order and are what the primitive overloads of {@link DateUtils} work on.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class CalendarTable {
+
+    /** The first year covered by the tables. */
+    public static final int MIN_YEAR;
+
+    /** The last year covered by the tables. */
+    public static final int MAX_YEAR;
+
+    private static final int MAX_PACKED_YEAR = (1 << 22) - 1;
+    private static final int DAYS_0000_TO_1970 = 719_468;
+    private static final int DAYS_PER_400_YEARS = 146_097;
+    private static final int MONTHS_PER_400_YEARS = 4800;
+
+    /**
+     * Epoch day of the first day of each month of the table years, in order, plus the
+     * first day after the last month.
+     */
+    private static final int[] MONTH_START;
+
+    private static final int[] MONTH_LENGTHS = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    static {
+        int min = Integer.getInteger("javautils.calendar.minYear", 1600);
+        int max = Integer.getInteger("javautils.calendar.maxYear", 2400);
+        MIN_YEAR = Math.max(-MAX_PACKED_YEAR, Math.min(min, MAX_PACKED_YEAR));
+        MAX_YEAR = Math.max(MIN_YEAR, Math.min(max, MAX_PACKED_YEAR - 1));
+
+        MONTH_START = new int[(MAX_YEAR - MIN_YEAR + 1) * 12 + 1];
+        int epochDay = (int) computeEpochDay(MIN_YEAR, 1, 1);
+        for (int i = 0; i < MONTH_START.length; i++) {
+            MONTH_START[i] = epochDay;
+            int month = i % 12 + 1;
+            epochDay += MONTH_LENGTHS[month - 1] + (month == 2 && isLeapYear(MIN_YEAR + i / 12) ? 1 : 0);
+        }
+    }
+
+    private CalendarTable() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Checks whether a year is a leap year, without branches on the common path.
+     *
+     * @param year the year
+     * @return true if the year is a leap year
+     */
+    public static boolean isLeapYear(int year) {
+        // divisible by 4, and not by 100 unless by 400; with 4 | year, 100 | year iff 25 | year
+        return ((year & 3) == 0) & ((year % 25 != 0) | ((year & 15) == 0));
+    }
+
+    /**
+     * Gets the number of days in a month.
+     *
+     * @param year the year
+     * @param month the month, 1 to 12
+     * @return the length of the month
+     * @throws IllegalArgumentException if the month is out of range
+     */
+    public static int lengthOfMonth(int year, int month) {
+        checkMonth(month);
+        return MONTH_LENGTHS[month - 1] + (month == 2 && isLeapYear(year) ? 1 : 0);
+    }
+
+    /**
+     * Converts a date to an epoch day.
+     *
+     * @param year the year
+     * @param month the month, 1 to 12
+     * @param day the day of month
+     * @return the number of days since 1970-01-01
+     * @throws IllegalArgumentException if the month or day is out of range
+     */
+    public static long epochDay(int year, int month, int day) {
+        checkMonth(month);
+        long index = (long) (year - MIN_YEAR) * 12 + month - 1;
+        if (index >= 0 && index < MONTH_START.length - 1) {
+            int first = MONTH_START[(int) index];
+            if (day < 1 || day > MONTH_START[(int) index + 1] - first) {
+                throw new IllegalArgumentException("Invalid day of month: " + day);
+            }
+            return first + day - 1;
+        }
+        if (day < 1 || day > lengthOfMonth(year, month)) {
+            throw new IllegalArgumentException("Invalid day of month: " + day);
+        }
+        return computeEpochDay(year, month, day);
+    }
+
+    /**
+     * Converts a packed date to an epoch day.
+     *
+     * @param ymd the date packed with {@link #ymd(int, int, int)}
+     * @return the number of days since 1970-01-01
+     * @throws IllegalArgumentException if the packed month or day is out of range
+     */
+    public static long epochDay(int ymd) {
+        return epochDay(year(ymd), month(ymd), day(ymd));
+    }
+
+    /**
+     * Converts an epoch day to a packed date.
+     *
+     * @param epochDay the number of days since 1970-01-01
+     * @return the packed date
+     * @throws IllegalArgumentException if the year does not fit into a packed date
+     */
+    public static int toYmd(long epochDay) {
+        long first = MONTH_START[0];
+        if (epochDay >= first && epochDay < MONTH_START[MONTH_START.length - 1]) {
+            int day = (int) epochDay;
+            // the estimate is at most one month off in either direction
+            int index = Math.min((int) ((epochDay - first) * MONTHS_PER_400_YEARS / DAYS_PER_400_YEARS),
+                    MONTH_START.length - 2);
+            if (MONTH_START[index] > day) {
+                index--;
+            } else if (MONTH_START[index + 1] <= day) {
+                index++;
+            }
+            return pack(MIN_YEAR + index / 12, index % 12 + 1, day - MONTH_START[index] + 1);
+        }
+        return computeYmd(epochDay);
+    }
+
+    /**
+     * Converts a LocalDate to an epoch day.
+     *
+     * @param date the date
+     * @return the number of days since 1970-01-01
+     */
+    public static long epochDay(LocalDate date) {
+        long index = (long) (date.getYear() - MIN_YEAR) * 12 + date.getMonthValue() - 1;
+        if (index >= 0 && index < MONTH_START.length - 1) {
+            return MONTH_START[(int) index] + date.getDayOfMonth() - 1;
+        }
+        return date.toEpochDay();
+    }
+
+    /**
+     * Packs a date into an int.
+     *
+     * @param year the year, within about four million years of year zero
+     * @param month the month, 1 to 12
+     * @param day the day of month, 1 to 31
+     * @return the packed date
+     * @throws IllegalArgumentException if a field does not fit
+     */
+    public static int ymd(int year, int month, int day) {
+        if (year < -MAX_PACKED_YEAR || year > MAX_PACKED_YEAR) {
+            throw new IllegalArgumentException("Year out of range: " + year);
+        }
+        checkMonth(month);
+        if (day < 1 || day > 31) {
+            throw new IllegalArgumentException("Invalid day of month: " + day);
+        }
+        return pack(year, month, day);
+    }
+
+    /**
+     * Gets the year of a packed date.
+     *
+     * @param ymd the packed date
+     * @return the year
+     */
+    public static int year(int ymd) {
+        return ymd >> 9;
+    }
+
+    /**
+     * Gets the month of a packed date.
+     *
+     * @param ymd the packed date
+     * @return the month, 1 to 12
+     */
+    public static int month(int ymd) {
+        return (ymd >>> 5) & 15;
+    }
+
+    /**
+     * Gets the day of month of a packed date.
+     *
+     * @param ymd the packed date
+     * @return the day of month
+     */
+    public static int day(int ymd) {
+        return ymd & 31;
+    }
+
+    private static int pack(int year, int month, int day) {
+        return year << 9 | month << 5 | day;
+    }
+
+    private static void checkMonth(int month) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid month: " + month);
+        }
+    }
+
+    /**
+     * Converts a date to an epoch day arithmetically, for dates outside the tables.
+     */
+    private static long computeEpochDay(int year, int month, int day) {
+        // era-based conversion: years start in March, so the leap day is the last day of the year
+        long y = month <= 2 ? year - 1L : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_400_YEARS + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Converts an epoch day to a packed date arithmetically, for dates outside the tables.
+     */
+    private static int computeYmd(long epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_400_YEARS);
+        long dayOfEra = z - era * DAYS_PER_400_YEARS;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < -MAX_PACKED_YEAR || year > MAX_PACKED_YEAR) {
+            throw new IllegalArgumentException("Year out of range: " + year);
+        }
+        return pack((int) year, month, day);
+    }
+}
@@ -0,0 +1,64 @@
+package com.berkeposlu.javautils;
+
+/**
+ * A reusable window onto a range of another char sequence, without copying it.
+ * <p>
+ * The parsers of this library keep one view per component and move it on every parse, so
+ * a view is only valid until its owner parses the next input, and it shows changes to a
+ * mutable source. {@link #toString()} copies the range into a String.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+final class CharView implements CharSequence {
+
+    private CharSequence source = "";
+    private int start;
+    private int end;
+
+    /**
+     * Moves the view.
+     *
+     * @param source the sequence to view
+     * @param start the first index, inclusive
+     * @param end the last index, exclusive
+     */
+    void set(CharSequence source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Empties the view and releases its source.
+     */
+    void clear() {
+        set("", 0, 0);
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + (end - start));
+        }
+        return source.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || to > end - start || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + (end - start));
+        }
+        return source.subSequence(start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+        return source.subSequence(start, end).toString();
+    }
+}
@@ -0,0 +1,982 @@
+package com.berkeposlu.javautils;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A streaming CSV pipeline that validates and transforms records column by column with
+ * the utilities of this library, e.g.
+ * <pre>
+ * CsvPipeline pipeline = CsvPipeline.builder()
+ *         .header(true)
+ *         .check("email", CsvPipeline.Check.EMAIL)
+ *         .validate("amount", ValidationUtils::isNumeric)
+ *         .transform("name", StringUtils::toCamelCase)
+ *         .build();
+ * CsvPipeline.Result result = pipeline.run(input, output, rejects);
+ * </pre>
+ * <p>
+ * Records are read through a fixed-size direct buffer from a {@link FileChannel} and
+ * tokenized in place: a field is a pair of offsets into the buffer, and the scan for
+ * delimiters skips eight bytes at a time when none is present. {@link Check}s run directly
+ * on the bytes of the field, a String is only created for columns with a
+ * {@link Builder#validate validation} or {@link Builder#transform transform}, and all other
+ * fields are copied to the output buffer byte for byte. The output buffer is written to
+ * the file whenever it fills up, so the reader never gets ahead of the disk. Memory use
+ * depends on the buffer size and the parallelism, not on the file size.
+ * <p>
+ * Rules are resolved once per run into an array indexed by column. A record is rejected
+ * when a check or validation fails, a transform throws, or a column with rules is missing;
+ * rejected records are counted and, if a rejects file is given, written there unchanged.
+ * Columns set up with {@link Builder#countDistinct(int)} also count their distinct values
+ * in the accepted records, see {@link Result#getDistinct(int)}.
+ * <p>
+ * With a parallelism above one, the file is split into that many byte ranges at line
+ * boundaries, the ranges are processed concurrently into temporary files next to the
+ * output, and the results are concatenated in order. This requires that quoted fields do
+ * not contain line breaks. Predicates and transforms must then be thread-safe.
+ * <p>
+ * Input and output are UTF-8, fields are separated by a single ASCII delimiter and may be
+ * quoted with {@code "} as in RFC 4180, and lines end with {@code \n} or {@code \r\n}. Accepted
+ * records are written with {@code \n}, rejected records unchanged.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class CsvPipeline {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private static final int MIN_BUFFER_SIZE = 64;
+
+    private final byte delimiter;
+    private final boolean header;
+    private final int bufferSize;
+    private final int parallelism;
+    private final List<Rule> rules;
+
+    private CsvPipeline(Builder builder) {
+        this.delimiter = builder.delimiter;
+        this.header = builder.header;
+        this.bufferSize = builder.bufferSize;
+        this.parallelism = builder.parallelism;
+        this.rules = new ArrayList<>(builder.rules);
+    }
+
+    /**
+     * Creates a builder for a comma-separated pipeline without header.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs the pipeline, dropping rejected records.
+     *
+     * @param input the CSV file to read
+     * @param output the file to write the accepted records to, replaced if it exists
+     * @return the record counts
+     * @throws IOException if a file cannot be read or written, or a record is larger than the buffer
+     * @throws IllegalArgumentException if a rule names a column that is not in the header
+     */
+    public Result run(Path input, Path output) throws IOException {
+        return run(input, output, null);
+    }
+
+    /**
+     * Runs the pipeline.
+     *
+     * @param input the CSV file to read
+     * @param output the file to write the accepted records to, replaced if it exists
+     * @param rejects the file to write the rejected records to, or null to drop them
+     * @return the record counts
+     * @throws IOException if a file cannot be read or written, or a record is larger than the buffer
+     * @throws IllegalArgumentException if a rule names a column that is not in the header
+     */
+    public Result run(Path input, Path output, Path rejects) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = openForWrite(output);
+             FileChannel rej = rejects == null ? null : openForWrite(rejects)) {
+            long size = in.size();
+            long dataStart = 0;
+            List<String> names = List.of();
+            if (header) {
+                Worker reader = new Worker(new Plan[0]);
+                dataStart = reader.readHeader(in, size);
+                names = reader.headerNames();
+                transfer(in, 0, dataStart, out);
+                if (rej != null) {
+                    transfer(in, 0, dataStart, rej);
+                }
+            }
+            Plan[] plans = compile(names);
+            long[] bounds = split(in, dataStart, size);
+            if (bounds.length == 2) {
+                Worker worker = new Worker(plans);
+                worker.process(in, bounds[0], bounds[1], out, rej);
+                return worker.result();
+            }
+            return runParallel(in, bounds, plans, output, out, rej);
+        }
+    }
+
+    private Result runParallel(FileChannel in, long[] bounds, Plan[] plans, Path output,
+                               FileChannel out, FileChannel rej) throws IOException {
+        int chunks = bounds.length - 1;
+        Path[] outputs = new Path[chunks];
+        Path[] rejected = new Path[chunks];
+        Path dir = output.toAbsolutePath().getParent();
+        ExecutorService executor = Executors.newFixedThreadPool(chunks, runnable -> {
+            Thread thread = new Thread(runnable, "javautils-csv");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < chunks; i++) {
+                outputs[i] = Files.createTempFile(dir, "csv-chunk", ".tmp");
+                rejected[i] = rej == null ? null : Files.createTempFile(dir, "csv-rejects", ".tmp");
+                int chunk = i;
+                futures.add(executor.submit(() -> {
+                    try (FileChannel chunkOut = openForWrite(outputs[chunk]);
+                         FileChannel chunkRej = rejected[chunk] == null ? null : openForWrite(rejected[chunk])) {
+                        Worker worker = new Worker(plans);
+                        worker.process(in, bounds[chunk], bounds[chunk + 1], chunkOut, chunkRej);
+                        return worker.result();
+                    }
+                }));
+            }
+            Result total = new Result(plans);
+            for (int i = 0; i < chunks; i++) {
+                total.add(futures.get(i).get());
+                append(outputs[i], out);
+                if (rej != null) {
+                    append(rejected[i], rej);
+                }
+            }
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while processing " + output, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            executor.shutdownNow();
+            for (int i = 0; i < chunks; i++) {
+                deleteQuietly(outputs[i]);
+                deleteQuietly(rejected[i]);
+            }
+        }
+    }
+
+    private static FileChannel openForWrite(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    private static void append(Path chunk, FileChannel target) throws IOException {
+        try (FileChannel source = FileChannel.open(chunk, StandardOpenOption.READ)) {
+            transfer(source, 0, source.size(), target);
+        }
+    }
+
+    /**
+     * Copies the bytes [from, to) of a channel, looping since transferTo may copy fewer.
+     */
+    private static void transfer(FileChannel source, long from, long to, FileChannel target) throws IOException {
+        for (long done = from; done < to; ) {
+            done += source.transferTo(done, to - done, target);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                // temporary file, nothing else to do
+            }
+        }
+    }
+
+    /**
+     * Splits [start, end) into ranges that begin at line starts, returned as boundaries.
+     */
+    private long[] split(FileChannel in, long start, long end) throws IOException {
+        long length = end - start;
+        int chunks = (int) Math.max(1, Math.min(parallelism, length / bufferSize));
+        long[] bounds = new long[chunks + 1];
+        bounds[0] = start;
+        bounds[chunks] = end;
+        ByteBuffer probe = ByteBuffer.allocate(bufferSize);
+        for (int i = 1; i < chunks; i++) {
+            long position = Math.max(bounds[i - 1], start + length * i / chunks);
+            bounds[i] = end;
+            while (position < end) {
+                probe.clear();
+                int read = in.read(probe, position);
+                if (read <= 0) {
+                    break;
+                }
+                int newline = indexOf(probe, 0, read, (byte) '\n');
+                if (newline >= 0) {
+                    bounds[i] = position + newline + 1;
+                    break;
+                }
+                position += read;
+            }
+        }
+        return bounds;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Plan[] compile(List<String> names) {
+        int columns = 0;
+        int[] indexes = new int[rules.size()];
+        for (int r = 0; r < rules.size(); r++) {
+            Rule rule = rules.get(r);
+            int index = rule.index;
+            if (rule.name != null) {
+                index = names.indexOf(rule.name);
+                if (index < 0) {
+                    throw new IllegalArgumentException("Column not found in header: " + rule.name);
+                }
+            }
+            indexes[r] = index;
+            columns = Math.max(columns, index + 1);
+        }
+        Plan[] plans = new Plan[columns];
+        for (int r = 0; r < rules.size(); r++) {
+            int index = indexes[r];
+            if (plans[index] == null) {
+                plans[index] = new Plan();
+            }
+            plans[index].add(rules.get(r));
+        }
+        return plans;
+    }
+
+    /**
+     * A check that runs on the raw bytes of a field, without creating a String.
+     */
+    public enum Check {
+
+        /** The field is not blank, as in {@link StringUtils#isNotBlank(String)}. */
+        NOT_BLANK(text -> !OffHeapText.isBlank(text), StringUtils::isNotBlank),
+
+        /** The field is pure ASCII, as in {@link StringUtils#isAscii(String)}. */
+        ASCII(OffHeapText::isAscii, StringUtils::isAscii),
+
+        /** The field is alphabetic, as in {@link ValidationUtils#isAlphabetic(String)}. */
+        ALPHABETIC(OffHeapText::isAlphabetic, ValidationUtils::isAlphabetic),
+
+        /** The field is alphanumeric, as in {@link ValidationUtils#isAlphanumeric(String)}. */
+        ALPHANUMERIC(OffHeapText::isAlphanumeric, ValidationUtils::isAlphanumeric),
+
+        /** The field is an int, as in {@link ValidationUtils#isInteger(String)}. */
+        INTEGER(OffHeapText::isInteger, ValidationUtils::isInteger),
+
+        /** The field is an email address, as in {@link ValidationUtils#isValidEmailBounded(String)}. */
+        EMAIL(OffHeapText::isValidEmail, ValidationUtils::isValidEmailBounded),
+
+        /** The field is a URL, as in {@link ValidationUtils#isValidUrlBounded(String)}. */
+        URL(OffHeapText::isValidUrl, ValidationUtils::isValidUrlBounded);
+
+        private final Predicate<ByteBuffer> bytes;
+        private final Predicate<String> string;
+
+        Check(Predicate<ByteBuffer> bytes, Predicate<String> string) {
+            this.bytes = bytes;
+            this.string = string;
+        }
+    }
+
+    /**
+     * Builds a {@link CsvPipeline}. Rules for the same column run in the order they were
+     * added, checks before validations and transforms; validations after a transform see
+     * the transformed value.
+     */
+    public static final class Builder {
+
+        private byte delimiter = ',';
+        private boolean header;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+        private int parallelism = 1;
+        private final List<Rule> rules = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the field delimiter.
+         *
+         * @param delimiter an ASCII character other than a quote or line break
+         * @return this builder
+         * @throws IllegalArgumentException if the delimiter is not allowed
+         */
+        public Builder delimiter(char delimiter) {
+            if (delimiter >= 0x80 || delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+                throw new IllegalArgumentException("Delimiter must be ASCII and not a quote or line break");
+            }
+            this.delimiter = (byte) delimiter;
+            return this;
+        }
+
+        /**
+         * Sets whether the first line is a header. The header is copied to the output and
+         * the rejects file unchanged, and rules can refer to columns by its names.
+         *
+         * @param header true if the first line is a header
+         * @return this builder
+         */
+        public Builder header(boolean header) {
+            this.header = header;
+            return this;
+        }
+
+        /**
+         * Sets the size of the read and write buffers, which is also the maximum record size.
+         *
+         * @param bufferSize the buffer size in bytes, at least 64
+         * @return this builder
+         * @throws IllegalArgumentException if the buffer size is too small
+         */
+        public Builder bufferSize(int bufferSize) {
+            if (bufferSize < MIN_BUFFER_SIZE) {
+                throw new IllegalArgumentException("Buffer size must be at least " + MIN_BUFFER_SIZE);
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of file chunks processed concurrently.
+         *
+         * @param parallelism the number of chunks, 1 for sequential processing
+         * @return this builder
+         * @throws IllegalArgumentException if the parallelism is not positive
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Adds a check on the raw bytes of a column.
+         *
+         * @param column the zero-based column index
+         * @param check the check
+         * @return this builder
+         * @throws IllegalArgumentException if the column is negative or the check is null
+         */
+        public Builder check(int column, Check check) {
+            return add(new Rule(column, null, requireNonNull(check), null, null, false));
+        }
+
+        /**
+         * Adds a check on the raw bytes of a column named in the header.
+         *
+         * @param column the column name
+         * @param check the check
+         * @return this builder
+         * @throws IllegalArgumentException if an argument is null
+         */
+        public Builder check(String column, Check check) {
+            return add(new Rule(-1, requireNonNull(column), requireNonNull(check), null, null, false));
+        }
+
+        /**
+         * Adds a validation of the decoded value of a column.
+         *
+         * @param column the zero-based column index
+         * @param validator the validator, e.g. {@code ValidationUtils::isNumeric}
+         * @return this builder
+         * @throws IllegalArgumentException if the column is negative or the validator is null
+         */
+        public Builder validate(int column, Predicate<String> validator) {
+            return add(new Rule(column, null, null, requireNonNull(validator), null, false));
+        }
+
+        /**
+         * Adds a validation of the decoded value of a column named in the header.
+         *
+         * @param column the column name
+         * @param validator the validator, e.g. {@code ValidationUtils::isNumeric}
+         * @return this builder
+         * @throws IllegalArgumentException if an argument is null
+         */
+        public Builder validate(String column, Predicate<String> validator) {
+            return add(new Rule(-1, requireNonNull(column), null, requireNonNull(validator), null, false));
+        }
+
+        /**
+         * Adds a transform of the decoded value of a column. A transform that throws or
+         * returns null rejects the record.
+         *
+         * @param column the zero-based column index
+         * @param transform the transform, e.g. {@code StringUtils::toCamelCase}
+         * @return this builder
+         * @throws IllegalArgumentException if the column is negative or the transform is null
+         */
+        public Builder transform(int column, UnaryOperator<String> transform) {
+            return add(new Rule(column, null, null, null, requireNonNull(transform), false));
+        }
+
+        /**
+         * Adds a transform of the decoded value of a column named in the header. A transform
+         * that throws or returns null rejects the record.
+         *
+         * @param column the column name
+         * @param transform the transform, e.g. {@code StringUtils::toCamelCase}
+         * @return this builder
+         * @throws IllegalArgumentException if an argument is null
+         */
+        public Builder transform(String column, UnaryOperator<String> transform) {
+            return add(new Rule(-1, requireNonNull(column), null, null, requireNonNull(transform), false));
+        }
+
+        /**
+         * Counts the distinct values of a column in the accepted records, after transforms,
+         * with a {@link DistinctCounter} of the default precision. Unquoted ASCII fields are
+         * hashed from the raw bytes without creating a String.
+         *
+         * @param column the zero-based column index
+         * @return this builder
+         * @throws IllegalArgumentException if the column is negative
+         */
+        public Builder countDistinct(int column) {
+            return add(new Rule(column, null, null, null, null, true));
+        }
+
+        /**
+         * Counts the distinct values of a column named in the header in the accepted records,
+         * as {@link #countDistinct(int)} does.
+         *
+         * @param column the column name
+         * @return this builder
+         * @throws IllegalArgumentException if the column is null
+         */
+        public Builder countDistinct(String column) {
+            return add(new Rule(-1, requireNonNull(column), null, null, null, true));
+        }
+
+        /**
+         * Builds the pipeline.
+         *
+         * @return the pipeline
+         * @throws IllegalArgumentException if rules refer to column names without a header
+         */
+        public CsvPipeline build() {
+            if (!header && rules.stream().anyMatch(rule -> rule.name != null)) {
+                throw new IllegalArgumentException("Column names require a header");
+            }
+            return new CsvPipeline(this);
+        }
+
+        private Builder add(Rule rule) {
+            if (rule.name == null && rule.index < 0) {
+                throw new IllegalArgumentException("Column index cannot be negative");
+            }
+            rules.add(rule);
+            return this;
+        }
+
+        private static <T> T requireNonNull(T value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Argument cannot be null");
+            }
+            return value;
+        }
+    }
+
+    /**
+     * The record counts of a run.
+     */
+    public static final class Result {
+
+        private long rowsRead;
+        private long rowsWritten;
+        private final long[] rejections;
+        private final DistinctCounter[] distinct;
+
+        private Result(Plan[] plans) {
+            this.rejections = new long[plans.length];
+            this.distinct = new DistinctCounter[plans.length];
+            for (int i = 0; i < plans.length; i++) {
+                if (plans[i] != null && plans[i].distinct) {
+                    distinct[i] = new DistinctCounter();
+                }
+            }
+        }
+
+        private void add(Result other) {
+            rowsRead += other.rowsRead;
+            rowsWritten += other.rowsWritten;
+            for (int i = 0; i < rejections.length; i++) {
+                rejections[i] += other.rejections[i];
+                if (distinct[i] != null) {
+                    distinct[i].merge(other.distinct[i]);
+                }
+            }
+        }
+
+        /**
+         * Gets the number of records read, not counting the header.
+         *
+         * @return the records read
+         */
+        public long getRowsRead() {
+            return rowsRead;
+        }
+
+        /**
+         * Gets the number of records written to the output.
+         *
+         * @return the records written
+         */
+        public long getRowsWritten() {
+            return rowsWritten;
+        }
+
+        /**
+         * Gets the number of rejected records.
+         *
+         * @return the records rejected
+         */
+        public long getRowsRejected() {
+            return rowsRead - rowsWritten;
+        }
+
+        /**
+         * Gets the number of records rejected because of a column. Each rejected record is
+         * counted for the first column that failed.
+         *
+         * @param column the zero-based column index
+         * @return the records rejected because of the column
+         */
+        public long getRejections(int column) {
+            return column < rejections.length ? rejections[column] : 0;
+        }
+
+        /**
+         * Gets the distinct values of a column in the accepted records, for a column set up
+         * with {@link Builder#countDistinct(int)}.
+         *
+         * @param column the zero-based column index
+         * @return the counter, or null if the column is not counted
+         */
+        public DistinctCounter getDistinct(int column) {
+            return column >= 0 && column < distinct.length ? distinct[column] : null;
+        }
+
+        @Override
+        public String toString() {
+            return "CsvPipeline.Result[read=" + rowsRead + ", written=" + rowsWritten
+                    + ", rejected=" + getRowsRejected() + "]";
+        }
+    }
+
+    private static final class Rule {
+
+        final int index;
+        final String name;
+        final Check check;
+        final Predicate<String> validator;
+        final UnaryOperator<String> transform;
+        final boolean distinct;
+
+        Rule(int index, String name, Check check, Predicate<String> validator, UnaryOperator<String> transform,
+             boolean distinct) {
+            this.index = index;
+            this.name = name;
+            this.check = check;
+            this.validator = validator;
+            this.transform = transform;
+            this.distinct = distinct;
+        }
+    }
+
+    /**
+     * The compiled rules of one column.
+     */
+    private static final class Plan {
+
+        Check[] checks = new Check[0];
+        Rule[] steps = new Rule[0];
+        boolean transforms;
+        boolean distinct;
+
+        void add(Rule rule) {
+            if (rule.check != null) {
+                checks = append(checks, rule.check);
+            } else if (rule.distinct) {
+                distinct = true;
+            } else {
+                steps = append(steps, rule);
+                transforms |= rule.transform != null;
+            }
+        }
+
+        private static <T> T[] append(T[] array, T element) {
+            T[] copy = Arrays.copyOf(array, array.length + 1);
+            copy[array.length] = element;
+            return copy;
+        }
+    }
+
+    /**
+     * Processes one byte range with its own buffers. Not thread-safe; one per thread.
+     */
+    private final class Worker {
+
+        private final Plan[] plans;
+        private final Result result;
+        private final ByteBuffer in = ByteBuffer.allocateDirect(bufferSize);
+        private final ByteBuffer out = ByteBuffer.allocateDirect(bufferSize);
+        private final ByteBuffer rejected = ByteBuffer.allocateDirect(bufferSize);
+        private final ByteBuffer field = in.duplicate();
+        private final byte[] scratch = new byte[bufferSize];
+        private final String[] values;
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private boolean[] quoted = new boolean[16];
+        private int fieldCount;
+
+        Worker(Plan[] plans) {
+            this.plans = plans;
+            this.result = new Result(plans);
+            this.values = new String[plans.length];
+        }
+
+        Result result() {
+            return result;
+        }
+
+        long readHeader(FileChannel channel, long size) throws IOException {
+            in.clear();
+            while (in.hasRemaining() && channel.read(in, in.position()) > 0) {
+                // fill the buffer or read the whole file
+            }
+            in.flip();
+            int end = tokenize(0, in.limit(), in.limit() == size);
+            if (end < 0) {
+                throw new IOException("Header is larger than the buffer size of " + bufferSize + " bytes");
+            }
+            return end;
+        }
+
+        List<String> headerNames() {
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < fieldCount; i++) {
+                names.add(decode(i));
+            }
+            return names;
+        }
+
+        void process(FileChannel channel, long start, long end, FileChannel output, FileChannel rejects)
+                throws IOException {
+            long position = start;
+            boolean eof = false;
+            in.clear();
+            out.clear();
+            rejected.clear();
+            while (!eof) {
+                int want = (int) Math.min(in.remaining(), end - position);
+                if (want > 0) {
+                    in.limit(in.position() + want);
+                    int read = channel.read(in, position);
+                    in.limit(in.capacity());
+                    if (read < 0) {
+                        eof = true;
+                    } else {
+                        position += read;
+                    }
+                }
+                eof |= position >= end;
+                in.flip();
+                int recordStart = 0;
+                int recordEnd;
+                while (recordStart < in.limit() && (recordEnd = tokenize(recordStart, in.limit(), eof)) >= 0) {
+                    handleRecord(recordStart, recordEnd, output, rejects);
+                    recordStart = recordEnd;
+                }
+                if (recordStart == 0 && in.limit() == in.capacity()) {
+                    throw new IOException("Record is larger than the buffer size of " + bufferSize + " bytes");
+                }
+                in.position(recordStart);
+                in.compact();
+            }
+            flush(out, output);
+            if (rejects != null) {
+                flush(rejected, rejects);
+            }
+        }
+
+        /**
+         * Splits the record starting at from into fields.
+         *
+         * @return the index after the record, or -1 if the record is not complete yet
+         */
+        private int tokenize(int from, int limit, boolean eof) {
+            fieldCount = 0;
+            int fieldStart = from;
+            int i = from;
+            boolean inQuotes = i < limit && in.get(i) == '"';
+            boolean fieldQuoted = inQuotes;
+            if (inQuotes) {
+                i++;
+            }
+            while (i < limit) {
+                if (i + 8 <= limit) {
+                    long word = Swar.getLong(in, i);
+                    long specials = inQuotes ? Swar.equalTo(word, '"')
+                            : Swar.equalTo(word, delimiter & 0xFF) | Swar.equalTo(word, '\n');
+                    if (specials == 0) {
+                        i += 8;
+                        continue;
+                    }
+                }
+                byte b = in.get(i);
+                if (inQuotes) {
+                    if (b == '"') {
+                        if (i + 1 == limit && !eof) {
+                            return -1;
+                        }
+                        if (i + 1 < limit && in.get(i + 1) == '"') {
+                            i += 2;
+                            continue;
+                        }
+                        inQuotes = false;
+                    }
+                    i++;
+                } else if (b == delimiter) {
+                    addField(fieldStart, i, fieldQuoted);
+                    fieldStart = ++i;
+                    inQuotes = i < limit && in.get(i) == '"';
+                    fieldQuoted = inQuotes;
+                    if (inQuotes) {
+                        i++;
+                    }
+                } else if (b == '\n') {
+                    int fieldEnd = i > fieldStart && in.get(i - 1) == '\r' ? i - 1 : i;
+                    addField(fieldStart, fieldEnd, fieldQuoted);
+                    return i + 1;
+                } else {
+                    i++;
+                }
+            }
+            if (!eof) {
+                return -1;
+            }
+            int fieldEnd = limit > fieldStart && in.get(limit - 1) == '\r' ? limit - 1 : limit;
+            addField(fieldStart, fieldEnd, fieldQuoted);
+            return limit;
+        }
+
+        private void addField(int start, int end, boolean isQuoted) {
+            if (fieldCount == starts.length) {
+                starts = Arrays.copyOf(starts, fieldCount * 2);
+                ends = Arrays.copyOf(ends, fieldCount * 2);
+                quoted = Arrays.copyOf(quoted, fieldCount * 2);
+            }
+            starts[fieldCount] = start;
+            ends[fieldCount] = end;
+            quoted[fieldCount] = isQuoted;
+            fieldCount++;
+        }
+
+        private void handleRecord(int recordStart, int recordEnd, FileChannel output, FileChannel rejects)
+                throws IOException {
+            result.rowsRead++;
+            int failed = evaluate();
+            if (failed >= 0) {
+                result.rejections[failed]++;
+                if (rejects != null) {
+                    int length = recordEnd - recordStart;
+                    if (rejected.remaining() < length) {
+                        flush(rejected, rejects);
+                    }
+                    rejected.put(rejected.position(), in, recordStart, length);
+                    rejected.position(rejected.position() + length);
+                }
+                return;
+            }
+            countDistinct();
+            int rowStart = out.position();
+            try {
+                writeRow();
+            } catch (BufferOverflowException e) {
+                out.position(rowStart);
+                flush(out, output);
+                try {
+                    writeRow();
+                } catch (BufferOverflowException tooLarge) {
+                    throw new IOException("Output record is larger than the buffer size of " + bufferSize + " bytes");
+                }
+            }
+            result.rowsWritten++;
+        }
+
+        /**
+         * Runs the column rules of the current record.
+         *
+         * @return the first column that failed, or -1 if the record is accepted
+         */
+        private int evaluate() {
+            for (int c = 0; c < plans.length; c++) {
+                values[c] = null;
+                Plan plan = plans[c];
+                if (plan == null) {
+                    continue;
+                }
+                if (c >= fieldCount) {
+                    return c;
+                }
+                String value = null;
+                for (Check check : plan.checks) {
+                    boolean valid;
+                    if (quoted[c]) {
+                        value = value == null ? decode(c) : value;
+                        valid = check.string.test(value);
+                    } else {
+                        field.limit(ends[c]).position(starts[c]);
+                        valid = check.bytes.test(field);
+                    }
+                    if (!valid) {
+                        return c;
+                    }
+                }
+                try {
+                    for (Rule step : plan.steps) {
+                        value = value == null ? decode(c) : value;
+                        if (step.validator != null) {
+                            if (!step.validator.test(value)) {
+                                return c;
+                            }
+                        } else if ((value = step.transform.apply(value)) == null) {
+                            return c;
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    return c;
+                }
+                if (plan.transforms) {
+                    values[c] = value;
+                }
+            }
+            return -1;
+        }
+
+        private void countDistinct() {
+            for (int c = 0; c < plans.length; c++) {
+                DistinctCounter counter = result.distinct[c];
+                if (counter == null) {
+                    continue;
+                }
+                if (values[c] != null) {
+                    counter.add(values[c]);
+                } else if (!quoted[c] && OffHeapText.isAscii(field.limit(ends[c]).position(starts[c]))) {
+                    counter.addHash(Hashing.hashAscii(in, starts[c], ends[c]));
+                } else {
+                    counter.add(decode(c));
+                }
+            }
+        }
+
+        private String decode(int column) {
+            int start = starts[column];
+            int end = ends[column];
+            if (!quoted[column]) {
+                in.get(start, scratch, 0, end - start);
+                return new String(scratch, 0, end - start, StandardCharsets.UTF_8);
+            }
+            int length = 0;
+            int last = end > start + 1 && in.get(end - 1) == '"' ? end - 1 : end;
+            for (int i = start + 1; i < last; i++) {
+                byte b = in.get(i);
+                scratch[length++] = b;
+                if (b == '"' && i + 1 < last && in.get(i + 1) == '"') {
+                    i++;
+                }
+            }
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        private void writeRow() {
+            for (int c = 0; c < fieldCount; c++) {
+                if (c > 0) {
+                    out.put(delimiter);
+                }
+                String value = c < values.length ? values[c] : null;
+                if (value != null) {
+                    writeValue(value);
+                } else {
+                    int length = ends[c] - starts[c];
+                    if (out.remaining() < length) {
+                        throw new BufferOverflowException();
+                    }
+                    out.put(out.position(), in, starts[c], length);
+                    out.position(out.position() + length);
+                }
+            }
+            out.put((byte) '\n');
+        }
+
+        private void writeValue(String value) {
+            boolean needsQuotes = false;
+            for (int i = 0; i < value.length() && !needsQuotes; i++) {
+                char ch = value.charAt(i);
+                needsQuotes = ch == delimiter || ch == '"' || ch == '\n' || ch == '\r';
+            }
+            if (!needsQuotes) {
+                out.put(value.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            out.put((byte) '"');
+            out.put(value.replace("\"", "\"\"").getBytes(StandardCharsets.UTF_8));
+            out.put((byte) '"');
+        }
+
+        private void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
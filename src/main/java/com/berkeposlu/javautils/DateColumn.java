@@ -0,0 +1,360 @@
+package com.berkeposlu.javautils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * A growable column of dates stored as {@code int} epoch days, four bytes per value
+ * instead of a {@link LocalDate} object and a reference to it.
+ * <p>
+ * Values are appended as LocalDates, epoch days or strings. Strings in fixed-width numeric
+ * patterns such as {@code yyyy-MM-dd} or {@code dd.MM.yyyy} are parsed straight into the
+ * column without creating a LocalDate; other patterns go through
+ * {@link DateUtils#parseDate(String, String)}, with the same results and exceptions. A
+ * missing value is stored as a reserved epoch day and read back as null.
+ * <p>
+ * Range queries scan the packed array, or use binary search once the column is sorted.
+ * The column remembers whether values were appended in ascending order, so columns
+ * filled from time-ordered data need no explicit {@link #sort()}. LocalDates are only
+ * created when values are read with {@link #get(int)}.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class DateColumn {
+
+    /** The epoch day that marks a missing value. */
+    private static final int NULL = Integer.MIN_VALUE;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] days;
+    private int size;
+    private boolean sorted = true;
+
+    /**
+     * Creates an empty column.
+     */
+    public DateColumn() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty column with room for the given number of values.
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public DateColumn(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.days = new int[initialCapacity];
+    }
+
+    /**
+     * Parses a list of date strings into a new column.
+     *
+     * @param dates the date strings; null or empty strings become missing values
+     * @param pattern the pattern to use (e.g., "yyyy-MM-dd")
+     * @return the column
+     * @throws IllegalArgumentException if the list is null
+     * @throws java.time.format.DateTimeParseException if a string cannot be parsed
+     */
+    public static DateColumn parseAll(Iterable<String> dates, String pattern) {
+        if (dates == null) {
+            throw new IllegalArgumentException("Dates cannot be null");
+        }
+        DateColumn column = new DateColumn();
+        for (String date : dates) {
+            column.parse(date, pattern);
+        }
+        return column;
+    }
+
+    /**
+     * Appends a date.
+     *
+     * @param date the date, or null for a missing value
+     * @throws IllegalArgumentException if the date is outside the range of an int epoch day
+     */
+    public void add(LocalDate date) {
+        if (date == null) {
+            append(NULL);
+            return;
+        }
+        long epochDay = date.toEpochDay();
+        if (epochDay <= NULL || epochDay > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Date out of range: " + date);
+        }
+        append((int) epochDay);
+    }
+
+    /**
+     * Appends a date given as epoch day.
+     *
+     * @param epochDay the number of days since 1970-01-01
+     * @throws IllegalArgumentException if the value is the reserved missing value
+     */
+    public void addEpochDay(int epochDay) {
+        if (epochDay == NULL) {
+            throw new IllegalArgumentException("Epoch day out of range: " + epochDay);
+        }
+        append(epochDay);
+    }
+
+    /**
+     * Parses a date string and appends it, like {@link DateUtils#parseDate(String, String)}.
+     *
+     * @param date the date string; null or empty strings become missing values
+     * @param pattern the pattern to use (e.g., "yyyy-MM-dd")
+     * @throws java.time.format.DateTimeParseException if the string cannot be parsed
+     */
+    public void parse(String date, String pattern) {
+        FixedDateFormat format = StringUtils.isEmpty(pattern) ? null : FixedDateFormat.compile(pattern);
+        long epochDay = FixedDateFormat.NO_MATCH;
+        if (format != null) {
+            if (format.hasTime()) {
+                long epochMilli = format.parseEpochMilli(date);
+                epochDay = epochMilli == FixedDateFormat.NO_MATCH ? epochMilli : Math.floorDiv(epochMilli, 86_400_000L);
+            } else {
+                epochDay = format.parseEpochDay(date);
+            }
+        }
+        if (epochDay == FixedDateFormat.NO_MATCH) {
+            add(DateUtils.parseDate(date, pattern));
+        } else {
+            append((int) epochDay);
+        }
+    }
+
+    private void append(int epochDay) {
+        if (size == days.length) {
+            days = Arrays.copyOf(days, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        }
+        if (size > 0 && epochDay < days[size - 1]) {
+            sorted = false;
+        }
+        days[size++] = epochDay;
+    }
+
+    /**
+     * Gets a date.
+     *
+     * @param index the index
+     * @return the date, or null if the value is missing
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public LocalDate get(int index) {
+        int epochDay = getEpochDay(index);
+        return epochDay == NULL ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Gets a date as epoch day, without creating a LocalDate.
+     *
+     * @param index the index
+     * @return the number of days since 1970-01-01, or {@link Integer#MIN_VALUE} if the value is missing
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getEpochDay(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return days[index];
+    }
+
+    /**
+     * Checks whether a value is missing.
+     *
+     * @param index the index
+     * @return true if the value is missing, false otherwise
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean isNull(int index) {
+        return getEpochDay(index) == NULL;
+    }
+
+    /**
+     * Gets the number of values.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the values are in ascending order, missing values first.
+     *
+     * @return true if the column is sorted
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Sorts the values in ascending order, missing values first.
+     */
+    public void sort() {
+        if (!sorted) {
+            Arrays.sort(days, 0, size);
+            sorted = true;
+        }
+    }
+
+    /**
+     * Counts the dates in a range. Missing values are never counted.
+     *
+     * @param from the first date, inclusive
+     * @param to the last date, inclusive
+     * @return the number of dates in the range
+     * @throws IllegalArgumentException if a bound is null
+     */
+    public int countBetween(LocalDate from, LocalDate to) {
+        long lo = Math.max(epochDayOf(from), NULL + 1L);
+        long hi = epochDayOf(to);
+        if (lo > hi || lo > Integer.MAX_VALUE) {
+            return 0;
+        }
+        if (sorted) {
+            return lowerBound(hi + 1) - lowerBound(lo);
+        }
+        // branch-free: day is in range iff (day - lo) as unsigned is at most hi - lo
+        int base = (int) lo;
+        long span = Math.min(hi, Integer.MAX_VALUE) - lo;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long offset = (days[i] - base) & 0xFFFF_FFFFL;
+            count += (int) ((offset - span - 1) >>> 63);
+        }
+        return count;
+    }
+
+    /**
+     * Finds the indexes of the dates in a range, in ascending index order.
+     *
+     * @param from the first date, inclusive
+     * @param to the last date, inclusive
+     * @return the indexes
+     * @throws IllegalArgumentException if a bound is null
+     */
+    public int[] indexesBetween(LocalDate from, LocalDate to) {
+        long lo = Math.max(epochDayOf(from), NULL + 1L);
+        long hi = epochDayOf(to);
+        if (lo > hi) {
+            return new int[0];
+        }
+        if (sorted) {
+            int start = lowerBound(lo);
+            int end = lowerBound(hi + 1);
+            int[] indexes = new int[end - start];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = start + i;
+            }
+            return indexes;
+        }
+        int[] indexes = new int[DEFAULT_CAPACITY];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int day = days[i];
+            if (day >= lo && day <= hi) {
+                if (count == indexes.length) {
+                    indexes = Arrays.copyOf(indexes, count * 2);
+                }
+                indexes[count++] = i;
+            }
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+
+    /**
+     * Searches a sorted column for a date, like {@link Arrays#binarySearch(int[], int)}.
+     *
+     * @param date the date to find
+     * @return the index of the date, or {@code -(insertion point) - 1} if it is not present
+     * @throws IllegalArgumentException if the date is null
+     * @throws IllegalStateException if the column is not sorted
+     */
+    public int binarySearch(LocalDate date) {
+        if (!sorted) {
+            throw new IllegalStateException("Column is not sorted");
+        }
+        long epochDay = Math.max(epochDayOf(date), NULL + 1L);
+        int index = lowerBound(epochDay);
+        return index < size && days[index] == date.toEpochDay() ? index : -index - 1;
+    }
+
+    /**
+     * Gets the earliest date.
+     *
+     * @return the earliest date, or null if the column has no dates
+     */
+    public LocalDate min() {
+        int min = Integer.MAX_VALUE;
+        boolean found = false;
+        for (int i = 0; i < size; i++) {
+            if (days[i] != NULL) {
+                min = Math.min(min, days[i]);
+                found = true;
+            }
+        }
+        return found ? LocalDate.ofEpochDay(min) : null;
+    }
+
+    /**
+     * Gets the latest date.
+     *
+     * @return the latest date, or null if the column has no dates
+     */
+    public LocalDate max() {
+        int max = NULL;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, days[i]);
+        }
+        return max == NULL ? null : LocalDate.ofEpochDay(max);
+    }
+
+    /**
+     * Reduces the capacity to the size.
+     */
+    public void trimToSize() {
+        if (days.length > size) {
+            days = Arrays.copyOf(days, size);
+        }
+    }
+
+    /**
+     * Gets the number of bytes used by the value array.
+     *
+     * @return the capacity in bytes
+     */
+    public long capacityBytes() {
+        return (long) days.length * Integer.BYTES;
+    }
+
+    /**
+     * Finds the first index whose value is not less than the key, in a sorted column.
+     */
+    private int lowerBound(long key) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (days[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static long epochDayOf(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        return date.toEpochDay();
+    }
+}
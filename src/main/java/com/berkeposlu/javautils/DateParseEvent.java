@@ -0,0 +1,57 @@
+package com.berkeposlu.javautils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event for a slow or failed {@link DateUtils} parse call.
+ * <p>
+ * Only calls taking longer than the threshold (1 ms by default, configurable through
+ * the JFR settings of {@code com.berkeposlu.javautils.DateParse}) are recorded.
+ */
+@Name("com.berkeposlu.javautils.DateParse")
+@Label("Slow Date Parse")
+@Description("A DateUtils parse call that took longer than the threshold")
+@Category({"Java Utils Library", "Date"})
+@Threshold("1 ms")
+@StackTrace(true)
+final class DateParseEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Pattern")
+    String pattern;
+
+    @Label("Input Length")
+    int inputLength;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Error")
+    String error;
+
+    static DateParseEvent start() {
+        DateParseEvent event = new DateParseEvent();
+        event.begin();
+        return event;
+    }
+
+    void finish(String method, String input, String pattern, RuntimeException failure) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.pattern = pattern;
+            this.inputLength = input == null ? -1 : input.length();
+            this.success = failure == null;
+            this.error = failure == null ? null : failure.getMessage();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,488 @@
+package com.berkeposlu.javautils;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lenient parser for dates in any of several common formats, without exceptions.
+ * <p>
+ * Instead of trying one pattern after another and catching
+ * {@link java.time.format.DateTimeParseException}, the input is classified by its shape in
+ * one scan (leading digit run and the separator after it, or a leading letter) and handed
+ * to a parser for that {@link Format}, which works on the characters directly and reports
+ * a mismatch as {@link #NO_DATE} or an empty Optional. Day and month may have one or two
+ * digits in the separated formats, and surrounding whitespace is ignored; days beyond the
+ * end of the month are rejected.
+ * <p>
+ * Each instance learns the format of its data source: after a successful parse, the next
+ * input is first tried with the same format and only classified if that fails. Use one
+ * instance per source, e.g. per file or column, or get a shared one by name with
+ * {@link #forSource(String)}. Instances are thread-safe.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class DateSniffer {
+
+    /** Returned by {@link #parseEpochDay(CharSequence)} if the input is not a date. */
+    public static final long NO_DATE = Long.MIN_VALUE;
+
+    private static final int MAX_CACHED_SOURCES = 256;
+    private static final Map<String, DateSniffer> SOURCES = new ConcurrentHashMap<>();
+
+    private static final String MONTH_NAMES = "JanFebMarAprMayJunJulAugSepOctNovDec";
+    private static final int MAX_EPOCH_MILLI_DIGITS = 18;
+
+    /**
+     * The recognized date formats.
+     */
+    public enum Format {
+        /** {@code yyyy-MM-dd}, e.g. 2024-03-15. */
+        ISO_DATE,
+        /** {@code yyyy-MM-ddTHH:mm[:ss[.fraction]][offset]}, also with a space instead of T; the date as written. */
+        ISO_DATE_TIME,
+        /** {@code yyyyMMdd}, e.g. 20240315. */
+        BASIC_ISO_DATE,
+        /** {@code yyyy/MM/dd}. */
+        YEAR_MONTH_DAY_SLASH,
+        /** {@code dd/MM/yyyy}. */
+        DAY_MONTH_YEAR_SLASH,
+        /** {@code dd.MM.yyyy}. */
+        DAY_MONTH_YEAR_DOT,
+        /** {@code MM-dd-yyyy}. */
+        MONTH_DAY_YEAR_DASH,
+        /** Milliseconds since 1970-01-01T00:00Z, any number of digits except eight; the date in the zone of the sniffer. */
+        EPOCH_MILLIS,
+        /** {@code [EEE, ]d MMM yyyy HH:mm[:ss] zone} as in HTTP headers, e.g. Tue, 3 Jun 2008 11:05:30 GMT; the date as written. */
+        RFC_1123
+    }
+
+    private final ZoneId zone;
+    private volatile Format learned;
+
+    /**
+     * Creates a sniffer that converts epoch milliseconds to dates in UTC.
+     */
+    public DateSniffer() {
+        this(ZoneOffset.UTC);
+    }
+
+    /**
+     * Creates a sniffer.
+     *
+     * @param zone the zone in which epoch milliseconds are converted to dates
+     * @throws IllegalArgumentException if the zone is null
+     */
+    public DateSniffer(ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+        this.zone = zone;
+    }
+
+    /**
+     * Gets the shared sniffer of a data source, which converts epoch milliseconds in UTC.
+     * Up to 256 sources are remembered; beyond that every call returns a new sniffer.
+     *
+     * @param source the name of the data source
+     * @return the sniffer
+     * @throws IllegalArgumentException if the source is null
+     */
+    public static DateSniffer forSource(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+        DateSniffer sniffer = SOURCES.get(source);
+        if (sniffer == null) {
+            sniffer = new DateSniffer();
+            if (SOURCES.size() < MAX_CACHED_SOURCES) {
+                DateSniffer existing = SOURCES.putIfAbsent(source, sniffer);
+                if (existing != null) {
+                    sniffer = existing;
+                }
+            }
+        }
+        return sniffer;
+    }
+
+    /**
+     * Parses a date.
+     *
+     * @param text the text
+     * @return the date, or an empty Optional if the text is null or not a date in a known format
+     */
+    public Optional<LocalDate> parse(CharSequence text) {
+        long epochDay = parseEpochDay(text);
+        return epochDay == NO_DATE ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Parses a date into an epoch day, without creating a LocalDate.
+     *
+     * @param text the text
+     * @return the number of days since 1970-01-01, or {@link #NO_DATE} if the text is null or
+     *         not a date in a known format
+     */
+    public long parseEpochDay(CharSequence text) {
+        if (text == null) {
+            return NO_DATE;
+        }
+        int from = trimStart(text);
+        int to = trimEnd(text, from);
+        Format format = learned;
+        if (format != null) {
+            long epochDay = parse(format, text, from, to);
+            if (epochDay != NO_DATE) {
+                return epochDay;
+            }
+        }
+        Format detected = detect(text, from, to);
+        if (detected == null || detected == format) {
+            return NO_DATE;
+        }
+        long epochDay = parse(detected, text, from, to);
+        if (epochDay != NO_DATE) {
+            learned = detected;
+        }
+        return epochDay;
+    }
+
+    /**
+     * Classifies a text by its shape, without parsing it.
+     *
+     * @param text the text
+     * @return the format the text looks like, or an empty Optional if it matches none
+     */
+    public static Optional<Format> detect(CharSequence text) {
+        if (text == null) {
+            return Optional.empty();
+        }
+        int from = trimStart(text);
+        return Optional.ofNullable(detect(text, from, trimEnd(text, from)));
+    }
+
+    /**
+     * Gets the format that the last successful parse used, which is tried first for the
+     * next input.
+     *
+     * @return the learned format, or an empty Optional if nothing was parsed yet
+     */
+    public Optional<Format> getLearnedFormat() {
+        return Optional.ofNullable(learned);
+    }
+
+    private static Format detect(CharSequence text, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        char first = text.charAt(from);
+        if (isLetter(first)) {
+            return Format.RFC_1123;
+        }
+        int start = first == '-' ? from + 1 : from;
+        int end = skipDigits(text, start, to);
+        int run = end - start;
+        if (end == to) {
+            if (run == 0) {
+                return null;
+            }
+            return run == 8 && start == from ? Format.BASIC_ISO_DATE : Format.EPOCH_MILLIS;
+        }
+        if (start != from) {
+            return null;
+        }
+        char separator = text.charAt(end);
+        if (run == 4) {
+            if (separator == '/') {
+                return Format.YEAR_MONTH_DAY_SLASH;
+            }
+            if (separator == '-') {
+                return to - from > 10 ? Format.ISO_DATE_TIME : Format.ISO_DATE;
+            }
+        } else if (run == 1 || run == 2) {
+            switch (separator) {
+                case '/':
+                    return Format.DAY_MONTH_YEAR_SLASH;
+                case '.':
+                    return Format.DAY_MONTH_YEAR_DOT;
+                case '-':
+                    return Format.MONTH_DAY_YEAR_DASH;
+                case ' ':
+                    return Format.RFC_1123;
+                default:
+                    break;
+            }
+        }
+        return null;
+    }
+
+    private long parse(Format format, CharSequence text, int from, int to) {
+        switch (format) {
+            case ISO_DATE:
+                return yearFirst(text, from, to, '-');
+            case ISO_DATE_TIME:
+                return isoDateTime(text, from, to);
+            case BASIC_ISO_DATE:
+                return basicIsoDate(text, from, to);
+            case YEAR_MONTH_DAY_SLASH:
+                return yearFirst(text, from, to, '/');
+            case DAY_MONTH_YEAR_SLASH:
+                return yearLast(text, from, to, '/', false);
+            case DAY_MONTH_YEAR_DOT:
+                return yearLast(text, from, to, '.', false);
+            case MONTH_DAY_YEAR_DASH:
+                return yearLast(text, from, to, '-', true);
+            case EPOCH_MILLIS:
+                return epochMillis(text, from, to);
+            default:
+                return rfc1123(text, from, to);
+        }
+    }
+
+    /**
+     * Parses yyyy-M-d with the given separator, where month and day have one or two digits.
+     */
+    private static long yearFirst(CharSequence text, int from, int to, char separator) {
+        int yearEnd = from + 4;
+        if (skipDigits(text, from, to) != yearEnd || yearEnd >= to || text.charAt(yearEnd) != separator) {
+            return NO_DATE;
+        }
+        int monthEnd = skipDigits(text, yearEnd + 1, to);
+        if (!isField(yearEnd + 1, monthEnd) || monthEnd >= to || text.charAt(monthEnd) != separator) {
+            return NO_DATE;
+        }
+        int dayEnd = skipDigits(text, monthEnd + 1, to);
+        if (!isField(monthEnd + 1, dayEnd) || dayEnd != to) {
+            return NO_DATE;
+        }
+        return epochDay(number(text, from, yearEnd), number(text, yearEnd + 1, monthEnd), number(text, monthEnd + 1, to));
+    }
+
+    /**
+     * Parses d-M-yyyy, or M-d-yyyy if monthFirst, with the given separator.
+     */
+    private static long yearLast(CharSequence text, int from, int to, char separator, boolean monthFirst) {
+        int firstEnd = skipDigits(text, from, to);
+        if (!isField(from, firstEnd) || firstEnd >= to || text.charAt(firstEnd) != separator) {
+            return NO_DATE;
+        }
+        int secondEnd = skipDigits(text, firstEnd + 1, to);
+        if (!isField(firstEnd + 1, secondEnd) || secondEnd >= to || text.charAt(secondEnd) != separator) {
+            return NO_DATE;
+        }
+        if (skipDigits(text, secondEnd + 1, to) != to || to - secondEnd - 1 != 4) {
+            return NO_DATE;
+        }
+        int firstValue = number(text, from, firstEnd);
+        int secondValue = number(text, firstEnd + 1, secondEnd);
+        int year = number(text, secondEnd + 1, to);
+        return monthFirst ? epochDay(year, firstValue, secondValue) : epochDay(year, secondValue, firstValue);
+    }
+
+    private static long basicIsoDate(CharSequence text, int from, int to) {
+        if (to - from != 8 || skipDigits(text, from, to) != to) {
+            return NO_DATE;
+        }
+        return epochDay(number(text, from, from + 4), number(text, from + 4, from + 6), number(text, from + 6, to));
+    }
+
+    private static long isoDateTime(CharSequence text, int from, int to) {
+        if (to - from < 16) {
+            return NO_DATE;
+        }
+        char separator = text.charAt(from + 10);
+        if ((separator != 'T' && separator != ' ') || !isTime(text, from + 11, to)) {
+            return NO_DATE;
+        }
+        return yearFirst(text, from, from + 10, '-');
+    }
+
+    /**
+     * Checks HH:mm[:ss[.fraction]] followed by nothing, Z, or an offset.
+     */
+    private static boolean isTime(CharSequence text, int from, int to) {
+        int pos = hourMinute(text, from, to);
+        if (pos < 0) {
+            return false;
+        }
+        if (pos < to && text.charAt(pos) == ':') {
+            if (!isTwoDigits(text, pos + 1, to) || number(text, pos + 1, pos + 3) > 59) {
+                return false;
+            }
+            pos += 3;
+            if (pos < to && (text.charAt(pos) == '.' || text.charAt(pos) == ',')) {
+                int fractionEnd = skipDigits(text, pos + 1, to);
+                if (fractionEnd == pos + 1 || fractionEnd - pos - 1 > 9) {
+                    return false;
+                }
+                pos = fractionEnd;
+            }
+        }
+        if (pos == to || (text.charAt(pos) == 'Z' && pos + 1 == to)) {
+            return true;
+        }
+        char sign = text.charAt(pos);
+        return (sign == '+' || sign == '-') && hourMinute(text, pos + 1, to) == to;
+    }
+
+    /**
+     * Parses HH:mm and returns the position after it, or -1.
+     */
+    private static int hourMinute(CharSequence text, int from, int to) {
+        if (!isTwoDigits(text, from, to) || from + 2 >= to || text.charAt(from + 2) != ':'
+                || !isTwoDigits(text, from + 3, to)) {
+            return -1;
+        }
+        if (number(text, from, from + 2) > 23 || number(text, from + 3, from + 5) > 59) {
+            return -1;
+        }
+        return from + 5;
+    }
+
+    private long epochMillis(CharSequence text, int from, int to) {
+        int start = from < to && text.charAt(from) == '-' ? from + 1 : from;
+        if (start == to || to - start > MAX_EPOCH_MILLI_DIGITS || skipDigits(text, start, to) != to
+                || (to - from == 8 && start == from)) {
+            return NO_DATE;
+        }
+        long millis = 0;
+        for (int i = start; i < to; i++) {
+            millis = millis * 10 + (text.charAt(i) - '0');
+        }
+        if (start != from) {
+            millis = -millis;
+        }
+        long epochSecond = Math.floorDiv(millis, 1000L);
+        long local = zone instanceof ZoneOffset
+                ? epochSecond + ((ZoneOffset) zone).getTotalSeconds()
+                : ZoneTable.of(zone).toLocalEpochSecond(epochSecond);
+        return Math.floorDiv(local, 86_400L);
+    }
+
+    /**
+     * Parses [EEE, ]d MMM yyyy HH:mm[:ss] zone; the day name is not checked against the date.
+     */
+    private static long rfc1123(CharSequence text, int from, int to) {
+        int pos = from;
+        if (pos < to && isLetter(text.charAt(pos))) {
+            if (pos + 5 > to || !isLetter(text.charAt(pos + 1)) || !isLetter(text.charAt(pos + 2))
+                    || text.charAt(pos + 3) != ',' || text.charAt(pos + 4) != ' ') {
+                return NO_DATE;
+            }
+            pos += 5;
+        }
+        int dayEnd = skipDigits(text, pos, to);
+        if (!isField(pos, dayEnd) || dayEnd + 10 > to || text.charAt(dayEnd) != ' ' || text.charAt(dayEnd + 4) != ' ') {
+            return NO_DATE;
+        }
+        int day = number(text, pos, dayEnd);
+        int month = monthOf(text, dayEnd + 1);
+        int yearStart = dayEnd + 5;
+        if (month == 0 || skipDigits(text, yearStart, to) != yearStart + 4 || yearStart + 4 >= to
+                || text.charAt(yearStart + 4) != ' ') {
+            return NO_DATE;
+        }
+        int year = number(text, yearStart, yearStart + 4);
+        int timeEnd = hourMinute(text, yearStart + 5, to);
+        if (timeEnd < 0) {
+            return NO_DATE;
+        }
+        if (timeEnd < to && text.charAt(timeEnd) == ':') {
+            if (!isTwoDigits(text, timeEnd + 1, to) || number(text, timeEnd + 1, timeEnd + 3) > 59) {
+                return NO_DATE;
+            }
+            timeEnd += 3;
+        }
+        if (timeEnd + 1 >= to || text.charAt(timeEnd) != ' ' || !isZone(text, timeEnd + 1, to)) {
+            return NO_DATE;
+        }
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * Checks a zone name of letters, such as GMT, or an offset such as +0200.
+     */
+    private static boolean isZone(CharSequence text, int from, int to) {
+        char first = text.charAt(from);
+        if (first == '+' || first == '-') {
+            return to - from == 5 && skipDigits(text, from + 1, to) == to;
+        }
+        for (int i = from; i < to; i++) {
+            if (!isLetter(text.charAt(i))) {
+                return false;
+            }
+        }
+        return to - from <= 5;
+    }
+
+    private static int monthOf(CharSequence text, int from) {
+        for (int month = 0; month < 12; month++) {
+            int name = month * 3;
+            if (text.charAt(from) == MONTH_NAMES.charAt(name)
+                    && text.charAt(from + 1) == MONTH_NAMES.charAt(name + 1)
+                    && text.charAt(from + 2) == MONTH_NAMES.charAt(name + 2)) {
+                return month + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static int trimStart(CharSequence text) {
+        int from = 0;
+        while (from < text.length() && Character.isWhitespace(text.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimEnd(CharSequence text, int from) {
+        int to = text.length();
+        while (to > from && Character.isWhitespace(text.charAt(to - 1))) {
+            to--;
+        }
+        return to;
+    }
+
+    private static long epochDay(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > CalendarTable.lengthOfMonth(year, month)) {
+            return NO_DATE;
+        }
+        return CalendarTable.epochDay(year, month, day);
+    }
+
+    private static boolean isField(int from, int to) {
+        return to - from == 1 || to - from == 2;
+    }
+
+    private static boolean isTwoDigits(CharSequence text, int from, int to) {
+        return from + 2 <= to && isDigit(text.charAt(from)) && isDigit(text.charAt(from + 1));
+    }
+
+    private static int skipDigits(CharSequence text, int from, int to) {
+        int i = from;
+        while (i < to && isDigit(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int number(CharSequence text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isLetter(char ch) {
+        return (ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z');
+    }
+}
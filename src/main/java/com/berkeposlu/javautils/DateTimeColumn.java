@@ -0,0 +1,375 @@
+package com.berkeposlu.javautils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * A growable column of date-times stored as {@code long} milliseconds since
+ * 1970-01-01T00:00 on the local time line, eight bytes per value instead of a
+ * {@link LocalDateTime} with its LocalDate and LocalTime and a reference to it.
+ * Sub-millisecond precision is dropped.
+ * <p>
+ * Values are appended as LocalDateTimes, epoch milliseconds or strings. Strings in
+ * fixed-width numeric patterns such as {@code yyyy-MM-dd HH:mm:ss} are parsed straight
+ * into the column without creating a LocalDateTime; other patterns go through
+ * {@link DateUtils#parseDateTime(String, String)}, with the same results and exceptions.
+ * A missing value is stored as a reserved value and read back as null.
+ * <p>
+ * Range queries scan the packed array, or use binary search once the column is sorted,
+ * as in {@link DateColumn}. LocalDateTimes are only created when values are read with
+ * {@link #get(int)}.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class DateTimeColumn {
+
+    /** The epoch millisecond value that marks a missing value. */
+    private static final long NULL = Long.MIN_VALUE;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] millis;
+    private int size;
+    private boolean sorted = true;
+
+    /**
+     * Creates an empty column.
+     */
+    public DateTimeColumn() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty column with room for the given number of values.
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public DateTimeColumn(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.millis = new long[initialCapacity];
+    }
+
+    /**
+     * Parses a list of date-time strings into a new column.
+     *
+     * @param dateTimes the date-time strings; null or empty strings become missing values
+     * @param pattern the pattern to use (e.g., "yyyy-MM-dd HH:mm:ss")
+     * @return the column
+     * @throws IllegalArgumentException if the list is null
+     * @throws java.time.format.DateTimeParseException if a string cannot be parsed
+     */
+    public static DateTimeColumn parseAll(Iterable<String> dateTimes, String pattern) {
+        if (dateTimes == null) {
+            throw new IllegalArgumentException("Date-times cannot be null");
+        }
+        DateTimeColumn column = new DateTimeColumn();
+        for (String dateTime : dateTimes) {
+            column.parse(dateTime, pattern);
+        }
+        return column;
+    }
+
+    /**
+     * Appends a date-time.
+     *
+     * @param dateTime the date-time, or null for a missing value
+     * @throws IllegalArgumentException if the date-time is outside the range of epoch milliseconds
+     */
+    public void add(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            append(NULL);
+            return;
+        }
+        long epochMilli;
+        try {
+            epochMilli = epochMilliOf(dateTime);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Date-time out of range: " + dateTime, e);
+        }
+        if (epochMilli == NULL) {
+            throw new IllegalArgumentException("Date-time out of range: " + dateTime);
+        }
+        append(epochMilli);
+    }
+
+    /**
+     * Appends a date-time given as epoch milliseconds.
+     *
+     * @param epochMilli the milliseconds since 1970-01-01T00:00
+     * @throws IllegalArgumentException if the value is the reserved missing value
+     */
+    public void addEpochMilli(long epochMilli) {
+        if (epochMilli == NULL) {
+            throw new IllegalArgumentException("Epoch milli out of range: " + epochMilli);
+        }
+        append(epochMilli);
+    }
+
+    /**
+     * Parses a date-time string and appends it, like
+     * {@link DateUtils#parseDateTime(String, String)}.
+     *
+     * @param dateTime the date-time string; null or empty strings become missing values
+     * @param pattern the pattern to use (e.g., "yyyy-MM-dd HH:mm:ss")
+     * @throws java.time.format.DateTimeParseException if the string cannot be parsed
+     */
+    public void parse(String dateTime, String pattern) {
+        FixedDateFormat format = StringUtils.isEmpty(pattern) ? null : FixedDateFormat.compile(pattern);
+        long epochMilli = format == null ? FixedDateFormat.NO_MATCH : format.parseEpochMilli(dateTime);
+        if (epochMilli == FixedDateFormat.NO_MATCH) {
+            add(DateUtils.parseDateTime(dateTime, pattern));
+        } else {
+            append(epochMilli);
+        }
+    }
+
+    private void append(long epochMilli) {
+        if (size == millis.length) {
+            millis = Arrays.copyOf(millis, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        }
+        if (size > 0 && epochMilli < millis[size - 1]) {
+            sorted = false;
+        }
+        millis[size++] = epochMilli;
+    }
+
+    /**
+     * Gets a date-time.
+     *
+     * @param index the index
+     * @return the date-time, or null if the value is missing
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public LocalDateTime get(int index) {
+        long epochMilli = getEpochMilli(index);
+        if (epochMilli == NULL) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMilli, 1000L),
+                (int) Math.floorMod(epochMilli, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Gets a date-time as epoch milliseconds, without creating a LocalDateTime.
+     *
+     * @param index the index
+     * @return the milliseconds since 1970-01-01T00:00, or {@link Long#MIN_VALUE} if the value is missing
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEpochMilli(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return millis[index];
+    }
+
+    /**
+     * Checks whether a value is missing.
+     *
+     * @param index the index
+     * @return true if the value is missing, false otherwise
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean isNull(int index) {
+        return getEpochMilli(index) == NULL;
+    }
+
+    /**
+     * Gets the number of values.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the values are in ascending order, missing values first.
+     *
+     * @return true if the column is sorted
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Sorts the values in ascending order, missing values first.
+     */
+    public void sort() {
+        if (!sorted) {
+            Arrays.sort(millis, 0, size);
+            sorted = true;
+        }
+    }
+
+    /**
+     * Counts the date-times in a range. Missing values are never counted.
+     *
+     * @param from the first date-time, inclusive
+     * @param to the last date-time, exclusive
+     * @return the number of date-times in the range
+     * @throws IllegalArgumentException if a bound is null or out of range
+     */
+    public int countBetween(LocalDateTime from, LocalDateTime to) {
+        long lo = Math.max(boundOf(from), NULL + 1);
+        long hi = boundOf(to);
+        if (lo >= hi) {
+            return 0;
+        }
+        if (sorted) {
+            return lowerBound(hi) - lowerBound(lo);
+        }
+        // branch-free: value is in range iff (value - lo) as unsigned is below hi - lo
+        long span = hi - lo;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += Long.compareUnsigned(millis[i] - lo, span) < 0 ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Finds the indexes of the date-times in a range, in ascending index order.
+     *
+     * @param from the first date-time, inclusive
+     * @param to the last date-time, exclusive
+     * @return the indexes
+     * @throws IllegalArgumentException if a bound is null or out of range
+     */
+    public int[] indexesBetween(LocalDateTime from, LocalDateTime to) {
+        long lo = Math.max(boundOf(from), NULL + 1);
+        long hi = boundOf(to);
+        if (lo >= hi) {
+            return new int[0];
+        }
+        if (sorted) {
+            int start = lowerBound(lo);
+            int end = lowerBound(hi);
+            int[] indexes = new int[end - start];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = start + i;
+            }
+            return indexes;
+        }
+        int[] indexes = new int[DEFAULT_CAPACITY];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long value = millis[i];
+            if (value >= lo && value < hi) {
+                if (count == indexes.length) {
+                    indexes = Arrays.copyOf(indexes, count * 2);
+                }
+                indexes[count++] = i;
+            }
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+
+    /**
+     * Searches a sorted column for a date-time, like {@link Arrays#binarySearch(long[], long)}.
+     *
+     * @param dateTime the date-time to find, compared at millisecond precision
+     * @return the index of the date-time, or {@code -(insertion point) - 1} if it is not present
+     * @throws IllegalArgumentException if the date-time is null or out of range
+     * @throws IllegalStateException if the column is not sorted
+     */
+    public int binarySearch(LocalDateTime dateTime) {
+        if (!sorted) {
+            throw new IllegalStateException("Column is not sorted");
+        }
+        long epochMilli = Math.max(boundOf(dateTime), NULL + 1);
+        int index = lowerBound(epochMilli);
+        return index < size && millis[index] == epochMilli ? index : -index - 1;
+    }
+
+    /**
+     * Gets the earliest date-time.
+     *
+     * @return the earliest date-time, or null if the column has no values
+     */
+    public LocalDateTime min() {
+        long min = Long.MAX_VALUE;
+        int index = -1;
+        for (int i = 0; i < size; i++) {
+            if (millis[i] != NULL && millis[i] <= min) {
+                min = millis[i];
+                index = i;
+            }
+        }
+        return index < 0 ? null : get(index);
+    }
+
+    /**
+     * Gets the latest date-time.
+     *
+     * @return the latest date-time, or null if the column has no values
+     */
+    public LocalDateTime max() {
+        long max = NULL;
+        int index = -1;
+        for (int i = 0; i < size; i++) {
+            if (millis[i] > max) {
+                max = millis[i];
+                index = i;
+            }
+        }
+        return index < 0 ? null : get(index);
+    }
+
+    /**
+     * Reduces the capacity to the size.
+     */
+    public void trimToSize() {
+        if (millis.length > size) {
+            millis = Arrays.copyOf(millis, size);
+        }
+    }
+
+    /**
+     * Gets the number of bytes used by the value array.
+     *
+     * @return the capacity in bytes
+     */
+    public long capacityBytes() {
+        return (long) millis.length * Long.BYTES;
+    }
+
+    /**
+     * Finds the first index whose value is not less than the key, in a sorted column.
+     */
+    private int lowerBound(long key) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (millis[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static long epochMilliOf(LocalDateTime dateTime) {
+        long seconds = dateTime.toEpochSecond(ZoneOffset.UTC);
+        return Math.addExact(Math.multiplyExact(seconds, 1000L), dateTime.getNano() / 1_000_000);
+    }
+
+    private static long boundOf(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            throw new IllegalArgumentException("Date-time cannot be null");
+        }
+        try {
+            return epochMilliOf(dateTime);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Date-time out of range: " + dateTime, e);
+        }
+    }
+}
@@ -2,9 +2,14 @@ package com.berkeposlu.javautils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for common date and time operations.
@@ -14,6 +19,20 @@ import java.util.Date;
  */
 public final class DateUtils {
 
+    private static final Metrics.Probe FORMAT_DATE_PROBE = Metrics.probe("DateUtils.formatDate");
+    private static final Metrics.Probe FORMAT_DATE_TIME_PROBE = Metrics.probe("DateUtils.formatDateTime");
+    private static final Metrics.Probe PARSE_DATE_PROBE = Metrics.probe("DateUtils.parseDate");
+    private static final Metrics.Probe PARSE_DATE_TIME_PROBE = Metrics.probe("DateUtils.parseDateTime");
+    private static final Metrics.Probe DAYS_BETWEEN_PROBE = Metrics.probe("DateUtils.daysBetween");
+    private static final Metrics.Probe HOURS_BETWEEN_PROBE = Metrics.probe("DateUtils.hoursBetween");
+
+    /** Upper bound on cached patterns, so arbitrary user-supplied patterns cannot grow the cache unbounded. */
+    private static final int MAX_CACHED_FORMATTERS = 256;
+
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    private static final DateSniffer SNIFFER = new DateSniffer();
+
     private DateUtils() {
         // Utility class - prevent instantiation
     }
@@ -26,10 +45,11 @@ public final class DateUtils {
      * @return the formatted date string
      */
     public static String formatDate(LocalDate date, String pattern) {
+        long start = FORMAT_DATE_PROBE.start();
         if (date == null || pattern == null) {
-            return null;
+            return FORMAT_DATE_PROBE.end(start, null);
         }
-        return date.format(DateTimeFormatter.ofPattern(pattern));
+        return FORMAT_DATE_PROBE.end(start, date.format(formatter(pattern)));
     }
 
     /**
@@ -40,10 +60,11 @@ public final class DateUtils {
      * @return the formatted datetime string
      */
     public static String formatDateTime(LocalDateTime dateTime, String pattern) {
+        long start = FORMAT_DATE_TIME_PROBE.start();
         if (dateTime == null || pattern == null) {
-            return null;
+            return FORMAT_DATE_TIME_PROBE.end(start, null);
         }
-        return dateTime.format(DateTimeFormatter.ofPattern(pattern));
+        return FORMAT_DATE_TIME_PROBE.end(start, dateTime.format(formatter(pattern)));
     }
 
     /**
@@ -54,10 +75,19 @@ public final class DateUtils {
      * @return the parsed LocalDate
      */
     public static LocalDate parseDate(String dateStr, String pattern) {
+        long start = PARSE_DATE_PROBE.start();
         if (StringUtils.isEmpty(dateStr) || StringUtils.isEmpty(pattern)) {
-            return null;
+            return PARSE_DATE_PROBE.end(start, null);
+        }
+        DateParseEvent event = DateParseEvent.start();
+        try {
+            LocalDate date = LocalDate.parse(dateStr, formatter(pattern));
+            event.finish("parseDate", dateStr, pattern, null);
+            return PARSE_DATE_PROBE.end(start, date);
+        } catch (RuntimeException e) {
+            event.finish("parseDate", dateStr, pattern, e);
+            throw e;
         }
-        return LocalDate.parse(dateStr, DateTimeFormatter.ofPattern(pattern));
     }
 
     /**
@@ -68,10 +98,31 @@ public final class DateUtils {
      * @return the parsed LocalDateTime
      */
     public static LocalDateTime parseDateTime(String dateTimeStr, String pattern) {
+        long start = PARSE_DATE_TIME_PROBE.start();
         if (StringUtils.isEmpty(dateTimeStr) || StringUtils.isEmpty(pattern)) {
-            return null;
+            return PARSE_DATE_TIME_PROBE.end(start, null);
+        }
+        DateParseEvent event = DateParseEvent.start();
+        try {
+            LocalDateTime dateTime = LocalDateTime.parse(dateTimeStr, formatter(pattern));
+            event.finish("parseDateTime", dateTimeStr, pattern, null);
+            return PARSE_DATE_TIME_PROBE.end(start, dateTime);
+        } catch (RuntimeException e) {
+            event.finish("parseDateTime", dateTimeStr, pattern, e);
+            throw e;
         }
-        return LocalDateTime.parse(dateTimeStr, DateTimeFormatter.ofPattern(pattern));
+    }
+
+    /**
+     * Parses a date in any of the formats recognized by {@link DateSniffer}, such as ISO,
+     * dd/MM/yyyy, MM-dd-yyyy, epoch milliseconds (in UTC) or RFC 1123, without throwing.
+     * For inputs from one source, a {@link DateSniffer} per source learns the format.
+     *
+     * @param dateStr the date string
+     * @return the parsed date, or an empty Optional if the string is null or not a date
+     */
+    public static Optional<LocalDate> parseDateLenient(String dateStr) {
+        return SNIFFER.parse(dateStr);
     }
 
     /**
@@ -82,10 +133,23 @@ public final class DateUtils {
      * @return the number of days between the dates
      */
     public static long daysBetween(LocalDate startDate, LocalDate endDate) {
+        long start = DAYS_BETWEEN_PROBE.start();
         if (startDate == null || endDate == null) {
-            return 0;
+            return DAYS_BETWEEN_PROBE.end(start, 0L);
         }
-        return ChronoUnit.DAYS.between(startDate, endDate);
+        return DAYS_BETWEEN_PROBE.end(start, CalendarTable.epochDay(endDate) - CalendarTable.epochDay(startDate));
+    }
+
+    /**
+     * Calculates the number of days between two packed dates, without creating LocalDates.
+     *
+     * @param startYmd the start date, packed with {@link CalendarTable#ymd(int, int, int)}
+     * @param endYmd the end date, packed with {@link CalendarTable#ymd(int, int, int)}
+     * @return the number of days between the dates
+     * @throws IllegalArgumentException if a packed date is invalid
+     */
+    public static long daysBetween(int startYmd, int endYmd) {
+        return CalendarTable.epochDay(endYmd) - CalendarTable.epochDay(startYmd);
     }
 
     /**
@@ -96,10 +160,20 @@ public final class DateUtils {
      * @return the number of hours between the datetimes
      */
     public static long hoursBetween(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        long start = HOURS_BETWEEN_PROBE.start();
         if (startDateTime == null || endDateTime == null) {
-            return 0;
+            return HOURS_BETWEEN_PROBE.end(start, 0L);
+        }
+        long days = CalendarTable.epochDay(endDateTime.toLocalDate()) - CalendarTable.epochDay(startDateTime.toLocalDate());
+        long seconds = days * 86_400 + endDateTime.toLocalTime().toSecondOfDay() - startDateTime.toLocalTime().toSecondOfDay();
+        int nanos = endDateTime.getNano() - startDateTime.getNano();
+        // only whole hours count, so a partial second never completes one
+        if (seconds > 0 && nanos < 0) {
+            seconds--;
+        } else if (seconds < 0 && nanos > 0) {
+            seconds++;
         }
-        return ChronoUnit.HOURS.between(startDateTime, endDateTime);
+        return HOURS_BETWEEN_PROBE.end(start, seconds / 3600);
     }
 
     /**
@@ -173,6 +247,18 @@ public final class DateUtils {
         return date.plusDays(days);
     }
 
+    /**
+     * Adds days to a packed date, without creating LocalDates.
+     *
+     * @param ymd the base date, packed with {@link CalendarTable#ymd(int, int, int)}
+     * @param days the number of days to add
+     * @return the new date, packed
+     * @throws IllegalArgumentException if the packed date is invalid or the result does not fit
+     */
+    public static int addDays(int ymd, long days) {
+        return CalendarTable.toYmd(Math.addExact(CalendarTable.epochDay(ymd), days));
+    }
+
     /**
      * Subtracts days from a date.
      *
@@ -186,4 +272,141 @@ public final class DateUtils {
         }
         return date.minusDays(days);
     }
+
+    /**
+     * Subtracts days from a packed date, without creating LocalDates.
+     *
+     * @param ymd the base date, packed with {@link CalendarTable#ymd(int, int, int)}
+     * @param days the number of days to subtract
+     * @return the new date, packed
+     * @throws IllegalArgumentException if the packed date is invalid or the result does not fit
+     */
+    public static int subtractDays(int ymd, long days) {
+        return CalendarTable.toYmd(Math.subtractExact(CalendarTable.epochDay(ymd), days));
+    }
+
+    /**
+     * Converts an instant to the local date-time in a zone, without creating a ZonedDateTime.
+     *
+     * @param epochSecond the instant, in seconds since 1970-01-01T00:00Z
+     * @param zone the zone
+     * @return the local date-time
+     * @throws IllegalArgumentException if the zone is null
+     * @see ZoneTable
+     */
+    public static LocalDateTime toLocalDateTime(long epochSecond, ZoneId zone) {
+        return LocalDateTime.ofEpochSecond(ZoneTable.of(zone).toLocalEpochSecond(epochSecond), 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Converts a local date-time in a zone to an instant, resolving gaps and overlaps like
+     * {@link LocalDateTime#atZone(ZoneId)}. Fractions of a second are dropped.
+     *
+     * @param dateTime the local date-time
+     * @param zone the zone
+     * @return the instant in seconds since 1970-01-01T00:00Z
+     * @throws IllegalArgumentException if the date-time or the zone is null
+     * @see ZoneTable
+     */
+    public static long toEpochSecond(LocalDateTime dateTime, ZoneId zone) {
+        if (dateTime == null) {
+            throw new IllegalArgumentException("Date-time cannot be null");
+        }
+        return ZoneTable.of(zone).toEpochSecond(dateTime.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    /**
+     * Converts instants to local date-times in a zone, as local epoch seconds.
+     *
+     * @param epochSeconds the instants, in seconds since 1970-01-01T00:00Z
+     * @param zone the zone
+     * @return a new array with the local epoch seconds
+     * @throws IllegalArgumentException if the array or the zone is null
+     * @see ZoneTable
+     */
+    public static long[] toLocalEpochSeconds(long[] epochSeconds, ZoneId zone) {
+        if (epochSeconds == null) {
+            throw new IllegalArgumentException("Epoch seconds cannot be null");
+        }
+        long[] result = new long[epochSeconds.length];
+        toLocalEpochSeconds(epochSeconds, zone, result);
+        return result;
+    }
+
+    /**
+     * Converts instants to local date-times in a zone, as local epoch seconds, into a
+     * destination array, which may be the input.
+     *
+     * @param epochSeconds the instants, in seconds since 1970-01-01T00:00Z
+     * @param zone the zone
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array or the zone is null, or the lengths differ
+     * @see ZoneTable
+     */
+    public static void toLocalEpochSeconds(long[] epochSeconds, ZoneId zone, long[] dest) {
+        checkSameLength(epochSeconds, dest);
+        ZoneTable.toLocalEpochSeconds(zone, epochSeconds, 0, dest, 0, dest.length);
+    }
+
+    /**
+     * Converts local date-times in a zone, given as local epoch seconds, to instants.
+     *
+     * @param localEpochSeconds the local epoch seconds
+     * @param zone the zone
+     * @return a new array with the instants in seconds since 1970-01-01T00:00Z
+     * @throws IllegalArgumentException if the array or the zone is null
+     * @see ZoneTable
+     */
+    public static long[] toEpochSeconds(long[] localEpochSeconds, ZoneId zone) {
+        if (localEpochSeconds == null) {
+            throw new IllegalArgumentException("Local epoch seconds cannot be null");
+        }
+        long[] result = new long[localEpochSeconds.length];
+        toEpochSeconds(localEpochSeconds, zone, result);
+        return result;
+    }
+
+    /**
+     * Converts local date-times in a zone, given as local epoch seconds, to instants into a
+     * destination array, which may be the input.
+     *
+     * @param localEpochSeconds the local epoch seconds
+     * @param zone the zone
+     * @param dest the destination array
+     * @throws IllegalArgumentException if an array or the zone is null, or the lengths differ
+     * @see ZoneTable
+     */
+    public static void toEpochSeconds(long[] localEpochSeconds, ZoneId zone, long[] dest) {
+        checkSameLength(localEpochSeconds, dest);
+        ZoneTable.toEpochSeconds(zone, localEpochSeconds, 0, dest, 0, dest.length);
+    }
+
+    private static void checkSameLength(long[] values, long[] dest) {
+        if (values == null || dest == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        if (values.length != dest.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+    }
+
+    /**
+     * Gets the formatter for a pattern, compiling and caching it on first use. Like
+     * {@link DateTimeFormatter#ofPattern(String)}, it uses the current default format locale;
+     * {@code withLocale} returns the cached formatter itself while that locale is unchanged.
+     */
+    private static DateTimeFormatter formatter(String pattern) {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        DateTimeFormatter formatter = FORMATTERS.get(pattern);
+        if (formatter != null) {
+            return formatter.withLocale(locale);
+        }
+        formatter = DateTimeFormatter.ofPattern(pattern, locale);
+        boolean cached = FORMATTERS.size() < MAX_CACHED_FORMATTERS;
+        if (cached) {
+            FORMATTERS.putIfAbsent(pattern, formatter);
+        }
+        FormatterCacheMissEvent.emit(pattern, FORMATTERS.size(), cached);
+        return formatter;
+    }
 }
@@ -0,0 +1,235 @@
+package com.berkeposlu.javautils;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Validation statistics grouped by email domain or URL host, with the most frequent ones
+ * among accepted and rejected inputs, e.g.
+ * <pre>
+ * DomainStats stats = DomainStats.forEmails(1024);
+ * executor.validate(emails, stats);
+ * stats.topRejected(10);
+ * </pre>
+ * As a validator it delegates to {@link ValidationUtils#isValidEmail(String)} or
+ * {@link ValidationUtils#isValidUrl(String)} and records the domain of the input in a
+ * {@link HeavyHitters} tracker for accepted or for rejected inputs. Inputs checked by other
+ * means can be recorded with {@link #record(CharSequence, boolean)}. Memory is fixed by the
+ * capacity; no input is stored, only up to capacity domains per tracker, each cut to
+ * {@value #MAX_DOMAIN_LENGTH} characters.
+ * <p>
+ * The domain of an email is everything after its last {@code @}. The host of a URL is
+ * everything between {@code ://} and the first {@code /}, {@code ?} or {@code #}, without
+ * user info and port, as in {@link UrlParts}. Domains are compared ignoring ASCII case and
+ * reported in lower case; rejected inputs without a domain are counted under the empty key.
+ * The instance is thread-safe.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class DomainStats implements Predicate<String> {
+
+    /** Longest domain recorded, the maximum length of a domain name (RFC 1035). */
+    public static final int MAX_DOMAIN_LENGTH = 255;
+
+    private final boolean urls;
+    private final HeavyHitters accepted;
+    private final HeavyHitters rejected;
+
+    private DomainStats(boolean urls, int capacity) {
+        this.urls = urls;
+        this.accepted = new HeavyHitters(capacity, true);
+        this.rejected = new HeavyHitters(capacity, true);
+    }
+
+    /**
+     * Creates statistics for email validation, grouped by domain.
+     *
+     * @param capacity the number of domains tracked for accepted and for rejected inputs each
+     * @return the statistics
+     * @throws IllegalArgumentException if the capacity is not between 1 and {@value HeavyHitters#MAX_CAPACITY}
+     */
+    public static DomainStats forEmails(int capacity) {
+        return new DomainStats(false, capacity);
+    }
+
+    /**
+     * Creates statistics for URL validation, grouped by host.
+     *
+     * @param capacity the number of hosts tracked for accepted and for rejected inputs each
+     * @return the statistics
+     * @throws IllegalArgumentException if the capacity is not between 1 and {@value HeavyHitters#MAX_CAPACITY}
+     */
+    public static DomainStats forUrls(int capacity) {
+        return new DomainStats(true, capacity);
+    }
+
+    /**
+     * Validates an input and records its domain.
+     *
+     * @param input the email or URL to validate; null inputs are rejected without being recorded
+     * @return the validation result
+     */
+    @Override
+    public boolean test(String input) {
+        boolean valid = urls ? ValidationUtils.isValidUrl(input) : ValidationUtils.isValidEmail(input);
+        if (input != null) {
+            record(input, valid);
+        }
+        return valid;
+    }
+
+    /**
+     * Records the domain of an input validated elsewhere.
+     *
+     * @param input the email or URL
+     * @param valid whether the input was accepted
+     * @throws IllegalArgumentException if the input is null
+     */
+    public void record(CharSequence input, boolean valid) {
+        if (input == null) {
+            throw new IllegalArgumentException("Input cannot be null");
+        }
+        HeavyHitters tracker = valid ? accepted : rejected;
+        int start = urls ? hostStart(input) : emailDomainStart(input);
+        if (start < 0) {
+            tracker.add(input, 0, 0);
+            return;
+        }
+        int end = urls ? hostEnd(input, start) : input.length();
+        tracker.add(input, start, Math.min(end, start + MAX_DOMAIN_LENGTH));
+    }
+
+    private static int emailDomainStart(CharSequence email) {
+        for (int i = email.length() - 1; i >= 0; i--) {
+            if (email.charAt(i) == '@') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the start of the host after {@code ://} and any user info, or -1 if the scheme
+     * is not followed by {@code //}.
+     */
+    private static int hostStart(CharSequence url) {
+        int length = url.length();
+        int colon = -1;
+        for (int i = 0; i < length; i++) {
+            if (url.charAt(i) == ':') {
+                colon = i;
+                break;
+            }
+        }
+        if (colon < 0 || colon + 2 >= length || url.charAt(colon + 1) != '/' || url.charAt(colon + 2) != '/') {
+            return -1;
+        }
+        int start = colon + 3;
+        for (int i = start; i < length; i++) {
+            char c = url.charAt(i);
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            }
+            if (c == '@') {
+                start = i + 1;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Finds the end of the host, before the port if the last colon is followed only by digits.
+     */
+    private static int hostEnd(CharSequence url, int start) {
+        int end = start;
+        int colon = -1;
+        boolean portDigits = false;
+        for (; end < url.length(); end++) {
+            char c = url.charAt(end);
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            }
+            if (c == ':') {
+                colon = end;
+                portDigits = true;
+            } else if (c < '0' || c > '9') {
+                portDigits = false;
+            }
+        }
+        return colon >= 0 && portDigits ? colon : end;
+    }
+
+    /**
+     * Gets the most frequent domains among accepted inputs.
+     *
+     * @param k the maximum number of domains
+     * @return the domains with the highest counts, highest first
+     * @throws IllegalArgumentException if k is negative
+     */
+    public List<HeavyHitters.Entry> topAccepted(int k) {
+        return accepted.topK(k);
+    }
+
+    /**
+     * Gets the most frequent domains among rejected inputs.
+     *
+     * @param k the maximum number of domains
+     * @return the domains with the highest counts, highest first
+     * @throws IllegalArgumentException if k is negative
+     */
+    public List<HeavyHitters.Entry> topRejected(int k) {
+        return rejected.topK(k);
+    }
+
+    /**
+     * Gets the tracker of accepted inputs.
+     *
+     * @return the tracker, whose total is the number of accepted inputs
+     */
+    public HeavyHitters getAccepted() {
+        return accepted;
+    }
+
+    /**
+     * Gets the tracker of rejected inputs.
+     *
+     * @return the tracker, whose total is the number of rejected inputs
+     */
+    public HeavyHitters getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Adds the statistics of another instance to this one, e.g. per-thread statistics into a
+     * shared one. The other instance is not changed.
+     *
+     * @param other the statistics to merge
+     * @throws IllegalArgumentException if the other statistics are null, for the other kind of
+     *                                  input or of a different capacity
+     */
+    public void merge(DomainStats other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Stats cannot be null");
+        }
+        if (other.urls != urls) {
+            throw new IllegalArgumentException("Cannot merge email and URL stats");
+        }
+        accepted.merge(other.accepted);
+        rejected.merge(other.rejected);
+    }
+
+    /**
+     * Removes all recorded inputs.
+     */
+    public void reset() {
+        accepted.reset();
+        rejected.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "DomainStats[" + (urls ? "urls" : "emails") + ", accepted=" + accepted.getTotal()
+                + ", rejected=" + rejected.getTotal() + ", topRejected=" + topRejected(3) + "]";
+    }
+}
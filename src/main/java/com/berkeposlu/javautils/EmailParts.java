@@ -0,0 +1,158 @@
+package com.berkeposlu.javautils;
+
+/**
+ * A reusable result of validating an email address and locating its parts in one pass.
+ * <p>
+ * {@link #parse(CharSequence)} accepts the same addresses as
+ * {@link ValidationUtils#isValidEmailBounded(String)} and records where the local part,
+ * the domain and the top-level domain are, e.g.
+ * <pre>
+ * EmailParts parts = new EmailParts();
+ * for (String email : emails) {
+ *     if (parts.parse(email)) {
+ *         countByDomain(parts.get(EmailParts.Component.DOMAIN));
+ *     }
+ * }
+ * </pre>
+ * The parts are offsets into the input and {@link #get(Component)} returns a view of the
+ * input rather than a copy, so a parse allocates nothing. Views are only valid until the
+ * next parse; call {@code toString()} on a view to keep it. An instance is not
+ * thread-safe; use one per thread.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class EmailParts {
+
+    /**
+     * A part of an email address.
+     */
+    public enum Component {
+
+        /** The part before the {@code @}, e.g. {@code john.doe} in {@code john.doe@mail.example.com}. */
+        LOCAL_PART,
+
+        /** The part after the {@code @}, e.g. {@code mail.example.com}. */
+        DOMAIN,
+
+        /** The last label of the domain, e.g. {@code com}. */
+        TOP_LEVEL_DOMAIN
+    }
+
+    private static final Component[] COMPONENTS = Component.values();
+
+    private final int[] starts = new int[COMPONENTS.length];
+    private final int[] ends = new int[COMPONENTS.length];
+    private final CharView[] views = new CharView[COMPONENTS.length];
+    private boolean valid;
+
+    /**
+     * Creates an empty result.
+     */
+    public EmailParts() {
+        for (int i = 0; i < views.length; i++) {
+            views[i] = new CharView();
+        }
+        clear();
+    }
+
+    /**
+     * Validates an email address and locates its parts.
+     *
+     * @param email the email to parse, may be null
+     * @return true if the email is valid, false otherwise; the parts are then empty
+     */
+    public boolean parse(CharSequence email) {
+        valid = ValidationUtils.scanEmail(email, this);
+        if (!valid) {
+            clear();
+        }
+        return valid;
+    }
+
+    /**
+     * Records the parts of a valid address, called by the scan.
+     *
+     * @param email the address
+     * @param at the index of the {@code @}
+     * @param lastDot the index of the last dot of the domain
+     */
+    void set(CharSequence email, int at, int lastDot) {
+        int length = email.length();
+        setComponent(email, Component.LOCAL_PART, 0, at);
+        setComponent(email, Component.DOMAIN, at + 1, length);
+        setComponent(email, Component.TOP_LEVEL_DOMAIN, lastDot + 1, length);
+    }
+
+    private void setComponent(CharSequence email, Component component, int start, int end) {
+        int i = component.ordinal();
+        starts[i] = start;
+        ends[i] = end;
+        views[i].set(email, start, end);
+    }
+
+    private void clear() {
+        for (int i = 0; i < views.length; i++) {
+            starts[i] = -1;
+            ends[i] = -1;
+            views[i].clear();
+        }
+    }
+
+    /**
+     * Checks whether the last parsed address was valid.
+     *
+     * @return true if the last parse succeeded
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Gets a part of the last parsed address as a view of the input.
+     *
+     * @param component the part
+     * @return the part, empty if the last parse failed
+     * @throws IllegalArgumentException if the component is null
+     */
+    public CharSequence get(Component component) {
+        return views[index(component)];
+    }
+
+    /**
+     * Gets the index where a part starts in the input.
+     *
+     * @param component the part
+     * @return the start index, inclusive, or -1 if the last parse failed
+     * @throws IllegalArgumentException if the component is null
+     */
+    public int start(Component component) {
+        return starts[index(component)];
+    }
+
+    /**
+     * Gets the index where a part ends in the input.
+     *
+     * @param component the part
+     * @return the end index, exclusive, or -1 if the last parse failed
+     * @throws IllegalArgumentException if the component is null
+     */
+    public int end(Component component) {
+        return ends[index(component)];
+    }
+
+    private static int index(Component component) {
+        if (component == null) {
+            throw new IllegalArgumentException("Component cannot be null");
+        }
+        return component.ordinal();
+    }
+
+    @Override
+    public String toString() {
+        if (!valid) {
+            return "EmailParts[invalid]";
+        }
+        return "EmailParts[localPart=" + get(Component.LOCAL_PART) + ", domain=" + get(Component.DOMAIN) + "]";
+    }
+}
@@ -0,0 +1,175 @@
+package com.berkeposlu.javautils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parser for fixed-width numeric date patterns such as {@code yyyy-MM-dd},
+ * {@code dd.MM.yyyy} or {@code yyyy-MM-dd HH:mm:ss.SSS}, straight into primitives.
+ * <p>
+ * Supported are the letters {@code yyyy}/{@code uuuu}, {@code MM}, {@code dd}, {@code HH},
+ * {@code mm}, {@code ss} and {@code SSS} with exactly these widths, separated by literal
+ * non-letter characters. Inputs are accepted only if they match the layout exactly and
+ * every field is in range; everything else is reported as {@link #NO_MATCH} so that
+ * callers can fall back to {@link DateUtils}, which then parses it or throws. Day-of-month
+ * values beyond the end of the month are clamped the same way as the SMART resolver of
+ * {@link java.time.format.DateTimeFormatter} clamps them, so the result always equals the
+ * one from DateUtils.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+final class FixedDateFormat {
+
+    /** Returned by the parse methods if the input does not match the layout. */
+    static final long NO_MATCH = Long.MIN_VALUE;
+
+    private static final int MAX_CACHED_FORMATS = 256;
+    private static final FixedDateFormat UNSUPPORTED = new FixedDateFormat(new char[0], new int[0]);
+    private static final Map<String, FixedDateFormat> FORMATS = new ConcurrentHashMap<>();
+
+    private static final int YEAR = 0;
+    private static final int MONTH = 1;
+    private static final int DAY = 2;
+    private static final int HOUR = 3;
+    private static final int MINUTE = 4;
+    private static final int SECOND = 5;
+    private static final int MILLI = 6;
+    private static final String LETTERS = "yMdHmsS";
+    private static final int[] WIDTHS = {4, 2, 2, 2, 2, 2, 3};
+
+    /** Marks a digit position in the layout. */
+    private static final char DIGIT = '\0';
+
+    private final char[] layout;
+    private final int[] offsets;
+
+    private FixedDateFormat(char[] layout, int[] offsets) {
+        this.layout = layout;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Compiles a pattern.
+     *
+     * @param pattern the DateTimeFormatter pattern
+     * @return the format, or null if the pattern is not a supported fixed-width pattern
+     */
+    static FixedDateFormat compile(String pattern) {
+        FixedDateFormat format = FORMATS.get(pattern);
+        if (format == null) {
+            format = doCompile(pattern);
+            if (FORMATS.size() < MAX_CACHED_FORMATS) {
+                FORMATS.putIfAbsent(pattern, format);
+            }
+        }
+        return format == UNSUPPORTED ? null : format;
+    }
+
+    private static FixedDateFormat doCompile(String pattern) {
+        char[] layout = pattern.toCharArray();
+        int[] offsets = {-1, -1, -1, -1, -1, -1, -1};
+        for (int i = 0; i < layout.length; ) {
+            char ch = layout[i];
+            // quotes, optional sections and reserved characters are syntax, not separators
+            if (ch == '\'' || ch == DIGIT || ch == '[' || ch == ']' || ch == '{' || ch == '}' || ch == '#') {
+                return UNSUPPORTED;
+            }
+            if (!Character.isLetter(ch)) {
+                i++;
+                continue;
+            }
+            int field = LETTERS.indexOf(ch == 'u' ? 'y' : ch);
+            int run = 1;
+            while (i + run < layout.length && layout[i + run] == ch) {
+                run++;
+            }
+            if (field < 0 || run != WIDTHS[field] || offsets[field] >= 0) {
+                return UNSUPPORTED;
+            }
+            offsets[field] = i;
+            for (int j = 0; j < run; j++) {
+                layout[i + j] = DIGIT;
+            }
+            i += run;
+        }
+        boolean date = offsets[YEAR] >= 0 && offsets[MONTH] >= 0 && offsets[DAY] >= 0;
+        boolean time = offsets[HOUR] >= 0 && offsets[MINUTE] >= 0;
+        boolean partialTime = offsets[HOUR] >= 0 || offsets[MINUTE] >= 0 || offsets[SECOND] >= 0;
+        boolean fraction = offsets[MILLI] < 0 || offsets[SECOND] >= 0;
+        if (!date || (partialTime && !time) || !fraction) {
+            return UNSUPPORTED;
+        }
+        return new FixedDateFormat(layout, offsets);
+    }
+
+    /**
+     * Checks whether the pattern has time fields.
+     *
+     * @return true if the pattern contains hours and minutes
+     */
+    boolean hasTime() {
+        return offsets[HOUR] >= 0;
+    }
+
+    /**
+     * Parses a date, ignoring any time fields.
+     *
+     * @param text the text
+     * @return the epoch day, or {@link #NO_MATCH}
+     */
+    long parseEpochDay(CharSequence text) {
+        if (!matchesLayout(text)) {
+            return NO_MATCH;
+        }
+        int year = number(text, YEAR);
+        int month = number(text, MONTH);
+        int day = number(text, DAY);
+        if (year == 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return NO_MATCH;
+        }
+        return CalendarTable.epochDay(year, month, Math.min(day, CalendarTable.lengthOfMonth(year, month)));
+    }
+
+    /**
+     * Parses a date-time into milliseconds since 1970-01-01T00:00 on the local time line.
+     *
+     * @param text the text
+     * @return the epoch milliseconds, or {@link #NO_MATCH}
+     */
+    long parseEpochMilli(CharSequence text) {
+        long epochDay = parseEpochDay(text);
+        if (epochDay == NO_MATCH || !hasTime()) {
+            return NO_MATCH;
+        }
+        int hour = number(text, HOUR);
+        int minute = number(text, MINUTE);
+        int second = offsets[SECOND] >= 0 ? number(text, SECOND) : 0;
+        int milli = offsets[MILLI] >= 0 ? number(text, MILLI) : 0;
+        if (hour > 23 || minute > 59 || second > 59) {
+            return NO_MATCH;
+        }
+        return ((epochDay * 24 + hour) * 60 + minute) * 60_000 + second * 1000L + milli;
+    }
+
+    private boolean matchesLayout(CharSequence text) {
+        if (text == null || text.length() != layout.length) {
+            return false;
+        }
+        for (int i = 0; i < layout.length; i++) {
+            char ch = text.charAt(i);
+            if (layout[i] == DIGIT ? ch < '0' || ch > '9' : ch != layout[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int number(CharSequence text, int field) {
+        int value = 0;
+        for (int i = offsets[field], end = i + WIDTHS[field]; i < end; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+}
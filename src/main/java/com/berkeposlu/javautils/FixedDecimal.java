@@ -0,0 +1,530 @@
+package com.berkeposlu.javautils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Exact fixed-point decimal arithmetic on plain {@code long} values.
+ * <p>
+ * A {@code FixedDecimal} instance describes a scale (the number of decimal places)
+ * and offers the {@link Calculator} operations on unscaled {@code long} values of that
+ * scale, e.g. with scale 2 the value {@code 1234L} means 12.34. Values stay primitive,
+ * so no objects are allocated on the hot path. Results are rounded {@code HALF_UP} like
+ * {@link Calculator#round(double, int)}, and every operation throws an
+ * {@link ArithmeticException} instead of silently overflowing.
+ * <p>
+ * Instances are immutable and thread-safe; {@link Accumulator} is not.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class FixedDecimal {
+
+    /** The largest supported scale; keeps 100 * 10^scale within a long. */
+    public static final int MAX_SCALE = 15;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    private static final FixedDecimal[] INSTANCES = new FixedDecimal[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+        for (int i = 0; i <= MAX_SCALE; i++) {
+            INSTANCES[i] = new FixedDecimal(i);
+        }
+    }
+
+    private final int scale;
+    private final long factor;
+
+    private FixedDecimal(int scale) {
+        this.scale = scale;
+        this.factor = POWERS_OF_TEN[scale];
+    }
+
+    /**
+     * Returns the fixed-point arithmetic for the given number of decimal places.
+     *
+     * @param scale the number of decimal places
+     * @return the fixed-point arithmetic for that scale
+     * @throws IllegalArgumentException if the scale is negative or greater than {@link #MAX_SCALE}
+     */
+    public static FixedDecimal ofScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE);
+        }
+        return INSTANCES[scale];
+    }
+
+    /**
+     * Gets the number of decimal places.
+     *
+     * @return the scale
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * Converts a whole number into a fixed-point value.
+     *
+     * @param units the whole number
+     * @return the fixed-point value
+     * @throws ArithmeticException if the result overflows
+     */
+    public long valueOf(long units) {
+        return Math.multiplyExact(units, factor);
+    }
+
+    /**
+     * Converts a double into a fixed-point value, rounding like {@link Calculator#round(double, int)}.
+     *
+     * @param value the value
+     * @return the fixed-point value
+     * @throws ArithmeticException if the value is not finite or the result overflows
+     */
+    public long fromDouble(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new ArithmeticException("Cannot convert " + value + " to a fixed-point value");
+        }
+        double scaled = Calculator.round(value, scale) * factor;
+        if (Math.abs(scaled) < 0x1p51) {
+            // the rounded double is the closest double to n / 10^scale, and multiplying it back
+            // is off by less than 2^-52 * n, so below 2^51 this recovers n exactly
+            return Math.round(scaled);
+        }
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Parses a decimal string such as {@code "-12.345"} into a fixed-point value.
+     * Extra decimal places are rounded HALF_UP.
+     *
+     * @param str the string to parse
+     * @return the fixed-point value
+     * @throws NumberFormatException if the string is not a plain decimal number
+     * @throws ArithmeticException if the result overflows
+     */
+    public long parse(String str) {
+        if (StringUtils.isEmpty(str)) {
+            throw new NumberFormatException("Empty decimal string");
+        }
+        int length = str.length();
+        int i = 0;
+        boolean negative = false;
+        char first = str.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+        long result = 0;
+        int fractionDigits = 0;
+        boolean seenPoint = false;
+        boolean seenDigit = false;
+        boolean roundUp = false;
+        for (; i < length; i++) {
+            char c = str.charAt(i);
+            if (c == '.' && !seenPoint) {
+                seenPoint = true;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Invalid decimal string: " + str);
+            }
+            seenDigit = true;
+            if (seenPoint && fractionDigits >= scale) {
+                // first dropped digit decides HALF_UP, the rest is only validated
+                if (fractionDigits++ == scale) {
+                    roundUp = c >= '5';
+                }
+                continue;
+            }
+            if (seenPoint) {
+                fractionDigits++;
+            }
+            // accumulated as a negative number, whose range includes Long.MIN_VALUE
+            result = Math.subtractExact(Math.multiplyExact(result, 10), c - '0');
+        }
+        if (!seenDigit) {
+            throw new NumberFormatException("Invalid decimal string: " + str);
+        }
+        if (fractionDigits < scale) {
+            result = Math.multiplyExact(result, POWERS_OF_TEN[scale - fractionDigits]);
+        }
+        if (roundUp) {
+            result = Math.subtractExact(result, 1);
+        }
+        return negative ? result : Math.negateExact(result);
+    }
+
+    /**
+     * Formats a fixed-point value as a plain decimal string with exactly {@link #getScale()} decimal places.
+     *
+     * @param value the fixed-point value
+     * @return the decimal string
+     */
+    public String toString(long value) {
+        return toBigDecimal(value).toPlainString();
+    }
+
+    /**
+     * Converts a fixed-point value into the closest double.
+     *
+     * @param value the fixed-point value
+     * @return the double value
+     */
+    public double toDouble(long value) {
+        if (Math.abs(value) < (1L << 53)) {
+            // both operands are exact, so the division is correctly rounded
+            return value / (double) factor;
+        }
+        return toBigDecimal(value).doubleValue();
+    }
+
+    /**
+     * Converts a fixed-point value into a BigDecimal.
+     *
+     * @param value the fixed-point value
+     * @return the BigDecimal value
+     */
+    public BigDecimal toBigDecimal(long value) {
+        return BigDecimal.valueOf(value, scale);
+    }
+
+    /**
+     * Adds two fixed-point values.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return the sum
+     * @throws ArithmeticException if the result overflows
+     */
+    public long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    /**
+     * Subtracts two fixed-point values.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return the difference
+     * @throws ArithmeticException if the result overflows
+     */
+    public long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    /**
+     * Multiplies two fixed-point values.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return the product, rounded HALF_UP
+     * @throws ArithmeticException if the result overflows
+     */
+    public long multiply(long a, long b) {
+        return mulDiv(a, b, factor);
+    }
+
+    /**
+     * Divides two fixed-point values.
+     *
+     * @param a the dividend
+     * @param b the divisor
+     * @return the quotient, rounded HALF_UP
+     * @throws ArithmeticException if the divisor is zero or the result overflows
+     */
+    public long divide(long a, long b) {
+        if (b == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        return mulDiv(a, factor, b);
+    }
+
+    /**
+     * Calculates the percentage of a value relative to a total.
+     *
+     * @param value the value
+     * @param total the total
+     * @return the percentage, or 0 if the total is 0
+     * @throws ArithmeticException if the result overflows
+     * @see Calculator#percentage(double, double)
+     */
+    public long percentage(long value, long total) {
+        if (total == 0) {
+            return 0;
+        }
+        return mulDiv(value, 100 * factor, total);
+    }
+
+    /**
+     * Calculates a percentage of a value.
+     *
+     * @param value the value
+     * @param percentage the percentage
+     * @return the calculated amount, rounded HALF_UP
+     * @throws ArithmeticException if the result overflows
+     * @see Calculator#percentageOf(double, double)
+     */
+    public long percentageOf(long value, long percentage) {
+        return mulDiv(value, percentage, 100 * factor);
+    }
+
+    /**
+     * Rounds a fixed-point value to fewer decimal places, keeping the scale.
+     *
+     * @param value the fixed-point value
+     * @param decimalPlaces the number of decimal places to keep
+     * @return the rounded value
+     * @throws IllegalArgumentException if decimalPlaces is negative
+     * @throws ArithmeticException if the result overflows
+     * @see Calculator#round(double, int)
+     */
+    public long round(long value, int decimalPlaces) {
+        if (decimalPlaces < 0) {
+            throw new IllegalArgumentException("Decimal places cannot be negative");
+        }
+        if (decimalPlaces >= scale) {
+            return value;
+        }
+        long unit = POWERS_OF_TEN[scale - decimalPlaces];
+        return Math.multiplyExact(mulDiv(value, 1, unit), unit);
+    }
+
+    /**
+     * Sums a column of fixed-point values.
+     *
+     * @param values the values
+     * @return the sum, or 0 for a null or empty array
+     * @throws ArithmeticException if the result overflows
+     */
+    public long sum(long... values) {
+        if (values == null) {
+            return 0;
+        }
+        long sum = 0;
+        for (long value : values) {
+            sum = Math.addExact(sum, value);
+        }
+        return sum;
+    }
+
+    /**
+     * Adds two columns element by element into a destination column, which may be one of the inputs.
+     *
+     * @param a the first values
+     * @param b the second values
+     * @param dest the destination column
+     * @throws IllegalArgumentException if a column is null or the lengths differ
+     * @throws ArithmeticException if a result overflows
+     */
+    public void add(long[] a, long[] b, long[] dest) {
+        checkSameLength(a, b, dest);
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = Math.addExact(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Subtracts two columns element by element into a destination column, which may be one of the inputs.
+     *
+     * @param a the values to subtract from
+     * @param b the values to subtract
+     * @param dest the destination column
+     * @throws IllegalArgumentException if a column is null or the lengths differ
+     * @throws ArithmeticException if a result overflows
+     */
+    public void subtract(long[] a, long[] b, long[] dest) {
+        checkSameLength(a, b, dest);
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = Math.subtractExact(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Multiplies two columns element by element into a destination column, which may be one of the inputs.
+     *
+     * @param a the first values
+     * @param b the second values
+     * @param dest the destination column
+     * @throws IllegalArgumentException if a column is null or the lengths differ
+     * @throws ArithmeticException if a result overflows
+     */
+    public void multiply(long[] a, long[] b, long[] dest) {
+        checkSameLength(a, b, dest);
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = mulDiv(a[i], b[i], factor);
+        }
+    }
+
+    /**
+     * Multiplies every element of a column by the same fixed-point value.
+     *
+     * @param values the values
+     * @param b the factor
+     * @param dest the destination column, which may be the input
+     * @throws IllegalArgumentException if a column is null or the lengths differ
+     * @throws ArithmeticException if a result overflows
+     */
+    public void multiply(long[] values, long b, long[] dest) {
+        checkSameLength(values, dest, dest);
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = mulDiv(values[i], b, factor);
+        }
+    }
+
+    /**
+     * Calculates the same percentage of every element of a column.
+     *
+     * @param values the values
+     * @param percentage the percentage
+     * @param dest the destination column, which may be the input
+     * @throws IllegalArgumentException if a column is null or the lengths differ
+     * @throws ArithmeticException if a result overflows
+     */
+    public void percentageOf(long[] values, long percentage, long[] dest) {
+        checkSameLength(values, dest, dest);
+        long divisor = 100 * factor;
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = mulDiv(values[i], percentage, divisor);
+        }
+    }
+
+    /**
+     * Creates a mutable accumulator for this scale.
+     *
+     * @return a new accumulator starting at zero
+     */
+    public Accumulator newAccumulator() {
+        return new Accumulator(this);
+    }
+
+    @Override
+    public String toString() {
+        return "FixedDecimal[scale=" + scale + "]";
+    }
+
+    private static void checkSameLength(long[] a, long[] b, long[] c) {
+        if (a == null || b == null || c == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (a.length != b.length || a.length != c.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+    }
+
+    /**
+     * Calculates a * b / c rounded HALF_UP, using 128-bit arithmetic only when a * b overflows.
+     */
+    private static long mulDiv(long a, long b, long c) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            return divideHalfUp(low, c);
+        }
+        BigInteger[] qr = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b))
+                .divideAndRemainder(BigInteger.valueOf(c));
+        BigInteger quotient = qr[0];
+        if (qr[1].abs().shiftLeft(1).compareTo(BigInteger.valueOf(c).abs()) >= 0) {
+            quotient = quotient.add(BigInteger.valueOf(qr[1].signum() * Long.signum(c)));
+        }
+        return quotient.longValueExact();
+    }
+
+    private static long divideHalfUp(long n, long d) {
+        if (d == Long.MIN_VALUE) {
+            // |n| / 2^63 is at most 1; only n == MIN_VALUE reaches the half
+            return n == Long.MIN_VALUE ? 1 : 0;
+        }
+        if (d == -1) {
+            // MIN_VALUE / -1 overflows silently
+            return Math.negateExact(n);
+        }
+        long quotient = n / d;
+        long remainder = n % d;
+        if (Math.abs(remainder) >= Math.abs(d) - Math.abs(remainder)) {
+            return Math.addExact(quotient, (remainder ^ d) < 0 ? -1 : 1);
+        }
+        return quotient;
+    }
+
+    /**
+     * A mutable running total for hot loops, e.g. summing line items of an invoice.
+     * Not thread-safe.
+     */
+    public static final class Accumulator {
+
+        private final FixedDecimal decimal;
+        private long total;
+
+        private Accumulator(FixedDecimal decimal) {
+            this.decimal = decimal;
+        }
+
+        /**
+         * Adds a fixed-point value.
+         *
+         * @param value the value to add
+         * @return this accumulator
+         * @throws ArithmeticException if the total overflows
+         */
+        public Accumulator add(long value) {
+            total = Math.addExact(total, value);
+            return this;
+        }
+
+        /**
+         * Subtracts a fixed-point value.
+         *
+         * @param value the value to subtract
+         * @return this accumulator
+         * @throws ArithmeticException if the total overflows
+         */
+        public Accumulator subtract(long value) {
+            total = Math.subtractExact(total, value);
+            return this;
+        }
+
+        /**
+         * Adds the product of two fixed-point values, e.g. price times quantity.
+         *
+         * @param a the first value
+         * @param b the second value
+         * @return this accumulator
+         * @throws ArithmeticException if the product or the total overflows
+         */
+        public Accumulator addProduct(long a, long b) {
+            total = Math.addExact(total, decimal.multiply(a, b));
+            return this;
+        }
+
+        /**
+         * Gets the current total.
+         *
+         * @return the total as a fixed-point value
+         */
+        public long get() {
+            return total;
+        }
+
+        /**
+         * Resets the total to zero.
+         *
+         * @return this accumulator
+         */
+        public Accumulator reset() {
+            total = 0;
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return decimal.toString(total);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.berkeposlu.javautils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for a {@link DateUtils} formatter cache miss,
+ * i.e. a pattern that had to be compiled into a new {@code DateTimeFormatter}.
+ */
+@Name("com.berkeposlu.javautils.FormatterCacheMiss")
+@Label("Formatter Cache Miss")
+@Description("A DateUtils pattern that was not in the formatter cache")
+@Category({"Java Utils Library", "Date"})
+@StackTrace(true)
+final class FormatterCacheMissEvent extends Event {
+
+    @Label("Pattern")
+    String pattern;
+
+    @Label("Cache Size")
+    int cacheSize;
+
+    @Label("Cached")
+    boolean cached;
+
+    static void emit(String pattern, int cacheSize, boolean cached) {
+        FormatterCacheMissEvent event = new FormatterCacheMissEvent();
+        if (event.shouldCommit()) {
+            event.pattern = pattern;
+            event.cacheSize = cacheSize;
+            event.cached = cached;
+            event.commit();
+        }
+    }
+}
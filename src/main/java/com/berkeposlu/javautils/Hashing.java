@@ -0,0 +1,88 @@
+package com.berkeposlu.javautils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The 64-bit string hash shared by the probabilistic structures: FNV-1a over the UTF-16
+ * chars, finished with the murmur3 fmix64 mixer so that every output bit depends on every
+ * input bit.
+ * <p>
+ * The hash is part of the file format of {@link BlocklistFilter} and the serialized form of
+ * {@link DistinctCounter}, whose saved bits and registers are only valid for the same hash,
+ * so it must never change.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+final class Hashing {
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private Hashing() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Hashes a range of chars.
+     *
+     * @param text the chars
+     * @param start the first index, inclusive
+     * @param end the last index, exclusive
+     * @return the hash
+     */
+    static long hash(CharSequence text, int start, int end) {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = start; i < end; i++) {
+            h = (h ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Hashes a range of chars as if ASCII letters were lower case, so that an ASCII range
+     * hashes like its {@code toLowerCase(Locale.ROOT)} form.
+     *
+     * @param text the chars
+     * @param start the first index, inclusive
+     * @param end the last index, exclusive
+     * @return the hash
+     */
+    static long hashIgnoreAsciiCase(CharSequence text, int start, int end) {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            h = (h ^ (c >= 'A' && c <= 'Z' ? c | 0x20 : c)) * FNV_PRIME;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Hashes the ASCII bytes [from, to) of a buffer like {@link #hash(CharSequence, int, int)}
+     * hashes the same chars.
+     *
+     * @param buffer the bytes
+     * @param from the first index, inclusive
+     * @param to the last index, exclusive
+     * @return the hash
+     */
+    static long hashAscii(ByteBuffer buffer, int from, int to) {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = from; i < to; i++) {
+            h = (h ^ buffer.get(i)) * FNV_PRIME;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Mixes the bits of a 64-bit value (murmur3 fmix64).
+     *
+     * @param h the value
+     * @return the mixed value
+     */
+    static long mix(long h) {
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,550 @@
+package com.berkeposlu.javautils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A concurrent top-K tracker for the most frequent keys of a stream, in fixed memory.
+ * <p>
+ * The tracker keeps {@code capacity} counters with the Space-Saving algorithm: a key that
+ * is already tracked increments its counter, a new key takes over the smallest counter and
+ * inherits its count as error. Each reported count is therefore an upper bound, at most
+ * {@link Entry#getError()} above the true frequency. Capacity should be several times the
+ * number of keys reported; a key is only stored as a String when it takes over a counter,
+ * so adding keys that are already tracked allocates nothing.
+ * <p>
+ * For concurrent use, trackers with at least twice {@value #MIN_STRIPE_CAPACITY}
+ * counters split them into up to {@value #MAX_STRIPES} stripes, each guarded by its own lock
+ * and owning the keys whose hash selects it. Each stripe is a Space-Saving summary of its
+ * own, so the guarantee holds per stripe: a key is tracked once it occurs more often than
+ * its stripe's total divided by the stripe's counters. When keys spread evenly over the
+ * stripes this is about total / capacity, as for a single summary, but a stripe receiving
+ * more than its share of the traffic needs up to stripes times more occurrences. The counts
+ * and errors reported are exact bounds either way. Two trackers of the same capacity can
+ * be merged, e.g. per-thread trackers into a shared one.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class HeavyHitters {
+
+    /** Largest number of counters. */
+    public static final int MAX_CAPACITY = 1 << 24;
+
+    /** Largest number of stripes. */
+    static final int MAX_STRIPES = 16;
+
+    /** Smallest number of counters per stripe when there is more than one. */
+    static final int MIN_STRIPE_CAPACITY = 64;
+
+    private static final Comparator<Entry> BY_COUNT = Comparator.comparingLong(Entry::getCount).reversed()
+            .thenComparing(Entry::getKey);
+
+    private final int capacity;
+    private final boolean ignoreCase;
+    private final Stripe[] stripes;
+    private final int stripeShift;
+
+    /**
+     * Creates a case-sensitive tracker.
+     *
+     * @param capacity the number of counters
+     * @throws IllegalArgumentException if the capacity is not between 1 and {@value #MAX_CAPACITY}
+     */
+    public HeavyHitters(int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * Creates a tracker.
+     *
+     * @param capacity the number of counters
+     * @param ignoreCase whether keys differing only in the case of ASCII letters are counted
+     *                   together, under their lower case form
+     * @throws IllegalArgumentException if the capacity is not between 1 and {@value #MAX_CAPACITY}
+     */
+    public HeavyHitters(int capacity, boolean ignoreCase) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        int count = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, capacity / MIN_STRIPE_CAPACITY)));
+        this.capacity = capacity;
+        this.ignoreCase = ignoreCase;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(capacity / count + (i < capacity % count ? 1 : 0));
+        }
+        // the top hash bits select the stripe, the low bits the slot within it
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(count);
+    }
+
+    /**
+     * Counts one occurrence of a key.
+     *
+     * @param key the key
+     * @throws IllegalArgumentException if the key is null
+     */
+    public void add(CharSequence key) {
+        add(key, 1);
+    }
+
+    /**
+     * Counts occurrences of a key.
+     *
+     * @param key the key
+     * @param count the number of occurrences
+     * @throws IllegalArgumentException if the key is null or the count is not positive
+     */
+    public void add(CharSequence key, long count) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        add(key, 0, key.length(), count);
+    }
+
+    /**
+     * Counts one occurrence of a key given as a range of a longer sequence, without copying
+     * it unless the key takes over a counter.
+     *
+     * @param text the sequence holding the key
+     * @param start the first index of the key, inclusive
+     * @param end the last index of the key, exclusive
+     * @throws IllegalArgumentException if the text is null or the range is out of bounds
+     */
+    public void add(CharSequence text, int start, int end) {
+        add(text, start, end, 1);
+    }
+
+    private void add(CharSequence text, int start, int end, long count) {
+        if (text == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IllegalArgumentException("Invalid range [" + start + ", " + end + ")");
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive");
+        }
+        long hash = hash(text, start, end, ignoreCase);
+        stripeFor(hash).add(text, start, end, hash, count, ignoreCase);
+    }
+
+    /**
+     * Gets the estimated count of a key: its counter if it is tracked, otherwise the largest
+     * count it can have without being tracked.
+     *
+     * @param key the key
+     * @return an upper bound of the number of occurrences
+     * @throws IllegalArgumentException if the key is null
+     */
+    public long getCount(CharSequence key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        long hash = hash(key, 0, key.length(), ignoreCase);
+        return stripeFor(hash).estimate(key, hash, ignoreCase);
+    }
+
+    /**
+     * Gets the most frequent keys. Each stripe is read under its lock, so concurrent adds may
+     * be reflected for some keys and not yet for others.
+     *
+     * @param k the maximum number of keys
+     * @return the keys with the highest counts, highest first
+     * @throws IllegalArgumentException if k is negative
+     */
+    public List<Entry> topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative");
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.entries(entries);
+        }
+        entries.sort(BY_COUNT);
+        return entries.size() <= k ? entries : new ArrayList<>(entries.subList(0, k));
+    }
+
+    /**
+     * Gets the total number of occurrences counted.
+     *
+     * @return the total
+     */
+    public long getTotal() {
+        long total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.total();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of counters.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Adds the counts of another tracker to this one, as if this tracker had also seen the
+     * other's stream. The other tracker is not changed.
+     *
+     * @param other the tracker to merge
+     * @throws IllegalArgumentException if the other tracker is null or differs in capacity or
+     *                                  case sensitivity
+     */
+    public void merge(HeavyHitters other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Tracker cannot be null");
+        }
+        if (other.capacity != capacity || other.ignoreCase != ignoreCase) {
+            throw new IllegalArgumentException("Trackers must have the same capacity and case sensitivity");
+        }
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i].merge(other.stripes[i].copy(), ignoreCase);
+        }
+    }
+
+    /**
+     * Removes all counts.
+     */
+    public void reset() {
+        for (Stripe stripe : stripes) {
+            stripe.reset();
+        }
+    }
+
+    private Stripe stripeFor(long hash) {
+        return stripes.length == 1 ? stripes[0] : stripes[(int) (hash >>> stripeShift)];
+    }
+
+    private static long hash(CharSequence text, int start, int end, boolean ignoreCase) {
+        return ignoreCase ? Hashing.hashIgnoreAsciiCase(text, start, end) : Hashing.hash(text, start, end);
+    }
+
+    private static char fold(char c, boolean ignoreCase) {
+        return ignoreCase && c >= 'A' && c <= 'Z' ? (char) (c | 0x20) : c;
+    }
+
+    @Override
+    public String toString() {
+        return "HeavyHitters[capacity=" + capacity + ", total=" + getTotal() + ", top=" + topK(3) + "]";
+    }
+
+    /**
+     * One Space-Saving summary: the counters in a min-heap by count, found by key through an
+     * open-addressing index of entry numbers.
+     */
+    private static final class Stripe {
+
+        private final int capacity;
+        private final String[] keys;
+        private final long[] hashes;
+        private final long[] counts;
+        private final long[] errors;
+        private final int[] heap;
+        private final int[] heapIndex;
+        private final int[] table;
+        private final int tableMask;
+        private int size;
+        private long total;
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+            this.keys = new String[capacity];
+            this.hashes = new long[capacity];
+            this.counts = new long[capacity];
+            this.errors = new long[capacity];
+            this.heap = new int[capacity];
+            this.heapIndex = new int[capacity];
+            // at most half full, so probe sequences stay short
+            this.table = new int[Integer.highestOneBit(capacity) << 2];
+            this.tableMask = table.length - 1;
+        }
+
+        private Stripe(Stripe source) {
+            this.capacity = source.capacity;
+            this.keys = source.keys.clone();
+            this.hashes = source.hashes.clone();
+            this.counts = source.counts.clone();
+            this.errors = source.errors.clone();
+            this.heap = source.heap.clone();
+            this.heapIndex = source.heapIndex.clone();
+            this.table = source.table.clone();
+            this.tableMask = source.tableMask;
+            this.size = source.size;
+            this.total = source.total;
+        }
+
+        synchronized Stripe copy() {
+            return new Stripe(this);
+        }
+
+        synchronized long total() {
+            return total;
+        }
+
+        synchronized void add(CharSequence text, int start, int end, long hash, long count, boolean ignoreCase) {
+            total += count;
+            int slot = find(text, start, end, hash, ignoreCase);
+            int entry = table[slot] - 1;
+            if (entry >= 0) {
+                counts[entry] += count;
+                siftDown(heapIndex[entry]);
+                return;
+            }
+            String key = key(text, start, end, ignoreCase);
+            if (size < capacity) {
+                entry = size++;
+                keys[entry] = key;
+                hashes[entry] = hash;
+                counts[entry] = count;
+                errors[entry] = 0;
+                table[slot] = entry + 1;
+                heap[entry] = entry;
+                heapIndex[entry] = entry;
+                siftUp(entry);
+                return;
+            }
+            // take over the smallest counter
+            entry = heap[0];
+            unlink(entry);
+            keys[entry] = key;
+            hashes[entry] = hash;
+            errors[entry] = counts[entry];
+            counts[entry] += count;
+            link(entry);
+            siftDown(0);
+        }
+
+        synchronized long estimate(CharSequence key, long hash, boolean ignoreCase) {
+            int entry = table[find(key, 0, key.length(), hash, ignoreCase)] - 1;
+            return entry >= 0 ? counts[entry] : min();
+        }
+
+        synchronized void reset() {
+            Arrays.fill(keys, 0, size, null);
+            Arrays.fill(table, 0);
+            size = 0;
+            total = 0;
+        }
+
+        /**
+         * Merges a copy of the same stripe of another tracker. A key missing from one side may
+         * have occurred there up to that side's smallest count, which is added to its count
+         * and error; of the combined keys the largest counts are kept.
+         */
+        synchronized void merge(Stripe other, boolean ignoreCase) {
+            long thisMin = min();
+            long otherMin = other.min();
+            boolean[] matched = new boolean[size];
+            List<Entry> added = new ArrayList<>();
+            for (int o = 0; o < other.size; o++) {
+                String key = other.keys[o];
+                int entry = table[find(key, 0, key.length(), other.hashes[o], ignoreCase)] - 1;
+                if (entry >= 0) {
+                    counts[entry] += other.counts[o];
+                    errors[entry] += other.errors[o];
+                    matched[entry] = true;
+                } else {
+                    added.add(new Entry(key, other.counts[o] + thisMin, other.errors[o] + thisMin));
+                }
+            }
+            List<Entry> all = new ArrayList<>(size + added.size());
+            for (int e = 0; e < size; e++) {
+                long missed = matched[e] ? 0 : otherMin;
+                all.add(new Entry(keys[e], counts[e] + missed, errors[e] + missed));
+            }
+            all.addAll(added);
+            all.sort(BY_COUNT);
+            long mergedTotal = total + other.total;
+            reset();
+            total = mergedTotal;
+            for (int i = 0; i < Math.min(capacity, all.size()); i++) {
+                Entry source = all.get(i);
+                keys[i] = source.key;
+                hashes[i] = hash(source.key, 0, source.key.length(), ignoreCase);
+                counts[i] = source.count;
+                errors[i] = source.error;
+                link(i);
+                size++;
+            }
+            // sorted by descending count, so the reversed order is a valid min-heap
+            for (int i = 0; i < size; i++) {
+                heap[i] = size - 1 - i;
+                heapIndex[size - 1 - i] = i;
+            }
+        }
+
+        synchronized void entries(List<Entry> out) {
+            for (int e = 0; e < size; e++) {
+                out.add(new Entry(keys[e], counts[e], errors[e]));
+            }
+        }
+
+        private long min() {
+            return size < capacity ? 0 : counts[heap[0]];
+        }
+
+        /**
+         * Finds the index slot holding the key, or the empty slot where it belongs.
+         */
+        private int find(CharSequence text, int start, int end, long hash, boolean ignoreCase) {
+            int slot = (int) hash & tableMask;
+            while (true) {
+                int entry = table[slot] - 1;
+                if (entry < 0 || (hashes[entry] == hash && matches(keys[entry], text, start, end, ignoreCase))) {
+                    return slot;
+                }
+                slot = (slot + 1) & tableMask;
+            }
+        }
+
+        private void link(int entry) {
+            int slot = (int) hashes[entry] & tableMask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & tableMask;
+            }
+            table[slot] = entry + 1;
+        }
+
+        /**
+         * Removes an entry from the index, shifting later entries of its probe sequence back.
+         */
+        private void unlink(int entry) {
+            int hole = (int) hashes[entry] & tableMask;
+            while (table[hole] != entry + 1) {
+                hole = (hole + 1) & tableMask;
+            }
+            for (int next = (hole + 1) & tableMask; table[next] != 0; next = (next + 1) & tableMask) {
+                int home = (int) hashes[table[next] - 1] & tableMask;
+                if (((next - home) & tableMask) >= ((next - hole) & tableMask)) {
+                    table[hole] = table[next];
+                    hole = next;
+                }
+            }
+            table[hole] = 0;
+        }
+
+        private void siftUp(int position) {
+            int entry = heap[position];
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (counts[heap[parent]] <= counts[entry]) {
+                    break;
+                }
+                place(heap[parent], position);
+                position = parent;
+            }
+            place(entry, position);
+        }
+
+        private void siftDown(int position) {
+            int entry = heap[position];
+            while (true) {
+                int child = 2 * position + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && counts[heap[child + 1]] < counts[heap[child]]) {
+                    child++;
+                }
+                if (counts[heap[child]] >= counts[entry]) {
+                    break;
+                }
+                place(heap[child], position);
+                position = child;
+            }
+            place(entry, position);
+        }
+
+        private void place(int entry, int position) {
+            heap[position] = entry;
+            heapIndex[entry] = position;
+        }
+
+        private static boolean matches(String key, CharSequence text, int start, int end, boolean ignoreCase) {
+            if (key.length() != end - start) {
+                return false;
+            }
+            for (int i = 0; i < key.length(); i++) {
+                if (key.charAt(i) != fold(text.charAt(start + i), ignoreCase)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static String key(CharSequence text, int start, int end, boolean ignoreCase) {
+            if (!ignoreCase) {
+                return text.subSequence(start, end).toString();
+            }
+            char[] chars = new char[end - start];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = fold(text.charAt(start + i), true);
+            }
+            return new String(chars);
+        }
+    }
+
+    /**
+     * An immutable count of one key.
+     */
+    public static final class Entry {
+
+        private final String key;
+        private final long count;
+        private final long error;
+
+        private Entry(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+
+        /**
+         * Gets the key, in lower case if the tracker ignores case.
+         *
+         * @return the key
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Gets the estimated number of occurrences, never below the true number.
+         *
+         * @return the count
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the maximum overestimation of the count.
+         *
+         * @return the error
+         */
+        public long getError() {
+            return error;
+        }
+
+        /**
+         * Gets the number of occurrences the key has had at least.
+         *
+         * @return the count minus the error
+         */
+        public long getGuaranteedCount() {
+            return count - error;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + count + (error > 0 ? "(±" + error + ")" : "");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.berkeposlu.javautils;
+
+/**
+ * Hot-path operations whose best implementation depends on the JDK version.
+ * <p>
+ * This is the Java 17 baseline. The library JAR is a multi-release JAR, and on Java 21+
+ * the JVM loads the override in {@code META-INF/versions/21} instead, which uses APIs
+ * added after Java 17. Both versions must behave identically.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+final class JdkSupport {
+
+    private JdkSupport() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Gets the Java version this implementation was compiled for. A method rather than a
+     * constant, so callers see the class that was actually loaded.
+     *
+     * @return the Java feature version
+     */
+    static int feature() {
+        return 17;
+    }
+
+    /**
+     * Checks whether the current thread is a virtual thread.
+     *
+     * @return true if the current thread is virtual
+     */
+    static boolean isVirtualThread() {
+        return false;
+    }
+}
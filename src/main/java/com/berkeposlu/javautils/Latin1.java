@@ -0,0 +1,129 @@
+package com.berkeposlu.javautils;
+
+import java.util.Locale;
+
+/**
+ * Exact-length string construction for the StringUtils transforms.
+ * <p>
+ * A transform copies its input into a reused char array with {@link #chars(String, int, int)}
+ * or writes into one from {@link #buffer(int)}, rewrites it in place and creates the result
+ * with {@link #toString(char[], int)}. With compact strings, the JVM default, that
+ * constructor compresses a result whose chars are all Latin-1 into a byte array of exactly
+ * the result length. Copying in and compressing out are both JVM intrinsics, so the only
+ * allocation is the result itself: no intermediate substrings, no StringBuilder that grows
+ * and is copied again by {@code toString()}. Writing the bytes in a Java loop would save the
+ * char array but is several times slower than these intrinsics.
+ * <p>
+ * The scratch array is kept per platform thread for strings up to 8 KB. Virtual threads
+ * and longer strings get a fresh array, so that many short-lived threads do not each pin
+ * one.
+ * <p>
+ * The case tables map a char to its upper or lower case as {@link String#toUpperCase()}
+ * and {@link String#toLowerCase()} do in locales without special case rules, or to -1 if
+ * the result is not a single Latin-1 char (such as the upper case of {@code ß} or
+ * {@code ÿ}). Callers check {@link #hasPlainCaseRules()} before using them and fall back to
+ * the String methods otherwise.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+final class Latin1 {
+
+    /** Largest string handled in the per-thread scratch array. */
+    static final int MAX_SCRATCH = 8192;
+
+    private static final int INITIAL_SCRATCH = 256;
+    private static final ThreadLocal<char[][]> SCRATCH = ThreadLocal.withInitial(() -> new char[][] {new char[INITIAL_SCRATCH]});
+
+    private static final short[] UPPER = new short[256];
+    private static final short[] LOWER = new short[256];
+
+    static {
+        for (int c = 0; c < 256; c++) {
+            UPPER[c] = single(String.valueOf((char) c).toUpperCase(Locale.ROOT));
+            LOWER[c] = single(String.valueOf((char) c).toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private Latin1() {
+        // Utility class - prevent instantiation
+    }
+
+    private static short single(String mapped) {
+        return mapped.length() == 1 && mapped.charAt(0) < 256 ? (short) mapped.charAt(0) : -1;
+    }
+
+    /**
+     * Gets the scratch array for building a result.
+     *
+     * @param capacity the length the array must have at least
+     * @return the array, only valid until the next call on this thread
+     */
+    static char[] buffer(int capacity) {
+        if (capacity > MAX_SCRATCH || JdkSupport.isVirtualThread()) {
+            return new char[capacity];
+        }
+        char[][] scratch = SCRATCH.get();
+        if (scratch[0].length < capacity) {
+            scratch[0] = new char[Math.min(MAX_SCRATCH, Math.max(capacity, scratch[0].length * 2))];
+        }
+        return scratch[0];
+    }
+
+    /**
+     * Copies the start of a string into the scratch array.
+     *
+     * @param str the string
+     * @param length the number of chars to copy
+     * @param capacity the length the array must have at least, not less than length
+     * @return the array holding the chars from index 0, only valid until the next call on this thread
+     */
+    static char[] chars(String str, int length, int capacity) {
+        char[] chars = buffer(capacity);
+        str.getChars(0, length, chars, 0);
+        return chars;
+    }
+
+    /**
+     * Creates the result string from the start of a char array.
+     *
+     * @param chars the chars
+     * @param length the length of the result
+     * @return the string, stored as Latin-1 bytes if all chars are Latin-1
+     */
+    static String toString(char[] chars, int length) {
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Checks whether the default locale uses the plain case mapping of the tables. Turkish
+     * and Azerbaijani map {@code i} and {@code I} differently, Lithuanian adds combining dots
+     * to some accented letters.
+     *
+     * @return true if the case tables apply
+     */
+    static boolean hasPlainCaseRules() {
+        String language = Locale.getDefault().getLanguage();
+        return !language.equals("tr") && !language.equals("az") && !language.equals("lt");
+    }
+
+    /**
+     * Maps a char to upper case.
+     *
+     * @param c the char
+     * @return the upper case Latin-1 char, or -1 if c is not Latin-1 or its upper case is not
+     */
+    static int toUpperCase(char c) {
+        return c < 256 ? UPPER[c] : -1;
+    }
+
+    /**
+     * Maps a char to lower case.
+     *
+     * @param c the char
+     * @return the lower case Latin-1 char, or -1 if c is not Latin-1 or its lower case is not
+     */
+    static int toLowerCase(char c) {
+        return c < 256 ? LOWER[c] : -1;
+    }
+}
@@ -0,0 +1,405 @@
+package com.berkeposlu.javautils;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in call metrics for the utility classes.
+ * <p>
+ * Metrics are enabled by starting the JVM with {@code -Djavautils.metrics.enabled=true}.
+ * The flag is read once into a {@code static final} field, so when it is off the JIT
+ * removes the instrumentation entirely. When it is on, every instrumented method counts
+ * its calls in a {@link LongAdder}, validators additionally count how many inputs passed,
+ * and one in {@code javautils.metrics.sampleRate} calls (default 64) is timed into a
+ * log2 latency histogram.
+ * <p>
+ * The numbers are available through {@link #snapshot()} and the JMX MXBean
+ * {@code com.berkeposlu.javautils:type=Metrics}.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class Metrics {
+
+    /** Whether metrics are collected, fixed at class initialization. */
+    public static final boolean ENABLED = Boolean.getBoolean("javautils.metrics.enabled");
+
+    /** The JMX object name the metrics are registered under. */
+    public static final String OBJECT_NAME = "com.berkeposlu.javautils:type=Metrics";
+
+    private static final int SAMPLE_MASK = Integer.highestOneBit(
+            Math.max(1, Integer.getInteger("javautils.metrics.sampleRate", 64))) - 1;
+
+    private static final int HISTOGRAM_BUCKETS = 64;
+
+    private static final Map<String, Probe> PROBES = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            registerMBean();
+        }
+    }
+
+    private Metrics() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Gets or creates the probe for a method.
+     *
+     * @param name the method name, e.g. {@code "ValidationUtils.isValidEmail"}
+     * @return the probe
+     */
+    public static Probe probe(String name) {
+        return PROBES.computeIfAbsent(name, Probe::new);
+    }
+
+    /**
+     * Takes a snapshot of all probes that have been called at least once, sorted by name.
+     *
+     * @return the method snapshots
+     */
+    public static List<MethodSnapshot> snapshot() {
+        Map<String, MethodSnapshot> sorted = new ConcurrentSkipListMap<>();
+        for (Probe probe : PROBES.values()) {
+            MethodSnapshot snapshot = probe.snapshot();
+            if (snapshot.getCalls() > 0) {
+                sorted.put(snapshot.getName(), snapshot);
+            }
+        }
+        return new ArrayList<>(sorted.values());
+    }
+
+    /**
+     * Resets all counters and histograms.
+     */
+    public static void reset() {
+        for (Probe probe : PROBES.values()) {
+            probe.reset();
+        }
+    }
+
+    private static void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MetricsBean(), name);
+            }
+        } catch (JMException e) {
+            // metrics stay available through snapshot()
+        }
+    }
+
+    /**
+     * Collects the metrics of one method.
+     * <p>
+     * Instrumented methods call {@link #start()} on entry and pass its result to one of the
+     * {@code end} methods together with their return value, which they return unchanged.
+     */
+    public static final class Probe {
+
+        private final String name;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder passed = new LongAdder();
+        private final LongAdder validations = new LongAdder();
+        private final LongAdder sampledNanos = new LongAdder();
+        private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+        private Probe(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Gets the method name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Counts a call and decides whether it is timed.
+         *
+         * @return a start timestamp for sampled calls, otherwise 0
+         */
+        public long start() {
+            if (!ENABLED) {
+                return 0;
+            }
+            calls.increment();
+            if ((ThreadLocalRandom.current().nextInt() & SAMPLE_MASK) != 0) {
+                return 0;
+            }
+            long now = System.nanoTime();
+            return now == 0 ? 1 : now;
+        }
+
+        /**
+         * Finishes a call.
+         *
+         * @param start the value returned by {@link #start()}
+         */
+        public void end(long start) {
+            if (ENABLED && start != 0) {
+                recordLatency(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Finishes a call and passes its result through.
+         *
+         * @param start the value returned by {@link #start()}
+         * @param result the method result
+         * @param <T> the result type
+         * @return the result
+         */
+        public <T> T end(long start, T result) {
+            end(start);
+            return result;
+        }
+
+        /**
+         * Finishes a call and passes its result through.
+         *
+         * @param start the value returned by {@link #start()}
+         * @param result the method result
+         * @return the result
+         */
+        public double end(long start, double result) {
+            end(start);
+            return result;
+        }
+
+        /**
+         * Finishes a call and passes its result through.
+         *
+         * @param start the value returned by {@link #start()}
+         * @param result the method result
+         * @return the result
+         */
+        public long end(long start, long result) {
+            end(start);
+            return result;
+        }
+
+        /**
+         * Finishes a call and passes its result through.
+         *
+         * @param start the value returned by {@link #start()}
+         * @param result the method result
+         * @return the result
+         */
+        public int end(long start, int result) {
+            end(start);
+            return result;
+        }
+
+        /**
+         * Finishes a validation call, counting whether it passed, and passes its result through.
+         *
+         * @param start the value returned by {@link #start()}
+         * @param valid the validation result
+         * @return the validation result
+         */
+        public boolean validated(long start, boolean valid) {
+            if (ENABLED) {
+                validations.increment();
+                if (valid) {
+                    passed.increment();
+                }
+                end(start);
+            }
+            return valid;
+        }
+
+        private void recordLatency(long nanos) {
+            long clamped = Math.max(0, nanos);
+            sampledNanos.add(clamped);
+            histogram.incrementAndGet(63 - Long.numberOfLeadingZeros(clamped | 1));
+        }
+
+        private void reset() {
+            calls.reset();
+            passed.reset();
+            validations.reset();
+            sampledNanos.reset();
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                histogram.set(i, 0);
+            }
+        }
+
+        private MethodSnapshot snapshot() {
+            long[] buckets = new long[HISTOGRAM_BUCKETS];
+            long samples = 0;
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                buckets[i] = histogram.get(i);
+                samples += buckets[i];
+            }
+            return new MethodSnapshot(name, calls.sum(), validations.sum(), passed.sum(),
+                    samples, sampledNanos.sum(), buckets);
+        }
+    }
+
+    /**
+     * An immutable view of the metrics of one method.
+     */
+    public static final class MethodSnapshot {
+
+        private final String name;
+        private final long calls;
+        private final long validations;
+        private final long passed;
+        private final long samples;
+        private final long sampledNanos;
+        private final long[] histogram;
+
+        private MethodSnapshot(String name, long calls, long validations, long passed,
+                               long samples, long sampledNanos, long[] histogram) {
+            this.name = name;
+            this.calls = calls;
+            this.validations = validations;
+            this.passed = passed;
+            this.samples = samples;
+            this.sampledNanos = sampledNanos;
+            this.histogram = histogram;
+        }
+
+        /**
+         * Gets the method name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the number of calls.
+         *
+         * @return the call count
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * Gets the number of validations that passed.
+         *
+         * @return the pass count, 0 for methods that are not validators
+         */
+        public long getPassed() {
+            return passed;
+        }
+
+        /**
+         * Gets the number of validations that failed.
+         *
+         * @return the failure count, 0 for methods that are not validators
+         */
+        public long getFailed() {
+            return validations - passed;
+        }
+
+        /**
+         * Gets the fraction of validations that passed.
+         *
+         * @return the pass ratio between 0 and 1, or NaN for methods that are not validators
+         */
+        public double getPassRatio() {
+            return validations == 0 ? Double.NaN : (double) passed / validations;
+        }
+
+        /**
+         * Gets the number of timed calls.
+         *
+         * @return the sample count
+         */
+        public long getSamples() {
+            return samples;
+        }
+
+        /**
+         * Gets the mean latency of the timed calls.
+         *
+         * @return the mean latency in nanoseconds, or 0 without samples
+         */
+        public double getMeanNanos() {
+            return samples == 0 ? 0 : (double) sampledNanos / samples;
+        }
+
+        /**
+         * Gets the median latency of the timed calls.
+         *
+         * @return the upper bound of the median's histogram bucket in nanoseconds
+         */
+        public long getP50Nanos() {
+            return percentile(0.50);
+        }
+
+        /**
+         * Gets the 99th percentile latency of the timed calls.
+         *
+         * @return the upper bound of the percentile's histogram bucket in nanoseconds
+         */
+        public long getP99Nanos() {
+            return percentile(0.99);
+        }
+
+        /**
+         * Estimates the total time spent in this method from the sampled calls.
+         *
+         * @return the estimated total time in nanoseconds
+         */
+        public long getEstimatedTotalNanos() {
+            return Math.round(getMeanNanos() * calls);
+        }
+
+        private long percentile(double fraction) {
+            long rank = (long) Math.ceil(samples * fraction);
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= rank && seen > 0) {
+                    return i >= 62 ? Long.MAX_VALUE : (2L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return name + "[calls=" + calls + ", passed=" + passed + ", failed=" + getFailed()
+                    + ", p50=" + getP50Nanos() + "ns, p99=" + getP99Nanos() + "ns]";
+        }
+    }
+
+    private static final class MetricsBean implements MetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return ENABLED;
+        }
+
+        @Override
+        public List<MethodSnapshot> getMethods() {
+            return snapshot();
+        }
+
+        @Override
+        public void reset() {
+            Metrics.reset();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.berkeposlu.javautils;
+
+import java.util.List;
+
+/**
+ * JMX view of the {@link Metrics} collected by the utility classes.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public interface MetricsMXBean {
+
+    /**
+     * Checks whether metrics are collected.
+     *
+     * @return true if metrics are enabled, false otherwise
+     */
+    boolean isEnabled();
+
+    /**
+     * Gets the metrics of every method that has been called.
+     *
+     * @return the method snapshots, sorted by name
+     */
+    List<Metrics.MethodSnapshot> getMethods();
+
+    /**
+     * Resets all counters and histograms.
+     */
+    void reset();
+}
@@ -0,0 +1,263 @@
+package com.berkeposlu.javautils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * StringUtils and ValidationUtils operations on ASCII or UTF-8 text held in a
+ * {@link ByteBuffer}, typically a direct or memory-mapped buffer outside the Java heap.
+ * <p>
+ * Every method works on the bytes between the buffer's position and limit, reads them in
+ * place and leaves position and limit unchanged, so large text arenas can be processed
+ * without copying them onto the heap and without creating garbage. The scans read eight
+ * bytes per step as a {@code long} and classify them with SWAR bit tricks; only the last
+ * few bytes of a range are looked at one by one.
+ * <p>
+ * Character classes are ASCII: bytes of UTF-8 multi-byte sequences are never letters,
+ * digits or blanks. Off-heap memory managed through {@code java.lang.foreign} can be
+ * passed with {@code MemorySegment.asByteBuffer()}, which is a view, not a copy.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class OffHeapText {
+
+    private OffHeapText() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Counts the non-overlapping occurrences of a substring.
+     *
+     * @param text the text
+     * @param substring the substring to count, matched by its UTF-8 bytes
+     * @return the number of occurrences
+     */
+    public static int countOccurrences(ByteBuffer text, String substring) {
+        if (text == null || StringUtils.isEmpty(substring)) {
+            return 0;
+        }
+        byte[] pattern = substring.getBytes(StandardCharsets.UTF_8);
+        int from = text.position();
+        int end = text.limit();
+        if (pattern.length == 1) {
+            return countByte(text, from, end, pattern[0]);
+        }
+        int first = pattern[0] & 0xFF;
+        int lastStart = end - pattern.length;
+        int count = 0;
+        int next = from;
+        int i = from;
+        for (; i + 8 <= lastStart + 1; i += 8) {
+            long candidates = Swar.equalTo(Swar.getLong(text, i), first);
+            while (candidates != 0) {
+                int index = i + (Long.numberOfTrailingZeros(candidates) >>> 3);
+                candidates &= candidates - 1;
+                if (index >= next && regionMatches(text, index, pattern)) {
+                    count++;
+                    next = index + pattern.length;
+                }
+            }
+        }
+        for (i = Math.max(i, next); i <= lastStart; i++) {
+            if (text.get(i) == pattern[0] && regionMatches(text, i, pattern)) {
+                count++;
+                i += pattern.length - 1;
+            }
+        }
+        return count;
+    }
+
+    private static int countByte(ByteBuffer text, int from, int end, byte value) {
+        int count = 0;
+        int i = from;
+        for (; i + 8 <= end; i += 8) {
+            count += Long.bitCount(Swar.equalTo(Swar.getLong(text, i), value & 0xFF));
+        }
+        for (; i < end; i++) {
+            if (text.get(i) == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean regionMatches(ByteBuffer text, int index, byte[] pattern) {
+        for (int j = 1; j < pattern.length; j++) {
+            if (text.get(index + j) != pattern[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the text is empty or consists only of whitespace, with the same
+     * definition of whitespace as {@link StringUtils#isBlank(String)}.
+     *
+     * @param text the text
+     * @return true if the text is null, empty or blank, false otherwise
+     */
+    public static boolean isBlank(ByteBuffer text) {
+        return text == null || allMatch(text, Swar.BLANK);
+    }
+
+    /**
+     * Checks whether the text consists only of lowercase ASCII letters.
+     *
+     * @param text the text
+     * @return true if the text is non-empty and all lowercase letters, false otherwise
+     */
+    public static boolean isAllLowerCase(ByteBuffer text) {
+        return isNotEmpty(text) && allMatch(text, Swar.LOWER_CASE);
+    }
+
+    /**
+     * Checks whether the text consists only of uppercase ASCII letters.
+     *
+     * @param text the text
+     * @return true if the text is non-empty and all uppercase letters, false otherwise
+     */
+    public static boolean isAllUpperCase(ByteBuffer text) {
+        return isNotEmpty(text) && allMatch(text, Swar.UPPER_CASE);
+    }
+
+    /**
+     * Checks whether the text is pure ASCII.
+     *
+     * @param text the text
+     * @return true if the text is not null and contains no byte above 0x7F, false otherwise
+     */
+    public static boolean isAscii(ByteBuffer text) {
+        return text != null && allMatch(text, Swar.ASCII);
+    }
+
+    /**
+     * Validates that the text contains only ASCII letters, like
+     * {@link ValidationUtils#isAlphabetic(String)}.
+     *
+     * @param text the text
+     * @return true if the text is non-empty and alphabetic, false otherwise
+     */
+    public static boolean isAlphabetic(ByteBuffer text) {
+        return isNotEmpty(text) && allMatch(text, Swar.LETTERS);
+    }
+
+    /**
+     * Validates that the text contains only ASCII letters and digits, like
+     * {@link ValidationUtils#isAlphanumeric(String)}.
+     *
+     * @param text the text
+     * @return true if the text is non-empty and alphanumeric, false otherwise
+     */
+    public static boolean isAlphanumeric(ByteBuffer text) {
+        return isNotEmpty(text) && allMatch(text, Swar.ALPHANUMERIC);
+    }
+
+    /**
+     * Validates that the text is a decimal integer in the range of {@code int}, like
+     * {@link ValidationUtils#isInteger(String)}.
+     *
+     * @param text the text
+     * @return true if the text is a valid integer, false otherwise
+     */
+    public static boolean isInteger(ByteBuffer text) {
+        if (!isNotEmpty(text)) {
+            return false;
+        }
+        int from = text.position();
+        int end = text.limit();
+        byte sign = text.get(from);
+        boolean negative = sign == '-';
+        if (negative || sign == '+') {
+            from++;
+        }
+        if (from == end || !Swar.allMatch(text, from, end, Swar.DIGITS)) {
+            return false;
+        }
+        long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (int i = from; i < end; i++) {
+            value = value * 10 + (text.get(i) - '0');
+            if (value > limit) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validates an email address in guaranteed linear time, like
+     * {@link ValidationUtils#isValidEmailBounded(String)}.
+     *
+     * @param text the text
+     * @return true if the text is a valid email address, false otherwise
+     */
+    public static boolean isValidEmail(ByteBuffer text) {
+        return text != null && text.remaining() <= ValidationUtils.MAX_EMAIL_LENGTH
+                && ValidationUtils.scanEmail(new AsciiView(text));
+    }
+
+    /**
+     * Validates a URL in guaranteed linear time, like
+     * {@link ValidationUtils#isValidUrlBounded(String)}.
+     *
+     * @param text the text
+     * @return true if the text is a valid URL, false otherwise
+     */
+    public static boolean isValidUrl(ByteBuffer text) {
+        return text != null && text.remaining() <= ValidationUtils.MAX_URL_LENGTH
+                && ValidationUtils.scanUrl(new AsciiView(text));
+    }
+
+    private static boolean isNotEmpty(ByteBuffer text) {
+        return text != null && text.hasRemaining();
+    }
+
+    private static boolean allMatch(ByteBuffer text, int cls) {
+        return Swar.allMatch(text, text.position(), text.limit(), cls);
+    }
+
+    /**
+     * Read-only view of the remaining bytes of a buffer as Latin-1 characters, so the
+     * String validators can scan the buffer in place.
+     */
+    private static final class AsciiView implements CharSequence {
+
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int length;
+
+        AsciiView(ByteBuffer buffer) {
+            this(buffer, buffer.position(), buffer.remaining());
+        }
+
+        private AsciiView(ByteBuffer buffer, int offset, int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(offset + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new AsciiView(buffer, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[length];
+            buffer.get(offset, bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
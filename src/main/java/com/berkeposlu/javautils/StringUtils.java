@@ -1,8 +1,5 @@
 package com.berkeposlu.javautils;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
-
 /**
  * Utility class for common string operations.
  * 
@@ -11,6 +8,14 @@ import java.util.stream.Collectors;
  */
 public final class StringUtils {
 
+    private static final Metrics.Probe IS_BLANK_PROBE = Metrics.probe("StringUtils.isBlank");
+    private static final Metrics.Probe CAPITALIZE_PROBE = Metrics.probe("StringUtils.capitalize");
+    private static final Metrics.Probe REVERSE_PROBE = Metrics.probe("StringUtils.reverse");
+    private static final Metrics.Probe COUNT_OCCURRENCES_PROBE = Metrics.probe("StringUtils.countOccurrences");
+    private static final Metrics.Probe TO_CAMEL_CASE_PROBE = Metrics.probe("StringUtils.toCamelCase");
+    private static final Metrics.Probe JOIN_PROBE = Metrics.probe("StringUtils.join");
+    private static final Metrics.Probe TRUNCATE_PROBE = Metrics.probe("StringUtils.truncate");
+
     private StringUtils() {
         // Utility class - prevent instantiation
     }
@@ -42,7 +47,9 @@ public final class StringUtils {
      * @return true if the string is blank, false otherwise
      */
     public static boolean isBlank(String str) {
-        return str == null || str.trim().isEmpty();
+        long start = IS_BLANK_PROBE.start();
+        // blank means trim() would leave nothing, checked four chars at a time without trimming
+        return IS_BLANK_PROBE.end(start, str == null || Swar.allMatch(str, 0, str.length(), Swar.BLANK));
     }
 
     /**
@@ -55,6 +62,16 @@ public final class StringUtils {
         return !isBlank(str);
     }
 
+    /**
+     * Checks if a string contains only ASCII characters.
+     *
+     * @param str the string to check
+     * @return true if the string is not null and pure ASCII, false otherwise
+     */
+    public static boolean isAscii(String str) {
+        return str != null && Swar.allMatch(str, 0, str.length(), Swar.ASCII);
+    }
+
     /**
      * Capitalizes the first letter of a string.
      *
@@ -62,10 +79,40 @@ public final class StringUtils {
      * @return the capitalized string, or null if input is null
      */
     public static String capitalize(String str) {
+        long start = CAPITALIZE_PROBE.start();
         if (isEmpty(str)) {
-            return str;
+            return CAPITALIZE_PROBE.end(start, str);
+        }
+        String result = capitalizeLatin1(str);
+        if (result == null) {
+            result = str.substring(0, 1).toUpperCase() + str.substring(1).toLowerCase();
+        }
+        return CAPITALIZE_PROBE.end(start, result);
+    }
+
+    // builds the result with exact length, returns str if nothing changes and null if a
+    // char is not Latin-1 or does not map to a single Latin-1 char
+    private static String capitalizeLatin1(String str) {
+        if (!Latin1.hasPlainCaseRules()) {
+            return null;
+        }
+        int length = str.length();
+        char[] chars = Latin1.chars(str, length, length);
+        int mapped = Latin1.toUpperCase(chars[0]);
+        // a negative mapping sets the sign bit of invalid, any change sets a bit of changed
+        int invalid = mapped;
+        int changed = mapped ^ chars[0];
+        chars[0] = (char) mapped;
+        for (int i = 1; i < length; i++) {
+            mapped = Latin1.toLowerCase(chars[i]);
+            invalid |= mapped;
+            changed |= mapped ^ chars[i];
+            chars[i] = (char) mapped;
+        }
+        if (invalid < 0) {
+            return null;
         }
-        return str.substring(0, 1).toUpperCase() + str.substring(1).toLowerCase();
+        return changed != 0 ? Latin1.toString(chars, length) : str;
     }
 
     /**
@@ -75,10 +122,24 @@ public final class StringUtils {
      * @return the reversed string, or null if input is null
      */
     public static String reverse(String str) {
+        long start = REVERSE_PROBE.start();
         if (str == null) {
-            return null;
+            return REVERSE_PROBE.end(start, null);
+        }
+        int length = str.length();
+        char[] chars = Latin1.chars(str, length, length);
+        int bits = length % 2 == 0 ? 0 : chars[length / 2];
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            char c = chars[i];
+            chars[i] = chars[j];
+            chars[j] = c;
+            bits |= c | chars[i];
+        }
+        if (bits > 0xFF) {
+            // surrogate pairs must stay in order, which StringBuilder.reverse takes care of
+            return REVERSE_PROBE.end(start, new StringBuilder(str).reverse().toString());
         }
-        return new StringBuilder(str).reverse().toString();
+        return REVERSE_PROBE.end(start, Latin1.toString(chars, length));
     }
 
     /**
@@ -89,17 +150,25 @@ public final class StringUtils {
      * @return the number of occurrences
      */
     public static int countOccurrences(String str, String substring) {
+        long start = COUNT_OCCURRENCES_PROBE.start();
         if (isEmpty(str) || isEmpty(substring)) {
-            return 0;
+            return COUNT_OCCURRENCES_PROBE.end(start, 0);
         }
         
         int count = 0;
+        if (substring.length() == 1) {
+            char ch = substring.charAt(0);
+            for (int index = str.indexOf(ch); index != -1; index = str.indexOf(ch, index + 1)) {
+                count++;
+            }
+            return COUNT_OCCURRENCES_PROBE.end(start, count);
+        }
         int index = 0;
         while ((index = str.indexOf(substring, index)) != -1) {
             count++;
             index += substring.length();
         }
-        return count;
+        return COUNT_OCCURRENCES_PROBE.end(start, count);
     }
 
     /**
@@ -109,20 +178,58 @@ public final class StringUtils {
      * @return the camelCase string
      */
     public static String toCamelCase(String str) {
+        long start = TO_CAMEL_CASE_PROBE.start();
         if (isEmpty(str)) {
-            return str;
+            return TO_CAMEL_CASE_PROBE.end(start, str);
         }
         
+        String latin1 = toCamelCaseLatin1(str);
+        if (latin1 != null) {
+            return TO_CAMEL_CASE_PROBE.end(start, latin1);
+        }
+
         String[] words = str.split("[\\s_-]+");
         if (words.length == 0) {
-            return str.toLowerCase();
+            return TO_CAMEL_CASE_PROBE.end(start, str.toLowerCase());
         }
         
         StringBuilder result = new StringBuilder(words[0].toLowerCase());
         for (int i = 1; i < words.length; i++) {
             result.append(capitalize(words[i]));
         }
-        return result.toString();
+        return TO_CAMEL_CASE_PROBE.end(start, result.toString());
+    }
+
+    // same words as splitting on [\s_-]+: the first word (empty after a leading separator)
+    // in lower case, each later one capitalized, compacted in place; null if a char is not
+    // Latin-1 or does not map to a single Latin-1 char
+    private static String toCamelCaseLatin1(String str) {
+        if (!Latin1.hasPlainCaseRules()) {
+            return null;
+        }
+        int length = str.length();
+        char[] chars = Latin1.chars(str, length, length);
+        int size = 0;
+        boolean wordStart = false;
+        for (int i = 0; i < length; i++) {
+            char c = chars[i];
+            if (isWordSeparator(c)) {
+                wordStart = true;
+                continue;
+            }
+            int mapped = wordStart ? Latin1.toUpperCase(c) : Latin1.toLowerCase(c);
+            if (mapped < 0) {
+                return null;
+            }
+            chars[size++] = (char) mapped;
+            wordStart = false;
+        }
+        // only separators: split yields no words and the lower case of str is str itself
+        return size == 0 ? str : Latin1.toString(chars, size);
+    }
+
+    private static boolean isWordSeparator(char c) {
+        return c == ' ' || c == '_' || c == '-' || (c >= '\t' && c <= '\r');
     }
 
     /**
@@ -133,11 +240,12 @@ public final class StringUtils {
      * @return the joined string
      */
     public static String join(String delimiter, String... elements) {
+        long start = JOIN_PROBE.start();
         if (elements == null || elements.length == 0) {
-            return "";
+            return JOIN_PROBE.end(start, "");
         }
-        return Arrays.stream(elements)
-                .collect(Collectors.joining(delimiter));
+        // String.join sizes the result exactly before copying
+        return JOIN_PROBE.end(start, String.join(delimiter, elements));
     }
 
     /**
@@ -148,9 +256,18 @@ public final class StringUtils {
      * @return the truncated string
      */
     public static String truncate(String str, int maxLength) {
+        long start = TRUNCATE_PROBE.start();
         if (str == null || str.length() <= maxLength) {
-            return str;
+            return TRUNCATE_PROBE.end(start, str);
+        }
+        if (maxLength < 3) {
+            // throws for the negative end index as it always has
+            return TRUNCATE_PROBE.end(start, str.substring(0, maxLength - 3) + "...");
         }
-        return str.substring(0, maxLength - 3) + "...";
+        char[] chars = Latin1.chars(str, maxLength - 3, maxLength);
+        chars[maxLength - 3] = '.';
+        chars[maxLength - 2] = '.';
+        chars[maxLength - 1] = '.';
+        return TRUNCATE_PROBE.end(start, Latin1.toString(chars, maxLength));
     }
 }
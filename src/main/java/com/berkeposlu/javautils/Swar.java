@@ -0,0 +1,327 @@
+package com.berkeposlu.javautils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * SWAR (SIMD within a register) kernel that classifies characters in bulk, eight bytes or
+ * four chars per {@code long}.
+ * <p>
+ * The byte methods return a lane mask with bit 7 of a byte lane set if that byte matches
+ * and all other bits clear, so {@code mask == HIGH_BITS} means "all eight match",
+ * {@code mask == 0} means "none match" and {@code Long.bitCount(mask)} counts matches.
+ * The per-lane arithmetic is done on the low seven bits only, so no carry crosses a lane;
+ * bytes 0x80 and above (non-ASCII, including all UTF-8 multi-byte sequences) never match
+ * an ASCII class.
+ * <p>
+ * Strings are read four chars at a time into 16-bit lanes. A word containing a char above
+ * 0x7F fails every class at once, and the remaining lanes hold values below 0x80, so the
+ * same carry-free range tests apply. The {@code allMatch} methods are what the String,
+ * byte array and buffer predicates of the library are built on; only the last few
+ * elements of an input are classified one at a time.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+final class Swar {
+
+    /** 0x01 in every byte lane. */
+    static final long ONES = 0x0101010101010101L;
+
+    /** 0x80 in every byte lane. */
+    static final long HIGH_BITS = 0x8080808080808080L;
+
+    /** ASCII letters. */
+    static final int LETTERS = 0;
+
+    /** ASCII letters and digits. */
+    static final int ALPHANUMERIC = 1;
+
+    /** ASCII digits. */
+    static final int DIGITS = 2;
+
+    /** Lowercase ASCII letters. */
+    static final int LOWER_CASE = 3;
+
+    /** Uppercase ASCII letters. */
+    static final int UPPER_CASE = 4;
+
+    /** ASCII characters. */
+    static final int ASCII = 5;
+
+    /** Control characters and space, the characters {@link String#trim()} removes. */
+    static final int BLANK = 6;
+
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long CASE_BIT = 0x2020202020202020L;
+
+    private static final long CHAR_ONES = 0x0001000100010001L;
+    private static final long CHAR_MATCH_BITS = 0x0080008000800080L;
+    private static final long CHAR_NON_ASCII_BITS = 0xFF80FF80FF80FF80L;
+    private static final long CHAR_CASE_BIT = 0x0020002000200020L;
+
+    private static final VarHandle BYTE_ARRAY_LONG =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_LONG =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private Swar() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Copies a byte value into every lane.
+     *
+     * @param b the byte value, 0 to 255
+     * @return the broadcast word
+     */
+    static long broadcast(int b) {
+        return (b & 0xFFL) * ONES;
+    }
+
+    /**
+     * Marks the ASCII bytes (0x00 to 0x7F).
+     *
+     * @param word eight bytes
+     * @return the lane mask
+     */
+    static long ascii(long word) {
+        return ~word & HIGH_BITS;
+    }
+
+    /**
+     * Marks the bytes in an ASCII range.
+     *
+     * @param word eight bytes
+     * @param lo the lowest matching byte, at most 0x7F
+     * @param hi the highest matching byte, at most 0x7F
+     * @return the lane mask
+     */
+    static long inRange(long word, int lo, int hi) {
+        long low7 = word & LOW_BITS;
+        // bit 7 of a lane is set in (x + 0x80 - lo) iff x >= lo, and in (x + 0x7F - hi) iff x > hi
+        long atLeastLo = low7 + broadcast(0x80 - lo);
+        long aboveHi = low7 + broadcast(0x7F - hi);
+        return atLeastLo & ~aboveHi & ~word & HIGH_BITS;
+    }
+
+    /**
+     * Marks the bytes equal to a value.
+     *
+     * @param word eight bytes
+     * @param b the byte value, 0 to 255
+     * @return the lane mask
+     */
+    static long equalTo(long word, int b) {
+        long x = word ^ broadcast(b);
+        // exact zero-byte test: no false positives from borrows, unlike (x - ONES) & ~x
+        return ~(((x & LOW_BITS) + LOW_BITS) | x | LOW_BITS);
+    }
+
+    /**
+     * Marks the ASCII letters.
+     *
+     * @param word eight bytes
+     * @return the lane mask
+     */
+    static long letters(long word) {
+        return inRange(word | CASE_BIT, 'a', 'z');
+    }
+
+    /**
+     * Marks the ASCII digits.
+     *
+     * @param word eight bytes
+     * @return the lane mask
+     */
+    static long digits(long word) {
+        return inRange(word, '0', '9');
+    }
+
+    /**
+     * Marks the bytes that {@link String#trim()} removes: control characters and space.
+     *
+     * @param word eight bytes
+     * @return the lane mask
+     */
+    static long blanks(long word) {
+        return inRange(word, 0, ' ');
+    }
+
+    /**
+     * Classifies eight bytes.
+     *
+     * @param word eight bytes
+     * @param cls the character class, e.g. {@link #LETTERS}
+     * @return the lane mask of the matching bytes
+     */
+    static long matches(long word, int cls) {
+        switch (cls) {
+            case LETTERS:
+                return letters(word);
+            case ALPHANUMERIC:
+                return letters(word) | digits(word);
+            case DIGITS:
+                return digits(word);
+            case LOWER_CASE:
+                return inRange(word, 'a', 'z');
+            case UPPER_CASE:
+                return inRange(word, 'A', 'Z');
+            case ASCII:
+                return ascii(word);
+            default:
+                return blanks(word);
+        }
+    }
+
+    /**
+     * Checks whether all four chars packed by {@link #packChars(CharSequence, int)} belong
+     * to a class.
+     *
+     * @param word four chars in 16-bit lanes
+     * @param cls the character class, e.g. {@link #LETTERS}
+     * @return true if all four chars match, false otherwise
+     */
+    static boolean allCharsMatch(long word, int cls) {
+        if ((word & CHAR_NON_ASCII_BITS) != 0) {
+            return false;
+        }
+        switch (cls) {
+            case LETTERS:
+                return charsInRange(word | CHAR_CASE_BIT, 'a', 'z') == CHAR_MATCH_BITS;
+            case ALPHANUMERIC:
+                return (charsInRange(word | CHAR_CASE_BIT, 'a', 'z') | charsInRange(word, '0', '9')) == CHAR_MATCH_BITS;
+            case DIGITS:
+                return charsInRange(word, '0', '9') == CHAR_MATCH_BITS;
+            case LOWER_CASE:
+                return charsInRange(word, 'a', 'z') == CHAR_MATCH_BITS;
+            case UPPER_CASE:
+                return charsInRange(word, 'A', 'Z') == CHAR_MATCH_BITS;
+            case ASCII:
+                return true;
+            default:
+                return charsInRange(word, 0, ' ') == CHAR_MATCH_BITS;
+        }
+    }
+
+    /**
+     * Marks the chars in an ASCII range, for words without chars above 0x7F.
+     */
+    private static long charsInRange(long word, int lo, int hi) {
+        long atLeastLo = word + (0x80 - lo) * CHAR_ONES;
+        long aboveHi = word + (0x7F - hi) * CHAR_ONES;
+        return atLeastLo & ~aboveHi & CHAR_MATCH_BITS;
+    }
+
+    /**
+     * Packs four chars into 16-bit lanes, the first char in the lowest lane.
+     *
+     * @param str the string
+     * @param index the index of the first char
+     * @return the packed chars
+     */
+    static long packChars(CharSequence str, int index) {
+        return str.charAt(index)
+                | (long) str.charAt(index + 1) << 16
+                | (long) str.charAt(index + 2) << 32
+                | (long) str.charAt(index + 3) << 48;
+    }
+
+    /**
+     * Checks whether every char in a range of a string belongs to a class.
+     *
+     * @param str the string
+     * @param from the first index, inclusive
+     * @param to the last index, exclusive
+     * @param cls the character class, e.g. {@link #LETTERS}
+     * @return true if all chars match or the range is empty, false otherwise
+     */
+    static boolean allMatch(CharSequence str, int from, int to, int cls) {
+        int i = from;
+        for (; i + 4 <= to; i += 4) {
+            if (!allCharsMatch(packChars(str, i), cls)) {
+                return false;
+            }
+        }
+        for (; i < to; i++) {
+            // a single char in lane 0, the other lanes padded with a matching char
+            if (!allCharsMatch(str.charAt(i) | padding(cls), cls)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long padding(int cls) {
+        char pad = cls == DIGITS ? '0' : cls == UPPER_CASE ? 'A' : cls == BLANK ? ' ' : 'a';
+        return pad * (CHAR_ONES << 16);
+    }
+
+    /**
+     * Checks whether every byte in a range of an array belongs to a class. The array is
+     * read eight bytes at a time through a {@code long} view.
+     *
+     * @param bytes the array
+     * @param from the first index, inclusive
+     * @param to the last index, exclusive
+     * @param cls the character class, e.g. {@link #LETTERS}
+     * @return true if all bytes match or the range is empty, false otherwise
+     */
+    static boolean allMatch(byte[] bytes, int from, int to, int cls) {
+        int i = from;
+        for (; i + 8 <= to; i += 8) {
+            if (matches((long) BYTE_ARRAY_LONG.get(bytes, i), cls) != HIGH_BITS) {
+                return false;
+            }
+        }
+        for (; i < to; i++) {
+            // a single byte in lane 0 goes through the same kernel
+            if ((matches(bytes[i] & 0xFFL, cls) & 0x80) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether every byte in a range of a buffer belongs to a class. Heap buffers
+     * are scanned through their backing array.
+     *
+     * @param buffer the buffer
+     * @param from the first absolute index, inclusive
+     * @param to the last absolute index, exclusive
+     * @param cls the character class, e.g. {@link #LETTERS}
+     * @return true if all bytes match or the range is empty, false otherwise
+     */
+    static boolean allMatch(ByteBuffer buffer, int from, int to, int cls) {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return allMatch(buffer.array(), offset + from, offset + to, cls);
+        }
+        int i = from;
+        for (; i + 8 <= to; i += 8) {
+            if (matches(getLong(buffer, i), cls) != HIGH_BITS) {
+                return false;
+            }
+        }
+        for (; i < to; i++) {
+            if ((matches(buffer.get(i) & 0xFFL, cls) & 0x80) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads eight bytes of a buffer, the byte at the index in the lowest lane.
+     *
+     * @param buffer the buffer
+     * @param index the absolute index
+     * @return the bytes
+     */
+    static long getLong(ByteBuffer buffer, int index) {
+        return (long) BUFFER_LONG.get(buffer, index);
+    }
+}
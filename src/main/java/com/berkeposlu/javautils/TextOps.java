@@ -0,0 +1,340 @@
+package com.berkeposlu.javautils;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/**
+ * A lazily evaluated chain of StringUtils transforms that runs as one fused pass, e.g.
+ * <pre>
+ * TextOps ops = TextOps.chain().reverse().capitalize().truncate(20);
+ * String result = ops.apply(text);  // same as truncate(capitalize(reverse(text)), 20)
+ * </pre>
+ * <p>
+ * Recording an operation does no work on text; a chain is immutable and can be shared
+ * between threads and reused for any number of inputs. On {@link #apply(String)} the
+ * operations are first composed into a mapping from output positions to input positions
+ * (reversal flips the direction, truncation cuts the mapping and appends the ellipsis,
+ * case changes are attached to the mapped ranges), which only depends on the input length.
+ * The output is then written in a single pass into one buffer of its final size, so no
+ * intermediate Strings are created, and input characters that a truncation cuts off are
+ * never read at all.
+ * <p>
+ * The result is always equal to calling the StringUtils methods one after the other. The
+ * fused pass covers ASCII input; if a character that is read is not ASCII, or the default
+ * locale has special case rules for ASCII letters (Turkish, Azerbaijani), the chain falls
+ * back to the StringUtils methods.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class TextOps implements UnaryOperator<String> {
+
+    private static final TextOps EMPTY = new TextOps(new int[0], new int[0]);
+
+    private static final int REVERSE = 0;
+    private static final int CAPITALIZE = 1;
+    private static final int TRUNCATE = 2;
+    private static final int UPPER_CASE = 3;
+    private static final int LOWER_CASE = 4;
+
+    private static final String[] NAMES = {"reverse", "capitalize", "truncate", "toUpperCase", "toLowerCase"};
+    private static final String ELLIPSIS = "...";
+
+    private final int[] ops;
+    private final int[] args;
+
+    private TextOps(int[] ops, int[] args) {
+        this.ops = ops;
+        this.args = args;
+    }
+
+    /**
+     * Gets the empty chain, which returns its input unchanged.
+     *
+     * @return the empty chain
+     */
+    public static TextOps chain() {
+        return EMPTY;
+    }
+
+    /**
+     * Appends {@link StringUtils#reverse(String)}.
+     *
+     * @return a new chain
+     */
+    public TextOps reverse() {
+        return then(REVERSE, 0);
+    }
+
+    /**
+     * Appends {@link StringUtils#capitalize(String)}.
+     *
+     * @return a new chain
+     */
+    public TextOps capitalize() {
+        return then(CAPITALIZE, 0);
+    }
+
+    /**
+     * Appends {@link StringUtils#truncate(String, int)}.
+     *
+     * @param maxLength the maximum length, including the ellipsis
+     * @return a new chain
+     * @throws IllegalArgumentException if maxLength leaves no room for the ellipsis
+     */
+    public TextOps truncate(int maxLength) {
+        if (maxLength < ELLIPSIS.length()) {
+            throw new IllegalArgumentException("Max length must be at least " + ELLIPSIS.length());
+        }
+        return then(TRUNCATE, maxLength);
+    }
+
+    /**
+     * Appends {@link String#toUpperCase()}.
+     *
+     * @return a new chain
+     */
+    public TextOps toUpperCase() {
+        return then(UPPER_CASE, 0);
+    }
+
+    /**
+     * Appends {@link String#toLowerCase()}.
+     *
+     * @return a new chain
+     */
+    public TextOps toLowerCase() {
+        return then(LOWER_CASE, 0);
+    }
+
+    private TextOps then(int op, int arg) {
+        int[] newOps = Arrays.copyOf(ops, ops.length + 1);
+        int[] newArgs = Arrays.copyOf(args, args.length + 1);
+        newOps[ops.length] = op;
+        newArgs[args.length] = arg;
+        return new TextOps(newOps, newArgs);
+    }
+
+    /**
+     * Runs the chain on a string.
+     *
+     * @param str the input
+     * @return the transformed string, or null if input is null
+     */
+    @Override
+    public String apply(String str) {
+        if (str == null || ops.length == 0) {
+            return str;
+        }
+        Plan plan = new Plan(str.length(), ops.length);
+        for (int i = 0; i < ops.length; i++) {
+            plan.add(ops[i], args[i]);
+        }
+        if (!plan.canFuse(str)) {
+            return applySequentially(str);
+        }
+        return plan.render(str);
+    }
+
+    /**
+     * Runs the chain one StringUtils call at a time.
+     *
+     * @param str the input, not null
+     * @return the transformed string
+     */
+    String applySequentially(String str) {
+        String result = str;
+        for (int i = 0; i < ops.length; i++) {
+            switch (ops[i]) {
+                case REVERSE:
+                    result = StringUtils.reverse(result);
+                    break;
+                case CAPITALIZE:
+                    result = StringUtils.capitalize(result);
+                    break;
+                case TRUNCATE:
+                    result = StringUtils.truncate(result, args[i]);
+                    break;
+                case UPPER_CASE:
+                    result = result.toUpperCase();
+                    break;
+                default:
+                    result = result.toLowerCase();
+                    break;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("TextOps[");
+        for (int i = 0; i < ops.length; i++) {
+            sb.append(i == 0 ? "" : ", ").append(NAMES[ops[i]]);
+            if (ops[i] == TRUNCATE) {
+                sb.append('(').append(args[i]).append(')');
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * The output of a chain as a list of segments, four ints each. A source segment reads
+     * count input characters from start in direction dir (1 or -1) and applies its case;
+     * an ellipsis segment writes count dots.
+     */
+    private static final class Plan {
+
+        private static final int START = 0;
+        private static final int DIR = 1;
+        private static final int COUNT = 2;
+        private static final int MODE = 3;
+        private static final int FIELDS = 4;
+
+        private static final int KEEP = 0;
+        private static final int UPPER = 1;
+        private static final int LOWER = 2;
+        private static final int DOTS = 3;
+
+        private final int[] segment;
+        private int segments;
+        private int length;
+
+        Plan(int inputLength, int operations) {
+            // every operation adds at most one segment
+            segment = new int[(operations + 1) * FIELDS];
+            if (inputLength > 0) {
+                segment[DIR] = 1;
+                segment[COUNT] = inputLength;
+                segment[MODE] = KEEP;
+                segments = 1;
+                length = inputLength;
+            }
+        }
+
+        void add(int op, int arg) {
+            switch (op) {
+                case REVERSE:
+                    reverse();
+                    break;
+                case CAPITALIZE:
+                    capitalize();
+                    break;
+                case TRUNCATE:
+                    truncate(arg);
+                    break;
+                case UPPER_CASE:
+                    setCase(0, UPPER);
+                    break;
+                default:
+                    setCase(0, LOWER);
+                    break;
+            }
+        }
+
+        private void reverse() {
+            for (int i = 0, j = segments - 1; i < j; i++, j--) {
+                for (int f = 0; f < FIELDS; f++) {
+                    int tmp = segment[i * FIELDS + f];
+                    segment[i * FIELDS + f] = segment[j * FIELDS + f];
+                    segment[j * FIELDS + f] = tmp;
+                }
+            }
+            for (int s = 0; s < segments * FIELDS; s += FIELDS) {
+                if (segment[s + MODE] != DOTS) {
+                    segment[s + START] += segment[s + DIR] * (segment[s + COUNT] - 1);
+                    segment[s + DIR] = -segment[s + DIR];
+                }
+            }
+        }
+
+        private void capitalize() {
+            if (length == 0) {
+                return;
+            }
+            if (segment[COUNT] > 1) {
+                // split the first character off the first segment
+                System.arraycopy(segment, 0, segment, FIELDS, segments * FIELDS);
+                segments++;
+                segment[COUNT] = 1;
+                segment[FIELDS + COUNT]--;
+                segment[FIELDS + START] += segment[FIELDS + DIR];
+            }
+            setCase(0, UPPER);
+            setCase(1, LOWER);
+        }
+
+        private void truncate(int maxLength) {
+            if (length <= maxLength) {
+                return;
+            }
+            int keep = maxLength - ELLIPSIS.length();
+            int kept = 0;
+            int i = 0;
+            for (; i < segments && kept < keep; i++) {
+                int s = i * FIELDS;
+                segment[s + COUNT] = Math.min(segment[s + COUNT], keep - kept);
+                kept += segment[s + COUNT];
+            }
+            segments = i + 1;
+            int s = i * FIELDS;
+            segment[s + START] = 0;
+            segment[s + DIR] = 0;
+            segment[s + COUNT] = ELLIPSIS.length();
+            segment[s + MODE] = DOTS;
+            length = maxLength;
+        }
+
+        private void setCase(int from, int caseMode) {
+            for (int s = from * FIELDS; s < segments * FIELDS; s += FIELDS) {
+                if (segment[s + MODE] != DOTS) {
+                    segment[s + MODE] = caseMode;
+                }
+            }
+        }
+
+        boolean canFuse(String str) {
+            String language = Locale.getDefault().getLanguage();
+            if (language.equals("tr") || language.equals("az")) {
+                return false;
+            }
+            for (int s = 0; s < segments * FIELDS; s += FIELDS) {
+                if (segment[s + MODE] != DOTS) {
+                    int first = segment[s + START];
+                    int last = first + segment[s + DIR] * (segment[s + COUNT] - 1);
+                    if (!Swar.allMatch(str, Math.min(first, last), Math.max(first, last) + 1, Swar.ASCII)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        String render(String str) {
+            char[] out = Latin1.buffer(length);
+            int pos = 0;
+            for (int s = 0; s < segments * FIELDS; s += FIELDS) {
+                int n = segment[s + COUNT];
+                int mode = segment[s + MODE];
+                if (mode == DOTS) {
+                    Arrays.fill(out, pos, pos + n, '.');
+                    pos += n;
+                    continue;
+                }
+                int index = segment[s + START];
+                int step = segment[s + DIR];
+                for (int k = 0; k < n; k++, index += step) {
+                    char ch = str.charAt(index);
+                    if (mode == UPPER && ch >= 'a' && ch <= 'z') {
+                        ch -= 'a' - 'A';
+                    } else if (mode == LOWER && ch >= 'A' && ch <= 'Z') {
+                        ch += 'a' - 'A';
+                    }
+                    out[pos++] = ch;
+                }
+            }
+            return Latin1.toString(out, length);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.berkeposlu.javautils;
+
+/**
+ * A reusable result of validating a URL and locating its parts in one pass.
+ * <p>
+ * {@link #parse(CharSequence)} accepts the same URLs as
+ * {@link ValidationUtils#isValidUrlBounded(String)} and splits them like
+ * {@code scheme://userinfo@host:port/path?query#fragment}: the authority runs to the first
+ * {@code /}, {@code ?} or {@code #}, the query from the first {@code ?} to the first
+ * {@code #}. Within the authority the last {@code @} ends the user info and a {@code :}
+ * followed only by digits starts the port. The validation is as lenient as the URL pattern,
+ * so the parts are not checked beyond that; a host may for example be empty, as in
+ * {@code file:///tmp}.
+ * <p>
+ * The parts are offsets into the input and {@link #get(Component)} returns a view of the
+ * input rather than a copy, so a parse allocates nothing. Views are only valid until the
+ * next parse; call {@code toString()} on a view to keep it. An instance is not
+ * thread-safe; use one per thread.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class UrlParts {
+
+    /**
+     * A part of a URL.
+     */
+    public enum Component {
+
+        /** The scheme without {@code ://}, e.g. {@code https}. */
+        SCHEME,
+
+        /** The user info before the host without {@code @}, absent if there is none. */
+        USER_INFO,
+
+        /** The host, possibly empty. */
+        HOST,
+
+        /** The port digits without {@code :}, absent if there is no port. */
+        PORT,
+
+        /** The path including its leading {@code /}, possibly empty. */
+        PATH,
+
+        /** The query without {@code ?}, absent if there is no {@code ?}. */
+        QUERY,
+
+        /** The fragment without {@code #}, absent if there is no {@code #}. */
+        FRAGMENT
+    }
+
+    private static final Component[] COMPONENTS = Component.values();
+
+    private final int[] starts = new int[COMPONENTS.length];
+    private final int[] ends = new int[COMPONENTS.length];
+    private final CharView[] views = new CharView[COMPONENTS.length];
+    private boolean valid;
+
+    /**
+     * Creates an empty result.
+     */
+    public UrlParts() {
+        for (int i = 0; i < views.length; i++) {
+            views[i] = new CharView();
+        }
+        clear();
+    }
+
+    /**
+     * Validates a URL and locates its parts.
+     *
+     * @param url the URL to parse, may be null
+     * @return true if the URL is valid, false otherwise; the parts are then absent
+     */
+    public boolean parse(CharSequence url) {
+        clear();
+        valid = ValidationUtils.scanUrl(url, this);
+        return valid;
+    }
+
+    /**
+     * Records the parts of a valid URL, called by the scan.
+     *
+     * @param url the URL
+     * @param authorityStart the index after {@code ://}
+     * @param at the index of the {@code @} ending the user info, or -1
+     * @param colon the index of the {@code :} starting the port, or -1
+     * @param authorityEnd the index after the authority
+     * @param queryStart the index of the {@code ?}, or -1
+     * @param fragmentStart the index of the {@code #}, or -1
+     */
+    void set(CharSequence url, int authorityStart, int at, int colon, int authorityEnd, int queryStart, int fragmentStart) {
+        int length = url.length();
+        int queryEnd = fragmentStart >= 0 ? fragmentStart : length;
+        setComponent(url, Component.SCHEME, 0, authorityStart - 3);
+        if (at >= 0) {
+            setComponent(url, Component.USER_INFO, authorityStart, at);
+        }
+        setComponent(url, Component.HOST, at >= 0 ? at + 1 : authorityStart, colon >= 0 ? colon : authorityEnd);
+        if (colon >= 0) {
+            setComponent(url, Component.PORT, colon + 1, authorityEnd);
+        }
+        setComponent(url, Component.PATH, authorityEnd, queryStart >= 0 ? queryStart : queryEnd);
+        if (queryStart >= 0) {
+            setComponent(url, Component.QUERY, queryStart + 1, queryEnd);
+        }
+        if (fragmentStart >= 0) {
+            setComponent(url, Component.FRAGMENT, fragmentStart + 1, length);
+        }
+    }
+
+    private void setComponent(CharSequence url, Component component, int start, int end) {
+        int i = component.ordinal();
+        starts[i] = start;
+        ends[i] = end;
+        views[i].set(url, start, end);
+    }
+
+    private void clear() {
+        for (int i = 0; i < views.length; i++) {
+            starts[i] = -1;
+            ends[i] = -1;
+            views[i].clear();
+        }
+    }
+
+    /**
+     * Checks whether the last parsed URL was valid.
+     *
+     * @return true if the last parse succeeded
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Checks whether the last parsed URL has a part. The scheme, host and path are present
+     * in every valid URL, though the host and path may be empty.
+     *
+     * @param component the part
+     * @return true if the part is present
+     * @throws IllegalArgumentException if the component is null
+     */
+    public boolean has(Component component) {
+        return starts[index(component)] >= 0;
+    }
+
+    /**
+     * Gets a part of the last parsed URL as a view of the input.
+     *
+     * @param component the part
+     * @return the part, empty if it is absent
+     * @throws IllegalArgumentException if the component is null
+     */
+    public CharSequence get(Component component) {
+        return views[index(component)];
+    }
+
+    /**
+     * Gets the index where a part starts in the input.
+     *
+     * @param component the part
+     * @return the start index, inclusive, or -1 if the part is absent
+     * @throws IllegalArgumentException if the component is null
+     */
+    public int start(Component component) {
+        return starts[index(component)];
+    }
+
+    /**
+     * Gets the index where a part ends in the input.
+     *
+     * @param component the part
+     * @return the end index, exclusive, or -1 if the part is absent
+     * @throws IllegalArgumentException if the component is null
+     */
+    public int end(Component component) {
+        return ends[index(component)];
+    }
+
+    /**
+     * Gets the port of the last parsed URL as a number.
+     *
+     * @return the port, or -1 if it is absent, empty or above 65535
+     */
+    public int getPort() {
+        int start = starts[Component.PORT.ordinal()];
+        int end = ends[Component.PORT.ordinal()];
+        if (start < 0 || start == end || end - start > 5) {
+            return -1;
+        }
+        CharSequence port = views[Component.PORT.ordinal()];
+        int value = 0;
+        for (int i = 0; i < port.length(); i++) {
+            value = value * 10 + (port.charAt(i) - '0');
+        }
+        return value <= 65535 ? value : -1;
+    }
+
+    private static int index(Component component) {
+        if (component == null) {
+            throw new IllegalArgumentException("Component cannot be null");
+        }
+        return component.ordinal();
+    }
+
+    @Override
+    public String toString() {
+        if (!valid) {
+            return "UrlParts[invalid]";
+        }
+        return "UrlParts[scheme=" + get(Component.SCHEME) + ", host=" + get(Component.HOST) + ", path=" + get(Component.PATH) + "]";
+    }
+}
@@ -0,0 +1,194 @@
+package com.berkeposlu.javautils;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * A concurrent, size-bounded cache of validation results that can be wrapped around any
+ * string validator, e.g. {@code new ValidationCache(ValidationUtils::isValidEmail, 10_000)}.
+ * <p>
+ * The cache is set-associative: an input's hash selects a set of {@value #WAYS} slots, and
+ * a lookup compares at most those slots, first by hash and then by equality. When a set is
+ * full, a CLOCK (second chance) sweep evicts the first entry that has not been hit since
+ * the last sweep. Lookups and inserts are lock-free; concurrent inserts into the same slot
+ * may drop one of the entries, which only costs a later re-validation.
+ * <p>
+ * Caching pays off when validation is much more expensive than a hash lookup, i.e. for
+ * the regex based validators on inputs that repeat.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class ValidationCache implements Predicate<String> {
+
+    private static final int WAYS = 4;
+
+    private final Predicate<String> validator;
+    private final AtomicReferenceArray<Entry> slots;
+    private final int setMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache around a validator.
+     *
+     * @param validator the validator whose results are cached
+     * @param capacity the maximum number of cached inputs, rounded up to a power of two
+     * @throws IllegalArgumentException if the validator is null or the capacity is not positive
+     */
+    public ValidationCache(Predicate<String> validator, int capacity) {
+        if (validator == null) {
+            throw new IllegalArgumentException("Validator cannot be null");
+        }
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int minSets = (capacity + WAYS - 1) / WAYS;
+        int sets = minSets <= 1 ? 1 : Integer.highestOneBit(minSets - 1) << 1;
+        this.validator = validator;
+        this.slots = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+    }
+
+    /**
+     * Validates an input, returning the cached result if the input has been seen before.
+     * Null inputs are passed to the validator without being cached.
+     *
+     * @param input the input to validate
+     * @return the validation result
+     */
+    @Override
+    public boolean test(String input) {
+        if (input == null) {
+            return validator.test(null);
+        }
+        int hash = spread(input.hashCode());
+        int base = (hash & setMask) * WAYS;
+        for (int way = 0; way < WAYS; way++) {
+            Entry entry = slots.getAcquire(base + way);
+            if (entry != null && entry.hash == hash && entry.key.equals(input)) {
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                hits.increment();
+                return entry.valid;
+            }
+        }
+        misses.increment();
+        boolean valid = validator.test(input);
+        slots.setRelease(base + victim(base), new Entry(input, hash, valid));
+        return valid;
+    }
+
+    /**
+     * Picks the slot to replace in a set: an empty slot, else the first slot not
+     * referenced since the last sweep, clearing reference bits along the way.
+     */
+    private int victim(int base) {
+        for (int way = 0; way < WAYS; way++) {
+            if (slots.getAcquire(base + way) == null) {
+                return way;
+            }
+        }
+        for (int pass = 0; pass < 2; pass++) {
+            for (int way = 0; way < WAYS; way++) {
+                Entry entry = slots.getAcquire(base + way);
+                if (entry == null || !entry.referenced) {
+                    return way;
+                }
+                entry.referenced = false;
+            }
+        }
+        return 0;
+    }
+
+    private static int spread(int hash) {
+        return (hash ^ (hash >>> 16)) * 0x9E3779B9;
+    }
+
+    /**
+     * Gets the maximum number of cached inputs.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Counts the cached inputs.
+     *
+     * @return the number of cached inputs
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had to run the validator.
+     *
+     * @return the miss count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the fraction of lookups answered from the cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 if there were no lookups
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Removes all cached inputs and resets the statistics.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationCache[capacity=" + capacity() + ", hits=" + hits() + ", misses=" + misses()
+                + ", hitRate=" + hitRate() + "]";
+    }
+
+    private static final class Entry {
+
+        final String key;
+        final int hash;
+        final boolean valid;
+        // benign data race: a lost update only affects which entry gets evicted
+        boolean referenced;
+
+        Entry(String key, int hash, boolean valid) {
+            this.key = key;
+            this.hash = hash;
+            this.valid = valid;
+        }
+    }
+}
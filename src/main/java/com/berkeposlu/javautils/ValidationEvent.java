@@ -0,0 +1,49 @@
+package com.berkeposlu.javautils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event for a slow {@link ValidationUtils} call.
+ * <p>
+ * Only calls taking longer than the threshold (1 ms by default, configurable through
+ * the JFR settings of {@code com.berkeposlu.javautils.Validation}) are recorded.
+ */
+@Name("com.berkeposlu.javautils.Validation")
+@Label("Slow Validation")
+@Description("A ValidationUtils call that took longer than the threshold")
+@Category({"Java Utils Library", "Validation"})
+@Threshold("1 ms")
+@StackTrace(true)
+final class ValidationEvent extends Event {
+
+    @Label("Validator")
+    String validator;
+
+    @Label("Input Length")
+    int inputLength;
+
+    @Label("Valid")
+    boolean valid;
+
+    static ValidationEvent start() {
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        return event;
+    }
+
+    void finish(String validator, String input, boolean valid) {
+        end();
+        if (shouldCommit()) {
+            this.validator = validator;
+            this.inputLength = input == null ? -1 : input.length();
+            this.valid = valid;
+            commit();
+        }
+    }
+}
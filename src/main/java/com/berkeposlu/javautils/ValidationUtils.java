@@ -22,6 +22,37 @@ public final class ValidationUtils {
         "^(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]"
     );
 
+    /** Maximum length of an email address (RFC 5321 forward-path limit). */
+    public static final int MAX_EMAIL_LENGTH = 254;
+
+    /** Maximum length of the local part of an email address (RFC 5321). */
+    public static final int MAX_EMAIL_LOCAL_PART_LENGTH = 64;
+
+    /** Maximum length of a single domain label (RFC 1035). */
+    public static final int MAX_DOMAIN_LABEL_LENGTH = 63;
+
+    /** Maximum length of a URL accepted by the bounded validator. */
+    public static final int MAX_URL_LENGTH = 2048;
+
+    /**
+     * When set with {@code -Djavautils.validation.bounded=true}, {@link #isValidEmail(String)} and
+     * {@link #isValidUrl(String)} use the bounded linear-time validators instead of the regexes.
+     */
+    private static final boolean BOUNDED_MODE = Boolean.getBoolean("javautils.validation.bounded");
+
+    private static final boolean[] EMAIL_LOCAL_CHARS = asciiSet("a-zA-Z0-9_+&*-");
+    private static final boolean[] DOMAIN_LABEL_CHARS = asciiSet("a-zA-Z0-9-");
+    private static final boolean[] URL_CHARS = asciiSet("a-zA-Z0-9+&@#/%?=~_|!:,.;-");
+    private static final boolean[] URL_LAST_CHARS = asciiSet("a-zA-Z0-9+&@#/%=~_|-");
+
+    private static final Metrics.Probe EMAIL_PROBE = Metrics.probe("ValidationUtils.isValidEmail");
+    private static final Metrics.Probe PHONE_PROBE = Metrics.probe("ValidationUtils.isValidPhone");
+    private static final Metrics.Probe URL_PROBE = Metrics.probe("ValidationUtils.isValidUrl");
+    private static final Metrics.Probe NUMERIC_PROBE = Metrics.probe("ValidationUtils.isNumeric");
+    private static final Metrics.Probe INTEGER_PROBE = Metrics.probe("ValidationUtils.isInteger");
+    private static final Metrics.Probe ALPHABETIC_PROBE = Metrics.probe("ValidationUtils.isAlphabetic");
+    private static final Metrics.Probe ALPHANUMERIC_PROBE = Metrics.probe("ValidationUtils.isAlphanumeric");
+
     private ValidationUtils() {
         // Utility class - prevent instantiation
     }
@@ -33,10 +64,13 @@ public final class ValidationUtils {
      * @return true if the email is valid, false otherwise
      */
     public static boolean isValidEmail(String email) {
-        if (StringUtils.isEmpty(email)) {
-            return false;
-        }
-        return EMAIL_PATTERN.matcher(email).matches();
+        long start = EMAIL_PROBE.start();
+        ValidationEvent event = ValidationEvent.start();
+        boolean valid = BOUNDED_MODE
+                ? scanEmail(email)
+                : !StringUtils.isEmpty(email) && EMAIL_PATTERN.matcher(email).matches();
+        event.finish("isValidEmail", email, valid);
+        return EMAIL_PROBE.validated(start, valid);
     }
 
     /**
@@ -46,12 +80,16 @@ public final class ValidationUtils {
      * @return true if the phone number is valid, false otherwise
      */
     public static boolean isValidPhone(String phone) {
+        long start = PHONE_PROBE.start();
         if (StringUtils.isEmpty(phone)) {
-            return false;
+            return PHONE_PROBE.validated(start, false);
         }
+        ValidationEvent event = ValidationEvent.start();
         // Remove common separators
         String cleanPhone = phone.replaceAll("[\\s()-]", "");
-        return PHONE_PATTERN.matcher(cleanPhone).matches();
+        boolean valid = PHONE_PATTERN.matcher(cleanPhone).matches();
+        event.finish("isValidPhone", phone, valid);
+        return PHONE_PROBE.validated(start, valid);
     }
 
     /**
@@ -61,10 +99,297 @@ public final class ValidationUtils {
      * @return true if the URL is valid, false otherwise
      */
     public static boolean isValidUrl(String url) {
-        if (StringUtils.isEmpty(url)) {
+        long start = URL_PROBE.start();
+        ValidationEvent event = ValidationEvent.start();
+        boolean valid = BOUNDED_MODE
+                ? scanUrl(url)
+                : !StringUtils.isEmpty(url) && URL_PATTERN.matcher(url).matches();
+        event.finish("isValidUrl", url, valid);
+        return URL_PROBE.validated(start, valid);
+    }
+
+    /**
+     * Validates an email address in guaranteed linear time.
+     * <p>
+     * Accepts the same addresses as {@link #isValidEmail(String)}, but without a backtracking
+     * regex and with the RFC length limits applied first: at most {@value #MAX_EMAIL_LENGTH}
+     * characters in total, {@value #MAX_EMAIL_LOCAL_PART_LENGTH} in the local part and
+     * {@value #MAX_DOMAIN_LABEL_LENGTH} per domain label. Inputs over the total limit are
+     * rejected without being scanned, so untrusted input cannot tie up the calling thread.
+     * Use {@link EmailParts} to validate and locate the parts of an address in the same scan.
+     *
+     * @param email the email to validate
+     * @return true if the email is valid, false otherwise
+     */
+    public static boolean isValidEmailBounded(String email) {
+        long start = EMAIL_PROBE.start();
+        return EMAIL_PROBE.validated(start, scanEmail(email));
+    }
+
+    /**
+     * Validates a URL in guaranteed linear time.
+     * <p>
+     * Accepts the same URLs as {@link #isValidUrl(String)}, but without a backtracking regex
+     * and only up to {@value #MAX_URL_LENGTH} characters. Longer inputs are rejected without
+     * being scanned. Use {@link UrlParts} to validate and locate the parts of a URL in the
+     * same scan.
+     *
+     * @param url the URL to validate
+     * @return true if the URL is valid, false otherwise
+     */
+    public static boolean isValidUrlBounded(String url) {
+        long start = URL_PROBE.start();
+        return URL_PROBE.validated(start, scanUrl(url));
+    }
+
+    /**
+     * Validates an email address and checks that neither the address nor its domain
+     * or any parent domain is on a blocklist.
+     *
+     * @param email the email to validate
+     * @param blocklist the blocklist of addresses and domains
+     * @return true if the email is valid and not blocked, false otherwise
+     * @throws IllegalArgumentException if the blocklist is null
+     */
+    public static boolean isValidEmail(String email, BlocklistFilter blocklist) {
+        if (blocklist == null) {
+            throw new IllegalArgumentException("Blocklist cannot be null");
+        }
+        if (!isValidEmail(email) || blocklist.contains(email)) {
             return false;
         }
-        return URL_PATTERN.matcher(url).matches();
+        int length = email.length();
+        int domainStart = email.lastIndexOf('@') + 1;
+        while (true) {
+            if (blocklist.contains(email, domainStart, length)) {
+                return false;
+            }
+            int dot = email.indexOf('.', domainStart);
+            if (dot < 0 || email.indexOf('.', dot + 1) < 0) {
+                return true;
+            }
+            domainStart = dot + 1;
+        }
+    }
+
+    /**
+     * Checks that a value is not on a blocklist.
+     *
+     * @param value the value to check
+     * @param blocklist the blocklist
+     * @return true if the value is not null and not blocked, false otherwise
+     * @throws IllegalArgumentException if the blocklist is null
+     */
+    public static boolean isNotBlocklisted(String value, BlocklistFilter blocklist) {
+        if (blocklist == null) {
+            throw new IllegalArgumentException("Blocklist cannot be null");
+        }
+        return value != null && !blocklist.contains(value);
+    }
+
+    /**
+     * Single pass over local-part@label.label.tld, equivalent to EMAIL_PATTERN plus length limits.
+     */
+    static boolean scanEmail(CharSequence email) {
+        return scanEmail(email, null);
+    }
+
+    /**
+     * The email scan, also recording the parts of a valid address if parts is not null.
+     */
+    static boolean scanEmail(CharSequence email, EmailParts parts) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        // cheapest rejections first: "a@b.cd" is the shortest possible address
+        if (length < 6 || length > MAX_EMAIL_LENGTH) {
+            return false;
+        }
+        int i = 0;
+        int atomLength = 0;
+        for (; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                break;
+            }
+            if (c == '.') {
+                if (atomLength == 0) {
+                    return false;
+                }
+                atomLength = 0;
+            } else if (isInSet(EMAIL_LOCAL_CHARS, c)) {
+                atomLength++;
+            } else {
+                return false;
+            }
+        }
+        if (i == length || atomLength == 0 || i > MAX_EMAIL_LOCAL_PART_LENGTH) {
+            return false;
+        }
+        int at = i;
+        int lastDot = i;
+        int labels = 0;
+        int labelLength = 0;
+        boolean lastLabelAlphabetic = true;
+        for (i++; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                labels++;
+                labelLength = 0;
+                lastLabelAlphabetic = true;
+                lastDot = i;
+            } else if (isInSet(DOMAIN_LABEL_CHARS, c)) {
+                if (++labelLength > MAX_DOMAIN_LABEL_LENGTH) {
+                    return false;
+                }
+                lastLabelAlphabetic &= (c | 0x20) >= 'a' && (c | 0x20) <= 'z';
+            } else {
+                return false;
+            }
+        }
+        // at least one label before the top-level domain, which has 2 to 7 letters
+        if (labels == 0 || !lastLabelAlphabetic || labelLength < 2 || labelLength > 7) {
+            return false;
+        }
+        if (parts != null) {
+            parts.set(email, at, lastDot);
+        }
+        return true;
+    }
+
+    /**
+     * Single pass over scheme://rest, equivalent to URL_PATTERN plus the length limit.
+     */
+    static boolean scanUrl(CharSequence url) {
+        return scanUrl(url, null);
+    }
+
+    /**
+     * The URL scan, also recording the parts of a valid URL if parts is not null.
+     */
+    static boolean scanUrl(CharSequence url, UrlParts parts) {
+        if (url == null) {
+            return false;
+        }
+        int length = url.length();
+        if (length > MAX_URL_LENGTH) {
+            return false;
+        }
+        int rest;
+        if (startsWith(url, "http://")) {
+            rest = 7;
+        } else if (startsWith(url, "https://")) {
+            rest = 8;
+        } else if (startsWith(url, "ftp://")) {
+            rest = 6;
+        } else if (startsWith(url, "file://")) {
+            rest = 7;
+        } else {
+            return false;
+        }
+        if (rest == length || !isInSet(URL_LAST_CHARS, url.charAt(length - 1))) {
+            return false;
+        }
+        if (parts != null) {
+            return scanUrlParts(url, rest, parts);
+        }
+        for (int i = rest; i < length - 1; i++) {
+            if (!isInSet(URL_CHARS, url.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The character loop of the URL scan, also finding the authority, query and fragment
+     * delimiters: the authority runs to the first '/', '?' or '#', the query from the first
+     * '?' to the first '#', and within the authority the last '@' ends the user info and a
+     * ':' followed only by digits starts the port.
+     */
+    private static boolean scanUrlParts(CharSequence url, int rest, UrlParts parts) {
+        int length = url.length();
+        int authorityEnd = -1;
+        int at = -1;
+        int colon = -1;
+        boolean portDigits = false;
+        int queryStart = -1;
+        int fragmentStart = -1;
+        for (int i = rest; i < length; i++) {
+            char c = url.charAt(i);
+            if (i < length - 1 && !isInSet(URL_CHARS, c)) {
+                return false;
+            }
+            if (fragmentStart >= 0) {
+                continue;
+            }
+            if (c == '#') {
+                fragmentStart = i;
+            } else if (queryStart >= 0) {
+                continue;
+            } else if (c == '?') {
+                queryStart = i;
+            } else if (authorityEnd >= 0) {
+                continue;
+            } else if (c == '/') {
+                authorityEnd = i;
+            } else if (c == '@') {
+                at = i;
+                colon = -1;
+            } else if (c == ':') {
+                colon = i;
+                portDigits = true;
+            } else if (c < '0' || c > '9') {
+                portDigits = false;
+            }
+            if (authorityEnd < 0 && (c == '#' || c == '?')) {
+                authorityEnd = i;
+            }
+        }
+        if (authorityEnd < 0) {
+            authorityEnd = length;
+        }
+        parts.set(url, rest, at, portDigits ? colon : -1, authorityEnd, queryStart, fragmentStart);
+        return true;
+    }
+
+    private static boolean startsWith(CharSequence str, String prefix) {
+        if (str.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (str.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isInSet(boolean[] set, char c) {
+        return c < set.length && set[c];
+    }
+
+    /**
+     * Builds a lookup table from a regex-like character class body such as "a-zA-Z0-9_-".
+     */
+    private static boolean[] asciiSet(String spec) {
+        boolean[] set = new boolean[128];
+        for (int i = 0; i < spec.length(); i++) {
+            char c = spec.charAt(i);
+            if (i + 2 < spec.length() && spec.charAt(i + 1) == '-') {
+                for (char r = c; r <= spec.charAt(i + 2); r++) {
+                    set[r] = true;
+                }
+                i += 2;
+            } else {
+                set[c] = true;
+            }
+        }
+        return set;
     }
 
     /**
@@ -74,14 +399,15 @@ public final class ValidationUtils {
      * @return true if the string is numeric, false otherwise
      */
     public static boolean isNumeric(String str) {
+        long start = NUMERIC_PROBE.start();
         if (StringUtils.isEmpty(str)) {
-            return false;
+            return NUMERIC_PROBE.validated(start, false);
         }
         try {
             Double.parseDouble(str);
-            return true;
+            return NUMERIC_PROBE.validated(start, true);
         } catch (NumberFormatException e) {
-            return false;
+            return NUMERIC_PROBE.validated(start, false);
         }
     }
 
@@ -92,14 +418,15 @@ public final class ValidationUtils {
      * @return true if the string is an integer, false otherwise
      */
     public static boolean isInteger(String str) {
+        long start = INTEGER_PROBE.start();
         if (StringUtils.isEmpty(str)) {
-            return false;
+            return INTEGER_PROBE.validated(start, false);
         }
         try {
             Integer.parseInt(str);
-            return true;
+            return INTEGER_PROBE.validated(start, true);
         } catch (NumberFormatException e) {
-            return false;
+            return INTEGER_PROBE.validated(start, false);
         }
     }
 
@@ -110,10 +437,11 @@ public final class ValidationUtils {
      * @return true if the string is alphabetic, false otherwise
      */
     public static boolean isAlphabetic(String str) {
+        long start = ALPHABETIC_PROBE.start();
         if (StringUtils.isEmpty(str)) {
-            return false;
+            return ALPHABETIC_PROBE.validated(start, false);
         }
-        return str.matches("^[a-zA-Z]+$");
+        return ALPHABETIC_PROBE.validated(start, Swar.allMatch(str, 0, str.length(), Swar.LETTERS));
     }
 
     /**
@@ -123,10 +451,11 @@ public final class ValidationUtils {
      * @return true if the string is alphanumeric, false otherwise
      */
     public static boolean isAlphanumeric(String str) {
+        long start = ALPHANUMERIC_PROBE.start();
         if (StringUtils.isEmpty(str)) {
-            return false;
+            return ALPHANUMERIC_PROBE.validated(start, false);
         }
-        return str.matches("^[a-zA-Z0-9]+$");
+        return ALPHANUMERIC_PROBE.validated(start, Swar.allMatch(str, 0, str.length(), Swar.ALPHANUMERIC));
     }
 
     /**
@@ -0,0 +1,410 @@
+package com.berkeposlu.javautils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The offset transitions of a time zone for a range of years, for converting between
+ * epoch seconds and local date-times on primitives instead of through ZonedDateTime.
+ * <p>
+ * Local date-times are represented as local epoch seconds: seconds since
+ * 1970-01-01T00:00 on the local time line of the zone, as returned by
+ * {@code LocalDateTime.toEpochSecond(ZoneOffset.UTC)}. {@code Math.floorDiv(local, 86400)}
+ * is the epoch day for {@link CalendarTable}, and {@code local * 1000} the value stored by
+ * {@link DateTimeColumn}.
+ * <p>
+ * The transitions are kept as two sorted arrays, one on the instant time line and one on
+ * the local time line, each with an index of the first transition per 24-day bucket, so
+ * a conversion is a bucket lookup, usually one comparison and an addition. The bulk
+ * methods first check whether a value falls into the same interval as the one before,
+ * which makes time-ordered input a single comparison per value. Local date-times in a
+ * gap or overlap are resolved like {@link LocalDateTime#atZone(ZoneId)}: in an overlap
+ * the earlier offset is used, and a date-time in a gap is moved later by the length of
+ * the gap. Values outside the years of the table are converted through the
+ * {@link ZoneRules} with the same results.
+ * <p>
+ * One table per zone is cached. Its year range slides with the data: a bulk conversion
+ * of values the cached table does not cover replaces it with one that does, spanning at
+ * least {@code javautils.zone.years} (default 40) years and keeping the previous range
+ * as long as the total stays within 400 years. Tables are immutable and thread-safe; they
+ * are snapshots of the zone rules at the time they were built.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+public final class ZoneTable {
+
+    private static final int WINDOW_YEARS = Math.max(1, Integer.getInteger("javautils.zone.years", 40));
+    private static final int MAX_WINDOW_YEARS = 400;
+
+    /** Year range for which tables are built, well inside the range of Instant. */
+    private static final int MIN_TABLE_YEAR = -999_999;
+    private static final int MAX_TABLE_YEAR = 999_999;
+
+    /** Largest offset allowed by {@link ZoneOffset}, in seconds. */
+    private static final long MAX_OFFSET = 18 * 3600;
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long SECONDS_PER_YEAR = 31_556_952;
+
+    /** Buckets of 2^21 seconds, about 24 days, so a bucket rarely contains more than one transition. */
+    private static final int BUCKET_SHIFT = 21;
+
+    private static final Map<ZoneId, ZoneTable> TABLES = new ConcurrentHashMap<>();
+
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private final int firstYear;
+    private final int lastYear;
+    /** First epoch second covered by the table. */
+    private final long start;
+    /** First epoch second after the table. */
+    private final long end;
+    /** First local epoch second whose candidate instants are all covered. */
+    private final long localStart;
+    /** First local epoch second after the covered ones. */
+    private final long localEnd;
+    /** Epoch seconds of the transitions. */
+    private final long[] transitions;
+    /** Local epoch seconds from which the offset after each transition applies. */
+    private final long[] localTransitions;
+    /** Offset before the first transition, then after each transition, in seconds. */
+    private final int[] offsets;
+    /** Number of transitions before each bucket of epoch seconds from the start. */
+    private final int[] buckets;
+    /** Number of local transitions before each bucket of local epoch seconds from the start. */
+    private final int[] localBuckets;
+
+    private ZoneTable(ZoneId zone, int firstYear, int lastYear) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        if (rules.isFixedOffset()) {
+            this.start = Long.MIN_VALUE;
+            this.end = Long.MAX_VALUE;
+            this.transitions = new long[0];
+            this.localTransitions = new long[0];
+            this.localStart = Long.MIN_VALUE;
+            this.localEnd = Long.MAX_VALUE;
+            this.offsets = new int[] {rules.getOffset(Instant.EPOCH).getTotalSeconds()};
+            this.buckets = new int[0];
+            this.localBuckets = new int[0];
+            return;
+        }
+        this.start = CalendarTable.epochDay(firstYear, 1, 1) * SECONDS_PER_DAY;
+        this.end = CalendarTable.epochDay(lastYear + 1, 1, 1) * SECONDS_PER_DAY;
+        this.localStart = start + MAX_OFFSET;
+        this.localEnd = end - MAX_OFFSET;
+
+        long[] instants = new long[2 * (lastYear - firstYear + 1) + 1];
+        long[] locals = new long[instants.length];
+        int[] values = new int[instants.length + 1];
+        int count = 0;
+        Instant first = Instant.ofEpochSecond(start);
+        values[0] = rules.getOffset(first).getTotalSeconds();
+        for (ZoneOffsetTransition transition = rules.nextTransition(first);
+                transition != null && transition.toEpochSecond() < end;
+                transition = rules.nextTransition(transition.getInstant())) {
+            if (count == instants.length) {
+                instants = Arrays.copyOf(instants, count * 2);
+                locals = Arrays.copyOf(locals, count * 2);
+                values = Arrays.copyOf(values, count * 2 + 1);
+            }
+            int before = transition.getOffsetBefore().getTotalSeconds();
+            int after = transition.getOffsetAfter().getTotalSeconds();
+            instants[count] = transition.toEpochSecond();
+            // below this local time the offset before still applies: the whole gap, and the
+            // overlap, which resolves to the earlier offset
+            locals[count] = instants[count] + Math.max(before, after);
+            values[++count] = after;
+        }
+        this.transitions = Arrays.copyOf(instants, count);
+        this.localTransitions = Arrays.copyOf(locals, count);
+        this.offsets = Arrays.copyOf(values, count + 1);
+        this.buckets = buckets(transitions);
+        this.localBuckets = buckets(localTransitions);
+    }
+
+    private int[] buckets(long[] keys) {
+        int[] result = new int[(int) ((end - start) >>> BUCKET_SHIFT) + 1];
+        for (int b = 0, k = 0; b < result.length; b++) {
+            long bucketStart = start + ((long) b << BUCKET_SHIFT);
+            while (k < keys.length && keys[k] < bucketStart) {
+                k++;
+            }
+            result[b] = k;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the cached table of a zone, building one around the current year on first use.
+     *
+     * @param zone the zone
+     * @return the table
+     * @throws IllegalArgumentException if the zone is null
+     */
+    public static ZoneTable of(ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+        ZoneTable table = TABLES.get(zone);
+        if (table == null) {
+            long now = System.currentTimeMillis() / 1000;
+            table = of(zone, now, now);
+        }
+        return table;
+    }
+
+    /**
+     * Gets a table of a zone that covers a range of epoch seconds, sliding the cached
+     * table of the zone to the range if it does not cover it yet.
+     * <p>
+     * If the range spans more than 400 years, the table covers its first 400 years.
+     *
+     * @param zone the zone
+     * @param minEpochSecond the first epoch second to cover
+     * @param maxEpochSecond the last epoch second to cover
+     * @return the table
+     * @throws IllegalArgumentException if the zone is null or the range is empty
+     */
+    public static ZoneTable of(ZoneId zone, long minEpochSecond, long maxEpochSecond) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+        if (minEpochSecond > maxEpochSecond) {
+            throw new IllegalArgumentException("Min epoch second cannot be greater than max epoch second");
+        }
+        ZoneTable table = TABLES.get(zone);
+        if (table != null && table.covers(minEpochSecond) && table.covers(maxEpochSecond)) {
+            return table;
+        }
+        // the estimated years may be one off near January 1, so include the neighbours
+        int first = yearOf(minEpochSecond) - 1;
+        int last = yearOf(maxEpochSecond) + 1;
+        if (table != null && Math.max(last, table.lastYear) - Math.min(first, table.firstYear) < MAX_WINDOW_YEARS) {
+            first = Math.min(first, table.firstYear);
+            last = Math.max(last, table.lastYear);
+        }
+        int missing = WINDOW_YEARS - (last - first + 1);
+        if (missing > 0) {
+            first -= missing / 2;
+            last += missing - missing / 2;
+        }
+        first = Math.max(first, MIN_TABLE_YEAR);
+        last = Math.min(Math.min(last, first + MAX_WINDOW_YEARS - 1), MAX_TABLE_YEAR);
+        table = new ZoneTable(zone, first, last);
+        TABLES.put(zone, table);
+        return table;
+    }
+
+    private static int yearOf(long epochSecond) {
+        long year = 1970 + Math.floorDiv(epochSecond, SECONDS_PER_YEAR);
+        return (int) Math.max(MIN_TABLE_YEAR, Math.min(year, MAX_TABLE_YEAR));
+    }
+
+    /**
+     * Gets the zone.
+     *
+     * @return the zone
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Checks whether an epoch second is covered by the table, so that converting it needs
+     * no access to the zone rules.
+     *
+     * @param epochSecond the epoch second
+     * @return true if the epoch second is inside the years of the table
+     */
+    public boolean covers(long epochSecond) {
+        return epochSecond >= start && epochSecond < end;
+    }
+
+    /**
+     * Gets the offset from UTC at an instant.
+     *
+     * @param epochSecond the instant, in seconds since 1970-01-01T00:00Z
+     * @return the offset in seconds
+     */
+    public int getOffsetSeconds(long epochSecond) {
+        if (!covers(epochSecond)) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        return offsets[indexOf(transitions, buckets, epochSecond)];
+    }
+
+    /**
+     * Converts an instant to a local date-time.
+     *
+     * @param epochSecond the instant, in seconds since 1970-01-01T00:00Z
+     * @return the local epoch second
+     */
+    public long toLocalEpochSecond(long epochSecond) {
+        return epochSecond + getOffsetSeconds(epochSecond);
+    }
+
+    /**
+     * Converts a local date-time to an instant.
+     *
+     * @param localEpochSecond the local epoch second
+     * @return the instant, in seconds since 1970-01-01T00:00Z
+     * @throws java.time.DateTimeException if the local date-time is outside the supported range
+     */
+    public long toEpochSecond(long localEpochSecond) {
+        if (localEpochSecond < localStart || localEpochSecond >= localEnd) {
+            return toEpochSecondByRules(localEpochSecond);
+        }
+        return localEpochSecond - offsets[indexOf(localTransitions, localBuckets, localEpochSecond)];
+    }
+
+    /**
+     * Converts instants to local date-times.
+     *
+     * @param epochSeconds the instants, in seconds since 1970-01-01T00:00Z
+     * @param epochSecondsFrom the start index in epochSeconds
+     * @param dest the destination array for the local epoch seconds, may be epochSeconds
+     * @param destFrom the start index in dest
+     * @param length the number of values
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public void toLocalEpochSeconds(long[] epochSeconds, int epochSecondsFrom, long[] dest, int destFrom, int length) {
+        checkRange(epochSeconds, epochSecondsFrom, length);
+        checkRange(dest, destFrom, length);
+        // offset of the interval [lo, hi) of the previous value
+        long lo = 0;
+        long hi = 0;
+        int offset = 0;
+        for (int i = 0; i < length; i++) {
+            long epochSecond = epochSeconds[epochSecondsFrom + i];
+            if (epochSecond < lo || epochSecond >= hi) {
+                if (!covers(epochSecond)) {
+                    dest[destFrom + i] = toLocalEpochSecond(epochSecond);
+                    continue;
+                }
+                int index = indexOf(transitions, buckets, epochSecond);
+                lo = index == 0 ? start : transitions[index - 1];
+                hi = index == transitions.length ? end : transitions[index];
+                offset = offsets[index];
+            }
+            dest[destFrom + i] = epochSecond + offset;
+        }
+    }
+
+    /**
+     * Converts local date-times to instants.
+     *
+     * @param localEpochSeconds the local epoch seconds
+     * @param localEpochSecondsFrom the start index in localEpochSeconds
+     * @param dest the destination array for the epoch seconds, may be localEpochSeconds
+     * @param destFrom the start index in dest
+     * @param length the number of values
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     * @throws java.time.DateTimeException if a local date-time is outside the supported range
+     */
+    public void toEpochSeconds(long[] localEpochSeconds, int localEpochSecondsFrom, long[] dest, int destFrom, int length) {
+        checkRange(localEpochSeconds, localEpochSecondsFrom, length);
+        checkRange(dest, destFrom, length);
+        long lo = 0;
+        long hi = 0;
+        int offset = 0;
+        for (int i = 0; i < length; i++) {
+            long local = localEpochSeconds[localEpochSecondsFrom + i];
+            if (local < lo || local >= hi) {
+                if (local < localStart || local >= localEnd) {
+                    dest[destFrom + i] = toEpochSecondByRules(local);
+                    continue;
+                }
+                int index = indexOf(localTransitions, localBuckets, local);
+                lo = index == 0 ? localStart : localTransitions[index - 1];
+                hi = index == localTransitions.length ? localEnd : localTransitions[index];
+                offset = offsets[index];
+            }
+            dest[destFrom + i] = local - offset;
+        }
+    }
+
+    /**
+     * Converts instants to local date-times with the cached table of a zone, sliding it to
+     * the range of the values first if necessary.
+     */
+    static void toLocalEpochSeconds(ZoneId zone, long[] epochSeconds, int epochSecondsFrom,
+            long[] dest, int destFrom, int length) {
+        checkRange(epochSeconds, epochSecondsFrom, length);
+        if (length == 0) {
+            return;
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = epochSecondsFrom; i < epochSecondsFrom + length; i++) {
+            min = Math.min(min, epochSeconds[i]);
+            max = Math.max(max, epochSeconds[i]);
+        }
+        of(zone, min, max).toLocalEpochSeconds(epochSeconds, epochSecondsFrom, dest, destFrom, length);
+    }
+
+    /**
+     * Converts local date-times to instants with the cached table of a zone, sliding it to
+     * the range of the values first if necessary.
+     */
+    static void toEpochSeconds(ZoneId zone, long[] localEpochSeconds, int localEpochSecondsFrom,
+            long[] dest, int destFrom, int length) {
+        checkRange(localEpochSeconds, localEpochSecondsFrom, length);
+        if (length == 0) {
+            return;
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = localEpochSecondsFrom; i < localEpochSecondsFrom + length; i++) {
+            min = Math.min(min, localEpochSeconds[i]);
+            max = Math.max(max, localEpochSeconds[i]);
+        }
+        // the instants are within the largest offset of the local values
+        long minInstant = min < Long.MIN_VALUE + MAX_OFFSET ? Long.MIN_VALUE : min - MAX_OFFSET;
+        long maxInstant = max > Long.MAX_VALUE - MAX_OFFSET ? Long.MAX_VALUE : max + MAX_OFFSET;
+        of(zone, minInstant, maxInstant).toEpochSeconds(localEpochSeconds, localEpochSecondsFrom, dest, destFrom, length);
+    }
+
+    private long toEpochSecondByRules(long localEpochSecond) {
+        return LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC).atZone(zone).toEpochSecond();
+    }
+
+    /**
+     * Counts the transition keys that are less than or equal to a covered value, starting
+     * from the count before its bucket.
+     */
+    private int indexOf(long[] keys, int[] keyBuckets, long value) {
+        if (keys.length == 0) {
+            return 0;
+        }
+        int index = keyBuckets[(int) ((value - start) >>> BUCKET_SHIFT)];
+        while (index < keys.length && keys[index] <= value) {
+            index++;
+        }
+        return index;
+    }
+
+    private static void checkRange(long[] values, int from, int length) {
+        if (values == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        Objects.checkFromIndexSize(from, length, values.length);
+    }
+
+    @Override
+    public String toString() {
+        return "ZoneTable[" + zone + ", " + firstYear + ".." + lastYear + ", " + transitions.length + " transitions]";
+    }
+}
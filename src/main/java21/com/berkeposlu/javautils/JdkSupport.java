@@ -0,0 +1,38 @@
+package com.berkeposlu.javautils;
+
+/**
+ * Hot-path operations whose best implementation depends on the JDK version.
+ * <p>
+ * This is the Java 21 override of the baseline class, loaded from
+ * {@code META-INF/versions/21} of the multi-release JAR. It detects virtual threads with
+ * {@code Thread.isVirtual()}, so the StringUtils transforms give them a fresh buffer
+ * instead of pinning a per-thread scratch array to every short-lived virtual thread.
+ *
+ * @author Berke Poslu
+ * @version 1.0.0
+ */
+final class JdkSupport {
+
+    private JdkSupport() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Gets the Java version this implementation was compiled for. A method rather than a
+     * constant, so callers see the class that was actually loaded.
+     *
+     * @return the Java feature version
+     */
+    static int feature() {
+        return 21;
+    }
+
+    /**
+     * Checks whether the current thread is a virtual thread.
+     *
+     * @return true if the current thread is virtual
+     */
+    static boolean isVirtualThread() {
+        return Thread.currentThread().isVirtual();
+    }
+}
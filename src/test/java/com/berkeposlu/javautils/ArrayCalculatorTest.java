@@ -0,0 +1,100 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ArrayCalculator class.
+ */
+class ArrayCalculatorTest {
+
+    private static final double DELTA = 0.0001;
+
+    private static final double[] A = {1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0};
+    private static final double[] B = {2.0, 4.0, 6.0, 8.0, 10.0, 12.0, 14.0};
+
+    @Test
+    void testMatchesScalarOperations() {
+        double[] sums = ArrayCalculator.add(A, B);
+        double[] differences = ArrayCalculator.subtract(A, B);
+        double[] products = ArrayCalculator.multiply(A, B);
+        double[] quotients = ArrayCalculator.divide(A, B);
+        double[] powers = ArrayCalculator.power(A, B);
+        double[] percentages = ArrayCalculator.percentageOf(A, B);
+        for (int i = 0; i < A.length; i++) {
+            assertEquals(Calculator.add(A[i], B[i]), sums[i]);
+            assertEquals(Calculator.subtract(A[i], B[i]), differences[i]);
+            assertEquals(Calculator.multiply(A[i], B[i]), products[i]);
+            assertEquals(Calculator.divide(A[i], B[i]), quotients[i]);
+            assertEquals(Calculator.power(A[i], B[i]), powers[i]);
+            assertEquals(Calculator.percentageOf(A[i], B[i]), percentages[i]);
+        }
+    }
+
+    @Test
+    void testScalarOperand() {
+        assertArrayEquals(new double[]{3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0}, ArrayCalculator.add(A, 2.0), DELTA);
+        assertArrayEquals(new double[]{0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0}, ArrayCalculator.subtract(A, 1.0), DELTA);
+        assertArrayEquals(new double[]{1.0, 4.0, 9.0, 16.0, 25.0, 36.0, 49.0}, ArrayCalculator.power(A, 2.0), DELTA);
+        assertArrayEquals(new double[]{0.5, 1.0, 1.5, 2.0, 2.5, 3.0, 3.5}, ArrayCalculator.divide(A, 2.0), DELTA);
+        assertArrayEquals(new double[]{0.5, 1.0, 1.5, 2.0, 2.5, 3.0, 3.5}, ArrayCalculator.percentageOf(A, 50.0), DELTA);
+        
+        assertThrows(ArithmeticException.class, () -> ArrayCalculator.divide(A, 0.0));
+    }
+
+    @Test
+    void testInPlaceAndRange() {
+        double[] values = A.clone();
+        ArrayCalculator.multiply(values, 10.0, values);
+        assertArrayEquals(new double[]{10.0, 20.0, 30.0, 40.0, 50.0, 60.0, 70.0}, values, DELTA);
+        
+        double[] dest = new double[4];
+        ArrayCalculator.add(A, 2, B, 1, dest, 1, 3);
+        assertArrayEquals(new double[]{0.0, 7.0, 10.0, 13.0}, dest, DELTA);
+        
+        assertThrows(IndexOutOfBoundsException.class, () -> ArrayCalculator.add(A, 5, B, 0, dest, 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> ArrayCalculator.add(A, new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> ArrayCalculator.abs(null));
+    }
+
+    @Test
+    void testDivideReportsAllZeroDivisors() {
+        double[] divisors = {1.0, 0.0, 2.0, 0.0, 4.0};
+        double[] dest = new double[5];
+        BitSet invalid = new BitSet();
+        
+        int count = ArrayCalculator.divide(new double[]{1.0, 1.0, 1.0, 1.0, 1.0}, 0, divisors, 0, dest, 0, 5, invalid);
+        
+        assertEquals(2, count);
+        assertEquals(BitSet.valueOf(new long[]{0b01010}), invalid);
+        assertArrayEquals(new double[]{1.0, Double.NaN, 0.5, Double.NaN, 0.25}, dest);
+        
+        double[] inPlace = divisors.clone();
+        ArithmeticException e = assertThrows(ArithmeticException.class,
+                () -> ArrayCalculator.divide(new double[]{1.0, 1.0, 1.0, 1.0, 1.0}, inPlace, inPlace));
+        assertTrue(e.getMessage().contains("2 of 5"));
+        assertArrayEquals(new double[]{1.0, Double.NaN, 0.5, Double.NaN, 0.25}, inPlace);
+    }
+
+    @Test
+    void testSqrtReportsAllNegatives() {
+        double[] values = {4.0, -1.0, 9.0, -4.0, 16.0, 0.0};
+        double[] dest = new double[values.length];
+        BitSet invalid = new BitSet();
+        
+        assertEquals(2, ArrayCalculator.sqrt(values, 0, dest, 0, values.length, invalid));
+        assertArrayEquals(new double[]{2.0, Double.NaN, 3.0, Double.NaN, 4.0, 0.0}, dest);
+        assertTrue(invalid.get(1) && invalid.get(3));
+        
+        assertThrows(IllegalArgumentException.class, () -> ArrayCalculator.sqrt(values));
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0}, ArrayCalculator.sqrt(new double[]{1.0, 4.0, 9.0}), DELTA);
+    }
+
+    @Test
+    void testAbs() {
+        assertArrayEquals(new double[]{1.0, 2.0, 0.0}, ArrayCalculator.abs(new double[]{-1.0, 2.0, -0.0}), DELTA);
+    }
+}
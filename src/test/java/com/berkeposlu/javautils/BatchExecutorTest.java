@@ -0,0 +1,165 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BatchExecutor class.
+ */
+class BatchExecutorTest {
+
+    @Test
+    void testValidate() throws Exception {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            emails.add(i % 3 == 0 ? "invalid" + i : "user" + i + "@example.com");
+        }
+        try (BatchExecutor executor = new BatchExecutor(4, 8)) {
+            boolean[] results = executor.validate(emails, ValidationUtils::isValidEmail).get(10, TimeUnit.SECONDS);
+            assertEquals(emails.size(), results.length);
+            for (int i = 0; i < results.length; i++) {
+                assertEquals(i % 3 != 0, results[i]);
+            }
+            assertEquals(8, executor.getAvailableSlots());
+        }
+    }
+
+    @Test
+    void testValidateCountsDistinct() throws Exception {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            emails.add(i % 4 == 0 ? "invalid" + i : "user" + (i % 1000) + "@example.com");
+        }
+        emails.add(null);
+        try (BatchExecutor executor = new BatchExecutor(4, 8)) {
+            DistinctCounter distinct = new DistinctCounter();
+            boolean[] results = executor.validate(emails, ValidationUtils::isValidEmail, distinct).get(10, TimeUnit.SECONDS);
+            assertEquals(emails.size(), results.length);
+            assertFalse(results[0]);
+            assertTrue(results[1]);
+            assertEquals(750, distinct.getCount());
+            assertTrue(distinct.isExact());
+            assertThrows(IllegalArgumentException.class, () -> executor.validate(emails, ValidationUtils::isValidEmail, null));
+        }
+    }
+
+    @Test
+    void testMapKeepsOrder() throws Exception {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            numbers.add(i);
+        }
+        try (BatchExecutor executor = new BatchExecutor(3, 4)) {
+            List<String> results = executor.map(numbers, n -> "n" + n).get(10, TimeUnit.SECONDS);
+            assertEquals(5_000, results.size());
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals("n" + i, results.get(i));
+            }
+            assertTrue(executor.map(Collections.emptyList(), n -> n).get().isEmpty());
+        }
+    }
+
+    @Test
+    void testParseDates() throws Exception {
+        try (BatchExecutor executor = new BatchExecutor()) {
+            List<LocalDate> dates = executor.parseDates(List.of("2024-01-15", "2024-02-29"), "yyyy-MM-dd").get();
+            assertEquals(List.of(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 29)), dates);
+            
+            List<String> invalid = new ArrayList<>(Collections.nCopies(1_000, "2024-01-15"));
+            invalid.set(500, "not a date");
+            CompletableFuture<List<LocalDate>> future = executor.parseDates(invalid, "yyyy-MM-dd");
+            ExecutionException e = assertThrows(ExecutionException.class, future::get);
+            assertInstanceOf(DateTimeParseException.class, e.getCause());
+        }
+    }
+
+    @Test
+    void testBackpressure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        try (BatchExecutor executor = new BatchExecutor(1, 2)) {
+            List<Integer> chunk = Collections.nCopies(64, 0);
+            CompletableFuture<?> first = executor.map(chunk, n -> {
+                started.incrementAndGet();
+                await(release);
+                return n;
+            });
+            CompletableFuture<?> second = executor.map(chunk, n -> n);
+            assertEquals(0, executor.getAvailableSlots());
+            
+            Thread submitter = new Thread(() -> executor.map(chunk, n -> n).join());
+            submitter.start();
+            submitter.join(200);
+            assertTrue(submitter.isAlive(), "submitter should block while the queue is full");
+            
+            release.countDown();
+            submitter.join(10_000);
+            assertFalse(submitter.isAlive());
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+            assertEquals(64, started.get());
+        }
+    }
+
+    @Test
+    void testNestedBatchRunsInline() throws Exception {
+        try (BatchExecutor executor = new BatchExecutor(1, 1)) {
+            List<Integer> outer = executor.map(List.of(1, 2, 3),
+                    n -> executor.map(List.of(n, n), m -> m * 10).join().get(0)).get(10, TimeUnit.SECONDS);
+            assertEquals(List.of(10, 20, 30), outer);
+        }
+    }
+
+    @Test
+    void testZoneConversion() throws Exception {
+        ZoneId zone = ZoneId.of("America/New_York");
+        long[] epochSeconds = new long[50_000];
+        for (int i = 0; i < epochSeconds.length; i++) {
+            epochSeconds[i] = 1_600_000_000L + i * 1_800L;
+        }
+        try (BatchExecutor executor = new BatchExecutor(4, 8)) {
+            long[] local = executor.toLocalEpochSeconds(epochSeconds, zone, new long[epochSeconds.length])
+                    .get(10, TimeUnit.SECONDS);
+            assertArrayEquals(DateUtils.toLocalEpochSeconds(epochSeconds, zone), local);
+            long[] back = executor.toEpochSeconds(local, zone, local).get(10, TimeUnit.SECONDS);
+            assertSame(local, back);
+            assertArrayEquals(DateUtils.toEpochSeconds(DateUtils.toLocalEpochSeconds(epochSeconds, zone), zone), back);
+            assertThrows(IllegalArgumentException.class, () -> executor.toEpochSeconds(epochSeconds, null, epochSeconds));
+        }
+    }
+
+    @Test
+    void testClosedAndInvalidArguments() {
+        BatchExecutor executor = new BatchExecutor(1, 1);
+        executor.close();
+        assertThrows(RejectedExecutionException.class, () -> executor.validate(List.of("a"), ValidationUtils::isNumeric));
+        assertEquals(1, executor.getAvailableSlots());
+        
+        assertThrows(IllegalArgumentException.class, () -> new BatchExecutor(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BatchExecutor(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> executor.map(null, n -> n));
+        assertThrows(IllegalArgumentException.class, () -> executor.validate(List.of(), null));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
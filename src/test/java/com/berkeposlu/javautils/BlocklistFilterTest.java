@@ -0,0 +1,153 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BlocklistFilter class.
+ */
+class BlocklistFilterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testNoFalseNegatives() {
+        BlocklistFilter filter = BlocklistFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("spam" + i + ".example.com");
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("spam" + i + ".example.com"));
+        }
+        assertEquals(10_000, filter.size());
+        assertFalse(filter.mightContain(null));
+    }
+
+    @Test
+    void testFalsePositiveRate() {
+        BlocklistFilter filter = BlocklistFilter.create(20_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filter.add("blocked" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("allowed" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.002);
+    }
+
+    @Test
+    void testCaseInsensitive() {
+        BlocklistFilter filter = BlocklistFilter.create(10, 0.001);
+        filter.add("Spam.Example.COM");
+        assertTrue(filter.contains("spam.example.com"));
+        assertTrue(filter.contains("SPAM.EXAMPLE.COM"));
+    }
+
+    @Test
+    void testContainsRange() {
+        BlocklistFilter filter = BlocklistFilter.create(10, 0.001);
+        filter.add("Spam.Example.COM");
+        filter.add("straße.de");
+        assertTrue(filter.contains("user@SPAM.example.com", 5, 21));
+        assertTrue(filter.contains(new StringBuilder("x@spam.example.com!"), 2, 18));
+        assertFalse(filter.contains("user@spam.example.com", 4, 21));
+        assertEquals(filter.contains("STRASSE.de"), filter.contains("a@STRASSE.de", 2, 12));
+        assertTrue(filter.contains("a@Straße.DE", 2, 11));
+        assertFalse(filter.contains(null, 0, 0));
+        
+        Random random = new Random(23);
+        for (int i = 0; i < 10_000; i++) {
+            String value = "user" + i + "@Host" + random.nextInt(50) + ".example.com";
+            int at = value.indexOf('@');
+            assertEquals(filter.contains(value.substring(at + 1)), filter.contains(value, at + 1, value.length()));
+        }
+        
+        String[] checked = new String[1];
+        BlocklistFilter exact = filter.withExactCheck(value -> {
+            checked[0] = value;
+            return true;
+        });
+        assertTrue(exact.contains("user@SPAM.example.com", 5, 21));
+        assertEquals("spam.example.com", checked[0]);
+        assertThrows(IllegalArgumentException.class, () -> filter.contains("abc", 2, 4));
+        assertThrows(IllegalArgumentException.class, () -> filter.contains("abc", 2, 1));
+    }
+
+    @Test
+    void testExactCheckOnlyForHits() {
+        Set<String> exact = new HashSet<>(List.of("spam.com"));
+        int[] checks = new int[1];
+        BlocklistFilter filter = BlocklistFilter.create(1, 0.5);
+        filter.add("spam.com");
+        BlocklistFilter checked = filter.withExactCheck(value -> {
+            checks[0]++;
+            return exact.contains(value);
+        });
+        
+        int filterHits = 0;
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(checked.contains("ham" + i + ".com"));
+            if (filter.mightContain("ham" + i + ".com")) {
+                filterHits++;
+            }
+        }
+        assertEquals(filterHits, checks[0]);
+        assertTrue(filterHits < 1_000);
+        assertTrue(checked.contains("spam.com"));
+        assertThrows(IllegalArgumentException.class, () -> filter.withExactCheck(null));
+    }
+
+    @Test
+    void testBuildSaveAndLoad() throws IOException {
+        Path source = tempDir.resolve("blocklist.txt");
+        Files.write(source, List.of("# blocked domains", "", "  spam.com ", "evil.org", "bad@example.com"));
+        
+        BlocklistFilter built = BlocklistFilter.build(source, 0.001);
+        assertEquals(3, built.size());
+        assertTrue(built.contains("spam.com"));
+        assertTrue(built.contains("evil.org"));
+        assertFalse(built.contains("# blocked domains"));
+        
+        Path file = tempDir.resolve("blocklist.bloom");
+        built.save(file);
+        BlocklistFilter loaded = BlocklistFilter.load(file);
+        assertEquals(built.size(), loaded.size());
+        assertEquals(built.bitCount(), loaded.bitCount());
+        assertEquals(built.hashFunctions(), loaded.hashFunctions());
+        assertTrue(loaded.contains("spam.com"));
+        assertTrue(loaded.contains("bad@example.com"));
+        assertFalse(loaded.contains("good.com"));
+        assertThrows(IllegalStateException.class, () -> loaded.add("new.com"));
+    }
+
+    @Test
+    void testLoadRejectsOtherFiles() throws IOException {
+        Path file = tempDir.resolve("other.bin");
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> BlocklistFilter.load(file));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> BlocklistFilter.create(-1, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BlocklistFilter.create(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> BlocklistFilter.create(10, 1));
+        assertThrows(IllegalArgumentException.class, () -> BlocklistFilter.create(10, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> BlocklistFilter.create(10, 0.01).add(null));
+    }
+}
@@ -1,6 +1,12 @@
 package com.berkeposlu.javautils;
 
 import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -65,7 +71,59 @@ class CalculatorTest {
         assertEquals(24, Calculator.factorial(4));
         assertEquals(120, Calculator.factorial(5));
         
+        assertEquals(2432902008176640000L, Calculator.factorial(20));
+        
         assertThrows(IllegalArgumentException.class, () -> Calculator.factorial(-1));
+        assertThrows(ArithmeticException.class, () -> Calculator.factorial(21));
+    }
+
+    @Test
+    void testFactorialExact() {
+        BigInteger expected = BigInteger.ONE;
+        for (int n = 0; n <= 300; n++) {
+            if (n > 0) {
+                expected = expected.multiply(BigInteger.valueOf(n));
+            }
+            assertEquals(expected, Calculator.factorialExact(n), "n = " + n);
+        }
+        
+        assertThrows(IllegalArgumentException.class, () -> Calculator.factorialExact(-1));
+    }
+
+    @Test
+    void testFactorialExactParallel() {
+        BigInteger expected = BigInteger.ONE;
+        for (int n = 2; n <= 20000; n++) {
+            expected = expected.multiply(BigInteger.valueOf(n));
+        }
+        assertEquals(expected, Calculator.factorialExact(20000));
+    }
+
+    @Test
+    void testBinomial() {
+        assertEquals(1, Calculator.binomial(0, 0));
+        assertEquals(10, Calculator.binomial(5, 2));
+        assertEquals(10, Calculator.binomial(5, 3));
+        assertEquals(1, Calculator.binomial(30, 30));
+        assertEquals(155117520L, Calculator.binomial(30, 15));
+        assertEquals(118264581564861424L, Calculator.binomial(60, 30));
+        
+        assertThrows(ArithmeticException.class, () -> Calculator.binomial(70, 35));
+        assertThrows(IllegalArgumentException.class, () -> Calculator.binomial(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> Calculator.binomial(5, 6));
+    }
+
+    @Test
+    void testBinomialExact() {
+        for (int n = 0; n <= 70; n++) {
+            for (int k = 0; k <= n; k++) {
+                BigInteger expected = Calculator.factorialExact(n)
+                        .divide(Calculator.factorialExact(k).multiply(Calculator.factorialExact(n - k)));
+                assertEquals(expected, Calculator.binomialExact(n, k), n + " choose " + k);
+            }
+        }
+        
+        assertThrows(IllegalArgumentException.class, () -> Calculator.binomialExact(3, -1));
     }
 
     @Test
@@ -92,6 +150,75 @@ class CalculatorTest {
         assertThrows(IllegalArgumentException.class, () -> Calculator.round(3.14, -1));
     }
 
+    @Test
+    void testRoundMatchesBigDecimal() {
+        assertEquals(2.68, Calculator.round(2.675, 2));
+        assertEquals(1.01, Calculator.round(1.005, 2));
+        assertEquals(0.0, Calculator.round(-0.001, 2));
+        assertEquals(-2.5, Calculator.round(-2.45, 1));
+        assertEquals(1.0E300, Calculator.round(1.0E300, 2));
+        
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            double value;
+            switch (i % 4) {
+                case 0:
+                    value = random.nextDouble() * 1000 - 500;
+                    break;
+                case 1:
+                    value = (random.nextInt(2_000_000) - 1_000_000) / 1000.0 + 0.0005;
+                    break;
+                case 2:
+                    value = random.nextInt(100_000) / 100.0;
+                    break;
+                default:
+                    value = Double.longBitsToDouble(random.nextLong());
+                    break;
+            }
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            int decimalPlaces = random.nextInt(18);
+            for (RoundingMode mode : RoundingMode.values()) {
+                assertRoundMatches(value, decimalPlaces, mode);
+            }
+        }
+    }
+
+    @Test
+    void testRoundExhaustiveHalfCents() {
+        for (int cents = -1_000_000; cents <= 1_000_000; cents++) {
+            double value = cents / 1000.0;
+            for (int decimalPlaces = 0; decimalPlaces <= 3; decimalPlaces++) {
+                assertRoundMatches(value, decimalPlaces, RoundingMode.HALF_UP);
+                assertRoundMatches(value, decimalPlaces, RoundingMode.FLOOR);
+            }
+        }
+    }
+
+    private static void assertRoundMatches(double value, int decimalPlaces, RoundingMode mode) {
+        double expected;
+        try {
+            expected = BigDecimal.valueOf(value).setScale(decimalPlaces, mode).doubleValue();
+        } catch (ArithmeticException e) {
+            assertThrows(ArithmeticException.class, () -> Calculator.round(value, decimalPlaces, mode));
+            return;
+        }
+        double actual = Calculator.round(value, decimalPlaces, mode);
+        assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(actual),
+                () -> value + " to " + decimalPlaces + " places " + mode + ": expected " + expected + " but was " + actual);
+    }
+
+    @Test
+    void testRoundArray() {
+        assertArrayEquals(new double[]{3.14, 2.72, -1.0}, Calculator.round(new double[]{3.14159, 2.71828, -0.999}, 2));
+        assertArrayEquals(new double[]{3.1, 2.7}, Calculator.round(new double[]{3.14159, 2.71828}, 1, RoundingMode.DOWN));
+        assertArrayEquals(new double[0], Calculator.round(new double[0], 2));
+        
+        assertThrows(IllegalArgumentException.class, () -> Calculator.round((double[]) null, 2));
+        assertThrows(IllegalArgumentException.class, () -> Calculator.round(3.14, 2, null));
+    }
+
     @Test
     void testMin() {
         assertEquals(1.0, Calculator.min(1.0, 2.0, 3.0), DELTA);
@@ -184,6 +311,77 @@ class CalculatorTest {
         assertEquals(1, Calculator.gcd(7, 13));
         assertEquals(4, Calculator.gcd(-12, 8));
         assertEquals(5, Calculator.gcd(0, 5));
+        assertEquals(0, Calculator.gcd(0, 0));
+        assertEquals(2, Calculator.gcd(Integer.MIN_VALUE, 6));
+        
+        assertThrows(ArithmeticException.class, () -> Calculator.gcd(Integer.MIN_VALUE, 0));
+    }
+
+    @Test
+    void testGcdLong() {
+        assertEquals(6L, Calculator.gcd(12L, 18L));
+        assertEquals(1L << 40, Calculator.gcd(3L << 40, 5L << 42));
+        assertEquals(2L, Calculator.gcd(Long.MIN_VALUE, 6L));
+        assertEquals(9_999_999_967L, Calculator.gcd(9_999_999_967L * 3, 9_999_999_967L * 7));
+        
+        assertThrows(ArithmeticException.class, () -> Calculator.gcd(Long.MIN_VALUE, Long.MIN_VALUE));
+    }
+
+    @Test
+    void testGcdArray() {
+        assertEquals(6, Calculator.gcd(12, 18, 24, 36));
+        assertEquals(1, Calculator.gcd(12, 18, 7, 36));
+        assertEquals(5, Calculator.gcd(-5));
+        assertEquals(4L, Calculator.gcd(new long[]{8L, -12L, 0L, 20L}));
+        assertEquals(1L << 62, Calculator.gcd(new long[]{1L << 62, 0L}));
+        
+        assertThrows(IllegalArgumentException.class, () -> Calculator.gcd(new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> Calculator.gcd((long[]) null));
+        assertThrows(ArithmeticException.class, () -> Calculator.gcd(new int[]{Integer.MIN_VALUE, 0}));
+    }
+
+    @Test
+    void testGcdArrayParallel() {
+        int[] ints = new int[200_000];
+        long[] longs = new long[ints.length];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = 6 * (i + 1);
+            longs[i] = 6L * (i + 1) << 30;
+        }
+        assertEquals(6, Calculator.gcd(ints));
+        assertEquals(6L << 30, Calculator.gcd(longs));
+        
+        ints[150_000] = 7;
+        longs[10] = 7;
+        assertEquals(1, Calculator.gcd(ints));
+        assertEquals(1L, Calculator.gcd(longs));
+    }
+
+    @Test
+    void testLcmArray() {
+        assertEquals(60, Calculator.lcm(3, 4, 5, 6));
+        assertEquals(0, Calculator.lcm(3, 0, 5));
+        assertEquals(0, Calculator.lcm(65536, 65537, 0));
+        assertEquals(12L, Calculator.lcm(new long[]{-4L, 6L}));
+        
+        assertThrows(IllegalArgumentException.class, () -> Calculator.lcm(new int[0]));
+        assertThrows(ArithmeticException.class, () -> Calculator.lcm(65536, 65537, 3));
+    }
+
+    @Test
+    void testLcmArrayParallel() {
+        int[] ints = new int[100_000];
+        long[] longs = new long[ints.length];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = 1 << (i % 10);
+            longs[i] = (i % 3) + 1;
+        }
+        assertEquals(512, Calculator.lcm(ints));
+        assertEquals(6L, Calculator.lcm(longs));
+        
+        ints[99_999] = 1 << 30;
+        ints[0] = 3;
+        assertThrows(ArithmeticException.class, () -> Calculator.lcm(ints));
     }
 
     @Test
@@ -194,5 +392,15 @@ class CalculatorTest {
         assertEquals(24, Calculator.lcm(-12, 8));
         assertEquals(0, Calculator.lcm(0, 5));
         assertEquals(0, Calculator.lcm(5, 0));
+        
+        assertThrows(ArithmeticException.class, () -> Calculator.lcm(65536, 65537));
+    }
+
+    @Test
+    void testLcmLong() {
+        assertEquals(4295032832L, Calculator.lcm(65536L, 65537L));
+        assertEquals(36L, Calculator.lcm(-12L, -18L));
+        
+        assertThrows(ArithmeticException.class, () -> Calculator.lcm(Long.MAX_VALUE, Long.MAX_VALUE - 1));
     }
 }
@@ -0,0 +1,80 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Year;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CalendarTable class.
+ */
+class CalendarTableTest {
+
+    @Test
+    void testMatchesJavaTimeInsideTable() {
+        long first = LocalDate.of(CalendarTable.MIN_YEAR, 1, 1).toEpochDay();
+        long last = LocalDate.of(CalendarTable.MAX_YEAR, 12, 31).toEpochDay();
+        for (long epochDay = first - 800; epochDay <= last + 800; epochDay++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            int ymd = CalendarTable.toYmd(epochDay);
+            assertEquals(date.getYear(), CalendarTable.year(ymd));
+            assertEquals(date.getMonthValue(), CalendarTable.month(ymd));
+            assertEquals(date.getDayOfMonth(), CalendarTable.day(ymd));
+            assertEquals(epochDay, CalendarTable.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+            assertEquals(epochDay, CalendarTable.epochDay(ymd));
+            assertEquals(epochDay, CalendarTable.epochDay(date));
+        }
+    }
+
+    @Test
+    void testMatchesJavaTimeOutsideTable() {
+        long[] epochDays = {-1_000_000_000L, -719_528L, -719_162L, -1L, 1_000_000L, 1_000_000_000L};
+        for (long epochDay : epochDays) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            int ymd = CalendarTable.toYmd(epochDay);
+            assertEquals(date, LocalDate.of(CalendarTable.year(ymd), CalendarTable.month(ymd), CalendarTable.day(ymd)));
+            assertEquals(epochDay, CalendarTable.epochDay(ymd));
+            assertEquals(epochDay, CalendarTable.epochDay(date));
+        }
+        assertEquals(LocalDate.MAX.toEpochDay(), CalendarTable.epochDay(LocalDate.MAX));
+        assertEquals(LocalDate.MIN.toEpochDay(), CalendarTable.epochDay(LocalDate.MIN));
+        assertThrows(IllegalArgumentException.class, () -> CalendarTable.toYmd(LocalDate.MAX.toEpochDay()));
+    }
+
+    @Test
+    void testLeapYearsAndMonthLengths() {
+        for (int year = -1000; year <= 3000; year++) {
+            assertEquals(Year.isLeap(year), CalendarTable.isLeapYear(year), "year " + year);
+            for (int month = 1; month <= 12; month++) {
+                assertEquals(LocalDate.of(year, month, 1).lengthOfMonth(), CalendarTable.lengthOfMonth(year, month));
+            }
+        }
+    }
+
+    @Test
+    void testPackedDatesSortInDateOrder() {
+        int previous = Integer.MIN_VALUE;
+        for (long epochDay = -800_000; epochDay < 800_000; epochDay += 17) {
+            int ymd = CalendarTable.toYmd(epochDay);
+            assertTrue(ymd > previous);
+            previous = ymd;
+        }
+        int ymd = CalendarTable.ymd(-44, 3, 15);
+        assertEquals(-44, CalendarTable.year(ymd));
+        assertEquals(3, CalendarTable.month(ymd));
+        assertEquals(15, CalendarTable.day(ymd));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> CalendarTable.epochDay(2023, 2, 29));
+        assertThrows(IllegalArgumentException.class, () -> CalendarTable.epochDay(2024, 13, 1));
+        assertThrows(IllegalArgumentException.class, () -> CalendarTable.epochDay(2024, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> CalendarTable.ymd(5_000_000, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> CalendarTable.ymd(2024, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> CalendarTable.ymd(2024, 1, 32));
+        assertThrows(IllegalArgumentException.class, () -> CalendarTable.lengthOfMonth(2024, 0));
+    }
+}
@@ -0,0 +1,240 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CsvPipeline class.
+ */
+class CsvPipelineTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testValidateAndTransform() throws IOException {
+        Path input = write("input.csv",
+                "name,email,amount,date\n"
+                        + "hello world,john@example.com,12.5,24.12.2023\n"
+                        + "foo bar,not-an-email,3,01.01.2024\n"
+                        + "x y,jane@example.org,abc,01.01.2024\n"
+                        + "a b,max@example.de,7,2024-02-01\r\n"
+                        + "last one,eve@example.net,1,15.06.2024");
+        Path output = tempDir.resolve("output.csv");
+        Path rejects = tempDir.resolve("rejects.csv");
+
+        CsvPipeline pipeline = CsvPipeline.builder()
+                .header(true)
+                .check("email", CsvPipeline.Check.EMAIL)
+                .validate("amount", ValidationUtils::isNumeric)
+                .transform("name", StringUtils::toCamelCase)
+                .transform("date", value -> DateUtils.formatDate(DateUtils.parseDate(value, "dd.MM.yyyy"), "yyyy-MM-dd"))
+                .build();
+        CsvPipeline.Result result = pipeline.run(input, output, rejects);
+
+        assertEquals(5, result.getRowsRead());
+        assertEquals(2, result.getRowsWritten());
+        assertEquals(3, result.getRowsRejected());
+        assertEquals(1, result.getRejections(1));
+        assertEquals(1, result.getRejections(2));
+        assertEquals(1, result.getRejections(3));
+        assertEquals(0, result.getRejections(0));
+        assertEquals("name,email,amount,date\n"
+                        + "helloWorld,john@example.com,12.5,2023-12-24\n"
+                        + "lastOne,eve@example.net,1,2024-06-15\n",
+                read(output));
+        assertEquals("name,email,amount,date\n"
+                        + "foo bar,not-an-email,3,01.01.2024\n"
+                        + "x y,jane@example.org,abc,01.01.2024\n"
+                        + "a b,max@example.de,7,2024-02-01\r\n",
+                read(rejects));
+    }
+
+    @Test
+    void testQuotedFields() throws IOException {
+        Path input = write("quoted.csv",
+                "\"a,b\",\"say \"\"hi\"\"\",\"multi\nline\"\n"
+                        + "plain,\"  \",x\n");
+        Path output = tempDir.resolve("out.csv");
+
+        CsvPipeline.Result result = CsvPipeline.builder()
+                .transform(1, String::toUpperCase)
+                .check(1, CsvPipeline.Check.NOT_BLANK)
+                .build()
+                .run(input, output);
+
+        assertEquals(2, result.getRowsRead());
+        assertEquals(1, result.getRowsWritten());
+        assertEquals("\"a,b\",\"SAY \"\"HI\"\"\",\"multi\nline\"\n", read(output));
+    }
+
+    @Test
+    void testPassThroughIsUnchanged() throws IOException {
+        String content = "id;wert;kommentar\n1;ä;\"x;y\"\n2;;\n3;€;ok\n";
+        Path input = write("semicolon.csv", content);
+        Path output = tempDir.resolve("out.csv");
+
+        CsvPipeline.Result result = CsvPipeline.builder()
+                .delimiter(';')
+                .header(true)
+                .check("id", CsvPipeline.Check.INTEGER)
+                .build()
+                .run(input, output);
+
+        assertEquals(3, result.getRowsWritten());
+        assertEquals(content, read(output));
+    }
+
+    @Test
+    void testMissingColumnAndThrowingTransformReject() throws IOException {
+        Path input = write("short.csv", "a,1\nb\nc,x\n");
+        Path output = tempDir.resolve("out.csv");
+
+        CsvPipeline.Result result = CsvPipeline.builder()
+                .transform(1, value -> String.valueOf(Integer.parseInt(value) * 2))
+                .build()
+                .run(input, output);
+
+        assertEquals(3, result.getRowsRead());
+        assertEquals(2, result.getRejections(1));
+        assertEquals("a,2\n", read(output));
+    }
+
+    @Test
+    void testSmallBufferProcessesLargeFile() throws IOException {
+        StringBuilder content = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            String line = i + ",user" + i + "@example.com," + (i % 7 == 0 ? "" : "value" + i) + "\n";
+            content.append(line);
+            if (i % 7 != 0) {
+                expected.append(line);
+            }
+        }
+        Path input = write("large.csv", content.toString());
+        Path output = tempDir.resolve("out.csv");
+
+        CsvPipeline.Result result = CsvPipeline.builder()
+                .bufferSize(128)
+                .check(0, CsvPipeline.Check.INTEGER)
+                .check(1, CsvPipeline.Check.EMAIL)
+                .check(2, CsvPipeline.Check.NOT_BLANK)
+                .build()
+                .run(input, output);
+
+        assertEquals(5_000, result.getRowsRead());
+        assertEquals(715, result.getRejections(2));
+        assertEquals(expected.toString(), read(output));
+    }
+
+    @Test
+    void testParallelMatchesSequential() throws IOException {
+        StringBuilder content = new StringBuilder("id,name\n");
+        for (int i = 0; i < 20_000; i++) {
+            content.append(i).append(",").append(i % 3 == 0 ? "bad name!" : "name" + i).append('\n');
+        }
+        Path input = write("parallel.csv", content.toString());
+        Path sequentialOut = tempDir.resolve("sequential.csv");
+        Path parallelOut = tempDir.resolve("parallel-out.csv");
+        Path parallelRejects = tempDir.resolve("parallel-rejects.csv");
+
+        CsvPipeline.Builder builder = CsvPipeline.builder()
+                .header(true)
+                .bufferSize(1024)
+                .check("name", CsvPipeline.Check.ALPHANUMERIC)
+                .transform("name", String::toUpperCase);
+        CsvPipeline.Result sequential = builder.build().run(input, sequentialOut);
+        CsvPipeline.Result parallel = builder.parallelism(4).build().run(input, parallelOut, parallelRejects);
+
+        assertEquals(20_000, parallel.getRowsRead());
+        assertEquals(sequential.getRowsWritten(), parallel.getRowsWritten());
+        assertEquals(6_667, parallel.getRowsRejected());
+        assertEquals(read(sequentialOut), read(parallelOut));
+        List<String> rejected = Files.readAllLines(parallelRejects);
+        assertEquals(6_668, rejected.size());
+        assertEquals("0,bad name!", rejected.get(1));
+        assertEquals("19998,bad name!", rejected.get(rejected.size() - 1));
+        List<String> leftovers = new ArrayList<>();
+        try (var files = Files.list(tempDir)) {
+            files.filter(path -> path.toString().endsWith(".tmp")).forEach(path -> leftovers.add(path.toString()));
+        }
+        assertTrue(leftovers.isEmpty(), "temporary files left: " + leftovers);
+    }
+
+    @Test
+    void testCountDistinct() throws IOException {
+        StringBuilder content = new StringBuilder("email,city\n");
+        for (int i = 0; i < 5_000; i++) {
+            String email = i % 10 == 0 ? "broken" : "user" + (i % 700) + "@example.com";
+            String city = i % 3 == 0 ? "\"Köln, DE\"" : i % 3 == 1 ? "Zürich" : "CITY" + (i % 5);
+            content.append(email).append(',').append(city).append('\n');
+        }
+        Path input = write("distinct.csv", content.toString());
+
+        CsvPipeline.Builder builder = CsvPipeline.builder()
+                .header(true)
+                .bufferSize(1024)
+                .check("email", CsvPipeline.Check.EMAIL)
+                .countDistinct("email")
+                .transform("city", String::toLowerCase)
+                .countDistinct(1);
+        CsvPipeline.Result sequential = builder.build().run(input, tempDir.resolve("out.csv"));
+        CsvPipeline.Result parallel = builder.parallelism(4).build().run(input, tempDir.resolve("out-parallel.csv"));
+
+        for (CsvPipeline.Result result : List.of(sequential, parallel)) {
+            assertEquals(4_500, result.getRowsWritten());
+            // user0..user699 but user0, user10, ... only occur in broken rows
+            assertEquals(630, result.getDistinct(0).getCount());
+            assertEquals(7, result.getDistinct(1).getCount());
+            assertNull(result.getDistinct(2));
+        }
+
+        DistinctCounter expected = new DistinctCounter();
+        for (int i = 1; i < 700; i++) {
+            if (i % 10 != 0) {
+                expected.add("user" + i + "@example.com");
+            }
+        }
+        expected.merge(sequential.getDistinct(0));
+        assertEquals(630, expected.getCount());
+    }
+
+    @Test
+    void testRecordLargerThanBuffer() throws IOException {
+        Path input = write("long.csv", "short\n" + "x".repeat(200) + "\n");
+        CsvPipeline pipeline = CsvPipeline.builder().bufferSize(64).build();
+        assertThrows(IOException.class, () -> pipeline.run(input, tempDir.resolve("out.csv")));
+    }
+
+    @Test
+    void testInvalidConfiguration() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> CsvPipeline.builder().delimiter('"'));
+        assertThrows(IllegalArgumentException.class, () -> CsvPipeline.builder().bufferSize(10));
+        assertThrows(IllegalArgumentException.class, () -> CsvPipeline.builder().parallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> CsvPipeline.builder().check(-1, CsvPipeline.Check.ASCII));
+        assertThrows(IllegalArgumentException.class, () -> CsvPipeline.builder().validate(0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> CsvPipeline.builder().check("email", CsvPipeline.Check.EMAIL).build());
+
+        Path input = write("header.csv", "a,b\n1,2\n");
+        CsvPipeline pipeline = CsvPipeline.builder().header(true).check("c", CsvPipeline.Check.INTEGER).build();
+        assertThrows(IllegalArgumentException.class, () -> pipeline.run(input, tempDir.resolve("out.csv")));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private static String read(Path path) throws IOException {
+        return Files.readString(path, StandardCharsets.UTF_8);
+    }
+}
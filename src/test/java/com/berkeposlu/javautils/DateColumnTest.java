@@ -0,0 +1,140 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DateColumn class.
+ */
+class DateColumnTest {
+
+    @Test
+    void testAddAndGet() {
+        DateColumn column = new DateColumn(2);
+        column.add(LocalDate.of(2024, 2, 29));
+        column.add(null);
+        column.addEpochDay(0);
+        column.add(LocalDate.of(1900, 1, 1));
+
+        assertEquals(4, column.size());
+        assertEquals(LocalDate.of(2024, 2, 29), column.get(0));
+        assertNull(column.get(1));
+        assertTrue(column.isNull(1));
+        assertEquals(LocalDate.of(1970, 1, 1), column.get(2));
+        assertEquals(LocalDate.of(1900, 1, 1).toEpochDay(), column.getEpochDay(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(4));
+        assertThrows(IllegalArgumentException.class, () -> column.addEpochDay(Integer.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> column.add(LocalDate.MAX));
+    }
+
+    @Test
+    void testParseMatchesDateUtils() {
+        String[] patterns = {"yyyy-MM-dd", "dd.MM.yyyy", "MM/dd/uuuu", "yyyyMMdd"};
+        Random random = new Random(7);
+        for (String pattern : patterns) {
+            DateColumn column = new DateColumn();
+            List<LocalDate> expected = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                LocalDate date = LocalDate.ofEpochDay(random.nextInt(200_000) - 100_000);
+                String text = DateUtils.formatDate(date, pattern);
+                column.parse(text, pattern);
+                expected.add(DateUtils.parseDate(text, pattern));
+            }
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), column.get(i), pattern);
+            }
+        }
+    }
+
+    @Test
+    void testParseEdgeCasesMatchDateUtils() {
+        String pattern = "dd.MM.yyyy";
+        for (String text : Arrays.asList("31.02.2023", "29.02.2024", "31.04.2024", "01.01.0001", "", null)) {
+            DateColumn column = new DateColumn();
+            column.parse(text, pattern);
+            assertEquals(DateUtils.parseDate(text, pattern), column.get(0), text);
+        }
+        for (String text : Arrays.asList("32.01.2024", "00.01.2024", "01.13.2024", "1.1.2024", "01-01-2024", "01.01.0000")) {
+            DateColumn column = new DateColumn();
+            assertThrows(DateTimeParseException.class, () -> column.parse(text, pattern), text);
+        }
+
+        DateColumn withTime = new DateColumn();
+        withTime.parse("2024-03-10 23:59", "yyyy-MM-dd HH:mm");
+        withTime.parse("10 Mar 2024", "dd MMM yyyy");
+        assertEquals(LocalDate.of(2024, 3, 10), withTime.get(0));
+        assertEquals(DateUtils.parseDate("10 Mar 2024", "dd MMM yyyy"), withTime.get(1));
+
+        // brackets and braces are pattern syntax, not separators
+        for (String[] textAndPattern : new String[][] {{"2092-10-22[ 14:13]", "yyyy-MM-dd[ HH:mm]"},
+                {"2092-10-22 14:13", "yyyy-MM-dd[ HH:mm]"}, {"2092-10-22", "yyyy-MM-dd[ HH:mm]"},
+                {"{2092-10-22}", "{yyyy-MM-dd}"}, {"#2092-10-22", "#yyyy-MM-dd"}}) {
+            DateColumn column = new DateColumn();
+            try {
+                LocalDate expected = DateUtils.parseDate(textAndPattern[0], textAndPattern[1]);
+                column.parse(textAndPattern[0], textAndPattern[1]);
+                assertEquals(expected, column.get(0), textAndPattern[0]);
+            } catch (RuntimeException e) {
+                assertThrows(e.getClass(), () -> column.parse(textAndPattern[0], textAndPattern[1]), textAndPattern[0]);
+            }
+        }
+    }
+
+    @Test
+    void testRangeQueriesSortedAndUnsorted() {
+        List<String> dates = List.of("2024-01-05", "2023-12-31", "2024-01-01", "", "2024-01-31", "2024-02-01");
+        DateColumn column = DateColumn.parseAll(dates, "yyyy-MM-dd");
+        assertFalse(column.isSorted());
+
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        assertEquals(3, column.countBetween(from, to));
+        assertArrayEquals(new int[] {0, 2, 4}, column.indexesBetween(from, to));
+        assertEquals(5, column.countBetween(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(0, column.countBetween(to, from));
+        assertThrows(IllegalStateException.class, () -> column.binarySearch(from));
+
+        column.sort();
+        assertTrue(column.isSorted());
+        assertTrue(column.isNull(0));
+        assertEquals(3, column.countBetween(from, to));
+        assertArrayEquals(new int[] {2, 3, 4}, column.indexesBetween(from, to));
+        assertEquals(5, column.countBetween(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(2, column.binarySearch(from));
+        assertEquals(-4, column.binarySearch(LocalDate.of(2024, 1, 2)));
+        assertEquals(-2, column.binarySearch(LocalDate.MIN));
+        assertEquals(LocalDate.of(2023, 12, 31), column.min());
+        assertEquals(LocalDate.of(2024, 2, 1), column.max());
+    }
+
+    @Test
+    void testAscendingAppendsStaySorted() {
+        DateColumn column = new DateColumn();
+        for (int day = 0; day < 1_000; day++) {
+            column.addEpochDay(day);
+        }
+        assertTrue(column.isSorted());
+        assertEquals(100, column.countBetween(LocalDate.ofEpochDay(100), LocalDate.ofEpochDay(199)));
+        column.trimToSize();
+        assertEquals(4_000, column.capacityBytes());
+    }
+
+    @Test
+    void testEmptyColumn() {
+        DateColumn column = new DateColumn();
+        assertNull(column.min());
+        assertNull(column.max());
+        assertEquals(-1, column.binarySearch(LocalDate.of(2024, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> column.countBetween(null, LocalDate.MAX));
+        assertThrows(IllegalArgumentException.class, () -> new DateColumn(-1));
+        assertThrows(IllegalArgumentException.class, () -> DateColumn.parseAll(null, "yyyy-MM-dd"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DateSniffer class.
+ */
+class DateSnifferTest {
+
+    @Test
+    void testFormats() {
+        DateSniffer sniffer = new DateSniffer();
+        LocalDate date = LocalDate.of(2024, 3, 5);
+        assertEquals(Optional.of(date), sniffer.parse("2024-03-05"));
+        assertEquals(Optional.of(date), sniffer.parse("2024-03-05T14:30"));
+        assertEquals(Optional.of(date), sniffer.parse("2024-03-05 14:30:15.123+01:00"));
+        assertEquals(Optional.of(date), sniffer.parse("2024-03-05T23:59:59Z"));
+        assertEquals(Optional.of(date), sniffer.parse("20240305"));
+        assertEquals(Optional.of(date), sniffer.parse("2024/3/5"));
+        assertEquals(Optional.of(date), sniffer.parse("05/03/2024"));
+        assertEquals(Optional.of(date), sniffer.parse("5.3.2024"));
+        assertEquals(Optional.of(date), sniffer.parse("03-05-2024"));
+        assertEquals(Optional.of(date), sniffer.parse(" Tue, 5 Mar 2024 11:05:30 GMT "));
+        assertEquals(Optional.of(date), sniffer.parse("05 Mar 2024 11:05 +0200"));
+        assertEquals(Optional.of(date), sniffer.parse(String.valueOf(date.toEpochDay() * 86_400_000L + 1234)));
+        assertEquals(Optional.of(LocalDate.of(1969, 12, 31)), sniffer.parse("-1"));
+
+        assertEquals(Optional.of(DateSniffer.Format.DAY_MONTH_YEAR_DOT), DateSniffer.detect("15.03.2024"));
+        assertEquals(Optional.of(DateSniffer.Format.EPOCH_MILLIS), DateSniffer.detect("1710460800000"));
+        assertEquals(Optional.of(DateSniffer.Format.RFC_1123), DateSniffer.detect("Fri, 15 Mar 2024 00:00:00 GMT"));
+        assertEquals(Optional.empty(), DateSniffer.detect("?2024"));
+    }
+
+    @Test
+    void testRejectsInvalidInput() {
+        DateSniffer sniffer = new DateSniffer();
+        String[] invalid = {
+            null, "", "   ", "2024-02-30", "2024-13-01", "2023-02-29", "2024-03-05T25:00", "2024-03-05T12:00X",
+            "32/01/2024", "01/01/24", "1.1.2024x", "2024/03", "Tue, 5 Foo 2024 11:05:30 GMT",
+            "Tue, 5 Mar 2024 11:05:30", "12345678901234567890", "--5", "abc", "2024-03-05T12:00+1"
+        };
+        for (String text : invalid) {
+            assertEquals(Optional.empty(), sniffer.parse(text), text);
+            assertEquals(DateSniffer.NO_DATE, sniffer.parseEpochDay(text), text);
+        }
+        assertEquals(Optional.empty(), DateUtils.parseDateLenient("not a date"));
+        assertEquals(Optional.of(LocalDate.of(2024, 2, 29)), DateUtils.parseDateLenient("29.02.2024"));
+    }
+
+    @Test
+    void testMatchesJavaTimeFormatters() {
+        DateSniffer sniffer = new DateSniffer();
+        DateTimeFormatter[] formatters = {
+            DateTimeFormatter.ISO_LOCAL_DATE, DateTimeFormatter.BASIC_ISO_DATE,
+            DateTimeFormatter.ofPattern("dd/MM/uuuu"), DateTimeFormatter.ofPattern("dd.MM.uuuu"),
+            DateTimeFormatter.ofPattern("MM-dd-uuuu"), DateTimeFormatter.ofPattern("uuuu/MM/dd")
+        };
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextInt(80_000) - 10_000);
+            for (DateTimeFormatter formatter : formatters) {
+                assertEquals(date, sniffer.parse(date.format(formatter)).orElse(null), date.format(formatter));
+            }
+            ZonedDateTime dateTime = date.atTime(random.nextInt(24), random.nextInt(60)).atZone(ZoneId.of("UTC"));
+            String rfc = dateTime.format(DateTimeFormatter.RFC_1123_DATE_TIME.withLocale(Locale.ROOT));
+            assertEquals(date, sniffer.parse(rfc).orElse(null), rfc);
+            assertEquals(date, sniffer.parse(dateTime.toOffsetDateTime().toString()).orElse(null));
+        }
+    }
+
+    @Test
+    void testLearnsFormatPerSource() {
+        DateSniffer sniffer = new DateSniffer();
+        assertEquals(Optional.empty(), sniffer.getLearnedFormat());
+        sniffer.parse("15.03.2024");
+        assertEquals(Optional.of(DateSniffer.Format.DAY_MONTH_YEAR_DOT), sniffer.getLearnedFormat());
+        assertEquals(Optional.empty(), sniffer.parse("junk"));
+        assertEquals(Optional.of(DateSniffer.Format.DAY_MONTH_YEAR_DOT), sniffer.getLearnedFormat());
+        sniffer.parse("2024-03-15");
+        assertEquals(Optional.of(DateSniffer.Format.ISO_DATE), sniffer.getLearnedFormat());
+
+        assertSame(DateSniffer.forSource("orders.csv"), DateSniffer.forSource("orders.csv"));
+        assertNotSame(DateSniffer.forSource("orders.csv"), DateSniffer.forSource("customers.csv"));
+    }
+
+    @Test
+    void testEpochMillisInZone() {
+        long millis = ZonedDateTime.of(2024, 3, 15, 23, 30, 0, 0, ZoneId.of("UTC")).toInstant().toEpochMilli();
+        assertEquals(LocalDate.of(2024, 3, 15), new DateSniffer().parse(String.valueOf(millis)).orElse(null));
+        assertEquals(LocalDate.of(2024, 3, 16),
+                new DateSniffer(ZoneId.of("Europe/Berlin")).parse(String.valueOf(millis)).orElse(null));
+        assertThrows(IllegalArgumentException.class, () -> new DateSniffer(null));
+        assertThrows(IllegalArgumentException.class, () -> DateSniffer.forSource(null));
+    }
+}
@@ -0,0 +1,107 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DateTimeColumn class.
+ */
+class DateTimeColumnTest {
+
+    @Test
+    void testAddAndGet() {
+        DateTimeColumn column = new DateTimeColumn();
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 10, 14, 30, 15, 123_456_789);
+        column.add(dateTime);
+        column.add(null);
+        column.add(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000));
+
+        assertEquals(dateTime.withNano(123_000_000), column.get(0));
+        assertNull(column.get(1));
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000), column.get(2));
+        assertEquals(-1, column.getEpochMilli(2));
+        assertThrows(IllegalArgumentException.class, () -> column.add(LocalDateTime.MAX));
+        assertThrows(IllegalArgumentException.class, () -> column.addEpochMilli(Long.MIN_VALUE));
+    }
+
+    @Test
+    void testParseMatchesDateUtils() {
+        String[] patterns = {"yyyy-MM-dd HH:mm:ss", "dd.MM.yyyy HH:mm", "yyyy-MM-dd HH:mm:ss.SSS", "yyyyMMddHHmmss"};
+        Random random = new Random(11);
+        for (String pattern : patterns) {
+            DateTimeColumn column = new DateTimeColumn();
+            String[] texts = new String[1_000];
+            for (int i = 0; i < texts.length; i++) {
+                LocalDateTime dateTime = LocalDateTime.of(1900 + random.nextInt(300), 1 + random.nextInt(12),
+                        1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                        random.nextInt(1000) * 1_000_000);
+                texts[i] = DateUtils.formatDateTime(dateTime, pattern);
+                column.parse(texts[i], pattern);
+            }
+            for (int i = 0; i < texts.length; i++) {
+                assertEquals(DateUtils.parseDateTime(texts[i], pattern), column.get(i), pattern);
+            }
+        }
+    }
+
+    @Test
+    void testParseEdgeCasesMatchDateUtils() {
+        String pattern = "yyyy-MM-dd HH:mm";
+        for (String text : Arrays.asList("2023-02-30 10:00", "2024-12-31 23:59", "", null)) {
+            DateTimeColumn column = new DateTimeColumn();
+            column.parse(text, pattern);
+            assertEquals(DateUtils.parseDateTime(text, pattern), column.get(0), text);
+        }
+        for (String text : Arrays.asList("2024-01-01 25:00", "2024-01-01 10:60", "2024-01-01", "2024-01-01T10:00")) {
+            DateTimeColumn column = new DateTimeColumn();
+            assertThrows(DateTimeParseException.class, () -> column.parse(text, pattern), text);
+        }
+        DateTimeColumn isoColumn = new DateTimeColumn();
+        isoColumn.parse("2024-01-01T10:00:00", "yyyy-MM-dd'T'HH:mm:ss");
+        assertEquals(LocalDateTime.of(2024, 1, 1, 10, 0), isoColumn.get(0));
+
+        // brackets and braces are pattern syntax, not separators
+        for (String[] textAndPattern : new String[][] {{"2092-10-22[ 14:13]", "yyyy-MM-dd[ HH:mm]"},
+                {"2092-10-22 14:13", "yyyy-MM-dd[ HH:mm]"}, {"{2092-10-22 14:13}", "{yyyy-MM-dd HH:mm}"},
+                {"#2092-10-22 14:13", "#yyyy-MM-dd HH:mm"}}) {
+            DateTimeColumn column = new DateTimeColumn();
+            try {
+                LocalDateTime expected = DateUtils.parseDateTime(textAndPattern[0], textAndPattern[1]);
+                column.parse(textAndPattern[0], textAndPattern[1]);
+                assertEquals(expected, column.get(0), textAndPattern[0]);
+            } catch (RuntimeException e) {
+                assertThrows(e.getClass(), () -> column.parse(textAndPattern[0], textAndPattern[1]), textAndPattern[0]);
+            }
+        }
+    }
+
+    @Test
+    void testRangeQueries() {
+        List<String> values = List.of("2024-01-01 12:00", "2024-01-01 08:00", "", "2024-01-02 00:00", "2024-01-01 00:00");
+        DateTimeColumn column = DateTimeColumn.parseAll(values, "yyyy-MM-dd HH:mm");
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 2, 0, 0);
+
+        assertFalse(column.isSorted());
+        assertEquals(3, column.countBetween(from, to));
+        assertArrayEquals(new int[] {0, 1, 4}, column.indexesBetween(from, to));
+
+        column.sort();
+        assertEquals(3, column.countBetween(from, to));
+        assertArrayEquals(new int[] {1, 2, 3}, column.indexesBetween(from, to));
+        assertEquals(4, column.countBetween(LocalDateTime.MIN.withYear(-100_000), to.plusSeconds(1)));
+        assertEquals(3, column.binarySearch(LocalDateTime.of(2024, 1, 1, 12, 0)));
+        assertEquals(-4, column.binarySearch(LocalDateTime.of(2024, 1, 1, 9, 0)));
+        assertEquals(from, column.min());
+        assertEquals(to, column.max());
+        column.trimToSize();
+        assertEquals(5 * Long.BYTES, column.capacityBytes());
+    }
+}
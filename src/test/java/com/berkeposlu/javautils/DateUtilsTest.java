@@ -3,6 +3,10 @@ package com.berkeposlu.javautils;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Random;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -20,6 +24,23 @@ class DateUtilsTest {
         assertNull(DateUtils.formatDate(date, null));
     }
 
+    @Test
+    void testFormatDateFollowsDefaultLocale() {
+        LocalDate date = LocalDate.of(2023, 3, 25);
+        Locale original = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.US);
+            assertEquals("Mar 25", DateUtils.formatDate(date, "MMM dd"));
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            assertEquals("März 25", DateUtils.formatDate(date, "MMM dd"));
+            assertEquals(date, DateUtils.parseDate("März 25 2023", "MMM dd yyyy"));
+            Locale.setDefault(Locale.Category.FORMAT, Locale.US);
+            assertEquals("Mar 25", DateUtils.formatDate(date, "MMM dd"));
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, original);
+        }
+    }
+
     @Test
     void testFormatDateTime() {
         LocalDateTime dateTime = LocalDateTime.of(2023, 12, 25, 14, 30, 45);
@@ -137,4 +158,47 @@ class DateUtilsTest {
         assertEquals(date, DateUtils.subtractDays(date, 0));
         assertNull(DateUtils.subtractDays(null, 10));
     }
+    @Test
+    void testPackedDateArithmetic() {
+        int ymd = CalendarTable.ymd(2024, 2, 28);
+        assertEquals(CalendarTable.ymd(2024, 2, 29), DateUtils.addDays(ymd, 1));
+        assertEquals(CalendarTable.ymd(2024, 3, 1), DateUtils.addDays(ymd, 2));
+        assertEquals(CalendarTable.ymd(2023, 12, 31), DateUtils.subtractDays(ymd, 59));
+        assertEquals(366, DateUtils.daysBetween(CalendarTable.ymd(2024, 1, 1), CalendarTable.ymd(2025, 1, 1)));
+        assertEquals(-365, DateUtils.daysBetween(CalendarTable.ymd(2024, 1, 1), CalendarTable.ymd(2023, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> DateUtils.addDays(CalendarTable.ymd(2023, 2, 30), 1));
+    }
+
+    @Test
+    void testDayArithmeticMatchesJavaTime() {
+        Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextInt(2_000_000) - 1_000_000);
+            long days = random.nextInt(200_000) - 100_000;
+            assertEquals(date.plusDays(days), DateUtils.addDays(date, days));
+            assertEquals(date.minusDays(days), DateUtils.subtractDays(date, days));
+            LocalDate other = date.plusDays(days);
+            assertEquals(ChronoUnit.DAYS.between(date, other), DateUtils.daysBetween(date, other));
+
+            LocalDateTime start = date.atTime(random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+            LocalDateTime end = other.atTime(random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+            assertEquals(ChronoUnit.HOURS.between(start, end), DateUtils.hoursBetween(start, end));
+            LocalDateTime nearEnd = start.plusNanos(random.nextLong() % 10_000_000_000_000L);
+            assertEquals(ChronoUnit.HOURS.between(start, nearEnd), DateUtils.hoursBetween(start, nearEnd));
+        }
+    }
+
+    @Test
+    void testZoneConversion() {
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        LocalDateTime summer = LocalDateTime.of(2024, 7, 1, 12, 0);
+        long epochSecond = summer.atZone(berlin).toEpochSecond();
+        assertEquals(summer, DateUtils.toLocalDateTime(epochSecond, berlin));
+        assertEquals(epochSecond, DateUtils.toEpochSecond(summer, berlin));
+        // 02:30 does not exist on 2024-03-31 and is moved forward by the gap
+        LocalDateTime gap = LocalDateTime.of(2024, 3, 31, 2, 30);
+        assertEquals(gap.atZone(berlin).toEpochSecond(), DateUtils.toEpochSecond(gap, berlin));
+        assertThrows(IllegalArgumentException.class, () -> DateUtils.toEpochSecond(null, berlin));
+        assertThrows(IllegalArgumentException.class, () -> DateUtils.toLocalDateTime(0, null));
+    }
 }
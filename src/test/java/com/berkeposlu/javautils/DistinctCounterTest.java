@@ -0,0 +1,116 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DistinctCounter class.
+ */
+class DistinctCounterTest {
+
+    @Test
+    void testExactWhileSmall() {
+        DistinctCounter counter = new DistinctCounter();
+        assertEquals(0, counter.getCount());
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 1000; i++) {
+                counter.add("user" + i + "@example.com");
+            }
+        }
+        assertTrue(counter.isExact());
+        assertEquals(1000, counter.getCount());
+        counter.add(42L);
+        counter.add(42L);
+        assertEquals(1001, counter.getCount());
+        assertTrue(counter.toString().contains("exact"));
+    }
+
+    @Test
+    void testAccuracyAcrossTiers() {
+        DistinctCounter counter = new DistinctCounter();
+        int added = 0;
+        for (int target : new int[] {1_500, 2_000, 10_000, 100_000, 1_000_000}) {
+            for (; added < target; added++) {
+                counter.add("value-" + added);
+                if (added % 7 == 0) {
+                    counter.add("value-" + (added / 2));
+                }
+            }
+            double error = Math.abs(counter.getCount() - target) / (double) target;
+            // 1.04 / sqrt(2^14) = 0.8% standard error when dense, far less before
+            assertTrue(error < 0.035, target + ": " + counter.getCount());
+            assertFalse(counter.isExact());
+        }
+        assertEquals(2_000, countOf(2_000, DistinctCounter.DEFAULT_PRECISION), 2);
+        assertTrue(counter.toString().contains("dense"));
+    }
+
+    @Test
+    void testMergeEqualsUnion() {
+        for (int n : new int[] {100, 1_500, 50_000}) {
+            DistinctCounter all = new DistinctCounter(12);
+            DistinctCounter[] parts = {new DistinctCounter(12), new DistinctCounter(12), new DistinctCounter(12)};
+            for (int i = 0; i < n; i++) {
+                all.add(i);
+                parts[i % 3 == 0 ? 0 : i % 100 == 1 ? 1 : 2].add(i);
+                parts[1].add(i / 10);
+            }
+            for (int i = 0; i < n / 10; i++) {
+                all.add(i);
+            }
+            DistinctCounter merged = new DistinctCounter(12);
+            for (DistinctCounter part : parts) {
+                merged.merge(part);
+            }
+            assertEquals(all.getCount(), merged.getCount(), "n=" + n);
+            assertEquals(all.isExact(), merged.isExact());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new DistinctCounter(12).merge(new DistinctCounter(14)));
+        assertThrows(IllegalArgumentException.class, () -> new DistinctCounter().merge(null));
+    }
+
+    @Test
+    void testSerializationRoundTrip() {
+        for (int n : new int[] {0, 500, 1_500, 100_000}) {
+            DistinctCounter counter = new DistinctCounter();
+            for (int i = 0; i < n; i++) {
+                counter.add("item" + i);
+            }
+            byte[] bytes = counter.toByteArray();
+            DistinctCounter copy = DistinctCounter.fromByteArray(bytes);
+            assertEquals(counter.getCount(), copy.getCount());
+            assertEquals(counter.isExact(), copy.isExact());
+            assertEquals(14, copy.getPrecision());
+            assertArrayEquals(bytes, copy.toByteArray());
+            if (n == 100_000) {
+                // six bits per dense register
+                assertEquals(16 + (1 << 14) * 6 / 8, bytes.length);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> DistinctCounter.fromByteArray(null));
+        assertThrows(IllegalArgumentException.class, () -> DistinctCounter.fromByteArray(new byte[10]));
+        DistinctCounter one = new DistinctCounter();
+        one.add("x");
+        byte[] bytes = one.toByteArray();
+        assertThrows(IllegalArgumentException.class, () -> DistinctCounter.fromByteArray(Arrays.copyOf(bytes, bytes.length - 1)));
+        assertThrows(IllegalArgumentException.class, () -> DistinctCounter.fromByteArray(Arrays.copyOf(bytes, bytes.length + 1)));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new DistinctCounter(3));
+        assertThrows(IllegalArgumentException.class, () -> new DistinctCounter(19));
+        assertThrows(IllegalArgumentException.class, () -> new DistinctCounter().add(null));
+    }
+
+    private static long countOf(int n, int precision) {
+        DistinctCounter counter = new DistinctCounter(precision);
+        for (int i = 0; i < n; i++) {
+            counter.add("distinct-" + i);
+        }
+        return counter.getCount();
+    }
+}
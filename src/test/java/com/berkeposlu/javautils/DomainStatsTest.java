@@ -0,0 +1,115 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DomainStats class.
+ */
+class DomainStatsTest {
+
+    @Test
+    void testEmails() {
+        DomainStats stats = DomainStats.forEmails(64);
+        assertTrue(stats.test("alice@example.com"));
+        assertTrue(stats.test("bob@Example.COM"));
+        assertTrue(stats.test("carol@mail.org"));
+        assertFalse(stats.test("dave@spam..net"));
+        assertFalse(stats.test("eve@spam..net"));
+        assertFalse(stats.test("no-at-sign"));
+        assertFalse(stats.test(null));
+
+        List<HeavyHitters.Entry> accepted = stats.topAccepted(10);
+        assertEquals(2, accepted.size());
+        assertEquals("example.com", accepted.get(0).getKey());
+        assertEquals(2, accepted.get(0).getCount());
+        assertEquals("mail.org", accepted.get(1).getKey());
+        assertEquals(3, stats.getAccepted().getTotal());
+
+        List<HeavyHitters.Entry> rejected = stats.topRejected(10);
+        assertEquals("spam..net", rejected.get(0).getKey());
+        assertEquals(2, rejected.get(0).getCount());
+        assertEquals("", rejected.get(1).getKey());
+        assertEquals(3, stats.getRejected().getTotal());
+
+        stats.record("x@" + "a".repeat(1000), false);
+        assertEquals(DomainStats.MAX_DOMAIN_LENGTH, stats.topRejected(10).get(2).getKey().length());
+
+        stats.reset();
+        assertEquals(0, stats.getAccepted().getTotal());
+        assertEquals(0, stats.getRejected().getTotal());
+    }
+
+    @Test
+    void testUrls() {
+        DomainStats stats = DomainStats.forUrls(64);
+        assertTrue(stats.test("https://user:pw@WWW.example.com:8443/a?b#c"));
+        assertTrue(stats.test("http://www.example.com"));
+        assertTrue(stats.test("ftp://files.example.org/pub"));
+        assertFalse(stats.test("https://bad host.com/x"));
+        assertFalse(stats.test("example.com/path"));
+
+        List<HeavyHitters.Entry> accepted = stats.topAccepted(10);
+        assertEquals("www.example.com", accepted.get(0).getKey());
+        assertEquals(2, accepted.get(0).getCount());
+        assertEquals("files.example.org", accepted.get(1).getKey());
+        assertEquals(2, stats.topRejected(10).size());
+        assertEquals(1, stats.getRejected().getCount("bad host.com"));
+        assertEquals(1, stats.getRejected().getCount(""));
+
+        // hosts of valid URLs are the ones UrlParts finds
+        UrlParts parts = new UrlParts();
+        String[] urls = {"file:///tmp/x", "http://a@b@host:80", "http://host:abc/", "https://h?q=/x", "http://h:1:2#f"};
+        for (String url : urls) {
+            assertTrue(parts.parse(url), url);
+            DomainStats single = DomainStats.forUrls(4);
+            single.record(url, true);
+            assertEquals(parts.get(UrlParts.Component.HOST).toString(), single.topAccepted(1).get(0).getKey(), url);
+        }
+    }
+
+    @Test
+    void testMergeAndBatchValidation() throws InterruptedException, ExecutionException {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            emails.add("user" + i + "@domain" + (i % 7) + ".com");
+            if (i % 3 == 0) {
+                emails.add("user" + i + "@bad_domain.com");
+            }
+        }
+        DomainStats shared = DomainStats.forEmails(128);
+        try (BatchExecutor executor = new BatchExecutor(4, 8)) {
+            boolean[] results = executor.validate(emails, shared).get();
+            assertEquals(emails.size(), results.length);
+        }
+        assertEquals(3000, shared.getAccepted().getTotal());
+        assertEquals(1000, shared.getRejected().getTotal());
+        assertEquals("bad_domain.com", shared.topRejected(1).get(0).getKey());
+        assertEquals(1000, shared.topRejected(1).get(0).getCount());
+        assertEquals(7, shared.topAccepted(10).size());
+
+        DomainStats first = DomainStats.forEmails(128);
+        DomainStats second = DomainStats.forEmails(128);
+        for (int i = 0; i < emails.size(); i++) {
+            (i % 2 == 0 ? first : second).test(emails.get(i));
+        }
+        first.merge(second);
+        assertEquals(shared.topAccepted(10).toString(), first.topAccepted(10).toString());
+        assertEquals(shared.topRejected(10).toString(), first.topRejected(10).toString());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        DomainStats stats = DomainStats.forEmails(16);
+        assertThrows(IllegalArgumentException.class, () -> DomainStats.forUrls(0));
+        assertThrows(IllegalArgumentException.class, () -> stats.record(null, true));
+        assertThrows(IllegalArgumentException.class, () -> stats.merge(null));
+        assertThrows(IllegalArgumentException.class, () -> stats.merge(DomainStats.forUrls(16)));
+        assertThrows(IllegalArgumentException.class, () -> stats.merge(DomainStats.forEmails(32)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EmailParts class.
+ */
+class EmailPartsTest {
+
+    @Test
+    void testParse() {
+        EmailParts parts = new EmailParts();
+        assertTrue(parts.parse("john.doe@mail.example.com"));
+        assertTrue(parts.isValid());
+        assertEquals("john.doe", parts.get(EmailParts.Component.LOCAL_PART).toString());
+        assertEquals("mail.example.com", parts.get(EmailParts.Component.DOMAIN).toString());
+        assertEquals("com", parts.get(EmailParts.Component.TOP_LEVEL_DOMAIN).toString());
+        assertEquals(0, parts.start(EmailParts.Component.LOCAL_PART));
+        assertEquals(8, parts.end(EmailParts.Component.LOCAL_PART));
+        assertEquals(9, parts.start(EmailParts.Component.DOMAIN));
+        assertEquals(22, parts.start(EmailParts.Component.TOP_LEVEL_DOMAIN));
+        assertEquals(25, parts.end(EmailParts.Component.DOMAIN));
+        assertEquals("EmailParts[localPart=john.doe, domain=mail.example.com]", parts.toString());
+
+        // the same instance and views are reused
+        CharSequence domain = parts.get(EmailParts.Component.DOMAIN);
+        assertTrue(parts.parse(new StringBuilder("a@b.cd")));
+        assertSame(domain, parts.get(EmailParts.Component.DOMAIN));
+        assertEquals("b.cd", domain.toString());
+        assertEquals('c', domain.charAt(2));
+        assertEquals("cd", domain.subSequence(2, 4).toString());
+        assertEquals(0, CharSequence.compare("b.cd", domain));
+
+        assertFalse(parts.parse("user@@example.com"));
+        assertFalse(parts.isValid());
+        assertEquals(0, parts.get(EmailParts.Component.DOMAIN).length());
+        assertEquals(-1, parts.start(EmailParts.Component.DOMAIN));
+        assertEquals("EmailParts[invalid]", parts.toString());
+        assertFalse(parts.parse(null));
+    }
+
+    @Test
+    void testParseMatchesValidationAndSplitting() {
+        String alphabet = "ab1Z.@-_+&* !x";
+        EmailParts parts = new EmailParts();
+        Random random = new Random(5);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = 6 + random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String candidate = sb.toString();
+            boolean valid = ValidationUtils.isValidEmailBounded(candidate);
+            assertEquals(valid, parts.parse(candidate), candidate);
+            if (valid) {
+                String[] halves = candidate.split("@");
+                assertEquals(halves[0], parts.get(EmailParts.Component.LOCAL_PART).toString());
+                assertEquals(halves[1], parts.get(EmailParts.Component.DOMAIN).toString());
+                assertEquals(halves[1].substring(halves[1].lastIndexOf('.') + 1),
+                        parts.get(EmailParts.Component.TOP_LEVEL_DOMAIN).toString());
+            }
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        EmailParts parts = new EmailParts();
+        assertThrows(IllegalArgumentException.class, () -> parts.get(null));
+        assertThrows(IllegalArgumentException.class, () -> parts.start(null));
+        assertTrue(parts.parse("a@b.cd"));
+        CharSequence local = parts.get(EmailParts.Component.LOCAL_PART);
+        assertThrows(IndexOutOfBoundsException.class, () -> local.charAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> local.subSequence(0, 2));
+    }
+}
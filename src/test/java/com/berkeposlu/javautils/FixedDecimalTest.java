@@ -0,0 +1,169 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FixedDecimal class.
+ */
+class FixedDecimalTest {
+
+    private static final FixedDecimal MONEY = FixedDecimal.ofScale(2);
+
+    @Test
+    void testOfScale() {
+        assertEquals(2, MONEY.getScale());
+        assertSame(MONEY, FixedDecimal.ofScale(2));
+        
+        assertThrows(IllegalArgumentException.class, () -> FixedDecimal.ofScale(-1));
+        assertThrows(IllegalArgumentException.class, () -> FixedDecimal.ofScale(FixedDecimal.MAX_SCALE + 1));
+    }
+
+    @Test
+    void testConversions() {
+        assertEquals(1234, MONEY.parse("12.34"));
+        assertEquals(-1235, MONEY.parse("-12.345"));
+        assertEquals(1234, MONEY.parse("12.3449"));
+        assertEquals(1200, MONEY.parse("12"));
+        assertEquals(50, MONEY.parse(".5"));
+        assertEquals(500, MONEY.valueOf(5));
+        assertEquals(268, MONEY.fromDouble(2.675));
+        assertEquals(-101, MONEY.fromDouble(-1.005));
+        assertEquals("12.30", MONEY.toString(1230));
+        assertEquals("-0.05", MONEY.toString(-5));
+        assertEquals(12.34, MONEY.toDouble(1234));
+        
+        assertThrows(NumberFormatException.class, () -> MONEY.parse("1.2.3"));
+        assertThrows(NumberFormatException.class, () -> MONEY.parse("-"));
+        assertThrows(NumberFormatException.class, () -> MONEY.parse("12a"));
+        assertThrows(ArithmeticException.class, () -> MONEY.parse("999999999999999999999"));
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.ofScale(0).parse("9223372036854775808"));
+        assertThrows(ArithmeticException.class, () -> MONEY.fromDouble(Double.NaN));
+    }
+
+    @Test
+    void testArithmetic() {
+        assertEquals(1500, MONEY.add(1000, 500));
+        assertEquals(500, MONEY.subtract(1000, 500));
+        assertEquals(1851, MONEY.multiply(1234, 150));
+        assertEquals(333, MONEY.divide(1000, 300));
+        assertEquals(-667, MONEY.divide(-2000, 300));
+        assertEquals(2500, MONEY.percentage(2500, 10000));
+        assertEquals(0, MONEY.percentage(2500, 0));
+        assertEquals(1999, MONEY.percentageOf(9995, 2000));
+        assertEquals(1300, MONEY.round(1250, 0));
+        assertEquals(-1300, MONEY.round(-1250, 0));
+        assertEquals(1234, MONEY.round(1234, 4));
+        
+        assertThrows(ArithmeticException.class, () -> MONEY.divide(1, 0));
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.ofScale(0).divide(Long.MIN_VALUE, -1));
+        assertEquals(-Long.MAX_VALUE, FixedDecimal.ofScale(0).divide(Long.MAX_VALUE, -1));
+        assertThrows(ArithmeticException.class, () -> MONEY.add(Long.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> MONEY.multiply(Long.MAX_VALUE, 1000));
+        assertThrows(IllegalArgumentException.class, () -> MONEY.round(1, -1));
+    }
+
+    @Test
+    void testMatchesBigDecimal() {
+        Random random = new Random(7);
+        FixedDecimal decimal = FixedDecimal.ofScale(4);
+        for (int i = 0; i < 100_000; i++) {
+            long a = random.nextLong() >> random.nextInt(64);
+            long b = (random.nextLong() >> random.nextInt(64)) | 1;
+            BigDecimal x = decimal.toBigDecimal(a);
+            BigDecimal y = decimal.toBigDecimal(b);
+            
+            assertEqualsOrOverflow(x.multiply(y).setScale(4, RoundingMode.HALF_UP), () -> decimal.multiply(a, b));
+            assertEqualsOrOverflow(x.divide(y, 4, RoundingMode.HALF_UP), () -> decimal.divide(a, b));
+        }
+    }
+
+    @Test
+    void testLongsRoundTrip() {
+        FixedDecimal units = FixedDecimal.ofScale(0);
+        assertEquals(Long.MIN_VALUE, units.parse("-9223372036854775808"));
+        assertEquals(Long.MAX_VALUE, units.parse("9223372036854775807"));
+        Random random = new Random(17);
+        for (int scale : new int[] {0, 2, 9}) {
+            FixedDecimal decimal = FixedDecimal.ofScale(scale);
+            for (long value : new long[] {Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, 1}) {
+                assertEquals(value, decimal.parse(decimal.toString(value)));
+            }
+            for (int i = 0; i < 10_000; i++) {
+                long value = random.nextLong() >> random.nextInt(64);
+                assertEquals(value, decimal.parse(decimal.toString(value)));
+            }
+        }
+    }
+
+    @Test
+    void testFromDoubleMatchesBigDecimalAtHighScales() {
+        Random random = new Random(19);
+        for (int i = 0; i < 500_000; i++) {
+            int scale = 8 + random.nextInt(8);
+            FixedDecimal decimal = FixedDecimal.ofScale(scale);
+            // unscaled values spread over 2^40 to 2^60, across the fast path bound
+            double value = Math.scalb(random.nextDouble() + 1, 40 + random.nextInt(20)) / Math.pow(10, scale);
+            if (random.nextBoolean()) {
+                value = -value;
+            }
+            double input = value;
+            assertEqualsOrOverflow(BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP),
+                    () -> decimal.fromDouble(input));
+        }
+        assertEquals(4455564319692116L, FixedDecimal.ofScale(11).fromDouble(44555.64319692116));
+        assertEquals(4399219408135085L, FixedDecimal.ofScale(15).fromDouble(4.399219408135085));
+    }
+
+    private static void assertEqualsOrOverflow(BigDecimal expected, LongSupplier actual) {
+        BigDecimal unscaled = expected.movePointRight(expected.scale());
+        if (unscaled.toBigInteger().bitLength() > 63) {
+            assertThrows(ArithmeticException.class, actual::getAsLong);
+        } else {
+            assertEquals(unscaled.longValueExact(), actual.getAsLong(), expected::toPlainString);
+        }
+    }
+
+    @Test
+    void testColumns() {
+        long[] prices = {1000, 250, 199};
+        long[] quantities = {200, 400, 100};
+        long[] totals = new long[3];
+        
+        MONEY.multiply(prices, quantities, totals);
+        assertArrayEquals(new long[]{2000, 1000, 199}, totals);
+        assertEquals(3199, MONEY.sum(totals));
+        
+        MONEY.percentageOf(totals, 1900, totals);
+        assertArrayEquals(new long[]{380, 190, 38}, totals);
+        
+        MONEY.add(prices, prices, totals);
+        assertArrayEquals(new long[]{2000, 500, 398}, totals);
+        MONEY.subtract(totals, prices, totals);
+        assertArrayEquals(prices, totals);
+        MONEY.multiply(prices, 50, totals);
+        assertArrayEquals(new long[]{500, 125, 100}, totals);
+        
+        assertEquals(0, MONEY.sum((long[]) null));
+        assertThrows(IllegalArgumentException.class, () -> MONEY.add(prices, new long[2], totals));
+        assertThrows(ArithmeticException.class, () -> MONEY.sum(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    void testAccumulator() {
+        FixedDecimal.Accumulator total = MONEY.newAccumulator();
+        total.addProduct(1999, 300).add(500).subtract(97);
+        
+        assertEquals(6400, total.get());
+        assertEquals("64.00", total.toString());
+        assertEquals(0, total.reset().get());
+        
+        assertThrows(ArithmeticException.class, () -> total.add(Long.MAX_VALUE).add(1));
+    }
+}
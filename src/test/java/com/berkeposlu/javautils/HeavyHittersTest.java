@@ -0,0 +1,167 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HeavyHitters class.
+ */
+class HeavyHittersTest {
+
+    @Test
+    void testExactWhileUnderCapacity() {
+        HeavyHitters tracker = new HeavyHitters(100);
+        for (int i = 0; i < 50; i++) {
+            for (int j = 0; j <= i; j++) {
+                tracker.add("key" + i);
+            }
+        }
+        tracker.add("key0", 100);
+        List<HeavyHitters.Entry> top = tracker.topK(3);
+        assertEquals(3, top.size());
+        assertEquals("key0", top.get(0).getKey());
+        assertEquals(101, top.get(0).getCount());
+        assertEquals(0, top.get(0).getError());
+        assertEquals("key49", top.get(1).getKey());
+        assertEquals(50, top.get(1).getGuaranteedCount());
+        assertEquals("key48", top.get(2).getKey());
+        assertEquals(49, tracker.getCount("key48"));
+        assertEquals(0, tracker.getCount("missing"));
+        assertEquals(50 * 51 / 2 + 100, tracker.getTotal());
+        assertEquals(50, tracker.topK(1000).size());
+        assertTrue(tracker.topK(0).isEmpty());
+
+        tracker.reset();
+        assertEquals(0, tracker.getTotal());
+        assertTrue(tracker.topK(10).isEmpty());
+    }
+
+    @Test
+    void testSpaceSavingGuarantees() {
+        HeavyHitters tracker = new HeavyHitters(512);
+        Map<String, Long> exact = new HashMap<>();
+        Random random = new Random(11);
+        int total = 500_000;
+        for (int i = 0; i < total; i++) {
+            // Zipf-like: a few heavy keys and a long tail of rare ones
+            String key = "domain" + (int) Math.floor(Math.pow(100_000, random.nextDouble())) + ".com";
+            tracker.add(key);
+            exact.merge(key, 1L, Long::sum);
+        }
+        assertEquals(total, tracker.getTotal());
+        List<HeavyHitters.Entry> top = tracker.topK(512);
+        for (HeavyHitters.Entry entry : top) {
+            long actual = exact.get(entry.getKey());
+            assertTrue(entry.getCount() >= actual, entry.toString());
+            assertTrue(entry.getGuaranteedCount() <= actual, entry.toString());
+        }
+        List<Map.Entry<String, Long>> sorted = new ArrayList<>(exact.entrySet());
+        sorted.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(sorted.get(i).getKey(), top.get(i).getKey());
+        }
+        for (Map.Entry<String, Long> entry : sorted) {
+            assertTrue(tracker.getCount(entry.getKey()) >= entry.getValue(), entry.getKey());
+        }
+    }
+
+    @Test
+    void testMerge() {
+        HeavyHitters first = new HeavyHitters(256);
+        HeavyHitters second = new HeavyHitters(256);
+        HeavyHitters all = new HeavyHitters(256);
+        Map<String, Long> exact = new HashMap<>();
+        Random random = new Random(13);
+        for (int i = 0; i < 200_000; i++) {
+            String key = "k" + (int) Math.floor(Math.pow(50_000, random.nextDouble()));
+            (i % 2 == 0 ? first : second).add(key);
+            all.add(key);
+            exact.merge(key, 1L, Long::sum);
+        }
+        first.merge(second);
+        assertEquals(all.getTotal(), first.getTotal());
+        List<HeavyHitters.Entry> merged = first.topK(10);
+        List<HeavyHitters.Entry> direct = all.topK(10);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(direct.get(i).getKey(), merged.get(i).getKey());
+        }
+        for (HeavyHitters.Entry entry : first.topK(256)) {
+            long actual = exact.get(entry.getKey());
+            assertTrue(entry.getCount() >= actual, entry.toString());
+            assertTrue(entry.getGuaranteedCount() <= actual, entry.toString());
+        }
+        // the merged tracker keeps working
+        first.add("k1", 1_000_000);
+        assertEquals("k1", first.topK(1).get(0).getKey());
+    }
+
+    @Test
+    void testConcurrentAdds() throws Exception {
+        HeavyHitters tracker = new HeavyHitters(1024);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        tracker.add("key" + (i % 100));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(400_000, tracker.getTotal());
+        List<HeavyHitters.Entry> top = tracker.topK(200);
+        assertEquals(100, top.size());
+        for (HeavyHitters.Entry entry : top) {
+            assertEquals(4000, entry.getCount());
+            assertEquals(0, entry.getError());
+        }
+    }
+
+    @Test
+    void testRangesAndIgnoreCase() {
+        HeavyHitters tracker = new HeavyHitters(16, true);
+        tracker.add("user@Example.COM", 5, 16);
+        tracker.add("example.com");
+        tracker.add(new StringBuilder("EXAMPLE.com"));
+        assertEquals(3, tracker.getCount("Example.Com"));
+        assertEquals("example.com", tracker.topK(1).get(0).getKey());
+        assertEquals("example.com=3", tracker.topK(1).get(0).toString());
+
+        HeavyHitters sensitive = new HeavyHitters(16);
+        sensitive.add("A");
+        sensitive.add("a");
+        assertEquals(2, sensitive.topK(5).size());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HeavyHitters(0));
+        assertThrows(IllegalArgumentException.class, () -> new HeavyHitters(HeavyHitters.MAX_CAPACITY + 1));
+        HeavyHitters tracker = new HeavyHitters(10);
+        assertThrows(IllegalArgumentException.class, () -> tracker.add(null));
+        assertThrows(IllegalArgumentException.class, () -> tracker.add("a", 0));
+        assertThrows(IllegalArgumentException.class, () -> tracker.add("abc", 2, 4));
+        assertThrows(IllegalArgumentException.class, () -> tracker.add("abc", 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> tracker.getCount(null));
+        assertThrows(IllegalArgumentException.class, () -> tracker.topK(-1));
+        assertThrows(IllegalArgumentException.class, () -> tracker.merge(null));
+        assertThrows(IllegalArgumentException.class, () -> tracker.merge(new HeavyHitters(11)));
+        assertThrows(IllegalArgumentException.class, () -> tracker.merge(new HeavyHitters(10, true)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JdkSupport class. The tests run against the Java 17 classes; the Java 21
+ * branch only runs when the class is loaded from the multi-release JAR.
+ */
+class JdkSupportTest {
+
+    @Test
+    void testExpectedImplementationIsLoaded() {
+        assertEquals(17, JdkSupport.feature());
+    }
+
+    @Test
+    void testIsVirtualThread() throws Exception {
+        assertFalse(JdkSupport.isVirtualThread());
+        if (JdkSupport.feature() >= 21) {
+            boolean[] virtual = new boolean[1];
+            Thread thread = (Thread) Thread.class.getMethod("startVirtualThread", Runnable.class)
+                    .invoke(null, (Runnable) () -> virtual[0] = JdkSupport.isVirtualThread());
+            thread.join();
+            assertTrue(virtual[0]);
+        }
+    }
+}
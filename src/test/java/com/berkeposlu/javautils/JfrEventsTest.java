@@ -0,0 +1,81 @@
+package com.berkeposlu.javautils;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JDK Flight Recorder events.
+ */
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testValidationEvents() throws Exception {
+        List<RecordedEvent> events = record("com.berkeposlu.javautils.Validation", () -> {
+            ValidationUtils.isValidEmail("test@example.com");
+            ValidationUtils.isValidUrl("not a url");
+        });
+        
+        assertEquals(2, events.size());
+        RecordedEvent email = events.get(0);
+        assertEquals("isValidEmail", email.getString("validator"));
+        assertEquals(16, email.getInt("inputLength"));
+        assertTrue(email.getBoolean("valid"));
+        assertNotNull(email.getStackTrace());
+        assertFalse(events.get(1).getBoolean("valid"));
+    }
+
+    @Test
+    void testDateParseEvents() throws Exception {
+        List<RecordedEvent> events = record("com.berkeposlu.javautils.DateParse", () -> {
+            DateUtils.parseDate("2023-12-25", "yyyy-MM-dd");
+            assertThrows(DateTimeParseException.class, () -> DateUtils.parseDateTime("garbage", "yyyy-MM-dd HH:mm"));
+        });
+        
+        assertEquals(2, events.size());
+        assertTrue(events.get(0).getBoolean("success"));
+        assertEquals("parseDateTime", events.get(1).getString("method"));
+        assertFalse(events.get(1).getBoolean("success"));
+        assertNotNull(events.get(1).getString("error"));
+    }
+
+    @Test
+    void testFormatterCacheMissEvents() throws Exception {
+        String pattern = "dd/MM/yyyy 'jfr-test'";
+        List<RecordedEvent> events = record("com.berkeposlu.javautils.FormatterCacheMiss", () -> {
+            DateUtils.parseDate("25/12/2023 jfr-test", pattern);
+            DateUtils.parseDate("26/12/2023 jfr-test", pattern);
+        });
+        
+        assertEquals(1, events.size());
+        assertEquals(pattern, events.get(0).getString("pattern"));
+        assertTrue(events.get(0).getBoolean("cached"));
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,57 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Latin1 class.
+ */
+class Latin1Test {
+
+    @Test
+    void testCaseTablesMatchString() {
+        for (char c = 0; c < 256; c++) {
+            String upper = String.valueOf(c).toUpperCase(Locale.ENGLISH);
+            String lower = String.valueOf(c).toLowerCase(Locale.ENGLISH);
+            assertEquals(upper.length() == 1 && upper.charAt(0) < 256 ? upper.charAt(0) : -1, Latin1.toUpperCase(c));
+            assertEquals(lower.length() == 1 && lower.charAt(0) < 256 ? lower.charAt(0) : -1, Latin1.toLowerCase(c));
+        }
+        assertEquals(-1, Latin1.toUpperCase('ß'));
+        assertEquals(-1, Latin1.toUpperCase('ÿ'));
+        assertEquals('É', Latin1.toUpperCase('é'));
+        assertEquals(-1, Latin1.toLowerCase('Ā'));
+    }
+
+    @Test
+    void testBuffer() {
+        char[] small = Latin1.buffer(10);
+        assertTrue(small.length >= 10);
+        assertSame(small, Latin1.buffer(5));
+        assertTrue(Latin1.buffer(1000).length >= 1000);
+        assertEquals(Latin1.MAX_SCRATCH + 1, Latin1.buffer(Latin1.MAX_SCRATCH + 1).length);
+
+        char[] chars = Latin1.chars("héllo", 3, 5);
+        chars[3] = '!';
+        assertEquals("hél!", Latin1.toString(chars, 4));
+        assertEquals("a\u0100", Latin1.toString(new char[] {'a', '\u0100'}, 2));
+    }
+
+    @Test
+    void testHasPlainCaseRules() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.ENGLISH);
+            assertTrue(Latin1.hasPlainCaseRules());
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            assertFalse(Latin1.hasPlainCaseRules());
+            assertEquals("İstanbul", StringUtils.capitalize("istanbul"));
+            assertEquals("Xı", StringUtils.capitalize("xI"));
+            assertEquals("xİı", StringUtils.toCamelCase("x_iI"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Metrics class. The build runs the tests once with metrics disabled, as in
+ * production, and once more with {@code -Djavautils.metrics.enabled=true}.
+ */
+class MetricsTest {
+
+    @BeforeEach
+    void setUp() {
+        Metrics.reset();
+    }
+
+    @Test
+    @DisabledIfSystemProperty(named = "javautils.metrics.enabled", matches = "true")
+    void testDisabledRecordsNothing() throws Exception {
+        assertFalse(Metrics.ENABLED);
+        ValidationUtils.isValidEmail("test@example.com");
+        StringUtils.capitalize("hello");
+        DateUtils.parseDate("2023-01-01", "yyyy-MM-dd");
+        Calculator.round(3.14159, 2);
+        
+        assertTrue(Metrics.snapshot().isEmpty());
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName()));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "javautils.metrics.enabled", matches = "true")
+    void testCountsValidationOutcomes() {
+        ValidationUtils.isValidEmail("test@example.com");
+        ValidationUtils.isValidEmail("invalid");
+        ValidationUtils.isValidEmail(null);
+        
+        Metrics.MethodSnapshot email = find("ValidationUtils.isValidEmail");
+        assertEquals(3, email.getCalls());
+        assertEquals(1, email.getPassed());
+        assertEquals(2, email.getFailed());
+        assertEquals(1.0 / 3, email.getPassRatio(), 0.0001);
+        assertEquals(3, email.getSamples());
+        assertTrue(email.getP99Nanos() >= email.getP50Nanos());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "javautils.metrics.enabled", matches = "true")
+    void testCountsOtherMethods() {
+        StringUtils.capitalize("hello");
+        StringUtils.capitalize("");
+        DateUtils.parseDate("2023-01-01", "yyyy-MM-dd");
+        DateUtils.daysBetween(LocalDate.of(2023, 1, 1), null);
+        Calculator.round(3.14159, 2);
+        
+        Metrics.MethodSnapshot capitalize = find("StringUtils.capitalize");
+        assertEquals(2, capitalize.getCalls());
+        assertEquals(0, capitalize.getFailed());
+        assertTrue(Double.isNaN(capitalize.getPassRatio()));
+        assertEquals(1, find("DateUtils.parseDate").getCalls());
+        assertEquals(1, find("DateUtils.daysBetween").getCalls());
+        assertEquals(1, find("Calculator.round").getCalls());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "javautils.metrics.enabled", matches = "true")
+    void testSnapshotSkipsUncalledMethodsAndIsSorted() {
+        StringUtils.reverse("abc");
+        ValidationUtils.isNumeric("1");
+        
+        assertEquals(2, Metrics.snapshot().size());
+        assertEquals("StringUtils.reverse", Metrics.snapshot().get(0).getName());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "javautils.metrics.enabled", matches = "true")
+    void testMBean() throws Exception {
+        ValidationUtils.isValidUrl("https://example.com");
+        
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = objectName();
+        assertTrue(server.isRegistered(name));
+        assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+        
+        CompositeData[] methods = (CompositeData[]) server.getAttribute(name, "Methods");
+        assertEquals(1, methods.length);
+        assertEquals("ValidationUtils.isValidUrl", methods[0].get("name"));
+        assertEquals(1L, methods[0].get("passed"));
+        
+        server.invoke(name, "reset", null, null);
+        assertTrue(Metrics.snapshot().isEmpty());
+    }
+
+    private static ObjectName objectName() throws Exception {
+        return new ObjectName(Metrics.OBJECT_NAME);
+    }
+
+    private static Metrics.MethodSnapshot find(String name) {
+        return Metrics.snapshot().stream()
+                .filter(snapshot -> snapshot.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no metrics for " + name));
+    }
+}
@@ -0,0 +1,135 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OffHeapText class.
+ */
+class OffHeapTextTest {
+
+    /**
+     * Places the text in the middle of a direct buffer, so the scans must honor position and limit.
+     */
+    private static ByteBuffer direct(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 6);
+        buffer.put(new byte[] {'x', 'x', 'x'}).put(bytes).put(new byte[] {'x', 'x', 'x'});
+        return buffer.position(3).limit(3 + bytes.length);
+    }
+
+    @Test
+    void testCountOccurrences() {
+        assertEquals(3, OffHeapText.countOccurrences(direct("hello world"), "l"));
+        assertEquals(1, OffHeapText.countOccurrences(direct("hello world"), "world"));
+        assertEquals(1, OffHeapText.countOccurrences(direct("aaa"), "aa"));
+        assertEquals(2, OffHeapText.countOccurrences(direct("aaaa"), "aa"));
+        assertEquals(0, OffHeapText.countOccurrences(direct("xx"), "x x"));
+        assertEquals(2, OffHeapText.countOccurrences(direct("größe grö"), "grö"));
+        assertEquals(0, OffHeapText.countOccurrences(null, "a"));
+        assertEquals(0, OffHeapText.countOccurrences(direct("abc"), ""));
+    }
+
+    @Test
+    void testCountOccurrencesMatchesString() {
+        Random random = new Random(42);
+        String[] patterns = {"a", "ab", "aba", "abcab", "ERROR"};
+        for (int round = 0; round < 500; round++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(80);
+            for (int i = 0; i < length; i++) {
+                text.append(random.nextInt(10) == 0 ? "ERROR" : String.valueOf((char) ('a' + random.nextInt(3))));
+            }
+            for (String pattern : patterns) {
+                assertEquals(expectedCount(text.toString(), pattern),
+                        OffHeapText.countOccurrences(direct(text.toString()), pattern), text + " / " + pattern);
+            }
+        }
+    }
+
+    private static int expectedCount(String str, String substring) {
+        int count = 0;
+        for (int index = str.indexOf(substring); index != -1; index = str.indexOf(substring, index + substring.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    void testIsBlank() {
+        assertTrue(OffHeapText.isBlank(null));
+        assertTrue(OffHeapText.isBlank(direct("")));
+        assertTrue(OffHeapText.isBlank(direct(" \t\r\n          \u0000")));
+        assertFalse(OffHeapText.isBlank(direct("                 x")));
+        assertFalse(OffHeapText.isBlank(direct(" ")));
+    }
+
+    @Test
+    void testCaseAndAsciiChecks() {
+        assertTrue(OffHeapText.isAllLowerCase(direct("abcdefghijklmnopqrstuvwxyz")));
+        assertFalse(OffHeapText.isAllLowerCase(direct("abcdefghijklmNopqrstuvwxyz")));
+        assertFalse(OffHeapText.isAllLowerCase(direct("")));
+        assertTrue(OffHeapText.isAllUpperCase(direct("ABCDEFGHIJKLMNOPQRSTUVWXYZ")));
+        assertFalse(OffHeapText.isAllUpperCase(direct("ABCDEFGHIJ@")));
+        assertTrue(OffHeapText.isAscii(direct("plain ASCII text, 100%")));
+        assertFalse(OffHeapText.isAscii(direct("plain ASCII text, 100 €")));
+        assertTrue(OffHeapText.isAscii(direct("")));
+    }
+
+    @Test
+    void testClassificationMatchesValidationUtils() {
+        Random random = new Random(7);
+        for (int round = 0; round < 2_000; round++) {
+            char[] chars = new char[random.nextInt(24)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) random.nextInt(128);
+                if (random.nextBoolean()) {
+                    chars[i] = (char) ('a' + random.nextInt(26));
+                }
+            }
+            String str = new String(chars);
+            assertEquals(ValidationUtils.isAlphabetic(str), OffHeapText.isAlphabetic(direct(str)), str);
+            assertEquals(ValidationUtils.isAlphanumeric(str), OffHeapText.isAlphanumeric(direct(str)), str);
+            assertEquals(StringUtils.isBlank(str), OffHeapText.isBlank(direct(str)), str);
+        }
+    }
+
+    @Test
+    void testIsInteger() {
+        String[] inputs = {"0", "123", "-123", "+123", "2147483647", "2147483648", "-2147483648",
+                "-2147483649", "00000000000000042", "12a", "-", "+", "", "1.5", "99999999999999999999"};
+        for (String input : inputs) {
+            assertEquals(ValidationUtils.isInteger(input), OffHeapText.isInteger(direct(input)), input);
+        }
+        assertFalse(OffHeapText.isInteger(null));
+    }
+
+    @Test
+    void testEmailAndUrlValidation() {
+        assertTrue(OffHeapText.isValidEmail(direct("test@example.com")));
+        assertTrue(OffHeapText.isValidEmail(direct("user.name@domain.co.uk")));
+        assertFalse(OffHeapText.isValidEmail(direct("invalid.email")));
+        assertFalse(OffHeapText.isValidEmail(direct("tést@example.com")));
+        assertFalse(OffHeapText.isValidEmail(direct("a".repeat(300) + "@example.com")));
+        assertFalse(OffHeapText.isValidEmail(null));
+        
+        assertTrue(OffHeapText.isValidUrl(direct("https://www.example.com/path?q=1")));
+        assertFalse(OffHeapText.isValidUrl(direct("www.example.com")));
+        assertFalse(OffHeapText.isValidUrl(null));
+    }
+
+    @Test
+    void testHeapBufferAndUnchangedPosition() {
+        ByteBuffer buffer = ByteBuffer.wrap("  count the the words  ".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(2, OffHeapText.countOccurrences(buffer, "the"));
+        assertFalse(OffHeapText.isBlank(buffer));
+        assertEquals(0, buffer.position());
+        assertEquals(buffer.capacity(), buffer.limit());
+        assertTrue(OffHeapText.isAlphabetic(buffer.duplicate().position(8).limit(11)));
+    }
+}
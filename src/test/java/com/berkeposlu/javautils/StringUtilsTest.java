@@ -104,4 +104,56 @@ class StringUtilsTest {
         assertEquals("he...", StringUtils.truncate("hello world", 5));
         assertEquals("hello...", StringUtils.truncate("hello world", 8));
     }
+
+    @Test
+    void testIsBlankMatchesTrim() {
+        String[] inputs = {"", " ", "\t\n\r", "    \u0000\u001F     ", "   a", "a   ", "\u00A0", "\u2003", "abcdefgh", "        x"};
+        for (String input : inputs) {
+            assertEquals(input.trim().isEmpty(), StringUtils.isBlank(input), input);
+        }
+    }
+
+    @Test
+    void testIsAscii() {
+        assertTrue(StringUtils.isAscii(""));
+        assertTrue(StringUtils.isAscii("Hello, World! 123 ~"));
+        assertFalse(StringUtils.isAscii("Hello, Wörld"));
+        assertFalse(StringUtils.isAscii("abcdefg\u0080"));
+        assertFalse(StringUtils.isAscii(null));
+    }
+
+    @Test
+    void testTransformsMatchStringBuilderVersions() {
+        char[] alphabet = "aZé Éß_ÿ-µ\t\u000Bx\u0100\uD83D\uDE00ĀIi".toCharArray();
+        java.util.Random random = new java.util.Random(42);
+        for (int n = 0; n < 5000; n++) {
+            char[] chars = new char[random.nextInt(12) + 1];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = alphabet[random.nextInt(random.nextBoolean() ? 8 : alphabet.length)];
+            }
+            String str = new String(chars);
+            assertEquals(str.substring(0, 1).toUpperCase() + str.substring(1).toLowerCase(), StringUtils.capitalize(str), str);
+            assertEquals(new StringBuilder(str).reverse().toString(), StringUtils.reverse(str), str);
+            assertEquals(toCamelCaseWithSplit(str), StringUtils.toCamelCase(str), str);
+            int maxLength = random.nextInt(12) + 3;
+            String truncated = str.length() <= maxLength ? str : str.substring(0, maxLength - 3) + "...";
+            assertEquals(truncated, StringUtils.truncate(str, maxLength), str);
+        }
+        assertEquals("", StringUtils.capitalize("x").substring(1));
+        assertEquals("_ -", StringUtils.toCamelCase("_ -"));
+        assertEquals("...", StringUtils.truncate("hello", 3));
+        assertThrows(StringIndexOutOfBoundsException.class, () -> StringUtils.truncate("hello", 2));
+    }
+
+    private static String toCamelCaseWithSplit(String str) {
+        String[] words = str.split("[\\s_-]+");
+        if (words.length == 0) {
+            return str.toLowerCase();
+        }
+        StringBuilder result = new StringBuilder(words[0].toLowerCase());
+        for (int i = 1; i < words.length; i++) {
+            result.append(words[i].substring(0, 1).toUpperCase()).append(words[i].substring(1).toLowerCase());
+        }
+        return result.toString();
+    }
 }
@@ -0,0 +1,98 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Swar class.
+ */
+class SwarTest {
+
+    private static final int[] CLASSES = {
+        Swar.LETTERS, Swar.ALPHANUMERIC, Swar.DIGITS, Swar.LOWER_CASE, Swar.UPPER_CASE, Swar.ASCII, Swar.BLANK
+    };
+
+    private static IntPredicate scalar(int cls) {
+        switch (cls) {
+            case Swar.LETTERS:
+                return c -> (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+            case Swar.ALPHANUMERIC:
+                return c -> (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+            case Swar.DIGITS:
+                return c -> c >= '0' && c <= '9';
+            case Swar.LOWER_CASE:
+                return c -> c >= 'a' && c <= 'z';
+            case Swar.UPPER_CASE:
+                return c -> c >= 'A' && c <= 'Z';
+            case Swar.ASCII:
+                return c -> c < 0x80;
+            default:
+                return c -> c <= ' ';
+        }
+    }
+
+    @Test
+    void testEveryByteInEveryLane() {
+        for (int cls : CLASSES) {
+            IntPredicate expected = scalar(cls);
+            for (int b = 0; b < 256; b++) {
+                for (int lane = 0; lane < 8; lane++) {
+                    // the other lanes hold neighbours of b, to catch carries between lanes
+                    long word = Swar.broadcast((b + 1) & 0xFF) ^ ((long) (b ^ ((b + 1) & 0xFF)) << (lane * 8));
+                    long mask = Swar.matches(word, cls);
+                    assertEquals(expected.test(b), (mask >>> (lane * 8) & 0x80) != 0, "class " + cls + ", byte " + b);
+                    assertEquals(0, mask & ~Swar.HIGH_BITS);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEveryCharInEveryLane() {
+        char[] chars = new char[4];
+        for (int cls : CLASSES) {
+            IntPredicate expected = scalar(cls);
+            for (int c = 0; c < 0x200; c++) {
+                for (int lane = 0; lane < 4; lane++) {
+                    for (int i = 0; i < 4; i++) {
+                        chars[i] = i == lane ? (char) c : "aA0 ".charAt(cls == Swar.DIGITS ? 2 : cls == Swar.UPPER_CASE ? 1 : cls == Swar.BLANK ? 3 : 0);
+                    }
+                    assertEquals(expected.test(c), Swar.allCharsMatch(Swar.packChars(new String(chars), 0), cls),
+                            "class " + cls + ", char " + c);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEqualTo() {
+        // bytes from lane 7 down to lane 0: 00 FF 41 41 00 42 80 41
+        long word = 0x00FF414100428041L;
+        assertEquals(0x0000808000000080L, Swar.equalTo(word, 0x41));
+        assertEquals(0x8000000080000000L, Swar.equalTo(word, 0x00));
+        assertEquals(Swar.HIGH_BITS, Swar.equalTo(Swar.broadcast(0x80), 0x80));
+        assertEquals(0, Swar.equalTo(Swar.broadcast(0x81), 0x01));
+        // a borrow from a matching lane must not mark the lane above it
+        assertEquals(0x8080808080800080L, Swar.equalTo(0x0100L, 0x00));
+    }
+
+    @Test
+    void testAllMatchRanges() {
+        String str = "  abcDEF123xyz  ";
+        assertTrue(Swar.allMatch(str, 2, 8, Swar.LETTERS));
+        assertFalse(Swar.allMatch(str, 2, 9, Swar.LETTERS));
+        assertTrue(Swar.allMatch(str, 2, 14, Swar.ALPHANUMERIC));
+        assertTrue(Swar.allMatch(str, 5, 5, Swar.DIGITS));
+        
+        byte[] bytes = str.getBytes();
+        assertTrue(Swar.allMatch(bytes, 2, 14, Swar.ALPHANUMERIC));
+        assertFalse(Swar.allMatch(bytes, 1, 14, Swar.ALPHANUMERIC));
+        ByteBuffer heap = ByteBuffer.wrap(new byte[20], 3, 16).slice().put(bytes).flip();
+        assertTrue(Swar.allMatch(heap, 2, 14, Swar.ALPHANUMERIC));
+        assertFalse(Swar.allMatch(heap, 2, 15, Swar.ALPHANUMERIC));
+    }
+}
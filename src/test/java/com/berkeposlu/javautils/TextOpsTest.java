@@ -0,0 +1,114 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TextOps class.
+ */
+class TextOpsTest {
+
+    @Test
+    void testSingleOperations() {
+        assertEquals("olleh", TextOps.chain().reverse().apply("hello"));
+        assertEquals("Hello", TextOps.chain().capitalize().apply("hELLO"));
+        assertEquals("Hello W...", TextOps.chain().truncate(10).apply("Hello World!"));
+        assertEquals("short", TextOps.chain().truncate(10).apply("short"));
+        assertEquals("ABC1", TextOps.chain().toUpperCase().apply("abC1"));
+        assertEquals("abc1", TextOps.chain().toLowerCase().apply("ABc1"));
+        assertEquals("same", TextOps.chain().apply("same"));
+    }
+
+    @Test
+    void testChainMatchesNestedCalls() {
+        String text = "the quick brown fox jumps over the lazy dog";
+        TextOps ops = TextOps.chain().reverse().capitalize().truncate(20);
+        assertEquals(StringUtils.truncate(StringUtils.capitalize(StringUtils.reverse(text)), 20), ops.apply(text));
+        assertEquals("God yzal eht revo...", ops.apply(text));
+    }
+
+    @Test
+    void testRandomChainsMatchSequential() {
+        Random random = new Random(42);
+        List<String> inputs = List.of("", "a", "ab", "Hello World", "x".repeat(100), "MiXeD cAsE 123 !?");
+        for (int round = 0; round < 2_000; round++) {
+            TextOps ops = TextOps.chain();
+            int length = 1 + random.nextInt(6);
+            for (int i = 0; i < length; i++) {
+                switch (random.nextInt(5)) {
+                    case 0:
+                        ops = ops.reverse();
+                        break;
+                    case 1:
+                        ops = ops.capitalize();
+                        break;
+                    case 2:
+                        ops = ops.truncate(3 + random.nextInt(15));
+                        break;
+                    case 3:
+                        ops = ops.toUpperCase();
+                        break;
+                    default:
+                        ops = ops.toLowerCase();
+                        break;
+                }
+            }
+            for (String input : inputs) {
+                assertEquals(ops.applySequentially(input), ops.apply(input), ops + " on \"" + input + "\"");
+            }
+            String randomInput = randomAscii(random, random.nextInt(40));
+            assertEquals(ops.applySequentially(randomInput), ops.apply(randomInput), ops + " on \"" + randomInput + "\"");
+        }
+    }
+
+    @Test
+    void testNonAsciiFallsBack() {
+        TextOps ops = TextOps.chain().capitalize().reverse();
+        assertEquals("ßartS", ops.apply("straß"));
+        assertEquals(StringUtils.reverse(StringUtils.capitalize("ärger über öl")), ops.apply("ärger über öl"));
+
+        // characters cut off by the truncation are not read, so the fused pass still applies
+        TextOps truncated = TextOps.chain().truncate(8).toUpperCase();
+        assertEquals("HELLO...", truncated.apply("hello wörld"));
+    }
+
+    @Test
+    void testTurkishLocaleFallsBack() {
+        Locale previous = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals("istanbul".toUpperCase(), TextOps.chain().toUpperCase().apply("istanbul"));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void testNullAndInvalidArguments() {
+        assertNull(TextOps.chain().reverse().capitalize().apply(null));
+        assertThrows(IllegalArgumentException.class, () -> TextOps.chain().truncate(2));
+    }
+
+    @Test
+    void testChainIsImmutable() {
+        TextOps base = TextOps.chain().reverse();
+        TextOps longer = base.toUpperCase();
+        assertEquals("cba", base.apply("abc"));
+        assertEquals("CBA", longer.apply("abc"));
+        assertEquals("TextOps[reverse, toUpperCase]", longer.toString());
+        assertEquals("TextOps[truncate(5)]", TextOps.chain().truncate(5).toString());
+    }
+
+    private static String randomAscii(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) (' ' + random.nextInt(95)));
+        }
+        return sb.toString();
+    }
+}
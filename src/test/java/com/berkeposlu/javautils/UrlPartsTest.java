@@ -0,0 +1,133 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UrlParts class.
+ */
+class UrlPartsTest {
+
+    @Test
+    void testParse() {
+        UrlParts parts = new UrlParts();
+        assertTrue(parts.parse("https://user:pw@www.example.com:8443/a/b.html?x=1&y=2#top"));
+        assertEquals("https", parts.get(UrlParts.Component.SCHEME).toString());
+        assertEquals("user:pw", parts.get(UrlParts.Component.USER_INFO).toString());
+        assertEquals("www.example.com", parts.get(UrlParts.Component.HOST).toString());
+        assertEquals("8443", parts.get(UrlParts.Component.PORT).toString());
+        assertEquals(8443, parts.getPort());
+        assertEquals("/a/b.html", parts.get(UrlParts.Component.PATH).toString());
+        assertEquals("x=1&y=2", parts.get(UrlParts.Component.QUERY).toString());
+        assertEquals("top", parts.get(UrlParts.Component.FRAGMENT).toString());
+        assertEquals(16, parts.start(UrlParts.Component.HOST));
+        assertEquals(31, parts.end(UrlParts.Component.HOST));
+
+        assertTrue(parts.parse("http://example.com"));
+        assertEquals("example.com", parts.get(UrlParts.Component.HOST).toString());
+        assertTrue(parts.has(UrlParts.Component.PATH));
+        assertEquals(0, parts.get(UrlParts.Component.PATH).length());
+        assertFalse(parts.has(UrlParts.Component.USER_INFO));
+        assertFalse(parts.has(UrlParts.Component.PORT));
+        assertFalse(parts.has(UrlParts.Component.QUERY));
+        assertFalse(parts.has(UrlParts.Component.FRAGMENT));
+        assertEquals(-1, parts.getPort());
+        assertEquals("UrlParts[scheme=http, host=example.com, path=]", parts.toString());
+
+        assertTrue(parts.parse("file:///tmp/data.csv"));
+        assertEquals("file", parts.get(UrlParts.Component.SCHEME).toString());
+        assertEquals("", parts.get(UrlParts.Component.HOST).toString());
+        assertEquals("/tmp/data.csv", parts.get(UrlParts.Component.PATH).toString());
+
+        // a query may contain '/' and a fragment '?'
+        assertTrue(parts.parse("ftp://host?a=/b#c?d"));
+        assertEquals("host", parts.get(UrlParts.Component.HOST).toString());
+        assertEquals("", parts.get(UrlParts.Component.PATH).toString());
+        assertEquals("a=/b", parts.get(UrlParts.Component.QUERY).toString());
+        assertEquals("c?d", parts.get(UrlParts.Component.FRAGMENT).toString());
+
+        // a colon not followed by digits is part of the host, a port above 65535 is kept as text
+        assertTrue(parts.parse("http://host:abc/"));
+        assertEquals("host:abc", parts.get(UrlParts.Component.HOST).toString());
+        assertFalse(parts.has(UrlParts.Component.PORT));
+        assertTrue(parts.parse("http://host:99999"));
+        assertEquals("99999", parts.get(UrlParts.Component.PORT).toString());
+        assertEquals(-1, parts.getPort());
+
+        assertFalse(parts.parse("http://example.com?"));
+        assertFalse(parts.isValid());
+        assertFalse(parts.has(UrlParts.Component.SCHEME));
+        assertEquals(0, parts.get(UrlParts.Component.HOST).length());
+        assertEquals("UrlParts[invalid]", parts.toString());
+        assertFalse(parts.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> parts.get(null));
+    }
+
+    @Test
+    void testParseMatchesValidationAndSplitting() {
+        String alphabet = "aZ9/?.:;@,!~= #%|-é";
+        String[] schemes = {"http://", "https://", "ftp://", "file://", "htp://", ""};
+        UrlParts parts = new UrlParts();
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder sb = new StringBuilder(schemes[random.nextInt(schemes.length)]);
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String candidate = sb.toString();
+            boolean valid = ValidationUtils.isValidUrlBounded(candidate);
+            assertEquals(valid, parts.parse(candidate), candidate);
+            if (valid) {
+                assertSplit(candidate, parts);
+            }
+        }
+    }
+
+    /** Splits the URL with indexOf and substring and compares with the parsed parts. */
+    private static void assertSplit(String url, UrlParts parts) {
+        int rest = url.indexOf("://") + 3;
+        assertEquals(url.substring(0, rest - 3), parts.get(UrlParts.Component.SCHEME).toString(), url);
+        String remaining = url.substring(rest);
+        String fragment = null;
+        if (remaining.indexOf('#') >= 0) {
+            fragment = remaining.substring(remaining.indexOf('#') + 1);
+            remaining = remaining.substring(0, remaining.indexOf('#'));
+        }
+        String query = null;
+        if (remaining.indexOf('?') >= 0) {
+            query = remaining.substring(remaining.indexOf('?') + 1);
+            remaining = remaining.substring(0, remaining.indexOf('?'));
+        }
+        String authority = remaining.indexOf('/') >= 0 ? remaining.substring(0, remaining.indexOf('/')) : remaining;
+        String path = remaining.substring(authority.length());
+        String userInfo = null;
+        if (authority.lastIndexOf('@') >= 0) {
+            userInfo = authority.substring(0, authority.lastIndexOf('@'));
+            authority = authority.substring(authority.lastIndexOf('@') + 1);
+        }
+        String port = null;
+        int colon = authority.lastIndexOf(':');
+        if (colon >= 0 && authority.substring(colon + 1).chars().allMatch(c -> c >= '0' && c <= '9')) {
+            port = authority.substring(colon + 1);
+            authority = authority.substring(0, colon);
+        }
+        assertComponent(userInfo, parts, UrlParts.Component.USER_INFO, url);
+        assertComponent(authority, parts, UrlParts.Component.HOST, url);
+        assertComponent(port, parts, UrlParts.Component.PORT, url);
+        assertComponent(path, parts, UrlParts.Component.PATH, url);
+        assertComponent(query, parts, UrlParts.Component.QUERY, url);
+        assertComponent(fragment, parts, UrlParts.Component.FRAGMENT, url);
+    }
+
+    private static void assertComponent(String expected, UrlParts parts, UrlParts.Component component, String url) {
+        assertEquals(expected != null, parts.has(component), url + " " + component);
+        if (expected != null) {
+            assertEquals(expected, parts.get(component).toString(), url + " " + component);
+            assertEquals(expected, url.substring(parts.start(component), parts.end(component)), url + " " + component);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ValidationCache class.
+ */
+class ValidationCacheTest {
+
+    @Test
+    void testCachesResults() {
+        AtomicInteger calls = new AtomicInteger();
+        ValidationCache cache = new ValidationCache(email -> {
+            calls.incrementAndGet();
+            return ValidationUtils.isValidEmail(email);
+        }, 100);
+        
+        assertTrue(cache.test("test@example.com"));
+        assertTrue(cache.test("test@example.com"));
+        assertFalse(cache.test("invalid"));
+        assertFalse(cache.test("invalid"));
+        assertTrue(cache.test(new String("test@example.com")));
+        
+        assertEquals(2, calls.get());
+        assertEquals(3, cache.hits());
+        assertEquals(2, cache.misses());
+        assertEquals(0.6, cache.hitRate(), 0.0001);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testNullIsNotCached() {
+        ValidationCache cache = new ValidationCache(ValidationUtils::isValidUrl, 16);
+        assertFalse(cache.test(null));
+        assertFalse(cache.test(null));
+        
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.hits() + cache.misses());
+    }
+
+    @Test
+    void testBoundedSize() {
+        ValidationCache cache = new ValidationCache(ValidationUtils::isNumeric, 64);
+        assertEquals(64, cache.capacity());
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(cache.test(Integer.toString(i)));
+        }
+        assertTrue(cache.size() <= 64);
+        
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0.0, cache.hitRate());
+    }
+
+    @Test
+    void testClockKeepsReferencedEntries() {
+        ValidationCache cache = new ValidationCache(str -> true, 1);
+        assertEquals(4, cache.capacity());
+        cache.test("hot");
+        for (int i = 0; i < 100; i++) {
+            cache.test("hot");
+            cache.test("cold" + i);
+        }
+        // "hot" is hit before every sweep reaches it, so it is never evicted
+        assertEquals(1, cache.misses() - 100);
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        ValidationCache cache = new ValidationCache(ValidationUtils::isValidEmail, 256);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        int n = i % 500;
+                        String email = n % 2 == 0 ? "user" + n + "@example.com" : "user" + n;
+                        assertEquals(n % 2 == 0, cache.test(email));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(160_000, cache.hits() + cache.misses());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ValidationCache(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> new ValidationCache(ValidationUtils::isNumeric, 0));
+    }
+}
@@ -1,6 +1,10 @@
 package com.berkeposlu.javautils;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -176,4 +180,101 @@ class ValidationUtilsTest {
         assertFalse(ValidationUtils.areAllNotNull("hello", null, "world"));
         assertFalse(ValidationUtils.areAllNotNull("hello", null));
     }
+
+    @Test
+    void testIsValidEmailBounded() {
+        assertTrue(ValidationUtils.isValidEmailBounded("test@example.com"));
+        assertTrue(ValidationUtils.isValidEmailBounded("user.name@domain.co.uk"));
+        assertTrue(ValidationUtils.isValidEmailBounded("a@b.cd"));
+        
+        assertFalse(ValidationUtils.isValidEmailBounded(null));
+        assertFalse(ValidationUtils.isValidEmailBounded(""));
+        assertFalse(ValidationUtils.isValidEmailBounded("user..name@example.com"));
+        assertFalse(ValidationUtils.isValidEmailBounded("user@example.c0m"));
+        assertFalse(ValidationUtils.isValidEmailBounded("user@example.abcdefgh"));
+        assertFalse(ValidationUtils.isValidEmailBounded("user@@example.com"));
+        assertFalse(ValidationUtils.isValidEmailBounded("a".repeat(65) + "@example.com"));
+        assertFalse(ValidationUtils.isValidEmailBounded("user@" + "a".repeat(64) + ".com"));
+        assertFalse(ValidationUtils.isValidEmailBounded("user@" + "a.".repeat(130) + "com"));
+    }
+
+    @Test
+    void testIsValidUrlBounded() {
+        assertTrue(ValidationUtils.isValidUrlBounded("https://www.example.com"));
+        assertTrue(ValidationUtils.isValidUrlBounded("ftp://files.example.com/a?b=c"));
+        assertTrue(ValidationUtils.isValidUrlBounded("file://x"));
+        
+        assertFalse(ValidationUtils.isValidUrlBounded(null));
+        assertFalse(ValidationUtils.isValidUrlBounded("http://"));
+        assertFalse(ValidationUtils.isValidUrlBounded("http://example.com?"));
+        assertFalse(ValidationUtils.isValidUrlBounded("HTTP://example.com"));
+        assertFalse(ValidationUtils.isValidUrlBounded("https://exa mple.com"));
+        assertFalse(ValidationUtils.isValidUrlBounded("https://" + "a".repeat(ValidationUtils.MAX_URL_LENGTH)));
+    }
+
+    @Test
+    void testBoundedValidatorsMatchRegexes() {
+        Pattern email = Pattern.compile(
+                "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$");
+        Pattern url = Pattern.compile(
+                "^(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]");
+        String emailAlphabet = "ab1Z.@-_+&* !x";
+        String urlAlphabet = "aZ9/?.:;,!~= #%|-\u00e9";
+        String[] schemes = {"http://", "https://", "ftp://", "file://", "htp://", ""};
+        Random random = new Random(3);
+        for (int i = 0; i < 200_000; i++) {
+            String candidate = randomString(random, emailAlphabet, 6 + random.nextInt(20));
+            assertEquals(email.matcher(candidate).matches(), ValidationUtils.isValidEmailBounded(candidate), candidate);
+            
+            candidate = schemes[random.nextInt(schemes.length)] + randomString(random, urlAlphabet, random.nextInt(8));
+            assertEquals(url.matcher(candidate).matches(), ValidationUtils.isValidUrlBounded(candidate), candidate);
+        }
+    }
+
+    @Test
+    void testBoundedValidatorsRejectAdversarialInputQuickly() {
+        String longEmail = "a".repeat(100_000) + "@" + "a-".repeat(100_000) + "!";
+        String longUrl = "http://" + ",".repeat(1_000_000) + "?";
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(ValidationUtils.isValidEmailBounded(longEmail));
+            assertFalse(ValidationUtils.isValidUrlBounded(longUrl));
+        }
+        // rejected by the length check without scanning, independent of the input size
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void testIsValidEmailWithBlocklist() {
+        BlocklistFilter blocklist = BlocklistFilter.create(10, 0.0001);
+        blocklist.add("spam.com");
+        blocklist.add("bad@example.com");
+        
+        assertTrue(ValidationUtils.isValidEmail("good@example.com", blocklist));
+        assertFalse(ValidationUtils.isValidEmail("bad@example.com", blocklist));
+        assertFalse(ValidationUtils.isValidEmail("Bad@Example.com", blocklist));
+        assertFalse(ValidationUtils.isValidEmail("user@spam.com", blocklist));
+        assertFalse(ValidationUtils.isValidEmail("user@mail.spam.com", blocklist));
+        assertFalse(ValidationUtils.isValidEmail("invalid", blocklist));
+        assertFalse(ValidationUtils.isValidEmail(null, blocklist));
+        assertThrows(IllegalArgumentException.class, () -> ValidationUtils.isValidEmail("a@b.cd", null));
+    }
+
+    @Test
+    void testIsNotBlocklisted() {
+        BlocklistFilter blocklist = BlocklistFilter.create(10, 0.0001);
+        blocklist.add("spam.com");
+        
+        assertTrue(ValidationUtils.isNotBlocklisted("example.com", blocklist));
+        assertFalse(ValidationUtils.isNotBlocklisted("spam.com", blocklist));
+        assertFalse(ValidationUtils.isNotBlocklisted(null, blocklist));
+    }
 }
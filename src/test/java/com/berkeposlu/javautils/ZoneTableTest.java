@@ -0,0 +1,120 @@
+package com.berkeposlu.javautils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ZoneTable class.
+ */
+class ZoneTableTest {
+
+    private static final String[] ZONES = {
+        "Europe/Berlin", "America/New_York", "Australia/Lord_Howe", "Asia/Kolkata",
+        "America/Sao_Paulo", "Pacific/Apia", "UTC", "+05:30"
+    };
+
+    private static final long YEAR_1900 = LocalDateTime.of(1900, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final long YEAR_2100 = LocalDateTime.of(2100, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    @Test
+    void testMatchesZonedDateTime() {
+        Random random = new Random(42);
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneTable table = ZoneTable.of(zone, YEAR_1900, YEAR_2100);
+            for (int i = 0; i < 20_000; i++) {
+                long epochSecond = YEAR_1900 + (long) (random.nextDouble() * (YEAR_2100 - YEAR_1900));
+                LocalDateTime expected = Instant.ofEpochSecond(epochSecond).atZone(zone).toLocalDateTime();
+                assertEquals(expected.toEpochSecond(ZoneOffset.UTC), table.toLocalEpochSecond(epochSecond), id);
+
+                long local = expected.toEpochSecond(ZoneOffset.UTC) + random.nextInt(7200) - 3600;
+                long instant = LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC).atZone(zone).toEpochSecond();
+                assertEquals(instant, table.toEpochSecond(local), id);
+            }
+        }
+    }
+
+    @Test
+    void testGapsAndOverlaps() {
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneTable table = ZoneTable.of(zone, YEAR_1900, YEAR_2100);
+            ZoneOffsetTransition transition = zone.getRules().nextTransition(Instant.ofEpochSecond(YEAR_1900));
+            for (int n = 0; transition != null && n < 200; n++) {
+                long at = transition.toEpochSecond();
+                for (long delta = -7200; delta <= 7200; delta += 900) {
+                    long epochSecond = at + delta;
+                    assertEquals(Instant.ofEpochSecond(epochSecond).atZone(zone).toLocalDateTime().toEpochSecond(ZoneOffset.UTC),
+                            table.toLocalEpochSecond(epochSecond));
+                    long local = transition.getDateTimeBefore().toEpochSecond(ZoneOffset.UTC) + delta;
+                    assertEquals(LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC).atZone(zone).toEpochSecond(),
+                            table.toEpochSecond(local), id + " " + transition);
+                }
+                transition = zone.getRules().nextTransition(transition.getInstant());
+            }
+        }
+    }
+
+    @Test
+    void testBulkConversion() {
+        ZoneId zone = ZoneId.of("Europe/Berlin");
+        long[] epochSeconds = new long[10_000];
+        Random random = new Random(7);
+        for (int i = 0; i < epochSeconds.length; i++) {
+            // mostly time-ordered, with jumps far outside the default range
+            epochSeconds[i] = i % 1000 == 999 ? YEAR_1900 - random.nextInt(1 << 30)
+                    : YEAR_2100 - 86_400L * 365 * 30 + i * 3_600L;
+        }
+        long[] local = DateUtils.toLocalEpochSeconds(epochSeconds, zone);
+        for (int i = 0; i < epochSeconds.length; i++) {
+            assertEquals(Instant.ofEpochSecond(epochSeconds[i]).atZone(zone).toLocalDateTime(),
+                    LocalDateTime.ofEpochSecond(local[i], 0, ZoneOffset.UTC));
+        }
+        long[] back = local.clone();
+        DateUtils.toEpochSeconds(back, zone, back);
+        for (int i = 0; i < back.length; i++) {
+            assertEquals(LocalDateTime.ofEpochSecond(local[i], 0, ZoneOffset.UTC).atZone(zone).toEpochSecond(), back[i]);
+        }
+    }
+
+    @Test
+    void testSlidingRange() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        long year1800 = LocalDateTime.of(1800, 6, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long year2300 = LocalDateTime.of(2300, 6, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        ZoneTable early = ZoneTable.of(zone, year1800, year1800);
+        assertTrue(early.covers(year1800));
+        assertSame(early, ZoneTable.of(zone));
+        ZoneTable late = ZoneTable.of(zone, year2300, year2300);
+        assertTrue(late.covers(year2300));
+        assertSame(late, ZoneTable.of(zone, year2300, year2300));
+        // both years do not fit into one table, so only the latest range is kept
+        assertFalse(late.covers(year1800));
+        assertEquals(zone.getRules().getOffset(Instant.ofEpochSecond(year1800)).getTotalSeconds(),
+                late.getOffsetSeconds(year1800));
+
+        ZoneTable fixed = ZoneTable.of(ZoneOffset.ofHours(3));
+        assertTrue(fixed.covers(Long.MIN_VALUE));
+        assertEquals(3 * 3600, fixed.getOffsetSeconds(year2300));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        ZoneId zone = ZoneId.of("Europe/Berlin");
+        assertThrows(IllegalArgumentException.class, () -> ZoneTable.of(null));
+        assertThrows(IllegalArgumentException.class, () -> ZoneTable.of(zone, 10, 5));
+        assertThrows(IllegalArgumentException.class, () -> DateUtils.toLocalEpochSeconds(null, zone));
+        assertThrows(IllegalArgumentException.class, () -> DateUtils.toEpochSeconds(new long[2], zone, new long[3]));
+        assertThrows(IllegalArgumentException.class, () -> DateUtils.toLocalEpochSeconds(new long[2], null));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> ZoneTable.of(zone).toLocalEpochSeconds(new long[2], 1, new long[2], 0, 2));
+    }
+}